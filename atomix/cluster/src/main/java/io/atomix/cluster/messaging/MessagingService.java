@@ -17,6 +17,9 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -177,6 +180,45 @@ public interface MessagingService {
       Duration timeout,
       Executor executor);
 
+  /**
+   * Sends a message asynchronously and expects a response. The payload is written from the given
+   * buffer, without copying it into an intermediate array. The messaging service takes ownership
+   * of the buffer and releases it once it is no longer needed, regardless of the outcome.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload buffer, e.g. a pooled buffer
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address, final String type, final ByteBuf payload, final Duration timeout) {
+    return sendAndReceive(address, type, payload, true, timeout);
+  }
+
+  /**
+   * Sends a message asynchronously and expects a response. The payload is written from the given
+   * buffer, without copying it into an intermediate array. The messaging service takes ownership
+   * of the buffer and releases it once it is no longer needed, regardless of the outcome.
+   *
+   * <p>The default implementation copies the payload into an array and releases the buffer.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload buffer, e.g. a pooled buffer
+   * @param keepAlive whether to keep the connection alive after usage
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final ByteBuf payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    return sendAndReceive(address, type, copyAndRelease(payload), keepAlive, timeout);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -203,10 +245,40 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type, which receives and replies with payload
+   * buffers. The handler takes ownership of the request buffer, which refers to the received bytes
+   * without copying them, and must release it once it has read the request. The messaging service
+   * takes ownership of the returned buffer and releases it once the reply was written.
+   *
+   * <p>The default implementation wraps the request bytes, and copies the reply into an array and
+   * releases the buffer.
+   *
+   * @param type message type.
+   * @param handler message handler
+   */
+  default void registerBufferHandler(
+      final String type, final BiFunction<Address, ByteBuf, CompletableFuture<ByteBuf>> handler) {
+    registerHandler(
+        type,
+        (address, payload) ->
+            handler
+                .apply(address, Unpooled.wrappedBuffer(payload))
+                .thenApply(MessagingService::copyAndRelease));
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
    * @param type message type
    */
   void unregisterHandler(String type);
+
+  private static byte[] copyAndRelease(final ByteBuf buffer) {
+    try {
+      return ByteBufUtil.getBytes(buffer);
+    } finally {
+      buffer.release();
+    }
+  }
 }
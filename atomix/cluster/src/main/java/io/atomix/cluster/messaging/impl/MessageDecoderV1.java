@@ -35,6 +35,7 @@ class MessageDecoderV1 extends AbstractMessageDecoder {
   private long messageId;
   private int contentLength;
   private byte[] content;
+  private ByteBuf contentBuffer;
   private int subjectLength;
 
   @Override
@@ -90,7 +91,12 @@ class MessageDecoderV1 extends AbstractMessageDecoder {
         if (buffer.readableBytes() < contentLength) {
           return;
         }
-        if (contentLength > 0) {
+        if (contentLength > 0 && type == ProtocolMessage.Type.REQUEST) {
+          // the payload of a request is handed to its handler without copying it; the retained
+          // slice is released together with the decoded message
+          contentBuffer = buffer.readRetainedSlice(contentLength);
+        } else if (contentLength > 0) {
+          // replies are still read into an array, which sendAndReceive completes its future with
           // TODO: Perform a sanity check on the size before allocating
           content = new byte[contentLength];
           buffer.readBytes(content);
@@ -127,8 +133,13 @@ class MessageDecoderV1 extends AbstractMessageDecoder {
               return;
             }
             final String subject = readString(buffer, subjectLength);
-            final ProtocolRequest message =
-                new ProtocolRequest(messageId, senderAddress, subject, content);
+            final ProtocolRequest message;
+            if (contentBuffer != null) {
+              message = new ProtocolRequest(messageId, senderAddress, subject, contentBuffer);
+              contentBuffer = null;
+            } else {
+              message = new ProtocolRequest(messageId, senderAddress, subject, content);
+            }
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -156,6 +167,15 @@ class MessageDecoderV1 extends AbstractMessageDecoder {
     }
   }
 
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext context) throws Exception {
+    // the payload of a request whose subject was not received anymore
+    if (contentBuffer != null) {
+      contentBuffer.release();
+      contentBuffer = null;
+    }
+  }
+
   /** V1 decoder state. */
   enum DecoderState {
     READ_TYPE,
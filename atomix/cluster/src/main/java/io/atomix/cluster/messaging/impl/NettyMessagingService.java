@@ -31,6 +31,7 @@ import io.atomix.utils.net.Address;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
@@ -177,13 +178,56 @@ public class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final ByteBuf payload,
+      final boolean keepAlive,
+      final Duration timeout) {
+    if (!started.get()) {
+      payload.release();
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("MessagingService is closed."));
+    }
+
+    if (address.equals(returnAddress)) {
+      // local messages are dispatched without encoding, so the handlers expect the payload bytes
+      final byte[] bytes = ByteBufUtil.getBytes(payload);
+      payload.release();
+      return sendAndReceive(address, type, bytes, keepAlive, timeout);
+    }
+
+    final long messageId = messageIdGenerator.incrementAndGet();
+    final ProtocolRequest message = new ProtocolRequest(messageId, returnAddress, type, payload);
+    // the written message is released by the encoder, or by the channel if it can't be written;
+    // our own reference is released once the request is done, even if no channel was acquired
+    final Function<ClientConnection, CompletableFuture<byte[]>> callback =
+        c -> {
+          message.retain();
+          return c.sendAndReceive(message, timeout);
+        };
+
+    final CompletableFuture<byte[]> future;
+    if (keepAlive) {
+      future = executeOnPooledConnection(address, type, callback, MoreExecutors.directExecutor());
+    } else {
+      future = executeOnTransientConnection(address, callback, MoreExecutors.directExecutor());
+    }
+    future.whenComplete((response, error) -> message.release());
+    return future;
+  }
+
   @Override
   public void registerHandler(
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(() -> handler.accept(message.sender(), message.payload())));
+        (message, connection) -> {
+          // the payload is read before the message is released at the end of the dispatch
+          final byte[] payload = message.payload();
+          executor.execute(() -> handler.accept(message.sender(), payload));
+        });
   }
 
   @Override
@@ -193,19 +237,22 @@ public class NettyMessagingService implements ManagedMessagingService {
       final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(
-                () -> {
-                  byte[] responsePayload = null;
-                  ProtocolReply.Status status = ProtocolReply.Status.OK;
-                  try {
-                    responsePayload = handler.apply(message.sender(), message.payload());
-                  } catch (final Exception e) {
-                    log.warn("An error occurred in a message handler: {}", e);
-                    status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                  }
-                  connection.reply(message, status, Optional.ofNullable(responsePayload));
-                }));
+        (message, connection) -> {
+          // the payload is read before the message is released at the end of the dispatch
+          final byte[] payload = message.payload();
+          executor.execute(
+              () -> {
+                byte[] responsePayload = null;
+                ProtocolReply.Status status = ProtocolReply.Status.OK;
+                try {
+                  responsePayload = handler.apply(message.sender(), payload);
+                } catch (final Exception e) {
+                  log.warn("An error occurred in a message handler: {}", e);
+                  status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                }
+                connection.reply(message, status, Optional.ofNullable(responsePayload));
+              });
+        });
   }
 
   @Override
@@ -230,6 +277,29 @@ public class NettyMessagingService implements ManagedMessagingService {
         });
   }
 
+  @Override
+  public void registerBufferHandler(
+      final String type, final BiFunction<Address, ByteBuf, CompletableFuture<ByteBuf>> handler) {
+    handlers.register(
+        type,
+        (message, connection) -> {
+          handler
+              .apply(message.sender(), message.retainedPayload())
+              .whenComplete(
+                  (result, error) -> {
+                    if (error == null && result != null) {
+                      connection.reply(message, ProtocolReply.Status.OK, result);
+                    } else if (error == null) {
+                      connection.reply(message, ProtocolReply.Status.OK, Optional.empty());
+                    } else {
+                      log.warn("An error occurred in a message handler: {}", error);
+                      connection.reply(
+                          message, ProtocolReply.Status.ERROR_HANDLER_EXCEPTION, Optional.empty());
+                    }
+                  });
+        });
+  }
+
   @Override
   public void unregisterHandler(final String type) {
     handlers.unregister(type);
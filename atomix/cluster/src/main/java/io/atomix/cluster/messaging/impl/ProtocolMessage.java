@@ -16,15 +16,36 @@
  */
 package io.atomix.cluster.messaging.impl;
 
-/** Base class for internal messages. */
-public abstract class ProtocolMessage {
+import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+
+/**
+ * Base class for internal messages. The payload is either a byte array or a {@link ByteBuf}. A
+ * message with a buffer payload owns the buffer and releases it when the message itself is
+ * released, which is done by Netty after the message was encoded or if it could not be written. A
+ * decoded request refers to the received bytes with a buffer payload, and is released after it
+ * was dispatched to its handler.
+ */
+public abstract class ProtocolMessage extends AbstractReferenceCounted {
 
   private final long id;
-  private final byte[] payload;
+  private final ByteBuf payloadBuffer;
+  private byte[] payload;
 
   protected ProtocolMessage(final long id, final byte[] payload) {
     this.id = id;
     this.payload = payload;
+    payloadBuffer = null;
+  }
+
+  protected ProtocolMessage(final long id, final ByteBuf payloadBuffer) {
+    this.id = id;
+    payload = null;
+    this.payloadBuffer = payloadBuffer;
   }
 
   public abstract Type type();
@@ -41,10 +62,69 @@ public abstract class ProtocolMessage {
     return id;
   }
 
+  /**
+   * Returns the payload bytes. The payload of a message which was created with a buffer payload,
+   * e.g. a decoded request, is copied into an array on the first call, so it must be called before
+   * the message is released.
+   *
+   * @return the payload bytes
+   */
   public byte[] payload() {
+    if (payload == null) {
+      payload = ByteBufUtil.getBytes(payloadBuffer);
+    }
     return payload;
   }
 
+  /**
+   * Returns the payload as a buffer, without copying it. The caller owns the returned buffer and
+   * must release it; it stays valid if the message is released in the meantime.
+   *
+   * @return the payload buffer
+   */
+  public ByteBuf retainedPayload() {
+    return payloadBuffer != null
+        ? payloadBuffer.retainedDuplicate()
+        : Unpooled.wrappedBuffer(payload);
+  }
+
+  public int payloadLength() {
+    return payloadBuffer != null ? payloadBuffer.readableBytes() : payload.length;
+  }
+
+  /**
+   * Writes the payload to the given buffer, without changing the reader index of the payload
+   * buffer, so the message can be written again as long as it is not released.
+   *
+   * @param buffer the buffer to write the payload to
+   */
+  public void writePayload(final ByteBuf buffer) {
+    if (payloadBuffer != null) {
+      buffer.writeBytes(payloadBuffer, payloadBuffer.readerIndex(), payloadBuffer.readableBytes());
+    } else {
+      buffer.writeBytes(payload);
+    }
+  }
+
+  Object printablePayload() {
+    return payloadBuffer != null ? payloadBuffer : ArraySizeHashPrinter.of(payload);
+  }
+
+  @Override
+  public ReferenceCounted touch(final Object hint) {
+    if (payloadBuffer != null) {
+      payloadBuffer.touch(hint);
+    }
+    return this;
+  }
+
+  @Override
+  protected void deallocate() {
+    if (payloadBuffer != null) {
+      payloadBuffer.release();
+    }
+  }
+
   /** Internal message type. */
   public enum Type {
     REQUEST(1),
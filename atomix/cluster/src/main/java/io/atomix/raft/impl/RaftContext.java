@@ -47,6 +47,7 @@ import io.atomix.raft.roles.PromotableRole;
 import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.RaftLogWriter;
 import io.atomix.raft.storage.system.MetaStore;
@@ -95,6 +96,7 @@ public class RaftContext implements AutoCloseable {
   private final MetaStore meta;
   private final RaftLog raftLog;
   private final RaftLogWriter logWriter;
+  private final RaftLogFlusher logFlusher;
   private final RaftLogReader logReader;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final LogCompactor logCompactor;
@@ -157,6 +159,12 @@ public class RaftContext implements AutoCloseable {
     // Construct the core log, reader, writer, and compactor.
     raftLog = storage.openLog();
     logWriter = raftLog.writer();
+    logFlusher =
+        new RaftLogFlusher(
+            logWriter,
+            threadContext,
+            storage.isFlushOnCommit() ? storage.flushDelay() : Duration.ZERO,
+            storage.flushThreshold());
     logReader = raftLog.openReader(1, RaftLogReader.Mode.ALL);
 
     // Open the snapshot store.
@@ -338,6 +346,19 @@ public class RaftContext implements AutoCloseable {
     commitListeners.forEach(listener -> listener.onCommit(lastCommitIndex));
   }
 
+  /**
+   * Runs the given callback once the log is flushed up to the given committed index, e.g. to
+   * acknowledge the commit only after it is durable. If the commits are not flushed in groups, the
+   * callback runs immediately.
+   *
+   * @param commitIndex the committed index
+   * @param callback the callback to run when the commit is flushed
+   */
+  public void onCommitFlushed(final long commitIndex, final Runnable callback) {
+    checkThread();
+    logFlusher.onCommit(commitIndex, callback);
+  }
+
   /**
    * Sets the commit index.
    *
@@ -584,6 +605,7 @@ public class RaftContext implements AutoCloseable {
     // Close the state machine and thread context.
     stateContext.close();
     logCompactor.close();
+    logFlusher.close();
 
     // Close the log.
     try {
@@ -472,6 +472,30 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum time for which a commit waits to be flushed together with the following
+     * commits. A zero delay flushes on every commit.
+     *
+     * @param flushDelay the maximum delay of a flush on commit
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushDelay(final Duration flushDelay) {
+      config.getStorageConfig().setFlushDelay(flushDelay);
+      return this;
+    }
+
+    /**
+     * Sets the size of unflushed entries at which the log is flushed before the flush delay is
+     * over.
+     *
+     * @param flushThreshold the flush threshold in bytes
+     * @return the Raft partition group builder
+     */
+    public Builder withFlushThreshold(final long flushThreshold) {
+      config.getStorageConfig().setFlushThreshold(MemorySize.from(flushThreshold));
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -23,6 +23,7 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotStoreFactory;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -32,6 +33,8 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+  private static final long DEFAULT_FLUSH_THRESHOLD = 4 * 1024 * 1024;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024 * 1; // 1GB
   private static final ReceivableSnapshotStoreFactory DEFAULT_SNAPSHOT_STORE_FACTORY =
       new FileBasedSnapshotStoreFactory();
@@ -41,6 +44,8 @@ public class RaftStorageConfig {
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+  private long flushThreshold = DEFAULT_FLUSH_THRESHOLD;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
 
   @Optional("SnapshotStoreFactory")
@@ -139,6 +144,49 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns the maximum time for which a commit waits to be flushed together with the following
+   * commits.
+   *
+   * @return the maximum delay of a flush on commit
+   */
+  public Duration getFlushDelay() {
+    return flushDelay;
+  }
+
+  /**
+   * Sets the maximum time for which a commit waits to be flushed together with the following
+   * commits. A zero delay flushes on every commit.
+   *
+   * @param flushDelay the maximum delay of a flush on commit
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setFlushDelay(final Duration flushDelay) {
+    this.flushDelay = checkNotNull(flushDelay);
+    return this;
+  }
+
+  /**
+   * Returns the size of unflushed entries at which the log is flushed before the flush delay is
+   * over.
+   *
+   * @return the flush threshold
+   */
+  public MemorySize getFlushThreshold() {
+    return MemorySize.from(flushThreshold);
+  }
+
+  /**
+   * Sets the size of unflushed entries at which the log is flushed before the flush delay is over.
+   *
+   * @param flushThreshold the flush threshold
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setFlushThreshold(final MemorySize flushThreshold) {
+    this.flushThreshold = flushThreshold.bytes();
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
@@ -0,0 +1,253 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.sbe.AppendRequestDecoder;
+import io.atomix.raft.protocol.sbe.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.sbe.AppendRequestEncoder;
+import io.atomix.raft.protocol.sbe.AppendRequestEncoder.EntriesEncoder;
+import io.atomix.raft.protocol.sbe.AppendResponseDecoder;
+import io.atomix.raft.protocol.sbe.AppendResponseEncoder;
+import io.atomix.raft.protocol.sbe.BooleanType;
+import io.atomix.raft.protocol.sbe.EntryType;
+import io.atomix.raft.protocol.sbe.MessageHeaderDecoder;
+import io.atomix.raft.protocol.sbe.MessageHeaderEncoder;
+import io.atomix.raft.protocol.sbe.ResponseStatus;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A binary codec for the messages of the replication hot path, i.e. {@link AppendRequest} and
+ * {@link AppendResponse}, based on SBE flyweights.
+ *
+ * <p>A message is encoded into a byte array of the exact size, in one pass and without intermediate
+ * buffers; the data of the entries is copied once from the entry buffer. On decoding, the data of a
+ * {@link ZeebeEntry} is a view on the received byte array, so the follower can append it without
+ * copying. Entries other than {@link ZeebeEntry} and {@link InitializeEntry} are rare (e.g.
+ * configuration entries) and are embedded as serialized by the given serializer.
+ *
+ * <p>The codec doesn't keep any state, so it can be used from multiple threads.
+ */
+public final class RaftMessageCodec {
+
+  private static final Status[] STATUS_VALUES = Status.values();
+
+  private final Serializer serializer;
+
+  public RaftMessageCodec(final Serializer serializer) {
+    this.serializer = serializer;
+  }
+
+  public byte[] encodeAppendRequest(final AppendRequest request) {
+    final List<RaftLogEntry> entries = request.entries();
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+
+    // only entries of other types need to be serialized up front, to know the encoded length
+    final byte[][] serializedEntries = new byte[entries.size()][];
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+
+    for (int i = 0; i < entries.size(); i++) {
+      final RaftLogEntry entry = entries.get(i);
+      final int dataLength;
+      if (entry instanceof ZeebeEntry) {
+        dataLength = ((ZeebeEntry) entry).data().remaining();
+      } else if (entry instanceof InitializeEntry) {
+        dataLength = 0;
+      } else {
+        serializedEntries[i] = serializer.encode(entry);
+        dataLength = serializedEntries[i].length;
+      }
+      length += EntriesEncoder.sbeBlockLength() + EntriesEncoder.dataHeaderLength() + dataLength;
+    }
+
+    final byte[] bytes = new byte[length];
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    final AppendRequestEncoder encoder =
+        new AppendRequestEncoder()
+            .wrapAndApplyHeader(buffer, 0, new MessageHeaderEncoder())
+            .term(request.term())
+            .prevLogIndex(request.prevLogIndex())
+            .prevLogTerm(request.prevLogTerm())
+            .commitIndex(request.commitIndex());
+
+    final EntriesEncoder entriesEncoder = encoder.entriesCount(entries.size());
+    final UnsafeBuffer dataView = new UnsafeBuffer(0, 0);
+    for (int i = 0; i < entries.size(); i++) {
+      encodeEntry(entriesEncoder.next(), entries.get(i), serializedEntries[i], dataView);
+    }
+
+    encoder.putLeader(leader, 0, leader.length);
+    return bytes;
+  }
+
+  private static void encodeEntry(
+      final EntriesEncoder encoder,
+      final RaftLogEntry entry,
+      final byte[] serializedEntry,
+      final UnsafeBuffer dataView) {
+    encoder.term(entry.term());
+
+    if (entry instanceof ZeebeEntry) {
+      final ZeebeEntry zeebeEntry = (ZeebeEntry) entry;
+      final ByteBuffer data = zeebeEntry.data();
+      dataView.wrap(data, data.position(), data.remaining());
+
+      encoder
+          .entryType(EntryType.ZEEBE)
+          .timestamp(zeebeEntry.timestamp())
+          .lowestPosition(zeebeEntry.lowestPosition())
+          .highestPosition(zeebeEntry.highestPosition())
+          .putData(dataView, 0, dataView.capacity());
+
+    } else if (entry instanceof InitializeEntry) {
+      encoder
+          .entryType(EntryType.INITIALIZE)
+          .timestamp(((InitializeEntry) entry).timestamp())
+          .lowestPosition(0)
+          .highestPosition(0)
+          .putData(dataView, 0, 0);
+
+    } else {
+      encoder
+          .entryType(EntryType.SERIALIZED)
+          .timestamp(0)
+          .lowestPosition(0)
+          .highestPosition(0)
+          .putData(serializedEntry, 0, serializedEntry.length);
+    }
+  }
+
+  public AppendRequest decodeAppendRequest(final byte[] bytes) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    final AppendRequestDecoder decoder =
+        new AppendRequestDecoder()
+            .wrap(
+                buffer,
+                MessageHeaderDecoder.ENCODED_LENGTH,
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final EntriesDecoder entriesDecoder = decoder.entries();
+    final List<RaftLogEntry> entries = new ArrayList<>(entriesDecoder.count());
+    while (entriesDecoder.hasNext()) {
+      entries.add(decodeEntry(decoder, entriesDecoder.next(), bytes));
+    }
+
+    return new AppendRequest(
+        decoder.term(),
+        decoder.leader(),
+        decoder.prevLogIndex(),
+        decoder.prevLogTerm(),
+        entries,
+        decoder.commitIndex());
+  }
+
+  private RaftLogEntry decodeEntry(
+      final AppendRequestDecoder requestDecoder, final EntriesDecoder decoder, final byte[] bytes) {
+    final EntryType entryType = decoder.entryType();
+    final long term = decoder.term();
+    final long timestamp = decoder.timestamp();
+    final long lowestPosition = decoder.lowestPosition();
+    final long highestPosition = decoder.highestPosition();
+
+    // the data starts after its length header at the current limit of the message
+    final int dataOffset = requestDecoder.limit() + EntriesDecoder.dataHeaderLength();
+    final int dataLength = decoder.dataLength();
+    decoder.skipData();
+
+    switch (entryType) {
+      case ZEEBE:
+        final ByteBuffer data = ByteBuffer.wrap(bytes, dataOffset, dataLength).slice();
+        return new ZeebeEntry(term, timestamp, lowestPosition, highestPosition, data);
+      case INITIALIZE:
+        return new InitializeEntry(term, timestamp);
+      case SERIALIZED:
+        final byte[] serializedEntry = new byte[dataLength];
+        System.arraycopy(bytes, dataOffset, serializedEntry, 0, dataLength);
+        return serializer.decode(serializedEntry);
+      default:
+        throw new IllegalStateException(
+            String.format("Expected entry type to be known, but was '%s'", entryType));
+    }
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final RaftError error = response.error();
+    final byte[] errorType =
+        error != null ? error.type().name().getBytes(StandardCharsets.UTF_8) : new byte[0];
+    final byte[] errorMessage =
+        error != null && error.message() != null
+            ? error.message().getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendResponseEncoder.BLOCK_LENGTH
+            + AppendResponseEncoder.errorTypeHeaderLength()
+            + errorType.length
+            + AppendResponseEncoder.errorMessageHeaderLength()
+            + errorMessage.length;
+
+    final byte[] bytes = new byte[length];
+    new AppendResponseEncoder()
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, new MessageHeaderEncoder())
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .putErrorType(errorType, 0, errorType.length)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+    final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    final AppendResponseDecoder decoder =
+        new AppendResponseDecoder()
+            .wrap(
+                buffer,
+                MessageHeaderDecoder.ENCODED_LENGTH,
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final Status status = decoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final long term = decoder.term();
+    final boolean succeeded = decoder.succeeded() == BooleanType.TRUE;
+    final long lastLogIndex = decoder.lastLogIndex();
+    final long lastSnapshotIndex = decoder.lastSnapshotIndex();
+
+    final String errorType = decoder.errorType();
+    final String errorMessage = decoder.errorMessage();
+    final RaftError error =
+        errorType.isEmpty()
+            ? null
+            : new RaftError(
+                RaftError.Type.valueOf(errorType), errorMessage.isEmpty() ? null : errorMessage);
+
+    return new AppendResponse(status, error, term, succeeded, lastLogIndex, lastSnapshotIndex);
+  }
+}
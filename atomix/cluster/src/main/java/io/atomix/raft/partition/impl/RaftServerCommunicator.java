@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -41,14 +42,24 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  // members which only understand the serialized append requests are probed again after this
+  // interval, e.g. to use the binary codec after a rolling update
+  private static final long LEGACY_APPEND_PROBE_INTERVAL = Duration.ofMinutes(1).toMillis();
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftMessageCodec codec;
+  private final Map<MemberId, Long> legacyAppendMembers = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final String partitionName;
   private final RaftRequestMetrics metrics;
@@ -60,6 +71,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     context = new RaftMessageContext(prefix);
     partitionName = prefix;
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
+    codec = new RaftMessageCodec(serializer);
     this.clusterCommunicator =
         Preconditions.checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
     metrics = new RaftRequestMetrics(partitionName);
@@ -113,7 +125,50 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    final Long legacySince = legacyAppendMembers.get(memberId);
+    if (legacySince != null) {
+      if (System.currentTimeMillis() - legacySince < LEGACY_APPEND_PROBE_INTERVAL) {
+        return sendAndReceive(context.appendSubject, request, memberId);
+      }
+      legacyAppendMembers.remove(memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .send(
+            context.binaryAppendSubject,
+            request,
+            codec::encodeAppendRequest,
+            codec::decodeAppendResponse,
+            MemberId.from(memberId.id()))
+        .handle(
+            (response, error) -> {
+              if (error == null) {
+                return CompletableFuture.completedFuture(response);
+              } else if (isNoRemoteHandler(error)) {
+                // the member may not know the binary codec yet, e.g. during a rolling update
+                return appendLegacy(memberId, request);
+              } else {
+                return CompletableFuture.<AppendResponse>failedFuture(error);
+              }
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<AppendResponse> appendLegacy(
+      final MemberId memberId, final AppendRequest request) {
+    return this.<AppendRequest, AppendResponse>sendAndReceive(
+            context.appendSubject, request, memberId)
+        .thenApply(
+            response -> {
+              legacyAppendMembers.put(memberId, System.currentTimeMillis());
+              return response;
+            });
+  }
+
+  private static boolean isNoRemoteHandler(final Throwable error) {
+    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    return cause instanceof NoRemoteHandler;
   }
 
   @Override
@@ -244,11 +299,17 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<AppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.subscribe(
+        context.binaryAppendSubject,
+        codec::decodeAppendRequest,
+        handler.<AppendRequest>compose(this::recordReceivedMetrics),
+        codec::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendSubject);
+    clusterCommunicator.unsubscribe(context.binaryAppendSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -16,19 +16,31 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. The response to the initial request of a snapshot contains the chunks which the
+ * receiver holds in its latest snapshot already, such that the leader doesn't need to send them
+ * again.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // the checksums of the chunks of the receiver's latest snapshot by chunk name
+  private final Map<String, Long> availableChunks;
+
+  public InstallResponse(
+      final Status status, final RaftError error, final Map<String, Long> availableChunks) {
     super(status, error);
+    this.availableChunks = availableChunks;
   }
 
   /**
@@ -40,13 +52,58 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the chunks which the receiver holds in its latest snapshot already.
+   *
+   * @return the checksums of the available chunks by chunk name
+   */
+  public Map<String, Long> availableChunks() {
+    return availableChunks;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, availableChunks);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    return super.equals(object)
+        && Objects.equals(((InstallResponse) object).availableChunks, availableChunks);
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("availableChunks", availableChunks.size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private final HashMap<String, Long> availableChunks = new HashMap<>();
+
+    /**
+     * Sets the chunks which the receiver holds in its latest snapshot already.
+     *
+     * @param availableChunks the checksums of the available chunks by chunk name
+     * @return the install response builder
+     */
+    public Builder withAvailableChunks(final Map<String, Long> availableChunks) {
+      this.availableChunks.putAll(checkNotNull(availableChunks, "availableChunks cannot be null"));
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, availableChunks);
     }
   }
 }
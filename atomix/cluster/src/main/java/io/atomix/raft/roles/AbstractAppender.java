@@ -476,6 +476,7 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     try {
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -491,7 +492,7 @@ abstract class AbstractAppender implements AutoCloseable {
               .withTimestamp(persistedSnapshot.getTimestamp().unixTimestamp())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
@@ -563,7 +564,6 @@ abstract class AbstractAppender implements AutoCloseable {
   }
 
   /** Handles an OK install response. */
-  @SuppressWarnings("unused")
   protected void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
@@ -582,6 +582,12 @@ abstract class AbstractAppender implements AutoCloseable {
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunk(request.nextChunkId());
+
+      // The member responds to the first chunk with the chunks it holds already, which are not
+      // sent again.
+      if (request.isInitial() && !response.availableChunks().isEmpty()) {
+        member.getSnapshotChunkReader().reuse(response.availableChunks());
+      }
     }
 
     // Recursively append entries to the member.
@@ -732,8 +732,13 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
               // up to date with the latest entries so it can handle configuration and initial
               // entries properly on fail over
               if (commitError == null) {
-                appendListener.onCommit(indexed);
-                raft.notifyCommitListeners(indexed.index());
+                // acknowledge the commit only when it is durable
+                raft.onCommitFlushed(
+                    indexed.index(),
+                    () -> {
+                      appendListener.onCommit(indexed);
+                      raft.notifyCommitListeners(indexed.index());
+                    });
               } else {
                 appendListener.onCommitError(indexed, commitError);
                 // replicating the entry will be retried on the next append request
@@ -223,8 +223,7 @@ public class PassiveRole extends InactiveRole {
     } else {
       // skip if we already have this chunk
       if (pendingSnapshot.containsChunk(request.chunkId())) {
-        return CompletableFuture.completedFuture(
-            logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+        return CompletableFuture.completedFuture(logResponse(buildInstallOkResponse(request)));
       }
 
       // fail the request if this is not the expected next chunk
@@ -287,8 +286,23 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot.setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    return CompletableFuture.completedFuture(logResponse(buildInstallOkResponse(request)));
+  }
+
+  /**
+   * Builds the response to a successfully applied install request. The response to the initial
+   * request contains the chunks of the latest snapshot, such that the leader sends only the chunks
+   * which are missing.
+   */
+  private InstallResponse buildInstallOkResponse(final InstallRequest request) {
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      raft.getPersistedSnapshotStore()
+          .getLatestSnapshot()
+          .map(PersistedSnapshot::getChunkChecksums)
+          .ifPresent(response::withAvailableChunks);
+    }
+    return response.build();
   }
 
   @Override
@@ -606,7 +620,7 @@ public class PassiveRole extends InactiveRole {
     final long previousCommitIndex = raft.setCommitIndex(commitIndex);
     if (previousCommitIndex < commitIndex) {
       log.trace("Committed entries up to index {}", commitIndex);
-      raft.notifyCommitListeners(commitIndex);
+      raft.onCommitFlushed(commitIndex, () -> raft.notifyCommitListeners(commitIndex));
     }
 
     // Return a successful append response.
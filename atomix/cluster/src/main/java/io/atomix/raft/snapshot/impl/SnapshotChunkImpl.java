@@ -35,6 +35,9 @@ public final class SnapshotChunkImpl
   private String chunkName;
   private long checksum;
   private long snapshotChecksum;
+  private boolean reused;
+  private long fileBlockPosition;
+  private long totalFileSize;
 
   public SnapshotChunkImpl() {}
 
@@ -44,6 +47,9 @@ public final class SnapshotChunkImpl
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
+    reused = chunk.isReused();
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
     content.wrap(chunk.getContent());
   }
 
@@ -64,6 +70,9 @@ public final class SnapshotChunkImpl
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
+    reused = false;
+    fileBlockPosition = 0;
+    totalFileSize = 0;
 
     snapshotId = "";
     chunkName = "";
@@ -91,6 +100,9 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .reused(reused ? BooleanType.TRUE : BooleanType.FALSE)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,6 +115,12 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    reused = decoder.reused() == BooleanType.TRUE;
+    // chunks of older versions contain the whole file
+    final boolean isFileBlock =
+        decoder.fileBlockPosition() != SnapshotChunkDecoder.fileBlockPositionNullValue();
+    fileBlockPosition = isFileBlock ? decoder.fileBlockPosition() : 0;
+    totalFileSize = isFileBlock ? decoder.totalFileSize() : decoder.contentLength();
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
@@ -139,6 +157,21 @@ public final class SnapshotChunkImpl
     return snapshotChecksum;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
+  @Override
+  public boolean isReused() {
+    return reused;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -153,6 +186,12 @@ public final class SnapshotChunkImpl
         + checksum
         + ", snapshotChecksum="
         + snapshotChecksum
+        + ", reused="
+        + reused
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
         + "} "
         + super.toString();
   }
@@ -37,6 +37,7 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -69,6 +70,8 @@ public final class RaftStorage {
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
   private final boolean flushOnCommit;
+  private final Duration flushDelay;
+  private final long flushThreshold;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
   private final ReceivableSnapshotStore persistedSnapshotStore;
@@ -84,6 +87,8 @@ public final class RaftStorage {
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
       final boolean flushOnCommit,
+      final Duration flushDelay,
+      final long flushThreshold,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
       final ReceivableSnapshotStore persistedSnapshotStore,
@@ -97,6 +102,8 @@ public final class RaftStorage {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
     this.flushOnCommit = flushOnCommit;
+    this.flushDelay = flushDelay;
+    this.flushThreshold = flushThreshold;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
     this.persistedSnapshotStore = persistedSnapshotStore;
@@ -295,7 +302,8 @@ public final class RaftStorage {
         .withMaxEntrySize(maxEntrySize)
         .withFreeDiskSpace(freeDiskSpace)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
-        .withFlushOnCommit(flushOnCommit)
+        // with a flush delay, the commits are flushed in groups by the Raft server
+        .withFlushOnCommit(flushOnCommit && flushDelay.isZero())
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
@@ -308,7 +316,10 @@ public final class RaftStorage {
    * memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(
+        f ->
+            JournalSegmentFile.isSegmentFile(prefix, f)
+                || JournalSegmentFile.isSegmentIndexFile(prefix, f));
   }
 
   @Override
@@ -338,6 +349,26 @@ public final class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns the maximum time for which a commit waits until it is flushed together with the
+   * following commits. If zero, every commit is flushed on its own.
+   *
+   * @return the maximum delay of a flush on commit
+   */
+  public Duration flushDelay() {
+    return flushDelay;
+  }
+
+  /**
+   * Returns the size of unflushed entries at which the log is flushed before the flush delay is
+   * over.
+   *
+   * @return the maximum number of unflushed bytes of committed entries
+   */
+  public long flushThreshold() {
+    return flushThreshold;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    *
@@ -379,6 +410,8 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024; // 1GB
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final Duration DEFAULT_FLUSH_DELAY = Duration.ZERO;
+    private static final long DEFAULT_FLUSH_THRESHOLD = 4 * 1024 * 1024;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -390,6 +423,8 @@ public final class RaftStorage {
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private Duration flushDelay = DEFAULT_FLUSH_DELAY;
+    private long flushThreshold = DEFAULT_FLUSH_THRESHOLD;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
     private ReceivableSnapshotStore persistedSnapshotStore;
@@ -569,6 +604,36 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the maximum time for which a commit waits to be flushed together with the following
+     * commits, returning the builder for method chaining.
+     *
+     * <p>With flush-on-commit enabled, the commits within the delay are made durable by a single
+     * flush, and are acknowledged only after this flush. A zero delay flushes on every commit.
+     *
+     * @param flushDelay the maximum delay of a flush on commit
+     * @return The storage builder.
+     */
+    public Builder withFlushDelay(final Duration flushDelay) {
+      checkNotNull(flushDelay, "flushDelay cannot be null");
+      checkArgument(!flushDelay.isNegative(), "flushDelay must not be negative");
+      this.flushDelay = flushDelay;
+      return this;
+    }
+
+    /**
+     * Sets the size of unflushed entries at which the log is flushed before the flush delay is
+     * over, returning the builder for method chaining.
+     *
+     * @param flushThreshold the maximum number of unflushed bytes of committed entries
+     * @return The storage builder.
+     */
+    public Builder withFlushThreshold(final long flushThreshold) {
+      checkArgument(flushThreshold > 0, "flushThreshold must be positive");
+      this.flushThreshold = flushThreshold;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      *
@@ -641,6 +706,8 @@ public final class RaftStorage {
           maxEntriesPerSegment,
           freeDiskSpace,
           flushOnCommit,
+          flushDelay,
+          flushThreshold,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
           persistedSnapshotStore,
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Flushes the log in groups of commits. Instead of flushing the log on every commit, the commits
+ * which happen within the flush delay are made durable by a single flush. The log is flushed
+ * earlier if the size of the unflushed entries reaches the flush threshold.
+ *
+ * <p>A commit is acknowledged by running its callback, which happens only after a flush covers the
+ * committed index. If the flush delay is zero, the log is expected to be flushed by the writer on
+ * every commit, and the callbacks run immediately.
+ *
+ * <p>The flusher is not thread-safe and must be used from the given thread context only.
+ */
+public final class RaftLogFlusher implements AutoCloseable {
+
+  private final RaftLogWriter writer;
+  private final ThreadContext threadContext;
+  private final Duration flushDelay;
+  private final long flushThreshold;
+  private final Deque<PendingCommit> pendingCommits = new ArrayDeque<>();
+  private Scheduled scheduledFlush;
+
+  public RaftLogFlusher(
+      final RaftLogWriter writer,
+      final ThreadContext threadContext,
+      final Duration flushDelay,
+      final long flushThreshold) {
+    this.writer = writer;
+    this.threadContext = threadContext;
+    this.flushDelay = flushDelay;
+    this.flushThreshold = flushThreshold;
+  }
+
+  /**
+   * Runs the given callback once the log is flushed up to the given committed index.
+   *
+   * @param index the committed index
+   * @param callback the callback which acknowledges the commit
+   */
+  public void onCommit(final long index, final Runnable callback) {
+    // the commit index may be ahead of the log, e.g. on a follower which is catching up
+    final long lastCommittedEntry = Math.min(index, writer.getLastIndex());
+    if (flushDelay.isZero() || lastCommittedEntry <= writer.getFlushedIndex()) {
+      callback.run();
+      return;
+    }
+
+    pendingCommits.add(new PendingCommit(lastCommittedEntry, callback));
+
+    if (writer.getUnflushedBytes() >= flushThreshold) {
+      flush();
+    } else if (scheduledFlush == null) {
+      scheduledFlush = threadContext.schedule(flushDelay, this::flush);
+    }
+  }
+
+  /** Flushes the log and acknowledges the commits which are covered by the flush. */
+  public void flush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+
+    writer.flush();
+
+    final long flushedIndex = writer.getFlushedIndex();
+    while (!pendingCommits.isEmpty() && pendingCommits.peek().index <= flushedIndex) {
+      pendingCommits.poll().callback.run();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+    pendingCommits.clear();
+  }
+
+  private static final class PendingCommit {
+
+    private final long index;
+    private final Runnable callback;
+
+    private PendingCommit(final long index, final Runnable callback) {
+      this.index = index;
+      this.callback = callback;
+    }
+  }
+}
@@ -23,7 +23,28 @@ import io.atomix.storage.journal.SegmentedJournalWriter;
 /** Raft log writer. */
 public class RaftLogWriter extends DelegatingJournalWriter<RaftLogEntry> {
 
+  private final SegmentedJournalWriter<RaftLogEntry> writer;
+
   public RaftLogWriter(final SegmentedJournalWriter<RaftLogEntry> writer) {
     super(writer);
+    this.writer = writer;
+  }
+
+  /**
+   * Returns the index up to which the entries are flushed to disk.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getFlushedIndex() {
+    return writer.getFlushedIndex();
+  }
+
+  /**
+   * Returns the size of the entries which were appended since the last flush.
+   *
+   * @return the number of bytes which are not flushed yet
+   */
+  public long getUnflushedBytes() {
+    return writer.getUnflushedBytes();
   }
 }
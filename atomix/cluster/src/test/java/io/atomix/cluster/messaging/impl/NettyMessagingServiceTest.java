@@ -17,6 +17,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -29,7 +30,11 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.zeebe.test.util.socket.SocketUtil;
 import java.net.ConnectException;
 import java.time.Duration;
@@ -45,6 +50,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import org.awaitility.Awaitility;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -311,6 +317,102 @@ public class NettyMessagingServiceTest {
     assertEquals(address1.address(), sender.get().address());
   }
 
+  @Test
+  public void shouldSendAndReceiveBuffers() {
+    // given
+    final String subject = nextSubject();
+    final AtomicReference<byte[]> request = new AtomicReference<>();
+    final ByteBuf requestBuffer = Unpooled.copiedBuffer("hello world".getBytes());
+    final ByteBuf responseBuffer = Unpooled.copiedBuffer("hello there".getBytes());
+
+    netty2.registerBufferHandler(
+        subject,
+        (ep, data) -> {
+          request.set(ByteBufUtil.getBytes(data));
+          data.release();
+          return CompletableFuture.completedFuture(responseBuffer);
+        });
+
+    // when
+    final CompletableFuture<byte[]> response =
+        netty1.sendAndReceive(address2, subject, requestBuffer, Duration.ofSeconds(5));
+
+    // then
+    assertArrayEquals("hello there".getBytes(), response.join());
+    assertArrayEquals("hello world".getBytes(), request.get());
+    Awaitility.await("buffers are released after sending")
+        .until(() -> requestBuffer.refCnt() == 0 && responseBuffer.refCnt() == 0);
+  }
+
+  @Test
+  public void shouldHandOverReceivedRequestBuffer() {
+    // given
+    final String subject = nextSubject();
+    final CompletableFuture<ByteBuf> receivedRequest = new CompletableFuture<>();
+    final CompletableFuture<ByteBuf> response = new CompletableFuture<>();
+    netty2.registerBufferHandler(
+        subject,
+        (ep, data) -> {
+          receivedRequest.complete(data);
+          return response;
+        });
+
+    final CompletableFuture<byte[]> reply =
+        netty1.sendAndReceive(
+            address2,
+            subject,
+            Unpooled.copiedBuffer("hello world".getBytes()),
+            Duration.ofSeconds(5));
+
+    // when - the request is read after the received message was dispatched
+    final ByteBuf request = receivedRequest.join();
+    final byte[] requestBytes = ByteBufUtil.getBytes(request);
+    request.release();
+    response.complete(Unpooled.copiedBuffer("hello there".getBytes()));
+
+    // then
+    assertArrayEquals("hello world".getBytes(), requestBytes);
+    assertArrayEquals("hello there".getBytes(), reply.join());
+  }
+
+  @Test
+  public void shouldReleaseBufferIfRequestFails() {
+    // given
+    final String subject = nextSubject();
+    final ByteBuf requestBuffer = Unpooled.copiedBuffer("hello world".getBytes());
+
+    // when
+    final CompletableFuture<byte[]> response =
+        netty1.sendAndReceive(address2, subject, requestBuffer, Duration.ofSeconds(5));
+
+    // then
+    assertThatThrownBy(response::join).hasCauseInstanceOf(MessagingException.NoRemoteHandler.class);
+    Awaitility.await("buffer is released after failure").until(() -> requestBuffer.refCnt() == 0);
+  }
+
+  @Test
+  public void shouldSendAndReceiveBuffersLocally() {
+    // given
+    final String subject = nextSubject();
+    final ByteBuf requestBuffer = Unpooled.copiedBuffer("hello world".getBytes());
+    final ByteBuf responseBuffer = Unpooled.copiedBuffer("hello there".getBytes());
+    netty1.registerBufferHandler(
+        subject,
+        (ep, data) -> {
+          data.release();
+          return CompletableFuture.completedFuture(responseBuffer);
+        });
+
+    // when
+    final CompletableFuture<byte[]> response =
+        netty1.sendAndReceive(address1, subject, requestBuffer, Duration.ofSeconds(5));
+
+    // then
+    assertArrayEquals("hello there".getBytes(), response.join());
+    assertEquals(0, requestBuffer.refCnt());
+    assertEquals(0, responseBuffer.refCnt());
+  }
+
   @Test
   public void testSendAndReceiveWithFixedTimeout() {
     final String subject = nextSubject();
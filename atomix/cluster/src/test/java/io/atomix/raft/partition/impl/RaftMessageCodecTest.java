@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.storage.log.entry.ConfigurationEntry;
+import io.atomix.raft.storage.log.entry.InitializeEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class RaftMessageCodecTest {
+
+  private final RaftMessageCodec codec =
+      new RaftMessageCodec(Serializer.using(RaftNamespaces.RAFT_PROTOCOL));
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequest() {
+    // given
+    final ZeebeEntry zeebeEntry = new ZeebeEntry(2, 123, 10, 12, data("records"));
+    final InitializeEntry initializeEntry = new InitializeEntry(3, 456);
+    final ConfigurationEntry configurationEntry =
+        new ConfigurationEntry(
+            3,
+            789,
+            new ArrayList<>(
+                List.of(
+                    new DefaultRaftMember(
+                        MemberId.from("1"), Type.ACTIVE, Instant.ofEpochMilli(1_000)))));
+    final AppendRequest request =
+        new AppendRequest(
+            3, "1", 4, 2, List.of(zeebeEntry, initializeEntry, configurationEntry), 5);
+
+    // when
+    final AppendRequest decoded = codec.decodeAppendRequest(codec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.term()).isEqualTo(3);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("1"));
+    assertThat(decoded.prevLogIndex()).isEqualTo(4);
+    assertThat(decoded.prevLogTerm()).isEqualTo(2);
+    assertThat(decoded.commitIndex()).isEqualTo(5);
+
+    final List<RaftLogEntry> entries = decoded.entries();
+    assertThat(entries).hasSize(3);
+    assertThat(entries.get(0)).isEqualTo(zeebeEntry);
+
+    assertThat(entries.get(1)).isInstanceOf(InitializeEntry.class);
+    assertThat(entries.get(1).term()).isEqualTo(3);
+    assertThat(((InitializeEntry) entries.get(1)).timestamp()).isEqualTo(456);
+
+    assertThat(entries.get(2)).isInstanceOf(ConfigurationEntry.class);
+    final ConfigurationEntry decodedConfiguration = (ConfigurationEntry) entries.get(2);
+    assertThat(decodedConfiguration.timestamp()).isEqualTo(789);
+    assertThat(decodedConfiguration.members())
+        .extracting(member -> member.memberId())
+        .containsExactly(MemberId.from("1"));
+  }
+
+  @Test
+  public void shouldDecodeEntryDataAsStandaloneBuffer() {
+    // given
+    final ByteBuffer data = ByteBuffer.allocate(16).put(data("records"));
+    data.flip().position(2);
+    final AppendRequest request =
+        new AppendRequest(1, "1", 0, 0, List.of(new ZeebeEntry(1, 1, 1, 1, data)), 0);
+
+    // when
+    final AppendRequest decoded = codec.decodeAppendRequest(codec.encodeAppendRequest(request));
+
+    // then
+    final ByteBuffer decodedData = ((ZeebeEntry) decoded.entries().get(0)).data();
+    assertThat(decodedData.position()).isZero();
+    assertThat(decodedData.capacity()).isEqualTo(5);
+    assertThat(decodedData).isEqualTo(data("cords"));
+    assertThat(data.position()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendRequestWithoutEntries() {
+    // given
+    final AppendRequest request = new AppendRequest(1, "leader", 2, 1, List.of(), 2);
+
+    // when
+    final AppendRequest decoded = codec.decodeAppendRequest(codec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeAppendResponse() {
+    // given
+    final AppendResponse response = new AppendResponse(Status.OK, null, 3, true, 10, 5);
+
+    // when
+    final AppendResponse decoded = codec.decodeAppendResponse(codec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  public void shouldEncodeAndDecodeErrorResponse() {
+    // given
+    final AppendResponse response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            3,
+            false,
+            10,
+            5);
+
+    // when
+    final AppendResponse decoded = codec.decodeAppendResponse(codec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  private static ByteBuffer data(final String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,6 +47,7 @@ public class RaftStorageTest {
     assertEquals(1024 * 1024, storage.maxLogEntriesPerSegment());
     assertEquals(1024L * 1024 * 1024, storage.freeDiskSpace());
     assertTrue(storage.isFlushOnCommit());
+    assertEquals(Duration.ZERO, storage.flushDelay());
     assertFalse(storage.isRetainStaleSnapshots());
     assertTrue(storage.statistics().getFreeMemory() > 0);
   }
@@ -60,6 +62,8 @@ public class RaftStorageTest {
             .withMaxEntriesPerSegment(1024)
             .withFreeDiskSpace(100)
             .withFlushOnCommit(false)
+            .withFlushDelay(Duration.ofMillis(2))
+            .withFlushThreshold(1024)
             .withRetainStaleSnapshots()
             .build();
     assertEquals("foo", storage.prefix());
@@ -68,6 +72,8 @@ public class RaftStorageTest {
     assertEquals(1024, storage.maxLogEntriesPerSegment());
     assertEquals(100, storage.freeDiskSpace());
     assertFalse(storage.isFlushOnCommit());
+    assertEquals(Duration.ofMillis(2), storage.flushDelay());
+    assertEquals(1024, storage.flushThreshold());
     assertTrue(storage.isRetainStaleSnapshots());
   }
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+public class RaftLogFlusherTest {
+
+  private static final Duration FLUSH_DELAY = Duration.ofMillis(5);
+  private static final long FLUSH_THRESHOLD = 1024 * 1024;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ThreadContext threadContext = mock(ThreadContext.class);
+  private final Scheduled scheduledFlush = mock(Scheduled.class);
+  private final AtomicInteger acknowledgedCommits = new AtomicInteger();
+
+  private RaftLog log;
+  private RaftLogWriter writer;
+
+  @Before
+  public void setUp() throws IOException {
+    when(threadContext.schedule(any(Duration.class), any())).thenReturn(scheduledFlush);
+
+    log =
+        RaftStorage.builder()
+            .withDirectory(temporaryFolder.newFolder("log"))
+            .withNamespace(RaftNamespaces.RAFT_STORAGE)
+            .withFlushOnCommit()
+            .withFlushDelay(FLUSH_DELAY)
+            .build()
+            .openLog();
+    writer = log.writer();
+  }
+
+  @After
+  public void tearDown() {
+    log.close();
+  }
+
+  @Test
+  public void shouldAcknowledgeCommitAfterFlushDelay() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(FLUSH_DELAY, FLUSH_THRESHOLD);
+    final long index = appendAndCommit();
+
+    // when
+    flusher.onCommit(index, acknowledgedCommits::incrementAndGet);
+
+    // then
+    assertThat(acknowledgedCommits).hasValue(0);
+    assertThat(writer.getFlushedIndex()).isLessThan(index);
+
+    runScheduledFlush();
+    assertThat(acknowledgedCommits).hasValue(1);
+    assertThat(writer.getFlushedIndex()).isEqualTo(index);
+  }
+
+  @Test
+  public void shouldFlushCommitsWithinDelayTogether() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(FLUSH_DELAY, FLUSH_THRESHOLD);
+
+    // when
+    flusher.onCommit(appendAndCommit(), acknowledgedCommits::incrementAndGet);
+    flusher.onCommit(appendAndCommit(), acknowledgedCommits::incrementAndGet);
+
+    // then
+    verify(threadContext, times(1)).schedule(eq(FLUSH_DELAY), any());
+    assertThat(acknowledgedCommits).hasValue(0);
+
+    runScheduledFlush();
+    assertThat(acknowledgedCommits).hasValue(2);
+    assertThat(writer.getUnflushedBytes()).isZero();
+  }
+
+  @Test
+  public void shouldFlushIfThresholdIsReached() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(FLUSH_DELAY, 1);
+    final long index = appendAndCommit();
+
+    // when
+    flusher.onCommit(index, acknowledgedCommits::incrementAndGet);
+
+    // then
+    assertThat(acknowledgedCommits).hasValue(1);
+    assertThat(writer.getFlushedIndex()).isEqualTo(index);
+    verify(threadContext, never()).schedule(any(Duration.class), any());
+  }
+
+  @Test
+  public void shouldAcknowledgeCommitImmediatelyWithoutFlushDelay() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(Duration.ZERO, FLUSH_THRESHOLD);
+
+    // when
+    flusher.onCommit(appendAndCommit(), acknowledgedCommits::incrementAndGet);
+
+    // then
+    assertThat(acknowledgedCommits).hasValue(1);
+    verify(threadContext, never()).schedule(any(Duration.class), any());
+  }
+
+  @Test
+  public void shouldNotAcknowledgeCommitsAfterClose() {
+    // given
+    final RaftLogFlusher flusher = newFlusher(FLUSH_DELAY, FLUSH_THRESHOLD);
+    flusher.onCommit(appendAndCommit(), acknowledgedCommits::incrementAndGet);
+
+    // when
+    flusher.close();
+
+    // then
+    verify(scheduledFlush).cancel();
+    assertThat(acknowledgedCommits).hasValue(0);
+  }
+
+  private RaftLogFlusher newFlusher(final Duration flushDelay, final long flushThreshold) {
+    return new RaftLogFlusher(writer, threadContext, flushDelay, flushThreshold);
+  }
+
+  private long appendAndCommit() {
+    final long index =
+        writer
+            .append(new ZeebeEntry(1, System.currentTimeMillis(), 1, 1, ByteBuffer.allocate(64)))
+            .index();
+    writer.commit(index);
+    return index;
+  }
+
+  private void runScheduledFlush() {
+    final ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+    verify(threadContext).schedule(eq(FLUSH_DELAY), flush.capture());
+    flush.getValue().run();
+  }
+}
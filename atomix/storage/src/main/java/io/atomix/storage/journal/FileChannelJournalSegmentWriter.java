@@ -69,7 +69,11 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     memory.limit(0);
     this.namespace = namespace;
     firstIndex = segment.index();
-    reset(0);
+
+    final JournalSegmentIndexFile sealedIndex = segment.sealedIndex();
+    if (sealedIndex == null || !restore(sealedIndex)) {
+      reset(0);
+    }
   }
 
   @Override
@@ -170,11 +174,89 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void reset(final long index) {
-    long nextIndex = firstIndex;
+    reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  /**
+   * Restores the writer from the persisted index of a sealed segment. Only the indexed entries and
+   * the entries following the last indexed entry are read, instead of every entry of the segment.
+   *
+   * @param sealedIndex the persisted index of the segment
+   * @return true if the writer was restored, false if the segment does not match the index
+   */
+  private boolean restore(final JournalSegmentIndexFile sealedIndex) {
+    if (sealedIndex.size() == 0) {
+      return false;
+    }
+
+    try {
+      for (int i = 0; i < sealedIndex.size(); i++) {
+        final Indexed<E> entry = readEntry(sealedIndex.indexAt(i), sealedIndex.positionAt(i));
+        if (entry == null) {
+          segment.unseal();
+          lastEntry = null;
+          return false;
+        }
+
+        this.index.index(entry, sealedIndex.positionAt(i));
+        lastEntry = entry;
+      }
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    final int lastIndexed = sealedIndex.size() - 1;
+    reset(0, sealedIndex.indexAt(lastIndexed), sealedIndex.positionAt(lastIndexed));
+    if (getLastIndex() != sealedIndex.lastIndex()) {
+      segment.unseal();
+      lastEntry = null;
+      return false;
+    }
+
+    return true;
+  }
+
+  /** Reads the entry at the given position, or returns null if there is no valid entry. */
+  private Indexed<E> readEntry(final long index, final int position) throws IOException {
+    if (position < JournalSegmentDescriptor.BYTES) {
+      return null;
+    }
+
+    memory.clear();
+    memory.limit(Integer.BYTES + Integer.BYTES);
+    if (channel.read(memory, position) < Integer.BYTES + Integer.BYTES) {
+      return null;
+    }
+    memory.flip();
+
+    final int length = memory.getInt();
+    final long checksum = memory.getInt() & 0xFFFFFFFFL;
+    if (length <= 0 || length > maxEntrySize) {
+      return null;
+    }
+
+    memory.clear();
+    memory.limit(length);
+    if (channel.read(memory, position + Integer.BYTES + Integer.BYTES) < length) {
+      return null;
+    }
+    memory.flip();
+
+    final Checksum crc32 = new CRC32();
+    crc32.update(memory.array(), 0, length);
+    if (checksum != crc32.getValue()) {
+      return null;
+    }
+
+    return new Indexed<>(index, namespace.deserialize(memory), length);
+  }
+
+  private void reset(final long index, final long startIndex, final long startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
     try {
-      channel.position(JournalSegmentDescriptor.BYTES);
+      channel.position(startPosition);
       memory.clear().flip();
 
       // Record the current buffer position.
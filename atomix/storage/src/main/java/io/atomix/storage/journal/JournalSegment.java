@@ -49,6 +49,7 @@ public class JournalSegment<E> implements AutoCloseable {
   private final MappableJournalSegmentWriter<E> writer;
   private final Set<MappableJournalSegmentReader<E>> readers = Sets.newConcurrentHashSet();
   private final AtomicInteger references = new AtomicInteger();
+  private JournalSegmentIndexFile sealedIndex;
   private boolean open = true;
 
   public JournalSegment(
@@ -64,6 +65,11 @@ public class JournalSegment<E> implements AutoCloseable {
     this.maxEntrySize = maxEntrySize;
     index = journalIndex;
     this.namespace = namespace;
+    sealedIndex = JournalSegmentIndexFile.read(file.indexFile(), descriptor);
+    if (sealedIndex == null) {
+      // remove stale or corrupted index files, the segment is rebuilt by reading all entries
+      deleteIndexFile();
+    }
     writer =
         new MappableJournalSegmentWriter<>(
             openChannel(file.file()), this, maxEntrySize, index, namespace);
@@ -256,10 +262,55 @@ public class JournalSegment<E> implements AutoCloseable {
     this.index.compact(index);
   }
 
+  /**
+   * Persists the index of the segment next to the segment file, such that the segment can be opened
+   * later without reading all of its entries. Must only be called once no more entries are appended
+   * to the segment and the segment was flushed.
+   */
+  void seal() {
+    sealedIndex = JournalSegmentIndexFile.of(this, index);
+    sealedIndex.write(file.indexFile(), descriptor);
+  }
+
+  /** Removes the persisted index of the segment, which must happen before it is modified again. */
+  void unseal() {
+    if (sealedIndex != null) {
+      sealedIndex = null;
+      deleteIndexFile();
+    }
+  }
+
+  /**
+   * Returns the persisted index of the segment.
+   *
+   * @return the index of the sealed segment, or null if the segment is not sealed
+   */
+  JournalSegmentIndexFile sealedIndex() {
+    return sealedIndex;
+  }
+
+  /**
+   * Returns a boolean indicating whether the segment is sealed.
+   *
+   * @return indicates whether the index of the segment is persisted
+   */
+  boolean isSealed() {
+    return sealedIndex != null;
+  }
+
   /** Deletes the segment. */
   public void delete() {
     try {
       Files.deleteIfExists(file.file().toPath());
+      deleteIndexFile();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private void deleteIndexFile() {
+    try {
+      Files.deleteIfExists(file.indexFile().toPath());
     } catch (final IOException e) {
       throw new StorageException(e);
     }
@@ -29,6 +29,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -55,6 +56,23 @@ public final class JournalSegmentFile {
    * @throws NullPointerException if {@code file} is null
    */
   public static boolean isSegmentFile(final String journalName, final String fileName) {
+    return hasSegmentFileName(journalName, fileName, EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file appears to be the index file of a
+   * sealed segment.
+   *
+   * @param journalName the name of the journal
+   * @param file the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isSegmentIndexFile(final String journalName, final File file) {
+    return hasSegmentFileName(journalName, file.getName(), INDEX_EXTENSION);
+  }
+
+  private static boolean hasSegmentFileName(
+      final String journalName, final String fileName, final String extension) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
 
@@ -64,7 +82,7 @@ public final class JournalSegmentFile {
     if (extensionSeparator == -1
         || partSeparator == -1
         || extensionSeparator < partSeparator
-        || !fileName.endsWith(EXTENSION)) {
+        || !fileName.endsWith(extension)) {
       return false;
     }
 
@@ -83,6 +101,17 @@ public final class JournalSegmentFile {
         directory, String.format("%s-%d.log", checkNotNull(name, "name cannot be null"), id));
   }
 
+  /**
+   * Returns the file in which the index of the sealed segment is persisted.
+   *
+   * @return The segment index file.
+   */
+  File indexFile() {
+    final String name = file.getName();
+    final String baseName = name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1);
+    return new File(file.getParentFile(), baseName + INDEX_EXTENSION);
+  }
+
   /**
    * Returns the segment file.
    *
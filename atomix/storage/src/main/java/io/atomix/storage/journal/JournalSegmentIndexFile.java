@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of a sealed segment, which is persisted next to the segment file once the journal rolls
+ * over to the next segment. It contains the journal index entries which point into the segment and
+ * the last index of the segment, such that a sealed segment can be opened by reading only the
+ * indexed entries instead of every entry of the segment.
+ *
+ * <p>The format of the file is as follows:
+ *
+ * <ul>
+ *   <li>32-bit version
+ *   <li>64-bit segment id
+ *   <li>64-bit first index of the segment
+ *   <li>64-bit last index of the segment
+ *   <li>32-bit count of indexed entries
+ *   <li>for each indexed entry, the 64-bit index and the 32-bit position in the segment
+ *   <li>64-bit CRC32 checksum of all preceding bytes
+ * </ul>
+ */
+final class JournalSegmentIndexFile {
+
+  static final int VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentIndexFile.class);
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+
+  private final long lastIndex;
+  private final long[] indexes;
+  private final int[] positions;
+
+  private JournalSegmentIndexFile(
+      final long lastIndex, final long[] indexes, final int[] positions) {
+    this.lastIndex = lastIndex;
+    this.indexes = indexes;
+    this.positions = positions;
+  }
+
+  /**
+   * Collects the entries of the given journal index which point into the given segment.
+   *
+   * @param segment the sealed segment
+   * @param index the journal index of the segment
+   * @return the index of the sealed segment
+   */
+  static JournalSegmentIndexFile of(final JournalSegment<?> segment, final JournalIndex index) {
+    final Deque<Position> indexedPositions = new ArrayDeque<>();
+    Position position = index.lookup(segment.lastIndex());
+    while (position != null && position.index() >= segment.index()) {
+      indexedPositions.addFirst(position);
+      position = index.lookup(position.index() - 1);
+    }
+
+    final long[] indexes = new long[indexedPositions.size()];
+    final int[] positions = new int[indexedPositions.size()];
+    int i = 0;
+    for (final Position indexedPosition : indexedPositions) {
+      indexes[i] = indexedPosition.index();
+      positions[i] = indexedPosition.position();
+      i++;
+    }
+
+    return new JournalSegmentIndexFile(segment.lastIndex(), indexes, positions);
+  }
+
+  /**
+   * Reads the index of a sealed segment from the given file.
+   *
+   * @param file the index file of the segment
+   * @param descriptor the descriptor of the segment
+   * @return the index of the sealed segment, or null if the file does not exist or does not match
+   *     the segment
+   */
+  static JournalSegmentIndexFile read(final File file, final JournalSegmentDescriptor descriptor) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    try {
+      final CRC32 crc32 = new CRC32();
+      crc32.update(buffer.array(), 0, buffer.limit() - Long.BYTES);
+      final long checksum = buffer.getLong(buffer.limit() - Long.BYTES);
+      if (checksum != crc32.getValue()) {
+        LOG.warn("Ignoring index file {}, its checksum does not match", file);
+        return null;
+      }
+
+      final int version = buffer.getInt();
+      final long id = buffer.getLong();
+      final long firstIndex = buffer.getLong();
+      if (version != VERSION || id != descriptor.id() || firstIndex != descriptor.index()) {
+        LOG.warn(
+            "Ignoring index file {}, expected version {} of segment {} starting at {}, but was "
+                + "version {} of segment {} starting at {}",
+            file,
+            VERSION,
+            descriptor.id(),
+            descriptor.index(),
+            version,
+            id,
+            firstIndex);
+        return null;
+      }
+
+      final long lastIndex = buffer.getLong();
+      final int count = buffer.getInt();
+      final long[] indexes = new long[count];
+      final int[] positions = new int[count];
+      for (int i = 0; i < count; i++) {
+        indexes[i] = buffer.getLong();
+        positions[i] = buffer.getInt();
+      }
+
+      return new JournalSegmentIndexFile(lastIndex, indexes, positions);
+    } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+      LOG.warn("Ignoring index file {}, it is truncated", file, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the index to the given file and flushes it to disk.
+   *
+   * @param file the index file of the segment
+   * @param descriptor the descriptor of the segment
+   */
+  void write(final File file, final JournalSegmentDescriptor descriptor) {
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + indexes.length * ENTRY_LENGTH + Long.BYTES);
+    buffer.putInt(VERSION);
+    buffer.putLong(descriptor.id());
+    buffer.putLong(descriptor.index());
+    buffer.putLong(lastIndex);
+    buffer.putInt(indexes.length);
+    for (int i = 0; i < indexes.length; i++) {
+      buffer.putLong(indexes[i]);
+      buffer.putInt(positions[i]);
+    }
+
+    final CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, buffer.position());
+    buffer.putLong(crc32.getValue());
+    buffer.flip();
+
+    try (final FileChannel channel =
+        FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      channel.write(buffer);
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /** @return the last index of the sealed segment */
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  /** @return the count of indexed entries */
+  int size() {
+    return indexes.length;
+  }
+
+  long indexAt(final int i) {
+    return indexes[i];
+  }
+
+  int positionAt(final int i) {
+    return positions[i];
+  }
+}
@@ -128,11 +128,13 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public <T extends E> Indexed<T> append(final T entry) {
+    segment.unseal();
     return writer.append(entry);
   }
 
   @Override
   public void append(final Indexed<E> entry) {
+    segment.unseal();
     writer.append(entry);
   }
 
@@ -148,6 +150,9 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void truncate(final long index) {
+    if (index < writer.getLastIndex()) {
+      segment.unseal();
+    }
     writer.truncate(index);
   }
 
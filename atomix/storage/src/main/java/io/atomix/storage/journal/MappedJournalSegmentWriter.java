@@ -68,7 +68,11 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     this.index = index;
     this.namespace = namespace;
     firstIndex = segment.index();
-    reset(0);
+
+    final JournalSegmentIndexFile sealedIndex = segment.sealedIndex();
+    if (sealedIndex == null || !restore(sealedIndex)) {
+      reset(0);
+    }
   }
 
   /**
@@ -174,10 +178,74 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void reset(final long index) {
-    long nextIndex = firstIndex;
+    reset(index, firstIndex, JournalSegmentDescriptor.BYTES);
+  }
+
+  /**
+   * Restores the writer from the persisted index of a sealed segment. Only the indexed entries and
+   * the entries following the last indexed entry are read, instead of every entry of the segment.
+   *
+   * @param sealedIndex the persisted index of the segment
+   * @return true if the writer was restored, false if the segment does not match the index
+   */
+  private boolean restore(final JournalSegmentIndexFile sealedIndex) {
+    if (sealedIndex.size() == 0) {
+      return false;
+    }
+
+    for (int i = 0; i < sealedIndex.size(); i++) {
+      final Indexed<E> entry = readEntry(sealedIndex.indexAt(i), sealedIndex.positionAt(i));
+      if (entry == null) {
+        segment.unseal();
+        lastEntry = null;
+        return false;
+      }
+
+      this.index.index(entry, sealedIndex.positionAt(i));
+      lastEntry = entry;
+    }
+
+    final int lastIndexed = sealedIndex.size() - 1;
+    reset(0, sealedIndex.indexAt(lastIndexed), sealedIndex.positionAt(lastIndexed));
+    if (getLastIndex() != sealedIndex.lastIndex()) {
+      segment.unseal();
+      lastEntry = null;
+      return false;
+    }
+
+    return true;
+  }
+
+  /** Reads the entry at the given position, or returns null if there is no valid entry. */
+  private Indexed<E> readEntry(final long index, final int position) {
+    final int entryPosition = position + Integer.BYTES + Integer.BYTES;
+    if (position < JournalSegmentDescriptor.BYTES || entryPosition > buffer.limit()) {
+      return null;
+    }
+
+    final int length = buffer.getInt(position);
+    final long checksum = buffer.getInt(position + Integer.BYTES) & 0xFFFFFFFFL;
+    if (length <= 0 || length > maxEntrySize || entryPosition + length > buffer.limit()) {
+      return null;
+    }
+
+    final ByteBuffer slice = buffer.duplicate();
+    slice.position(entryPosition).limit(entryPosition + length);
+    final CRC32 crc32 = new CRC32();
+    crc32.update(slice);
+    if (checksum != crc32.getValue()) {
+      return null;
+    }
+
+    slice.position(entryPosition);
+    return new Indexed<>(index, namespace.deserialize(slice.slice()), length);
+  }
+
+  private void reset(final long index, final long startIndex, final int startPosition) {
+    long nextIndex = startIndex;
 
     // Clear the buffer indexes.
-    buffer.position(JournalSegmentDescriptor.BYTES);
+    buffer.position(startPosition);
 
     // Record the current buffer position.
     int position = buffer.position();
@@ -271,6 +271,12 @@ public class SegmentedJournal<E> implements Journal<E> {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+
+      // Persist the index of sealed segments which had to be read completely, such that they
+      // don't have to be read again on the next start.
+      segments.headMap(currentSegment.index()).values().stream()
+          .filter(segment -> !segment.isSealed())
+          .forEach(JournalSegment::seal);
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
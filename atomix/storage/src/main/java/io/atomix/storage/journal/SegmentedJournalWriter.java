@@ -26,12 +26,18 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   private JournalSegment<E> currentSegment;
   private MappableJournalSegmentWriter<E> currentWriter;
 
+  // the index up to which the entries are flushed, and what was written or committed since then
+  private long flushedIndex;
+  private long unflushedBytes;
+  private long unflushedCommitTime = -1;
+
   public SegmentedJournalWriter(final SegmentedJournal<E> journal) {
     this.journal = journal;
     journalMetrics = journal.getJournalMetrics();
     currentSegment = journal.getLastSegment();
     currentSegment.acquire();
     currentWriter = currentSegment.writer();
+    flushedIndex = currentWriter.getLastIndex();
   }
 
   @Override
@@ -51,8 +57,9 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   @Override
   public <T extends E> Indexed<T> append(final T entry) {
+    Indexed<T> indexed;
     try {
-      return currentWriter.append(entry);
+      indexed = currentWriter.append(entry);
     } catch (final BufferOverflowException e) {
       if (currentSegment.index() == currentWriter.getNextIndex()) {
         throw e;
@@ -60,8 +67,11 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
       journalMetrics.observeSegmentCreation(this::createNewSegment);
 
-      return currentWriter.append(entry);
+      indexed = currentWriter.append(entry);
     }
+
+    unflushedBytes += indexed.size();
+    return indexed;
   }
 
   @Override
@@ -76,12 +86,18 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
       currentWriter.append(entry);
     }
+
+    unflushedBytes += entry.size();
   }
 
   @Override
   public void commit(final long index) {
     if (index > journal.getCommitIndex()) {
       journal.setCommitIndex(index);
+      if (index > flushedIndex && unflushedCommitTime < 0) {
+        unflushedCommitTime = System.nanoTime();
+      }
+
       if (journal.isFlushOnCommit()) {
         flush();
       }
@@ -95,6 +111,10 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
       currentSegment = journal.resetSegments(index);
       currentSegment.acquire();
       currentWriter = currentSegment.writer();
+      // the entries before the index are replaced, e.g. by a snapshot, and there is nothing to
+      // flush
+      flushedIndex = index - 1;
+      unflushedBytes = 0;
     } else {
       truncate(index - 1);
     }
@@ -120,6 +140,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
           // Truncate the current index.
           currentWriter.truncate(index);
+          flushedIndex = Math.min(flushedIndex, index);
 
           // Reset segment readers.
           journal.resetTail(index + 1);
@@ -128,7 +149,35 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   @Override
   public void flush() {
+    final long lastIndex = currentWriter.getLastIndex();
     journalMetrics.observeSegmentFlush(currentWriter::flush);
+    journalMetrics.observeFlushBatchSize(unflushedBytes);
+    if (unflushedCommitTime >= 0) {
+      journalMetrics.observeCommitFlushLatency(System.nanoTime() - unflushedCommitTime);
+    }
+
+    flushedIndex = lastIndex;
+    unflushedBytes = 0;
+    unflushedCommitTime = -1;
+  }
+
+  /**
+   * Returns the index up to which the entries are flushed to disk. Entries of previous segments may
+   * be flushed already when a new segment is created, which is not reflected here.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getFlushedIndex() {
+    return flushedIndex;
+  }
+
+  /**
+   * Returns the size of the entries which were appended since the last flush.
+   *
+   * @return the number of bytes which are not flushed yet
+   */
+  public long getUnflushedBytes() {
+    return unflushedBytes;
   }
 
   @Override
@@ -138,6 +187,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   private void createNewSegment() {
     currentWriter.flush();
+    currentSegment.seal();
     currentSegment.release();
     currentSegment = journal.getNextSegment();
     currentSegment.acquire();
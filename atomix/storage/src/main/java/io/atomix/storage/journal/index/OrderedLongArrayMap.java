@@ -0,0 +1,231 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.util.Arrays;
+
+/**
+ * Ordered mapping of primitive long keys to primitive long values, backed by two parallel arrays.
+ *
+ * <p>The map is optimized for the access pattern of a journal index: keys are appended in ascending
+ * order, removed from the tail on truncation and from the head on compaction. Appending, truncating
+ * and compacting only move the bounds of the live range; out of order inserts are supported but
+ * require shifting the tail of the arrays.
+ *
+ * <p>Lookups are binary searches over the keys. Since journal indexes also map to ascending values
+ * (e.g. positions), the values can be searched as well via {@link #floorSlotByValue(long)}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class OrderedLongArrayMap {
+
+  public static final int NO_SLOT = -1;
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+  private final int initialCapacity;
+
+  private long[] keys;
+  private long[] values;
+
+  // live entries are stored in [head, tail)
+  private int head;
+  private int tail;
+
+  public OrderedLongArrayMap() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public OrderedLongArrayMap(final int initialCapacity) {
+    if (initialCapacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected initial capacity to be greater than 0, but was " + initialCapacity);
+    }
+
+    this.initialCapacity = initialCapacity;
+    keys = new long[initialCapacity];
+    values = new long[initialCapacity];
+  }
+
+  /**
+   * Maps the given key to the given value, overwriting any previous value of the key.
+   *
+   * @param key the key to add
+   * @param value the value of the key
+   */
+  public void put(final long key, final long value) {
+    if (head == tail || keys[tail - 1] < key) {
+      ensureCapacity();
+      keys[tail] = key;
+      values[tail] = value;
+      tail++;
+      return;
+    }
+
+    final int existingSlot = Arrays.binarySearch(keys, head, tail, key);
+    if (existingSlot >= 0) {
+      values[existingSlot] = value;
+      return;
+    }
+
+    // growing may move the live range, so search the insertion slot afterwards
+    ensureCapacity();
+    final int slot = Arrays.binarySearch(keys, head, tail, key);
+    final int insertionSlot = -(slot + 1);
+    final int length = tail - insertionSlot;
+    System.arraycopy(keys, insertionSlot, keys, insertionSlot + 1, length);
+    System.arraycopy(values, insertionSlot, values, insertionSlot + 1, length);
+    keys[insertionSlot] = key;
+    values[insertionSlot] = value;
+    tail++;
+  }
+
+  /**
+   * Returns the slot of the greatest key less than or equal to the given key.
+   *
+   * @param key the key to look up
+   * @return the slot of the floor entry, or {@link #NO_SLOT} if there is none
+   */
+  public int floorSlot(final long key) {
+    return floorSlot(keys, key);
+  }
+
+  /**
+   * Returns the slot of the greatest value less than or equal to the given value. Only meaningful
+   * if the values are ascending in the same order as the keys.
+   *
+   * @param value the value to look up
+   * @return the slot of the floor entry, or {@link #NO_SLOT} if there is none
+   */
+  public int floorSlotByValue(final long value) {
+    return floorSlot(values, value);
+  }
+
+  /**
+   * Returns the slot of the greatest key strictly less than the given key.
+   *
+   * @param key the key to look up
+   * @return the slot of the lower entry, or {@link #NO_SLOT} if there is none
+   */
+  public int lowerSlot(final long key) {
+    final int slot = Arrays.binarySearch(keys, head, tail, key);
+    final int lowerSlot = slot >= 0 ? slot - 1 : -(slot + 1) - 1;
+    return lowerSlot >= head ? lowerSlot : NO_SLOT;
+  }
+
+  public long keyAt(final int slot) {
+    return keys[slot];
+  }
+
+  public long valueAt(final int slot) {
+    return values[slot];
+  }
+
+  /**
+   * Removes all entries with a key greater than the given key.
+   *
+   * @param key the greatest key to keep
+   */
+  public void removeAfter(final long key) {
+    final int floorSlot = floorSlot(key);
+    tail = floorSlot == NO_SLOT ? head : floorSlot + 1;
+
+    if (head == tail) {
+      clear();
+    }
+  }
+
+  /**
+   * Removes all entries with a key less than the given key.
+   *
+   * @param key the lowest key to keep
+   */
+  public void removeBefore(final long key) {
+    final int slot = Arrays.binarySearch(keys, head, tail, key);
+    head = slot >= 0 ? slot : -(slot + 1);
+
+    if (head == tail) {
+      clear();
+    } else {
+      shrinkIfSparse();
+    }
+  }
+
+  public void clear() {
+    head = 0;
+    tail = 0;
+
+    if (keys.length > initialCapacity) {
+      keys = new long[initialCapacity];
+      values = new long[initialCapacity];
+    }
+  }
+
+  public int size() {
+    return tail - head;
+  }
+
+  public boolean isEmpty() {
+    return head == tail;
+  }
+
+  /** @return the number of entries the map can hold before it has to grow */
+  public int capacity() {
+    return keys.length;
+  }
+
+  private int floorSlot(final long[] array, final long searchValue) {
+    if (head == tail) {
+      return NO_SLOT;
+    }
+
+    final int slot = Arrays.binarySearch(array, head, tail, searchValue);
+    final int floorSlot = slot >= 0 ? slot : -(slot + 1) - 1;
+    return floorSlot >= head ? floorSlot : NO_SLOT;
+  }
+
+  private void ensureCapacity() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    final int size = size();
+    // reclaim the space freed by compaction before growing
+    final int newCapacity = size < keys.length / 2 ? keys.length : keys.length << 1;
+    resize(newCapacity);
+  }
+
+  private void shrinkIfSparse() {
+    final int size = size();
+    if (keys.length > initialCapacity && size < keys.length / 4) {
+      resize(Math.max(initialCapacity, keys.length >> 1));
+    }
+  }
+
+  private void resize(final int newCapacity) {
+    final int size = size();
+    final long[] newKeys = newCapacity == keys.length ? keys : new long[newCapacity];
+    final long[] newValues = newCapacity == values.length ? values : new long[newCapacity];
+
+    System.arraycopy(keys, head, newKeys, 0, size);
+    System.arraycopy(values, head, newValues, 0, size);
+
+    keys = newKeys;
+    values = newValues;
+    head = 0;
+    tail = size;
+  }
+}
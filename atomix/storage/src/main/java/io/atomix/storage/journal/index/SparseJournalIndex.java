@@ -17,15 +17,12 @@
 package io.atomix.storage.journal.index;
 
 import io.atomix.storage.journal.Indexed;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.TreeMap;
 
-/** Sparse index. */
+/** Sparse index, backed by primitive arrays to avoid boxing every indexed entry. */
 public class SparseJournalIndex implements JournalIndex {
 
   private final int density;
-  private final TreeMap<Long, Integer> positions = new TreeMap<>();
+  private final OrderedLongArrayMap positions = new OrderedLongArrayMap();
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -41,21 +38,23 @@ public class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Position lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = positions.floorEntry(index);
-    return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    final int slot = positions.floorSlot(index);
+    return slot != OrderedLongArrayMap.NO_SLOT
+        ? new Position(positions.keyAt(slot), (int) positions.valueAt(slot))
+        : null;
   }
 
   @Override
   public void truncate(final long index) {
-    positions.tailMap(index, false).clear();
+    positions.removeAfter(index);
   }
 
   @Override
   public void compact(final long index) {
-    final Entry<Long, Integer> floorEntry = positions.floorEntry(index);
+    final int floorSlot = positions.floorSlot(index);
 
-    if (floorEntry != null) {
-      positions.headMap(floorEntry.getKey(), false).clear();
+    if (floorSlot != OrderedLongArrayMap.NO_SLOT) {
+      positions.removeBefore(positions.keyAt(floorSlot));
     }
   }
 }
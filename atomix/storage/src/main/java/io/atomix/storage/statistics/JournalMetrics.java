@@ -47,6 +47,24 @@ public class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flush_batch_size_bytes")
+          .help("Number of bytes which were written since the previous flush and are made durable")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 10)
+          .register();
+
+  private static final Histogram COMMIT_FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_commit_flush_latency")
+          .help("Time between the first commit which is not yet flushed and the covering flush")
+          .labelNames(PARTITION_LABEL)
+          .buckets(.0001, .0005, .001, .002, .005, .01, .02, .05, .1, .5, 1)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -76,6 +94,14 @@ public class JournalMetrics {
     SEGMENT_FLUSH_TIME.labels(logName).time(segmentFlush);
   }
 
+  public void observeFlushBatchSize(final long bytes) {
+    FLUSH_BATCH_SIZE.labels(logName).observe(bytes);
+  }
+
+  public void observeCommitFlushLatency(final long latencyNanos) {
+    COMMIT_FLUSH_LATENCY.labels(logName).observe(latencyNanos / 1_000_000_000D);
+  }
+
   public void observeSegmentTruncation(final Runnable segmentTruncation) {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
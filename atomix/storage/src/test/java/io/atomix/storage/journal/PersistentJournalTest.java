@@ -17,8 +17,12 @@
 package io.atomix.storage.journal;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
+import java.io.File;
+import java.nio.file.Files;
 import org.junit.Test;
 
 /** Persistent journal test base. */
@@ -60,4 +64,103 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  @Test
+  public void shouldSealSegmentsOnRollOver() {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+
+    // when
+    for (int i = 0; i < entriesPerSegment * 3 + 1; i++) {
+      writer.append(ENTRY);
+    }
+
+    // then
+    assertEquals(journal.segments().size() - 1, indexFiles().length);
+    assertFalse(journal.getLastSegment().isSealed());
+  }
+
+  @Test
+  public void shouldRestoreSealedSegmentsOnReopen() throws Exception {
+    // given
+    JournalWriter<TestEntry> writer = journal.writer();
+    final int entryCount = entriesPerSegment * 3 + 2;
+    for (int i = 0; i < entryCount; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    journal = createJournal();
+    writer = journal.writer();
+    writer.append(ENTRY);
+
+    // then
+    assertEquals(entryCount + 1, writer.getLastIndex());
+    assertEntriesReadable(entryCount + 1);
+    assertEquals(journal.segments().size() - 1, indexFiles().length);
+  }
+
+  @Test
+  public void shouldRebuildSegmentIfIndexFileIsCorrupted() throws Exception {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    final int entryCount = entriesPerSegment * 3 + 2;
+    for (int i = 0; i < entryCount; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // when
+    for (final File indexFile : indexFiles()) {
+      Files.write(indexFile.toPath(), new byte[] {1, 2, 3});
+    }
+    journal = createJournal();
+
+    // then
+    assertEquals(entryCount, journal.writer().getLastIndex());
+    assertEntriesReadable(entryCount);
+    assertEquals(journal.segments().size() - 1, indexFiles().length);
+  }
+
+  @Test
+  public void shouldRemoveIndexFileOnTruncate() throws Exception {
+    // given - truncation within a sealed segment
+    assumeTrue(entriesPerSegment > 1);
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3 + 2; i++) {
+      writer.append(ENTRY);
+    }
+
+    // when
+    final long truncatedIndex = entriesPerSegment + 1;
+    writer.truncate(truncatedIndex);
+    journal.close();
+    journal = createJournal();
+
+    // then
+    assertEquals(1, indexFiles().length);
+    assertEquals(truncatedIndex, journal.writer().getLastIndex());
+    assertEntriesReadable(truncatedIndex);
+  }
+
+  private File[] indexFiles() {
+    return journal
+        .directory()
+        .listFiles(file -> JournalSegmentFile.isSegmentIndexFile("test", file));
+  }
+
+  private void assertEntriesReadable(final long lastIndex) {
+    final JournalReader<TestEntry> reader = journal.openReader(1, JournalReader.Mode.ALL);
+    for (long index = 1; index <= lastIndex; index++) {
+      assertTrue(reader.hasNext());
+      final Indexed<TestEntry> entry = reader.next();
+      assertEquals(index, entry.index());
+      assertEquals(ENTRY.bytes().length, entry.entry().bytes().length);
+    }
+    assertFalse(reader.hasNext());
+
+    reader.reset(lastIndex);
+    assertEquals(lastIndex, reader.next().index());
+  }
 }
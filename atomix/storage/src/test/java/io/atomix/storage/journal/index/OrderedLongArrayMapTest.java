@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import static io.atomix.storage.journal.index.OrderedLongArrayMap.NO_SLOT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class OrderedLongArrayMapTest {
+
+  @Test
+  public void shouldFindFloorEntry() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+
+    // then
+    assertEquals(NO_SLOT, map.floorSlot(4));
+    assertEquals(5, map.keyAt(map.floorSlot(5)));
+    assertEquals(10, map.valueAt(map.floorSlot(9)));
+    assertEquals(10, map.keyAt(map.floorSlot(100)));
+  }
+
+  @Test
+  public void shouldFindFloorEntryByValue() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+
+    // then
+    assertEquals(NO_SLOT, map.floorSlotByValue(9));
+    assertEquals(5, map.keyAt(map.floorSlotByValue(19)));
+    assertEquals(10, map.keyAt(map.floorSlotByValue(20)));
+  }
+
+  @Test
+  public void shouldFindLowerEntry() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+
+    // then
+    assertEquals(NO_SLOT, map.lowerSlot(5));
+    assertEquals(5, map.keyAt(map.lowerSlot(10)));
+    assertEquals(10, map.keyAt(map.lowerSlot(11)));
+  }
+
+  @Test
+  public void shouldInsertOutOfOrderAndOverwrite() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap(2);
+    map.put(10, 20);
+    map.put(20, 40);
+
+    // when
+    map.put(5, 10);
+    map.put(10, 21);
+
+    // then
+    assertEquals(3, map.size());
+    assertEquals(5, map.keyAt(map.floorSlot(9)));
+    assertEquals(21, map.valueAt(map.floorSlot(10)));
+    assertEquals(40, map.valueAt(map.floorSlot(20)));
+  }
+
+  @Test
+  public void shouldRemoveAfter() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+    map.put(15, 30);
+
+    // when
+    map.removeAfter(12);
+
+    // then
+    assertEquals(2, map.size());
+    assertEquals(10, map.keyAt(map.floorSlot(20)));
+  }
+
+  @Test
+  public void shouldRemoveBefore() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+    map.put(15, 30);
+
+    // when
+    map.removeBefore(10);
+
+    // then
+    assertEquals(2, map.size());
+    assertEquals(NO_SLOT, map.floorSlot(9));
+    assertEquals(10, map.keyAt(map.floorSlot(10)));
+  }
+
+  @Test
+  public void shouldRemoveAll() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap();
+    map.put(5, 10);
+    map.put(10, 20);
+
+    // when
+    map.removeAfter(4);
+
+    // then
+    assertTrue(map.isEmpty());
+    assertEquals(NO_SLOT, map.floorSlot(10));
+  }
+
+  @Test
+  public void shouldReuseCompactedSpaceBeforeGrowing() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap(4);
+    for (int i = 0; i < 4; i++) {
+      map.put(i, i);
+    }
+
+    // when
+    map.removeBefore(3);
+    map.put(4, 4);
+    map.put(5, 5);
+
+    // then
+    assertEquals(4, map.capacity());
+    assertEquals(3, map.size());
+    assertEquals(3, map.keyAt(map.floorSlot(3)));
+    assertEquals(5, map.keyAt(map.floorSlot(5)));
+  }
+
+  @Test
+  public void shouldGrowAndShrink() {
+    // given
+    final OrderedLongArrayMap map = new OrderedLongArrayMap(4);
+
+    // when
+    for (int i = 0; i < 64; i++) {
+      map.put(i, i * 2L);
+    }
+    final int grownCapacity = map.capacity();
+    map.removeBefore(60);
+
+    // then
+    assertEquals(64, grownCapacity);
+    assertTrue(map.capacity() < grownCapacity);
+    assertEquals(4, map.size());
+    assertEquals(120, map.valueAt(map.floorSlot(60)));
+  }
+}
@@ -68,6 +68,7 @@ public class Worker extends App {
                     requestFutures.add(command.send());
                   }
                 })
+            .completionBatchWindow(workerCfg.getCompletionBatchWindow())
             .open();
 
     final ResponseChecker responseChecker = new ResponseChecker(requestFutures);
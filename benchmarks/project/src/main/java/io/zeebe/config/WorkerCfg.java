@@ -28,6 +28,7 @@ public class WorkerCfg {
   private Duration pollingDelay;
   private Duration completionDelay;
   private boolean completeJobsAsync;
+  private Duration completionBatchWindow;
 
   private String payloadPath;
 
@@ -94,4 +95,12 @@ public class WorkerCfg {
   public void setCompleteJobsAsync(boolean completeJobsAsync) {
     this.completeJobsAsync = completeJobsAsync;
   }
+
+  public Duration getCompletionBatchWindow() {
+    return completionBatchWindow;
+  }
+
+  public void setCompletionBatchWindow(Duration completionBatchWindow) {
+    this.completionBatchWindow = completionBatchWindow;
+  }
 }
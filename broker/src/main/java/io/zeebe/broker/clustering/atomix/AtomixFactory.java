@@ -108,6 +108,8 @@ public final class AtomixFactory {
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushOnCommit()
+            .withFlushDelay(dataCfg.getLogFlushDelay())
+            .withFlushThreshold(dataCfg.getLogFlushThreshold().toBytes())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
 
     // by default, the Atomix max entry size is 1 MB
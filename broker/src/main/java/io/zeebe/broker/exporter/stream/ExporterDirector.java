@@ -36,12 +36,14 @@ import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.agrona.collections.LongArrayList;
 import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor {
@@ -52,10 +54,12 @@ public final class ExporterDirector extends Actor {
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final Duration EXPORT_RETRY_DELAY = Duration.ofMillis(100);
   private static final String SKIP_POSITION_UPDATE_ERROR_MESSAGE =
       "Failed to update exporter position when skipping filtered record, can be skipped, but may indicate an issue if it occurs often";
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
+  private final Collection<String> exporterIds;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
@@ -74,6 +78,10 @@ public final class ExporterDirector extends Actor {
     name = context.getName();
     containers =
         context.getDescriptors().stream().map(ExporterContainer::new).collect(Collectors.toList());
+    exporterIds =
+        context.getExporterIds() != null
+            ? context.getExporterIds()
+            : containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
 
     logStream = Objects.requireNonNull(context.getLogStream());
     final int partitionId = logStream.getPartitionId();
@@ -170,7 +178,7 @@ public final class ExporterDirector extends Actor {
   private void recoverFromSnapshot() {
     state = new ExportersState(zeebeDb, zeebeDb.createContext());
 
-    final long snapshotPosition = state.getLowestPosition();
+    final long snapshotPosition = getLowestContainerPosition();
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
       throw new IllegalStateException(
@@ -183,6 +191,27 @@ public final class ExporterDirector extends Actor {
         snapshotPosition);
   }
 
+  /**
+   * Returns the lowest position of the exporters of this director, such that the director doesn't
+   * read again the records which were already exported by other directors of the partition. If none
+   * of the exporters has a position yet, it falls back to the lowest position of all exporters.
+   */
+  private long getLowestContainerPosition() {
+    final List<String> containerIds =
+        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
+    final LongArrayList positions = new LongArrayList();
+    state.visitPositions(
+        (exporterId, position) -> {
+          if (containerIds.contains(exporterId)) {
+            positions.addLong(position);
+          }
+        });
+
+    return positions.isEmpty()
+        ? state.getLowestPosition()
+        : positions.longStream().min().orElseThrow();
+  }
+
   private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
@@ -277,22 +306,29 @@ public final class ExporterDirector extends Actor {
         wrapRetryFuture,
         (b, t) -> {
           assert t == null : "Throwable must be null";
+          exportRecord(event);
+        });
+  }
+
+  private void exportRecord(final LoggedEvent event) {
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
 
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+            onFailure();
+          } else if (recordExporter.isRetryRequested()) {
+            // an exporter can't take the record yet, e.g. because of back-pressure; this is not an
+            // error, so the record is exported again shortly instead of backing off
+            actor.runDelayed(EXPORT_RETRY_DELAY, () -> exportRecord(event));
+          } else {
+            metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
         });
   }
 
@@ -301,9 +337,6 @@ public final class ExporterDirector extends Actor {
   }
 
   private void clearExporterState() {
-    final List<String> exporterIds =
-        containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
-
     state.visitPositions(
         (exporterId, position) -> {
           if (!exporterIds.contains(exporterId)) {
@@ -328,6 +361,7 @@ public final class ExporterDirector extends Actor {
     private final ExporterMetrics exporterMetrics;
 
     private boolean shouldExport;
+    private boolean isRetryRequested;
     private int exporterIndex;
 
     RecordExporter(
@@ -353,6 +387,7 @@ public final class ExporterDirector extends Actor {
     }
 
     public boolean export() {
+      isRetryRequested = false;
       if (!shouldExport) {
         return true;
       }
@@ -368,6 +403,12 @@ public final class ExporterDirector extends Actor {
           if (container.position < typedEvent.getPosition()) {
             if (container.acceptRecord(rawMetadata)) {
               container.export(typedEvent);
+
+              if (container.isRetryRequested) {
+                // the remaining exporters get the record once this exporter has taken it
+                isRetryRequested = true;
+                return true;
+              }
             } else {
               container.updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
             }
@@ -390,6 +431,10 @@ public final class ExporterDirector extends Actor {
     TypedEventImpl getTypedEvent() {
       return typedEvent;
     }
+
+    boolean isRetryRequested() {
+      return isRetryRequested;
+    }
   }
 
   private static class ExporterEventFilter implements EventFilter {
@@ -431,6 +476,7 @@ public final class ExporterDirector extends Actor {
     private final Exporter exporter;
     private long position;
     private long lastUnacknowledgedPosition;
+    private boolean isRetryRequested;
 
     ExporterContainer(final ExporterDescriptor descriptor) {
       context =
@@ -441,8 +487,11 @@ public final class ExporterDirector extends Actor {
     }
 
     private void export(final Record<?> record) {
+      isRetryRequested = false;
       exporter.export(record);
-      lastUnacknowledgedPosition = record.getPosition();
+      if (!isRetryRequested) {
+        lastUnacknowledgedPosition = record.getPosition();
+      }
     }
 
     /**
@@ -478,6 +527,11 @@ public final class ExporterDirector extends Actor {
       actor.runDelayed(delay, task);
     }
 
+    @Override
+    public void retryExportLater() {
+      isRetryRequested = true;
+    }
+
     private String getId() {
       return context.getConfiguration().getId();
     }
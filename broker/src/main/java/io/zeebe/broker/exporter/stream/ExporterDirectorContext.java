@@ -18,6 +18,7 @@ public final class ExporterDirectorContext {
   private String name;
   private LogStream logStream;
   private Collection<ExporterDescriptor> descriptors;
+  private Collection<String> exporterIds;
   private ZeebeDb zeebeDb;
 
   public int getId() {
@@ -36,6 +37,14 @@ public final class ExporterDirectorContext {
     return descriptors;
   }
 
+  /**
+   * @return the ids of all exporters which are configured on the partition, or null if the director
+   *     runs all of them
+   */
+  public Collection<String> getExporterIds() {
+    return exporterIds;
+  }
+
   public ZeebeDb getZeebeDb() {
     return zeebeDb;
   }
@@ -60,6 +69,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * Sets the ids of all exporters which are configured on the partition, if the director runs only
+   * some of them. The positions of other exporters are removed from the state.
+   */
+  public ExporterDirectorContext exporterIds(final Collection<String> exporterIds) {
+    this.exporterIds = exporterIds;
+    return this;
+  }
+
   public ExporterDirectorContext zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -31,6 +31,8 @@ public final class DataCfg implements ConfigurationEntry {
   private static final double DEFAULT_DISK_USAGE_COMMAND_WATERMARK = 0.97;
   private static final Duration DEFAULT_DISK_USAGE_MONITORING_DELAY = Duration.ofSeconds(1);
   private static final double DISABLED_DISK_USAGE_WATERMARK = 1.0;
+  private static final Duration DEFAULT_LOG_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_LOG_FLUSH_THRESHOLD = DataSize.ofMegabytes(4);
 
   // Hint: do not use Collections.singletonList as this does not support replaceAll
   private List<String> directories = Arrays.asList(DEFAULT_DIRECTORY);
@@ -41,6 +43,9 @@ public final class DataCfg implements ConfigurationEntry {
 
   private int logIndexDensity = 100;
 
+  private Duration logFlushDelay = DEFAULT_LOG_FLUSH_DELAY;
+  private DataSize logFlushThreshold = DEFAULT_LOG_FLUSH_THRESHOLD;
+
   private boolean useMmap = false;
   private boolean diskUsageMonitoringEnabled = DEFAULT_DISK_USAGE_MONITORING_ENABLED;
   private double diskUsageReplicationWatermark = DEFAULT_DISK_USAGE_REPLICATION_WATERMARK;
@@ -97,6 +102,22 @@ public final class DataCfg implements ConfigurationEntry {
     this.logIndexDensity = logIndexDensity;
   }
 
+  public Duration getLogFlushDelay() {
+    return logFlushDelay;
+  }
+
+  public void setLogFlushDelay(final Duration logFlushDelay) {
+    this.logFlushDelay = logFlushDelay;
+  }
+
+  public DataSize getLogFlushThreshold() {
+    return logFlushThreshold;
+  }
+
+  public void setLogFlushThreshold(final DataSize logFlushThreshold) {
+    this.logFlushThreshold = logFlushThreshold;
+  }
+
   public boolean useMmap() {
     return useMmap;
   }
@@ -170,6 +191,10 @@ public final class DataCfg implements ConfigurationEntry {
         + snapshotPeriod
         + ", logIndexDensity="
         + logIndexDensity
+        + ", logFlushDelay="
+        + logFlushDelay
+        + ", logFlushThreshold="
+        + logFlushThreshold
         + ", useMmap="
         + useMmap
         + ", diskUsageMonitoringEnabled="
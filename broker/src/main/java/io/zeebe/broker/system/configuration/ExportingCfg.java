@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+public final class ExportingCfg implements ConfigurationEntry {
+
+  private boolean parallelReaders = false;
+
+  public boolean isParallelReaders() {
+    return parallelReaders;
+  }
+
+  public void setParallelReaders(final boolean parallelReaders) {
+    this.parallelReaders = parallelReaders;
+  }
+
+  @Override
+  public String toString() {
+    return "ExportingCfg{" + "parallelReaders=" + parallelReaders + '}';
+  }
+}
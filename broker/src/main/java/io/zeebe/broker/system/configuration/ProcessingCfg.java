@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import org.springframework.util.unit.DataSize;
+
+public final class ProcessingCfg implements ConfigurationEntry {
+
+  private static final DataSize DEFAULT_MAX_BATCH_SIZE = DataSize.ofKilobytes(512);
+  private static final DataSize DEFAULT_MAX_WORKFLOW_CACHE_SIZE = DataSize.ofMegabytes(256);
+
+  private int maxBatchRecords = 1;
+  private DataSize maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private int maxPipelineDepth = 0;
+  private int maxCachedWorkflows = 1_000;
+  private DataSize maxWorkflowCacheSize = DEFAULT_MAX_WORKFLOW_CACHE_SIZE;
+
+  public int getMaxBatchRecords() {
+    return maxBatchRecords;
+  }
+
+  public void setMaxBatchRecords(final int maxBatchRecords) {
+    this.maxBatchRecords = maxBatchRecords;
+  }
+
+  public DataSize getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final DataSize maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxPipelineDepth() {
+    return maxPipelineDepth;
+  }
+
+  public void setMaxPipelineDepth(final int maxPipelineDepth) {
+    this.maxPipelineDepth = maxPipelineDepth;
+  }
+
+  public int getMaxCachedWorkflows() {
+    return maxCachedWorkflows;
+  }
+
+  public void setMaxCachedWorkflows(final int maxCachedWorkflows) {
+    this.maxCachedWorkflows = maxCachedWorkflows;
+  }
+
+  public DataSize getMaxWorkflowCacheSize() {
+    return maxWorkflowCacheSize;
+  }
+
+  public void setMaxWorkflowCacheSize(final DataSize maxWorkflowCacheSize) {
+    this.maxWorkflowCacheSize = maxWorkflowCacheSize;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{"
+        + "maxBatchRecords="
+        + maxBatchRecords
+        + ", maxBatchSize="
+        + maxBatchSize
+        + ", maxPipelineDepth="
+        + maxPipelineDepth
+        + ", maxCachedWorkflows="
+        + maxCachedWorkflows
+        + ", maxWorkflowCacheSize="
+        + maxWorkflowCacheSize
+        + '}';
+  }
+}
@@ -11,10 +11,15 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.regex.Pattern;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfg implements ConfigurationEntry {
 
+  private static final DataSize DEFAULT_BLOCK_CACHE_SIZE = DataSize.ofMegabytes(32);
+
   private Properties columnFamilyOptions;
+  private boolean enableColumnFamilyProfiles = false;
+  private DataSize blockCacheSize = DEFAULT_BLOCK_CACHE_SIZE;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -44,6 +49,22 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.columnFamilyOptions = columnFamilyOptions;
   }
 
+  public boolean isEnableColumnFamilyProfiles() {
+    return enableColumnFamilyProfiles;
+  }
+
+  public void setEnableColumnFamilyProfiles(final boolean enableColumnFamilyProfiles) {
+    this.enableColumnFamilyProfiles = enableColumnFamilyProfiles;
+  }
+
+  public DataSize getBlockCacheSize() {
+    return blockCacheSize;
+  }
+
+  public void setBlockCacheSize(final DataSize blockCacheSize) {
+    this.blockCacheSize = blockCacheSize;
+  }
+
   private static final class RocksDBColumnFamilyOption {
 
     private static final Pattern DOT_CHAR_PATTERN = Pattern.compile("\\.");
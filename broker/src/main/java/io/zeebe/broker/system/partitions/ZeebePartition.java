@@ -17,6 +17,7 @@ import io.atomix.storage.journal.JournalReader.Mode;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.broker.exporter.jar.ExporterJarLoadException;
+import io.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.zeebe.broker.exporter.repo.ExporterRepository;
 import io.zeebe.broker.exporter.stream.ExporterDirector;
@@ -27,6 +28,7 @@ import io.zeebe.broker.logstreams.LogDeletionService;
 import io.zeebe.broker.logstreams.state.StatePositionSupplier;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.ProcessingCfg;
 import io.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.zeebe.broker.system.monitoring.HealthMetrics;
 import io.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
@@ -63,6 +65,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -440,9 +443,14 @@ public final class ZeebePartition extends Actor
             : new NoneSnapshotReplication();
 
     final var databaseCfg = brokerCfg.getData().getRocksdb();
+    final var zeebeDbFactory =
+        databaseCfg.isEnableColumnFamilyProfiles()
+            ? DefaultZeebeDbFactory.profiledFactory(
+                databaseCfg.getColumnFamilyOptions(), databaseCfg.getBlockCacheSize().toBytes())
+            : DefaultZeebeDbFactory.defaultFactory(databaseCfg.getColumnFamilyOptions());
     return new StateControllerImpl(
         partitionId,
-        DefaultZeebeDbFactory.defaultFactory(databaseCfg.getColumnFamilyOptions()),
+        zeebeDbFactory,
         snapshotStoreSupplier.getConstructableSnapshotStore(atomixRaftPartition.name()),
         snapshotStoreSupplier.getReceivableSnapshotStore(atomixRaftPartition.name()),
         runtimeDirectory,
@@ -525,6 +533,7 @@ public final class ZeebePartition extends Actor
   }
 
   private StreamProcessor createStreamProcessor(final ZeebeDb zeebeDb) {
+    final ProcessingCfg processingCfg = brokerCfg.getProcessing();
     return StreamProcessor.builder()
         .logStream(logStream)
         .actorScheduler(scheduler)
@@ -532,6 +541,12 @@ public final class ZeebePartition extends Actor
         .nodeId(localBroker.getNodeId())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
+        .processingBatch(
+            processingCfg.getMaxBatchRecords(), (int) processingCfg.getMaxBatchSize().toBytes())
+        .processingPipeline(processingCfg.getMaxPipelineDepth())
+        .workflowCache(
+            processingCfg.getMaxCachedWorkflows(),
+            processingCfg.getMaxWorkflowCacheSize().toBytes())
         .streamProcessorFactory(
             (processingContext) -> {
               final ActorControl actor = processingContext.getActor();
@@ -558,20 +573,60 @@ public final class ZeebePartition extends Actor
 
   private ActorFuture<Void> installExporter(final ZeebeDb zeebeDb) {
     final var exporterDescriptors = exporterRepository.getExporters().values();
+    final String exporterName =
+        buildActorName(localBroker.getNodeId(), String.format(EXPORTER_NAME, partitionId));
+
+    if (!brokerCfg.getExporting().isParallelReaders() || exporterDescriptors.size() <= 1) {
+      final ExporterDirectorContext context =
+          new ExporterDirectorContext()
+              .id(EXPORTER_PROCESSOR_ID)
+              .name(exporterName)
+              .logStream(logStream)
+              .zeebeDb(zeebeDb)
+              .descriptors(exporterDescriptors);
+
+      final var exporterDirector = new ExporterDirector(context);
+      addClosingStep("exporter director", exporterDirector);
+
+      return exporterDirector.startAsync(scheduler);
+    }
 
-    final ExporterDirectorContext context =
-        new ExporterDirectorContext()
-            .id(EXPORTER_PROCESSOR_ID)
-            .name(
-                buildActorName(localBroker.getNodeId(), String.format(EXPORTER_NAME, partitionId)))
-            .logStream(logStream)
-            .zeebeDb(zeebeDb)
-            .descriptors(exporterDescriptors);
+    // every exporter gets its own director, with its own reader, so a slow exporter doesn't hold
+    // back the others
+    final var exporterIds = exporterRepository.getExporters().keySet();
+    final CompletableActorFuture<Void> installFuture = new CompletableActorFuture<>();
+    final var pendingDirectors = new AtomicInteger(exporterDescriptors.size());
+
+    for (final ExporterDescriptor descriptor : exporterDescriptors) {
+      final ExporterDirectorContext context =
+          new ExporterDirectorContext()
+              .id(EXPORTER_PROCESSOR_ID)
+              .name(exporterName + "-" + descriptor.getId())
+              .logStream(logStream)
+              .zeebeDb(zeebeDb)
+              .descriptors(List.of(descriptor))
+              .exporterIds(exporterIds);
+
+      final var exporterDirector = new ExporterDirector(context);
+      addClosingStep("exporter director " + descriptor.getId(), exporterDirector);
+
+      exporterDirector
+          .startAsync(scheduler)
+          .onComplete(
+              (nothing, error) -> {
+                if (installFuture.isDone()) {
+                  return;
+                }
 
-    final var exporterDirector = new ExporterDirector(context);
-    addClosingStep("exporter director", exporterDirector);
+                if (error != null) {
+                  installFuture.completeExceptionally(error);
+                } else if (pendingDirectors.decrementAndGet() == 0) {
+                  installFuture.complete(null);
+                }
+              });
+    }
 
-    return exporterDirector.startAsync(scheduler);
+    return installFuture;
   }
 
   private ActorFuture<Void> closeLogStream() {
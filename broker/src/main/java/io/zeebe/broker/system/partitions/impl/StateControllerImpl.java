@@ -245,6 +245,15 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final SnapshotChunk snapshotChunk, final ReplicationContext context) {
     final int totalChunkCount = snapshotChunk.getTotalCount();
 
+    // a file may be split into multiple chunks, but the total count is the count of files
+    final boolean isLastChunkOfFile =
+        snapshotChunk.isReused()
+            || snapshotChunk.getFileBlockPosition() + snapshotChunk.getContent().length
+                >= snapshotChunk.getTotalFileSize();
+    if (!isLastChunkOfFile) {
+      return;
+    }
+
     if (context.incrementCount() == totalChunkCount) {
       LOG.debug(
           "Received all snapshot chunks ({}/{}), snapshot {} is valid",
@@ -34,10 +34,14 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
-import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.slf4j.Logger;
 
+/**
+ * Writes the commands of one partition to its log stream. Each leading partition has its own
+ * handler, and the transport calls each handler on its own actor, so the commands of different
+ * partitions are decoded and written in parallel.
+ */
 final class CommandApiRequestHandler implements RequestHandler {
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
@@ -47,9 +51,8 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final Queue<Runnable> cmdQueue = new ManyToOneConcurrentLinkedQueue<>();
   private final Consumer<Runnable> cmdConsumer = Runnable::run;
 
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
-  private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
-      new Int2ObjectHashMap<>();
+  private final LogStreamRecordWriter logStreamWriter;
+  private final RequestLimiter<Intent> limiter;
   private final RecordMetadata eventMetadata = new RecordMetadata();
 
   private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
@@ -58,7 +61,13 @@ final class CommandApiRequestHandler implements RequestHandler {
   private final BackpressureMetrics metrics;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(
+      final LogStreamRecordWriter logStreamWriter,
+      final RequestLimiter<Intent> limiter,
+      final boolean isDiskSpaceAvailable) {
+    this.logStreamWriter = logStreamWriter;
+    this.limiter = limiter;
+    this.isDiskSpaceAvailable = isDiskSpaceAvailable;
     metrics = new BackpressureMetrics();
     initEventTypeMap();
   }
@@ -101,15 +110,6 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     final long key = executeCommandRequestDecoder.key();
 
-    final LogStreamRecordWriter logStreamWriter = leadingStreams.get(partitionId);
-
-    if (logStreamWriter == null) {
-      errorResponseWriter
-          .partitionLeaderMismatch(partitionId)
-          .tryWriteResponseOrLogFailure(output, partitionId, requestId);
-      return;
-    }
-
     final ValueType eventType = executeCommandRequestDecoder.valueType();
     final short intent = executeCommandRequestDecoder.intent();
     final UnpackedObject event = recordsByType.get(eventType);
@@ -145,7 +145,6 @@ final class CommandApiRequestHandler implements RequestHandler {
     eventMetadata.valueType(eventType);
 
     metrics.receivedRequest(partitionId);
-    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
     if (!limiter.tryAcquire(partitionId, requestId, eventIntent)) {
       metrics.dropped(partitionId);
       LOG.trace(
@@ -160,7 +159,7 @@ final class CommandApiRequestHandler implements RequestHandler {
 
     boolean written = false;
     try {
-      written = writeCommand(eventMetadata, buffer, key, logStreamWriter, eventOffset, eventLength);
+      written = writeCommand(eventMetadata, buffer, key, eventOffset, eventLength);
     } catch (final Exception ex) {
       LOG.error("Unexpected error on writing {} command", eventIntent, ex);
     } finally {
@@ -174,7 +173,6 @@ final class CommandApiRequestHandler implements RequestHandler {
       final RecordMetadata eventMetadata,
       final DirectBuffer buffer,
       final long key,
-      final LogStreamRecordWriter logStreamWriter,
       final int eventOffset,
       final int eventLength) {
     logStreamWriter.reset();
@@ -194,25 +192,6 @@ final class CommandApiRequestHandler implements RequestHandler {
     return eventPosition >= 0;
   }
 
-  void addPartition(
-      final int partitionId,
-      final LogStreamRecordWriter logStreamWriter,
-      final RequestLimiter<Intent> limiter) {
-    cmdQueue.add(
-        () -> {
-          leadingStreams.put(partitionId, logStreamWriter);
-          partitionLimiters.put(partitionId, limiter);
-        });
-  }
-
-  void removePartition(final int partitionId) {
-    cmdQueue.add(
-        () -> {
-          leadingStreams.remove(partitionId);
-          partitionLimiters.remove(partitionId);
-        });
-  }
-
   void onDiskSpaceNotAvailable() {
     cmdQueue.add(
         () -> {
@@ -23,6 +23,7 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.util.function.Consumer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 
 public final class CommandApiService extends Actor
@@ -30,9 +31,11 @@ public final class CommandApiService extends Actor
 
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
-  private final CommandApiRequestHandler requestHandler;
+  private final Int2ObjectHashMap<CommandApiRequestHandler> requestHandlers =
+      new Int2ObjectHashMap<>();
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
+  private boolean isDiskSpaceAvailable = true;
 
   public CommandApiService(
       final ServerTransport serverTransport,
@@ -40,7 +43,6 @@ public final class CommandApiService extends Actor
       final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
     this.limiter = limiter;
-    requestHandler = new CommandApiRequestHandler();
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
 
@@ -55,13 +57,14 @@ public final class CommandApiService extends Actor
       removeForPartitionId(leadPartition);
     }
     leadPartitions.clear();
+    requestHandlers.clear();
   }
 
   @Override
   public ActorFuture<Void> onBecomingFollower(final int partitionId, final long term) {
     return actor.call(
         () -> {
-          requestHandler.removePartition(partitionId);
+          requestHandlers.remove(partitionId);
           cleanLeadingPartition(partitionId);
         });
   }
@@ -75,24 +78,26 @@ public final class CommandApiService extends Actor
           leadPartitions.add(partitionId);
           limiter.addPartition(partitionId);
 
-          logStream
-              .newLogStreamRecordWriter()
-              .onComplete(
-                  (recordWriter, error) -> {
-                    if (error == null) {
-
-                      final var requestLimiter = limiter.getLimiter(partitionId);
-                      requestHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, requestHandler);
-                      future.complete(null);
-                    } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
-                    }
-                  });
+          actor.runOnCompletion(
+              logStream.newLogStreamRecordWriter(),
+              (recordWriter, error) -> {
+                if (error == null) {
+
+                  // each partition has its own handler, which the transport calls on its own
+                  // actor
+                  final var requestLimiter = limiter.getLimiter(partitionId);
+                  final var requestHandler =
+                      new CommandApiRequestHandler(
+                          recordWriter, requestLimiter, isDiskSpaceAvailable);
+                  requestHandlers.put(partitionId, requestHandler);
+                  serverTransport.subscribe(partitionId, requestHandler);
+                  future.complete(null);
+                } else {
+                  Loggers.SYSTEM_LOGGER.error(
+                      "Error on retrieving write buffer from log stream {}", partitionId, error);
+                  future.completeExceptionally(error);
+                }
+              });
         });
     return future;
   }
@@ -122,11 +127,19 @@ public final class CommandApiService extends Actor
 
   @Override
   public void onDiskSpaceNotAvailable() {
-    actor.run(requestHandler::onDiskSpaceNotAvailable);
+    actor.run(
+        () -> {
+          isDiskSpaceAvailable = false;
+          requestHandlers.values().forEach(CommandApiRequestHandler::onDiskSpaceNotAvailable);
+        });
   }
 
   @Override
   public void onDiskSpaceAvailable() {
-    actor.run(requestHandler::onDiskSpaceAvailable);
+    actor.run(
+        () -> {
+          isDiskSpaceAvailable = true;
+          requestHandlers.values().forEach(CommandApiRequestHandler::onDiskSpaceAvailable);
+        });
   }
 }
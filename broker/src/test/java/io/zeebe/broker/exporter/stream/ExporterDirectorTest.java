@@ -358,6 +358,35 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldExportRecordAgainOnRetryRequest() {
+    // given
+    final AtomicLong retryCount = new AtomicLong(2);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (retryCount.getAndDecrement() > 0) {
+                exporters.get(0).getController().retryExportLater();
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition = writeEvent();
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofMillis(100)))
+        .until((r) -> !exporters.get(1).getExportedRecords().isEmpty());
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition, eventPosition, eventPosition);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -502,6 +531,72 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldNotBlockOtherExportersWithParallelReaders() throws Exception {
+    // given
+    final CountDownLatch exportLatch = new CountDownLatch(1);
+    exporters.forEach(e -> e.shouldAutoUpdatePosition(true));
+    exporters.get(0).onExport(r -> awaitLatch(exportLatch));
+
+    rule.startExporterDirectorPerExporter(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    waitUntil(() -> state.getPosition(EXPORTER_ID_2) == eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(state.getLowestPosition()).isEqualTo(-1);
+
+    exportLatch.countDown();
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    waitUntil(() -> state.getLowestPosition() == eventPosition2);
+  }
+
+  @Test
+  public void shouldRecoverPositionsFromStateWithParallelReaders() throws Exception {
+    // given
+    rule.startExporterDirectorPerExporter(exporterDescriptors);
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    waitUntil(() -> exporters.get(0).getExportedRecords().size() == 2);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+
+    exporters.get(0).getController().updateLastExportedRecordPosition(eventPosition2);
+    exporters.get(1).getController().updateLastExportedRecordPosition(eventPosition1);
+
+    rule.closeExporterDirector();
+    exporters.get(0).getExportedRecords().clear();
+    exporters.get(1).getExportedRecords().clear();
+
+    // when
+    rule.startExporterDirectorPerExporter(exporterDescriptors);
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() >= 1);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition2);
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1)).isEqualTo(eventPosition2);
+  }
+
+  private static void awaitLatch(final CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
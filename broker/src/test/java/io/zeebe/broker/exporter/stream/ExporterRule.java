@@ -21,7 +21,9 @@ import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.rules.ExternalResource;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
@@ -46,7 +48,7 @@ public final class ExporterRule implements TestRule {
   private ZeebeDb<ZbColumnFamilies> capturedZeebeDb;
 
   private TestStreams streams;
-  private ExporterDirector director;
+  private final List<ExporterDirector> directors = new ArrayList<>();
 
   public ExporterRule(final int partitionId) {
     this(partitionId, DefaultZeebeDbFactory.defaultFactory(ZbColumnFamilies.class));
@@ -79,8 +81,37 @@ public final class ExporterRule implements TestRule {
             .zeebeDb(capturedZeebeDb)
             .descriptors(exporterDescriptors);
 
-    director = new ExporterDirector(context);
+    startDirector(context);
+  }
+
+  /** Starts one director per exporter, like the broker does with parallel readers. */
+  @SuppressWarnings("unchecked")
+  public void startExporterDirectorPerExporter(final List<ExporterDescriptor> exporterDescriptors) {
+    final var stream = streams.getLogStream(STREAM_NAME);
+    final var runtimeFolder = streams.createRuntimeFolder(stream);
+    capturedZeebeDb = spy(zeebeDbFactory.createDb(runtimeFolder.toFile()));
+
+    final List<String> exporterIds =
+        exporterDescriptors.stream().map(ExporterDescriptor::getId).collect(Collectors.toList());
+
+    for (final ExporterDescriptor descriptor : exporterDescriptors) {
+      final ExporterDirectorContext context =
+          new ExporterDirectorContext()
+              .id(EXPORTER_PROCESSOR_ID)
+              .name(PROCESSOR_NAME + "-" + descriptor.getId())
+              .logStream(stream.getAsyncLogStream())
+              .zeebeDb(capturedZeebeDb)
+              .descriptors(List.of(descriptor))
+              .exporterIds(exporterIds);
+
+      startDirector(context);
+    }
+  }
+
+  private void startDirector(final ExporterDirectorContext context) {
+    final ExporterDirector director = new ExporterDirector(context);
     director.startAsync(actorSchedulerRule.get()).join();
+    directors.add(director);
   }
 
   public ControlledActorClock getClock() {
@@ -114,7 +145,8 @@ public final class ExporterRule implements TestRule {
   }
 
   public void closeExporterDirector() throws Exception {
-    director.stopAsync().join();
+    directors.forEach(director -> director.stopAsync().join());
+    directors.clear();
     capturedZeebeDb.close();
     capturedZeebeDb = null;
   }
@@ -10,9 +10,12 @@ package io.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.storage.StorageLevel;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class DataCfgTest {
 
@@ -84,4 +87,24 @@ public class DataCfgTest {
     assertThat(dataCfg.getDiskUsageCommandWatermark()).isEqualTo(1.0);
     assertThat(dataCfg.getDiskUsageReplicationWatermark()).isEqualTo(1.0);
   }
+
+  @Test
+  public void shouldFlushEveryCommitByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", new HashMap<>());
+
+    // then
+    assertThat(cfg.getData().getLogFlushDelay()).isZero();
+    assertThat(cfg.getData().getLogFlushThreshold()).isEqualTo(DataSize.ofMegabytes(4));
+  }
+
+  @Test
+  public void shouldSetLogFlushConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("data-cfg", new HashMap<>());
+
+    // then
+    assertThat(cfg.getData().getLogFlushDelay()).isEqualTo(Duration.ofMillis(2));
+    assertThat(cfg.getData().getLogFlushThreshold()).isEqualTo(DataSize.ofMegabytes(1));
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public final class ExportingCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldSetExportingConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporting-cfg", environment);
+
+    // then
+    assertThat(cfg.getExporting().isParallelReaders()).isTrue();
+  }
+
+  @Test
+  public void shouldSetExportingConfigFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.exporting.parallelReaders", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporting-cfg", environment);
+
+    // then
+    assertThat(cfg.getExporting().isParallelReaders()).isFalse();
+  }
+
+  @Test
+  public void shouldShareReaderByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExporting().isParallelReaders()).isFalse();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.springframework.util.unit.DataSize;
+
+public final class ProcessingCfgTest {
+
+  public final Map<String, String> environment = new HashMap<>();
+
+  @Test
+  public void shouldSetProcessingConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+    final var processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxBatchRecords()).isEqualTo(100);
+    assertThat(processing.getMaxBatchSize()).isEqualTo(DataSize.ofMegabytes(1));
+    assertThat(processing.getMaxPipelineDepth()).isEqualTo(16);
+    assertThat(processing.getMaxCachedWorkflows()).isEqualTo(50);
+    assertThat(processing.getMaxWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(64));
+  }
+
+  @Test
+  public void shouldSetProcessingConfigFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.processing.maxBatchRecords", "50");
+    environment.put("zeebe.broker.processing.maxBatchSize", "256KB");
+    environment.put("zeebe.broker.processing.maxPipelineDepth", "8");
+    environment.put("zeebe.broker.processing.maxCachedWorkflows", "20");
+    environment.put("zeebe.broker.processing.maxWorkflowCacheSize", "32MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("processing-cfg", environment);
+    final var processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxBatchRecords()).isEqualTo(50);
+    assertThat(processing.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(256));
+    assertThat(processing.getMaxPipelineDepth()).isEqualTo(8);
+    assertThat(processing.getMaxCachedWorkflows()).isEqualTo(20);
+    assertThat(processing.getMaxWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(32));
+  }
+
+  @Test
+  public void shouldDisableBatchProcessingByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxBatchRecords()).isEqualTo(1);
+    assertThat(processing.getMaxBatchSize()).isEqualTo(DataSize.ofKilobytes(512));
+    assertThat(processing.getMaxPipelineDepth()).isZero();
+    assertThat(processing.getMaxCachedWorkflows()).isEqualTo(1_000);
+    assertThat(processing.getMaxWorkflowCacheSize()).isEqualTo(DataSize.ofMegabytes(256));
+  }
+}
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
 
@@ -42,4 +43,41 @@ public final class RocksdbCfgTest {
     final var columnFamilyOptions = rocksdb.getColumnFamilyOptions();
     assertThat(columnFamilyOptions).containsEntry("arena_block_size", "16777216");
   }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isTrue();
+    assertThat(rocksdb.getBlockCacheSize()).isEqualTo(DataSize.ofMegabytes(64));
+  }
+
+  @Test
+  public void shouldSetColumnFamilyProfilesConfigFromEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.data.rocksdb.enableColumnFamilyProfiles", "false");
+    environment.put("zeebe.broker.data.rocksdb.blockCacheSize", "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isFalse();
+    assertThat(rocksdb.getBlockCacheSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
+
+  @Test
+  public void shouldDisableColumnFamilyProfilesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyProfiles()).isFalse();
+    assertThat(rocksdb.getBlockCacheSize()).isEqualTo(DataSize.ofMegabytes(32));
+  }
 }
@@ -176,6 +176,38 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Enable or disable streaming of jobs for this worker.
+     *
+     * <p>If enabled, the worker opens a stream on which the gateway sends jobs, instead of polling
+     * for jobs. The gateway activates jobs for the stream when brokers notify it that jobs are
+     * available, and periodically in case a notification was missed. The worker never receives more
+     * jobs than the maximum active jobs; it grants the gateway to send more jobs when jobs are
+     * completed (or marked as failed). If the stream is closed, the worker opens a new stream after
+     * the poll interval.
+     *
+     * <p>By default, streaming is disabled and the worker polls for jobs.
+     *
+     * @param streamEnabled {@code true} to receive the jobs on a stream
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 streamEnabled(boolean streamEnabled);
+
+    /**
+     * Set the time window in which the completions of jobs are collected and sent together.
+     *
+     * <p>If set, the jobs which are completed by the handler of this worker are not completed one
+     * by one, but the completions within the window are sent with one request, which is split by
+     * the gateway into one command per partition. The batch is sent earlier if it contains the
+     * maximum active jobs of this worker. Each completion still succeeds or fails on its own.
+     *
+     * <p>By default, the window is zero and each job is completed with its own request.
+     *
+     * @param completionBatchWindow the time to wait for further completions before they are sent
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 completionBatchWindow(Duration completionBatchWindow);
+
     /**
      * Open the worker and start to work on available tasks.
      *
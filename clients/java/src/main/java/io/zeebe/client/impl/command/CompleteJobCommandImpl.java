@@ -22,6 +22,7 @@ import io.zeebe.client.api.command.FinalCommandStep;
 import io.zeebe.client.api.response.CompleteJobResponse;
 import io.zeebe.client.impl.RetriableClientFutureImpl;
 import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.worker.JobCompletionBatcher;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -34,6 +35,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     implements CompleteJobCommandStep1 {
 
   private final GatewayStub asyncStub;
+  private final JobCompletionBatcher completionBatcher;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
   private Duration requestTimeout;
@@ -44,8 +46,19 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, null, objectMapper, key, requestTimeout, retryPredicate);
+  }
+
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JobCompletionBatcher completionBatcher,
+      final ZeebeObjectMapper objectMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
     super(objectMapper);
     this.asyncStub = asyncStub;
+    this.completionBatcher = completionBatcher;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
     builder = CompleteJobRequest.newBuilder();
@@ -74,6 +87,11 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void send(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (completionBatcher != null) {
+      completionBatcher.complete(request, requestTimeout, streamObserver);
+      return;
+    }
+
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
@@ -33,22 +33,42 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final ZeebeObjectMapper objectMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final JobCompletionBatcher completionBatcher;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final ZeebeObjectMapper objectMapper,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, config, objectMapper, retryPredicate, null);
+  }
+
+  /**
+   * Creates a job client which completes the jobs in batches with the given batcher, instead of
+   * sending a request for each job.
+   */
+  public JobClientImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration config,
+      final ZeebeObjectMapper objectMapper,
+      final Predicate<Throwable> retryPredicate,
+      final JobCompletionBatcher completionBatcher) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.objectMapper = objectMapper;
     this.retryPredicate = retryPredicate;
+    this.completionBatcher = completionBatcher;
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
     return new CompleteJobCommandImpl(
-        asyncStub, objectMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        completionBatcher,
+        objectMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate);
   }
 
   @Override
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the completions of jobs which are sent within a small time window, and sends them with
+ * one CompleteJobs request to the gateway. The batch is sent when the window is elapsed, or as soon
+ * as it contains the max batch size of completions.
+ *
+ * <p>Every completion is still answered on its own observer: it is completed if the gateway reports
+ * the job as completed, otherwise it fails with NOT_FOUND. If the whole request fails, the error is
+ * passed to the observers of all completions of the batch, which may retry them.
+ *
+ * <p>A batch is sent with the request timeout of the batcher. A completion with a different request
+ * timeout is not batched, but sent right away with its own timeout.
+ */
+public final class JobCompletionBatcher {
+
+  private final GatewayStub asyncStub;
+  private final ScheduledExecutorService executor;
+  private final Duration window;
+  private final int maxBatchSize;
+  private final Duration requestTimeout;
+
+  private final List<PendingCompletion> pendingCompletions = new ArrayList<>();
+  private ScheduledFuture<?> scheduledFlush;
+
+  public JobCompletionBatcher(
+      final GatewayStub asyncStub,
+      final ScheduledExecutorService executor,
+      final Duration window,
+      final int maxBatchSize,
+      final Duration requestTimeout) {
+    this.asyncStub = asyncStub;
+    this.executor = executor;
+    this.window = window;
+    this.maxBatchSize = maxBatchSize;
+    this.requestTimeout = requestTimeout;
+  }
+
+  public void complete(
+      final CompleteJobRequest request,
+      final Duration requestTimeout,
+      final StreamObserver<CompleteJobResponse> observer) {
+    if (!requestTimeout.equals(this.requestTimeout)) {
+      asyncStub
+          .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+          .completeJob(request, observer);
+      return;
+    }
+
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      pendingCompletions.add(new PendingCompletion(request, observer));
+
+      if (pendingCompletions.size() < maxBatchSize) {
+        if (scheduledFlush == null) {
+          scheduledFlush = executor.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return;
+      }
+
+      batch = drainPendingCompletions();
+    }
+    send(batch);
+  }
+
+  /** Sends the pending completions without waiting until the window is elapsed. */
+  public void flush() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      batch = drainPendingCompletions();
+    }
+
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  private List<PendingCompletion> drainPendingCompletions() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    final List<PendingCompletion> batch = new ArrayList<>(pendingCompletions);
+    pendingCompletions.clear();
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    final CompleteJobsRequest.Builder requestBuilder = CompleteJobsRequest.newBuilder();
+    for (final PendingCompletion completion : batch) {
+      requestBuilder.addJobs(completion.request);
+    }
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(requestBuilder.build(), new BatchResponseObserver(batch));
+  }
+
+  private static final class PendingCompletion {
+
+    private final CompleteJobRequest request;
+    private final StreamObserver<CompleteJobResponse> observer;
+
+    private PendingCompletion(
+        final CompleteJobRequest request, final StreamObserver<CompleteJobResponse> observer) {
+      this.request = request;
+      this.observer = observer;
+    }
+  }
+
+  private static final class BatchResponseObserver implements StreamObserver<CompleteJobsResponse> {
+
+    private final List<PendingCompletion> batch;
+
+    private BatchResponseObserver(final List<PendingCompletion> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onNext(final CompleteJobsResponse response) {
+      final Set<Long> completedJobKeys = new HashSet<>(response.getCompletedJobKeysList());
+
+      for (final PendingCompletion completion : batch) {
+        final long jobKey = completion.request.getJobKey();
+        if (completedJobKeys.contains(jobKey)) {
+          completion.observer.onNext(CompleteJobResponse.getDefaultInstance());
+          completion.observer.onCompleted();
+        } else {
+          completion.observer.onError(
+              Status.NOT_FOUND
+                  .withDescription(
+                      String.format(
+                          "Expected to complete job with key '%d', but it was not completed as part of the batch",
+                          jobKey))
+                  .asRuntimeException());
+        }
+      }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      for (final PendingCompletion completion : batch) {
+        completion.observer.onError(throwable);
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      // every completion is answered on the response
+    }
+  }
+}
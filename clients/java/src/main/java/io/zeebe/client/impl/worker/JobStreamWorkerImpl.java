@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.api.worker.JobWorker;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A job worker which receives the jobs on a stream instead of polling for them. The worker grants
+ * credits for the jobs it can handle, such that no more than the maximum active jobs are sent.
+ * Credits are granted in batches when handled jobs free enough capacity.
+ */
+public final class JobStreamWorkerImpl implements JobWorker, Closeable {
+
+  // job queue state
+  private final int maxJobsActive;
+  private final int creditThreshold;
+  private final AtomicInteger remainingJobs = new AtomicInteger(0);
+  // credits which are granted on the current stream, but not used by the gateway yet
+  private final AtomicInteger grantedCredits = new AtomicInteger(0);
+
+  // job execution facilities
+  private final ScheduledExecutorService executor;
+  private final Duration reconnectDelay;
+  private final JobRunnableFactory jobRunnableFactory;
+  private final JobStreamer jobStreamer;
+
+  // state synchronization
+  private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
+  private boolean isStreamOpen;
+
+  public JobStreamWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration reconnectDelay,
+      final JobRunnableFactory jobRunnableFactory,
+      final JobStreamer jobStreamer) {
+    this.maxJobsActive = maxJobsActive;
+    creditThreshold = Math.max(1, Math.round(maxJobsActive * 0.3f));
+
+    this.executor = executor;
+    this.reconnectDelay = reconnectDelay;
+    this.jobRunnableFactory = jobRunnableFactory;
+    this.jobStreamer = jobStreamer;
+
+    executor.execute(this::openStream);
+  }
+
+  @Override
+  public boolean isOpen() {
+    return acquiringJobs.get();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return !isOpen() && remainingJobs.get() <= 0;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (acquiringJobs.compareAndSet(true, false)) {
+      isStreamOpen = false;
+      jobStreamer.close();
+    }
+  }
+
+  private synchronized void openStream() {
+    if (!acquiringJobs.get() || isStreamOpen) {
+      return;
+    }
+
+    final int credits = maxJobsActive - remainingJobs.get();
+    grantedCredits.set(credits);
+    isStreamOpen = true;
+    jobStreamer.open(credits, this::submitJob, this::onStreamClosed);
+  }
+
+  private synchronized void onStreamClosed() {
+    isStreamOpen = false;
+    if (acquiringJobs.get()) {
+      executor.schedule(this::openStream, reconnectDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void submitJob(final ActivatedJob job) {
+    // count the job as remaining before the credit is used, to never exceed the max active jobs
+    remainingJobs.incrementAndGet();
+    grantedCredits.decrementAndGet();
+    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+  }
+
+  private void jobHandlerFinished() {
+    remainingJobs.decrementAndGet();
+    grantCredits();
+  }
+
+  private synchronized void grantCredits() {
+    if (!acquiringJobs.get() || !isStreamOpen) {
+      return;
+    }
+
+    final int freeCapacity = maxJobsActive - remainingJobs.get() - grantedCredits.get();
+    if (freeCapacity >= creditThreshold) {
+      grantedCredits.addAndGet(freeCapacity);
+      jobStreamer.grantCredits(freeCapacity);
+    }
+  }
+}
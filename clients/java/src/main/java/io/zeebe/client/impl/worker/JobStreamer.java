@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.impl.Loggers;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.response.ActivatedJobImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Opens a stream on which the gateway sends the jobs which it activates for the worker. The worker
+ * grants credits on the stream for the jobs it can handle, instead of polling for them.
+ */
+public final class JobStreamer implements StreamObserver<GatewayOuterClass.ActivatedJob> {
+
+  private static final Logger LOG = Loggers.JOB_POLLER_LOGGER;
+
+  private final GatewayStub gatewayStub;
+  private final StreamActivatedJobsRequest.Builder requestBuilder;
+  private final ZeebeObjectMapper objectMapper;
+
+  private Consumer<ActivatedJob> jobConsumer;
+  private Runnable closedCallback;
+  private StreamObserver<StreamActivatedJobsRequest> requestObserver;
+  private boolean isClosing;
+
+  public JobStreamer(
+      final GatewayStub gatewayStub,
+      final StreamActivatedJobsRequest.Builder requestBuilder,
+      final ZeebeObjectMapper objectMapper) {
+    this.gatewayStub = gatewayStub;
+    this.requestBuilder = requestBuilder;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Opens the stream with the given initial credits.
+   *
+   * @param credits the number of jobs which can be sent until more credits are granted
+   * @param jobConsumer consumes the received jobs
+   * @param closedCallback called when the stream is closed by the gateway or failed
+   */
+  public synchronized void open(
+      final int credits, final Consumer<ActivatedJob> jobConsumer, final Runnable closedCallback) {
+    this.jobConsumer = jobConsumer;
+    this.closedCallback = closedCallback;
+    isClosing = false;
+
+    LOG.trace(
+        "Open job stream with {} credits for worker {} and job type {}",
+        credits,
+        requestBuilder.getWorker(),
+        requestBuilder.getType());
+    requestObserver = gatewayStub.streamActivatedJobs(this);
+    requestObserver.onNext(requestBuilder.setCredits(credits).build());
+  }
+
+  /** Grants the gateway to send the given number of additional jobs on the stream. */
+  public synchronized void grantCredits(final int credits) {
+    if (requestObserver != null) {
+      requestObserver.onNext(StreamActivatedJobsRequest.newBuilder().setCredits(credits).build());
+    }
+  }
+
+  /** Closes the stream; the jobs which are already received are still consumed. */
+  public synchronized void close() {
+    if (requestObserver != null) {
+      isClosing = true;
+      requestObserver.onCompleted();
+      requestObserver = null;
+    }
+  }
+
+  @Override
+  public void onNext(final GatewayOuterClass.ActivatedJob job) {
+    jobConsumer.accept(new ActivatedJobImpl(objectMapper, job));
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    synchronized (this) {
+      requestObserver = null;
+      if (!isClosing && !isResourceExhausted(throwable)) {
+        LOG.warn(
+            "Job stream failed for worker {} and job type {}",
+            requestBuilder.getWorker(),
+            requestBuilder.getType(),
+            throwable);
+      }
+    }
+    closedCallback.run();
+  }
+
+  private static boolean isResourceExhausted(final Throwable throwable) {
+    return throwable instanceof StatusRuntimeException
+        && ((StatusRuntimeException) throwable).getStatus().getCode() == Code.RESOURCE_EXHAUSTED;
+  }
+
+  @Override
+  public void onCompleted() {
+    synchronized (this) {
+      requestObserver = null;
+    }
+    closedCallback.run();
+  }
+}
@@ -30,6 +30,7 @@ import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -42,6 +43,7 @@ public final class JobWorkerBuilderImpl
 
   private static final Duration DEADLINE_OFFSET = Duration.ofSeconds(10);
 
+  private final ZeebeClientConfiguration configuration;
   private final GatewayStub gatewayStub;
   private final JobClient jobClient;
   private final ZeebeObjectMapper objectMapper;
@@ -56,6 +58,8 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean streamEnabled;
+  private Duration completionBatchWindow = Duration.ZERO;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -65,6 +69,7 @@ public final class JobWorkerBuilderImpl
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables,
       final Predicate<Throwable> retryPredicate) {
+    this.configuration = configuration;
     this.gatewayStub = gatewayStub;
     this.jobClient = jobClient;
     this.objectMapper = objectMapper;
@@ -136,6 +141,18 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 streamEnabled(final boolean streamEnabled) {
+    this.streamEnabled = streamEnabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 completionBatchWindow(final Duration completionBatchWindow) {
+    this.completionBatchWindow = completionBatchWindow;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -143,6 +160,13 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureNotNull("completionBatchWindow", completionBatchWindow);
+
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactory(newWorkerJobClient(), handler);
+    if (streamEnabled) {
+      return openStreamWorker(jobRunnableFactory);
+    }
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -158,7 +182,6 @@ public final class JobWorkerBuilderImpl
 
     final Duration deadline = requestTimeout.plus(DEADLINE_OFFSET);
 
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
     final JobPoller jobPoller =
         new JobPoller(gatewayStub, requestBuilder, objectMapper, deadline, retryPredicate);
 
@@ -168,4 +191,39 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private JobClient newWorkerJobClient() {
+    if (completionBatchWindow.isZero() || completionBatchWindow.isNegative()) {
+      return jobClient;
+    }
+
+    final JobCompletionBatcher completionBatcher =
+        new JobCompletionBatcher(
+            gatewayStub,
+            executorService,
+            completionBatchWindow,
+            maxJobsActive,
+            configuration.getDefaultRequestTimeout());
+    return new JobClientImpl(
+        gatewayStub, configuration, objectMapper, retryPredicate, completionBatcher);
+  }
+
+  private JobWorker openStreamWorker(final JobRunnableFactory jobRunnableFactory) {
+    final StreamActivatedJobsRequest.Builder requestBuilder =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(jobType)
+            .setTimeout(timeout)
+            .setWorker(workerName);
+
+    if (fetchVariables != null) {
+      requestBuilder.addAllFetchVariable(fetchVariables);
+    }
+
+    final JobStreamer jobStreamer = new JobStreamer(gatewayStub, requestBuilder, objectMapper);
+    final JobStreamWorkerImpl jobWorker =
+        new JobStreamWorkerImpl(
+            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobStreamer);
+    closeables.add(jobWorker);
+    return jobWorker;
+  }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.ClientStatusException;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.api.worker.JobClient;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class JobCompletionBatchTest extends ClientTest {
+
+  private final Map<Long, ZeebeFuture<CompleteJobResponse>> completions = new ConcurrentHashMap<>();
+
+  @Test
+  public void shouldSendBatchIfMaxJobsActiveAreCompleted() {
+    // given
+    gatewayService.onFirstActivateJobsRequest(job(1), job(2), job(3));
+
+    // when
+    openWorker(3, Duration.ofMinutes(10));
+
+    // then
+    waitUntil(() -> !getCompleteJobsRequests().isEmpty());
+    assertThat(getCompleteJobsRequests()).hasSize(1);
+    assertThat(getCompleteJobsRequests().get(0).getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+
+    waitUntil(() -> completions.size() == 3);
+    completions.values().forEach(ZeebeFuture::join);
+  }
+
+  @Test
+  public void shouldSendBatchAfterWindow() {
+    // given
+    gatewayService.onFirstActivateJobsRequest(job(1), job(2));
+
+    // when
+    openWorker(10, Duration.ofMillis(50));
+
+    // then
+    waitUntil(() -> !getCompleteJobsRequests().isEmpty());
+    assertThat(getCompleteJobsRequests().get(0).getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactlyInAnyOrder(1L, 2L);
+    assertThat(gatewayService.getRequests()).noneMatch(CompleteJobRequest.class::isInstance);
+  }
+
+  @Test
+  public void shouldFailCompletionOfJobWhichIsNotCompleted() {
+    // given
+    gatewayService.onFirstActivateJobsRequest(job(1), job(2));
+    gatewayService.onCompleteJobsRequest(1L);
+
+    // when
+    openWorker(2, Duration.ofMinutes(10));
+
+    // then
+    waitUntil(() -> completions.size() == 2);
+    completions.get(1L).join();
+
+    final ZeebeFuture<CompleteJobResponse> failedCompletion = completions.get(2L);
+    waitUntil(failedCompletion::isDone);
+    assertThatThrownBy(failedCompletion::join)
+        .isInstanceOf(ClientStatusException.class)
+        .extracting(error -> ((ClientStatusException) error).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldNotBatchCompletionWithOtherRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofSeconds(3);
+    gatewayService.onFirstActivateJobsRequest(job(1), job(2));
+
+    // when
+    openWorker(
+        2,
+        Duration.ofMinutes(10),
+        (jobClient, jobKey) -> {
+          final var command = jobClient.newCompleteCommand(jobKey);
+          if (jobKey == 2L) {
+            command.requestTimeout(requestTimeout);
+          }
+          return command.send();
+        });
+
+    // then
+    waitUntil(() -> completions.size() == 2);
+    completions.get(2L).join();
+    rule.verifyRequestTimeout(requestTimeout);
+    assertThat(gatewayService.getRequests())
+        .filteredOn(CompleteJobRequest.class::isInstance)
+        .extracting(request -> ((CompleteJobRequest) request).getJobKey())
+        .containsExactly(2L);
+    assertThat(getCompleteJobsRequests()).isEmpty();
+  }
+
+  private void openWorker(final int maxJobsActive, final Duration completionBatchWindow) {
+    openWorker(
+        maxJobsActive,
+        completionBatchWindow,
+        (jobClient, jobKey) -> jobClient.newCompleteCommand(jobKey).send());
+  }
+
+  private void openWorker(
+      final int maxJobsActive,
+      final Duration completionBatchWindow,
+      final BiFunction<JobClient, Long, ZeebeFuture<CompleteJobResponse>> completer) {
+    client
+        .newWorker()
+        .jobType("foo")
+        .handler(
+            (jobClient, job) ->
+                completions.put(job.getKey(), completer.apply(jobClient, job.getKey())))
+        .maxJobsActive(maxJobsActive)
+        .pollInterval(Duration.ofMillis(10))
+        .completionBatchWindow(completionBatchWindow)
+        .open();
+  }
+
+  private List<CompleteJobsRequest> getCompleteJobsRequests() {
+    return gatewayService.getRequests().stream()
+        .filter(CompleteJobsRequest.class::isInstance)
+        .map(CompleteJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) {
+    final long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).describedAs("condition not met").isLessThan(deadline);
+      Thread.yield();
+    }
+  }
+
+  private static ActivatedJob job(final long key) {
+    return ActivatedJob.newBuilder()
+        .setKey(key)
+        .setType("foo")
+        .setWorker("worker")
+        .setCustomHeaders("{}")
+        .setVariables("{}")
+        .build();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class JobStreamWorkerTest extends ClientTest {
+
+  private final List<Long> handledJobs = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void shouldOpenStreamWithMaxJobsActiveAsCredits() {
+    // when
+    openWorker(10);
+
+    // then
+    waitUntil(() -> !getStreamRequests().isEmpty());
+    final StreamActivatedJobsRequest request = getStreamRequests().get(0);
+    assertThat(request.getType()).isEqualTo("foo");
+    assertThat(request.getWorker()).isEqualTo("worker");
+    assertThat(request.getTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+    assertThat(request.getFetchVariableList()).containsExactly("bar");
+    assertThat(request.getCredits()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldGrantCreditsForHandledJobs() {
+    // given
+    openWorker(3);
+    waitUntil(() -> !getStreamRequests().isEmpty());
+
+    // when
+    gatewayService.pushJobs(job(1), job(2));
+
+    // then
+    waitUntil(() -> handledJobs.size() == 2);
+    waitUntil(() -> getStreamRequests().size() == 3);
+    assertThat(getStreamRequests().subList(1, 3))
+        .extracting(StreamActivatedJobsRequest::getCredits)
+        .containsExactly(1, 1);
+    assertThat(handledJobs).containsExactlyInAnyOrder(1L, 2L);
+  }
+
+  @Test
+  public void shouldOpenNewStreamIfClosedByGateway() {
+    // given
+    openWorker(10);
+    waitUntil(() -> !getStreamRequests().isEmpty());
+
+    // when
+    gatewayService.completeJobStream();
+
+    // then
+    waitUntil(() -> getStreamRequests().size() == 2);
+    assertThat(getStreamRequests())
+        .extracting(StreamActivatedJobsRequest::getType, StreamActivatedJobsRequest::getCredits)
+        .containsOnly(tuple("foo", 10));
+  }
+
+  @Test
+  public void shouldNotOpenNewStreamIfClosedByWorker() throws InterruptedException {
+    // given
+    final JobWorker worker = openWorker(10);
+    waitUntil(() -> !getStreamRequests().isEmpty());
+
+    // when
+    worker.close();
+
+    // then
+    assertThat(worker.isClosed()).isTrue();
+    Thread.sleep(100);
+    assertThat(getStreamRequests()).hasSize(1);
+  }
+
+  private JobWorker openWorker(final int maxJobsActive) {
+    return client
+        .newWorker()
+        .jobType("foo")
+        .handler((jobClient, job) -> handledJobs.add(job.getKey()))
+        .name("worker")
+        .timeout(Duration.ofMinutes(5))
+        .maxJobsActive(maxJobsActive)
+        .pollInterval(Duration.ofMillis(10))
+        .fetchVariables("bar")
+        .streamEnabled(true)
+        .open();
+  }
+
+  private List<StreamActivatedJobsRequest> getStreamRequests() {
+    return gatewayService.getRequests().stream()
+        .filter(StreamActivatedJobsRequest.class::isInstance)
+        .map(StreamActivatedJobsRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) {
+    final long deadline = System.currentTimeMillis() + 5_000;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).describedAs("condition not met").isLessThan(deadline);
+      Thread.yield();
+    }
+  }
+
+  private static ActivatedJob job(final long key) {
+    return ActivatedJob.newBuilder()
+        .setKey(key)
+        .setType("foo")
+        .setWorker("worker")
+        .setCustomHeaders("{}")
+        .setVariables("{}")
+        .build();
+  }
+}
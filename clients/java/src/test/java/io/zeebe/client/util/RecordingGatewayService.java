@@ -28,6 +28,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -44,6 +46,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -51,21 +54,24 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowMetadata;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
-  private final List<GeneratedMessageV3> requests = new ArrayList<>();
+  private final List<GeneratedMessageV3> requests = new CopyOnWriteArrayList<>();
 
   private final Map<Class<? extends GeneratedMessageV3>, RequestHandler> requestHandlers =
       new HashMap<>();
 
+  private volatile StreamObserver<ActivatedJob> jobStreamObserver;
+
   public RecordingGatewayService() {
     addRequestHandler(TopologyRequest.class, r -> TopologyResponse.getDefaultInstance());
     addRequestHandler(
@@ -87,6 +93,7 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(CompleteJobsRequest.class, r -> completeAllJobs((CompleteJobsRequest) r));
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
@@ -157,6 +164,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -211,6 +225,28 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    jobStreamObserver = responseObserver;
+    return new StreamObserver<StreamActivatedJobsRequest>() {
+      @Override
+      public void onNext(final StreamActivatedJobsRequest request) {
+        requests.add(request);
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        // the stream is closed by the client
+      }
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
   @Override
   public void topology(
       final TopologyRequest request, final StreamObserver<TopologyResponse> responseObserver) {
@@ -299,12 +335,39 @@ public final class RecordingGatewayService extends GatewayImplBase {
             ActivateJobsResponse.newBuilder().addAllJobs(Arrays.asList(activatedJobs)).build());
   }
 
+  public void onFirstActivateJobsRequest(final ActivatedJob... activatedJobs) {
+    final AtomicBoolean activated = new AtomicBoolean();
+    addRequestHandler(
+        ActivateJobsRequest.class,
+        request ->
+            activated.compareAndSet(false, true)
+                ? ActivateJobsResponse.newBuilder().addAllJobs(Arrays.asList(activatedJobs)).build()
+                : ActivateJobsResponse.getDefaultInstance());
+  }
+
   public void onSetVariablesRequest(final long key) {
     addRequestHandler(
         SetVariablesRequest.class,
         request -> SetVariablesResponse.newBuilder().setKey(key).build());
   }
 
+  public void onCompleteJobsRequest(final Long... completedJobKeys) {
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        request ->
+            CompleteJobsResponse.newBuilder()
+                .addAllCompletedJobKeys(Arrays.asList(completedJobKeys))
+                .build());
+  }
+
+  public void pushJobs(final ActivatedJob... activatedJobs) {
+    Arrays.stream(activatedJobs).forEach(jobStreamObserver::onNext);
+  }
+
+  public void completeJobStream() {
+    jobStreamObserver.onCompleted();
+  }
+
   public void errorOnRequest(
       final Class<? extends GeneratedMessageV3> requestClass,
       final Supplier<Exception> errorSupplier) {
@@ -356,6 +419,12 @@ public final class RecordingGatewayService extends GatewayImplBase {
     return requestHandler;
   }
 
+  private static CompleteJobsResponse completeAllJobs(final CompleteJobsRequest request) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    request.getJobsList().forEach(job -> responseBuilder.addCompletedJobKeys(job.getJobKey()));
+    return responseBuilder.build();
+  }
+
   @FunctionalInterface
   interface RequestHandler<
       RequestT extends GeneratedMessageV3, ResponseT extends GeneratedMessageV3> {
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class DeadlineMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("deadline_trigger_lag")
+          .help("Time in seconds between the due date of a deadline and the time it is triggered")
+          .labelNames("type", "partition")
+          .buckets(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60)
+          .register();
+
+  private static final Gauge SCHEDULED_DEADLINES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("deadline_scheduled")
+          .help("Number of deadlines which are scheduled in memory")
+          .labelNames("type", "partition")
+          .register();
+
+  private static final Counter REFILLS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("deadline_refills_total")
+          .help("Number of times the scheduled deadlines are loaded from the state")
+          .labelNames("type", "partition")
+          .register();
+
+  private final String typeLabel;
+  private final String partitionIdLabel;
+
+  public DeadlineMetrics(final String type, final int partitionId) {
+    typeLabel = type;
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void triggered(final long lagInMillis) {
+    TRIGGER_LAG.labels(typeLabel, partitionIdLabel).observe(lagInMillis / 1_000D);
+  }
+
+  public void setScheduledDeadlines(final int count) {
+    SCHEDULED_DEADLINES.labels(typeLabel, partitionIdLabel).set(count);
+  }
+
+  public void refilled() {
+    REFILLS.labels(typeLabel, partitionIdLabel).inc();
+  }
+}
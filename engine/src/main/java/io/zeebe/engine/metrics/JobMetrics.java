@@ -28,6 +28,14 @@ public final class JobMetrics {
           .labelNames("partition", "type")
           .register();
 
+  private static final Gauge ACTIVATABLE_JOBS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("activatable_jobs")
+          .help("Number of jobs which can be activated, i.e. the backlog of a job type")
+          .labelNames("partition", "type")
+          .register();
+
   private final String partitionIdLabel;
 
   public JobMetrics(final int partitionId) {
@@ -73,4 +81,12 @@ public final class JobMetrics {
     jobEvent("error thrown", type);
     jobFinished(type);
   }
+
+  public void activatableJobs(final String type, final int count) {
+    ACTIVATABLE_JOBS.labels(partitionIdLabel, type).set(count);
+  }
+
+  public void removeActivatableJobs(final String type) {
+    ACTIVATABLE_JOBS.remove(partitionIdLabel, type);
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class StateCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("state_cache_lookups_total")
+          .help("Number of lookups of state values in the transaction cache")
+          .labelNames("result", "cache", "partition")
+          .register();
+
+  private static final Counter WRITES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("state_cache_writes_total")
+          .help("Number of deferred writes to the transaction cache and of writes to the state")
+          .labelNames("action", "cache", "partition")
+          .register();
+
+  private static final Histogram SAVED_READS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("state_cache_saved_reads")
+          .help("Number of state reads per transaction which are served by the cache")
+          .labelNames("cache", "partition")
+          .buckets(0, 1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
+  // the children are resolved once, as the cache is accessed multiple times per command
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child deferredWrites;
+  private final Counter.Child writes;
+  private final Histogram.Child savedReads;
+
+  public StateCacheMetrics(final String cache, final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels("hit", cache, partitionIdLabel);
+    misses = LOOKUPS.labels("miss", cache, partitionIdLabel);
+    deferredWrites = WRITES.labels("deferred", cache, partitionIdLabel);
+    writes = WRITES.labels("written", cache, partitionIdLabel);
+    savedReads = SAVED_READS.labels(cache, partitionIdLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void writeDeferred() {
+    deferredWrites.inc();
+  }
+
+  public void written(final int count) {
+    writes.inc(count);
+  }
+
+  public void savedReads(final int count) {
+    savedReads.observe(count);
+  }
+}
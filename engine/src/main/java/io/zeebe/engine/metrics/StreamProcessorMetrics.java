@@ -47,6 +47,43 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BATCH_RECORDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_records")
+          .help("Number of records which are processed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_size_bytes")
+          .help("Size of the follow-up records which are written for one transaction")
+          .exponentialBuckets(256, 4, 8)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram PIPELINE_DEPTH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_pipeline_depth")
+          .help(
+              "Number of records which are processed while the follow-up records of the previous records wait to be written")
+          .buckets(0, 1, 2, 4, 8, 16, 32, 64)
+          .labelNames("partition")
+          .register();
+
+  private static final Counter PIPELINE_STALLS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_pipeline_stalls_total")
+          .help(
+              "Number of times the processing waits for the write of the follow-up records, by reason")
+          .labelNames("reason", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -76,6 +113,27 @@ public final class StreamProcessorMetrics {
     event("skipped");
   }
 
+  public void batchProcessed(final int records, final int size) {
+    BATCH_RECORDS.labels(partitionIdLabel).observe(records);
+    BATCH_SIZE.labels(partitionIdLabel).observe(size);
+  }
+
+  public void batchRolledBack() {
+    event("batch_rolled_back");
+  }
+
+  public void writeBlocked() {
+    event("write_blocked");
+  }
+
+  public void pipelineDepth(final int records) {
+    PIPELINE_DEPTH.labels(partitionIdLabel).observe(records);
+  }
+
+  public void pipelineStalled(final String reason) {
+    PIPELINE_STALLS.labels(reason, partitionIdLabel).inc();
+  }
+
   public void recoveryTime(final long durationMillis) {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
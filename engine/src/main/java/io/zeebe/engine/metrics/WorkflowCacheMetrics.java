@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class WorkflowCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("workflow_cache_lookups_total")
+          .help("Number of lookups of deployed workflows in the cache")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("workflow_cache_evictions_total")
+          .help("Number of deployed workflows which are evicted from the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHED_WORKFLOWS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("workflow_cache_workflows")
+          .help("Number of deployed workflows in the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("workflow_cache_size_bytes")
+          .help("Estimated size of the deployed workflows in the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram TRANSFORMATION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("workflow_cache_transformation_time")
+          .help("Time in seconds to load and transform a deployed workflow on a cache miss")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void hit() {
+    LOOKUPS.labels("hit", partitionIdLabel).inc();
+  }
+
+  public void miss() {
+    LOOKUPS.labels("miss", partitionIdLabel).inc();
+  }
+
+  public void evicted() {
+    EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void setCacheSize(final int workflows, final long sizeInBytes) {
+    CACHED_WORKFLOWS.labels(partitionIdLabel).set(workflows);
+    CACHE_SIZE.labels(partitionIdLabel).set(sizeInBytes);
+  }
+
+  public void transformed(final long durationInNanos) {
+    TRANSFORMATION_TIME.labels(partitionIdLabel).observe(durationInNanos / 1_000_000_000D);
+  }
+}
@@ -10,6 +10,7 @@ package io.zeebe.engine.processing;
 import io.zeebe.el.ExpressionLanguageFactory;
 import io.zeebe.engine.processing.common.CatchEventBehavior;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.deployment.DeploymentCreatedProcessor;
 import io.zeebe.engine.processing.deployment.DeploymentEventProcessors;
 import io.zeebe.engine.processing.deployment.DeploymentResponder;
@@ -23,7 +24,6 @@ import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
-import io.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.logstreams.log.LogStream;
@@ -52,6 +52,9 @@ public final class EngineProcessors {
     final int partitionId = stream.getPartitionId();
     final int maxFragmentSize = processingContext.getMaxFragmentSize();
 
+    final DeadlineScheduler deadlineScheduler = new DeadlineScheduler(partitionId);
+    typedRecordProcessors.withListener(deadlineScheduler);
+
     addDistributeDeploymentProcessors(
         actor, zeebeState, typedRecordProcessors, deploymentDistributor);
 
@@ -72,7 +75,8 @@ public final class EngineProcessors {
         typedRecordProcessors,
         deploymentResponder,
         expressionProcessor);
-    addMessageProcessors(subscriptionCommandSender, zeebeState, typedRecordProcessors);
+    addMessageProcessors(
+        subscriptionCommandSender, zeebeState, typedRecordProcessors, deadlineScheduler);
 
     final TypedRecordProcessor<WorkflowInstanceRecord> bpmnStreamProcessor =
         addWorkflowProcessors(
@@ -80,11 +84,16 @@ public final class EngineProcessors {
             expressionProcessor,
             typedRecordProcessors,
             subscriptionCommandSender,
-            catchEventBehavior);
+            catchEventBehavior,
+            deadlineScheduler);
 
     final JobErrorThrownProcessor jobErrorThrownProcessor =
         addJobProcessors(
-            zeebeState, typedRecordProcessors, onJobsAvailableCallback, maxFragmentSize);
+            zeebeState,
+            typedRecordProcessors,
+            onJobsAvailableCallback,
+            maxFragmentSize,
+            deadlineScheduler);
 
     addIncidentProcessors(
         zeebeState, bpmnStreamProcessor, typedRecordProcessors, jobErrorThrownProcessor);
@@ -111,15 +120,15 @@ public final class EngineProcessors {
       final ExpressionProcessor expressionProcessor,
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
-      final CatchEventBehavior catchEventBehavior) {
-    final DueDateTimerChecker timerChecker = new DueDateTimerChecker(zeebeState.getWorkflowState());
+      final CatchEventBehavior catchEventBehavior,
+      final DeadlineScheduler deadlineScheduler) {
     return WorkflowEventProcessors.addWorkflowProcessors(
         zeebeState,
         expressionProcessor,
         typedRecordProcessors,
         subscriptionCommandSender,
         catchEventBehavior,
-        timerChecker);
+        deadlineScheduler);
   }
 
   private static void addDeploymentRelatedProcessorAndServices(
@@ -158,16 +167,22 @@ public final class EngineProcessors {
       final ZeebeState zeebeState,
       final TypedRecordProcessors typedRecordProcessors,
       final Consumer<String> onJobsAvailableCallback,
-      final int maxFragmentSize) {
+      final int maxFragmentSize,
+      final DeadlineScheduler deadlineScheduler) {
     return JobEventProcessors.addJobProcessors(
-        typedRecordProcessors, zeebeState, onJobsAvailableCallback, maxFragmentSize);
+        typedRecordProcessors,
+        zeebeState,
+        onJobsAvailableCallback,
+        maxFragmentSize,
+        deadlineScheduler);
   }
 
   private static void addMessageProcessors(
       final SubscriptionCommandSender subscriptionCommandSender,
       final ZeebeState zeebeState,
-      final TypedRecordProcessors typedRecordProcessors) {
+      final TypedRecordProcessors typedRecordProcessors,
+      final DeadlineScheduler deadlineScheduler) {
     MessageEventProcessors.addMessageProcessors(
-        typedRecordProcessors, zeebeState, subscriptionCommandSender);
+        typedRecordProcessors, zeebeState, subscriptionCommandSender, deadlineScheduler);
   }
 }
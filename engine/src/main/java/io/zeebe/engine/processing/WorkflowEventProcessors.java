@@ -10,6 +10,7 @@ package io.zeebe.engine.processing;
 import io.zeebe.engine.processing.bpmn.BpmnStreamProcessor;
 import io.zeebe.engine.processing.common.CatchEventBehavior;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.message.CloseWorkflowInstanceSubscription;
 import io.zeebe.engine.processing.message.CorrelateWorkflowInstanceSubscription;
 import io.zeebe.engine.processing.message.OpenWorkflowInstanceSubscriptionProcessor;
@@ -56,7 +57,7 @@ public final class WorkflowEventProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
       final CatchEventBehavior catchEventBehavior,
-      final DueDateTimerChecker timerChecker) {
+      final DeadlineScheduler deadlineScheduler) {
     final WorkflowInstanceSubscriptionState subscriptionState =
         zeebeState.getWorkflowInstanceSubscriptionState();
 
@@ -72,7 +73,11 @@ public final class WorkflowEventProcessors {
     addMessageStreamProcessors(
         typedRecordProcessors, subscriptionState, subscriptionCommandSender, zeebeState);
     addTimerStreamProcessors(
-        typedRecordProcessors, timerChecker, zeebeState, catchEventBehavior, expressionProcessor);
+        typedRecordProcessors,
+        deadlineScheduler,
+        zeebeState,
+        catchEventBehavior,
+        expressionProcessor);
     addVariableDocumentStreamProcessors(typedRecordProcessors, zeebeState);
     addWorkflowInstanceCreationStreamProcessors(typedRecordProcessors, zeebeState);
 
@@ -126,11 +131,14 @@ public final class WorkflowEventProcessors {
 
   private static void addTimerStreamProcessors(
       final TypedRecordProcessors typedRecordProcessors,
-      final DueDateTimerChecker timerChecker,
+      final DeadlineScheduler deadlineScheduler,
       final ZeebeState zeebeState,
       final CatchEventBehavior catchEventOutput,
       final ExpressionProcessor expressionProcessor) {
     final WorkflowState workflowState = zeebeState.getWorkflowState();
+    final DueDateTimerChecker timerChecker =
+        new DueDateTimerChecker(workflowState.getTimerState(), deadlineScheduler);
+    deadlineScheduler.addSource(timerChecker);
 
     typedRecordProcessors
         .onCommand(
@@ -139,8 +147,7 @@ public final class WorkflowEventProcessors {
             ValueType.TIMER,
             TimerIntent.TRIGGER,
             new TriggerTimerProcessor(zeebeState, catchEventOutput, expressionProcessor))
-        .onCommand(ValueType.TIMER, TimerIntent.CANCEL, new CancelTimerProcessor(workflowState))
-        .withListener(timerChecker);
+        .onCommand(ValueType.TIMER, TimerIntent.CANCEL, new CancelTimerProcessor(workflowState));
   }
 
   private static void addVariableDocumentStreamProcessors(
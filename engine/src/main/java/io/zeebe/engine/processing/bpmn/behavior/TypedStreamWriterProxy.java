@@ -64,6 +64,11 @@ public final class TypedStreamWriterProxy implements TypedStreamWriter {
     writer.configureSourceContext(sourceRecordPosition);
   }
 
+  @Override
+  public int getBatchLength() {
+    return writer.getBatchLength();
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     writer.appendNewCommand(intent, value);
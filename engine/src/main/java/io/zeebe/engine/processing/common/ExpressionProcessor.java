@@ -20,9 +20,12 @@ import io.zeebe.protocol.record.value.ErrorType;
 import io.zeebe.util.Either;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ExpressionProcessor {
@@ -273,7 +276,7 @@ public final class ExpressionProcessor {
     if (variableScopeKey < 0) {
       context = EMPTY_EVALUATION_CONTEXT;
     } else {
-      evaluationContext.variableScopeKey = variableScopeKey;
+      evaluationContext.reset(variableScopeKey);
       context = evaluationContext;
     }
 
@@ -333,10 +336,20 @@ public final class ExpressionProcessor {
     }
   }
 
+  /**
+   * Looks up the variables of an expression in the variable state. The variables are memoized for
+   * the evaluation of one expression, since the expression may reference a variable multiple times
+   * and each lookup walks the scope hierarchy.
+   */
   private static class VariableStateEvaluationContext implements EvaluationContext {
 
     private final DirectBuffer variableNameBuffer = new UnsafeBuffer();
 
+    // the lookup returns a view on a reused buffer, so the values are copied before memoizing
+    private final Map<String, DirectBuffer> memoizedVariables = new HashMap<>();
+    private final ExpandableArrayBuffer memoizedValues = new ExpandableArrayBuffer();
+    private int memoizedValuesLength;
+
     private final VariablesLookup lookup;
 
     private long variableScopeKey;
@@ -345,13 +358,37 @@ public final class ExpressionProcessor {
       this.lookup = lookup;
     }
 
+    private void reset(final long variableScopeKey) {
+      this.variableScopeKey = variableScopeKey;
+      memoizedVariables.clear();
+      memoizedValuesLength = 0;
+    }
+
     @Override
     public DirectBuffer getVariable(final String variableName) {
       ensureGreaterThan("variable scope key", variableScopeKey, 0);
 
+      if (memoizedVariables.containsKey(variableName)) {
+        return memoizedVariables.get(variableName);
+      }
+
       variableNameBuffer.wrap(variableName.getBytes());
 
-      return lookup.getVariable(variableScopeKey, variableNameBuffer);
+      final DirectBuffer value = lookup.getVariable(variableScopeKey, variableNameBuffer);
+      final DirectBuffer memoizedValue = value != null ? memoizeValue(value) : null;
+      memoizedVariables.put(variableName, memoizedValue);
+
+      return memoizedValue;
+    }
+
+    private DirectBuffer memoizeValue(final DirectBuffer value) {
+      final int offset = memoizedValuesLength;
+      final int length = value.capacity();
+      memoizedValues.putBytes(offset, value, 0, length);
+      memoizedValuesLength += length;
+
+      // the view remains valid if the buffer grows, since it keeps the previous array
+      return new UnsafeBuffer(memoizedValues.byteArray(), offset, length);
     }
   }
 
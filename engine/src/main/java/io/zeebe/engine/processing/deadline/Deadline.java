@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+/** A deadline of a {@link DeadlineSource} which is scheduled in the {@link DeadlineWheel}. */
+final class Deadline {
+
+  private final DeadlineScheduler.SourceWindow window;
+  private final long dueDate;
+  private final long key;
+  private final long secondaryKey;
+  private int slot = -1;
+
+  Deadline(
+      final DeadlineScheduler.SourceWindow window,
+      final long dueDate,
+      final long key,
+      final long secondaryKey) {
+    this.window = window;
+    this.dueDate = dueDate;
+    this.key = key;
+    this.secondaryKey = secondaryKey;
+  }
+
+  DeadlineScheduler.SourceWindow getWindow() {
+    return window;
+  }
+
+  long getDueDate() {
+    return dueDate;
+  }
+
+  long getKey() {
+    return key;
+  }
+
+  long getSecondaryKey() {
+    return secondaryKey;
+  }
+
+  int getSlot() {
+    return slot;
+  }
+
+  void setSlot(final int slot) {
+    this.slot = slot;
+  }
+
+  @Override
+  public String toString() {
+    return "Deadline{"
+        + "dueDate="
+        + dueDate
+        + ", key="
+        + key
+        + ", secondaryKey="
+        + secondaryKey
+        + '}';
+  }
+}
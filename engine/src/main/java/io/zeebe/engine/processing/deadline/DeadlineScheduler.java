@@ -0,0 +1,312 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+import io.zeebe.engine.metrics.DeadlineMetrics;
+import io.zeebe.engine.processing.deadline.DeadlineSource.DeadlineVisitor;
+import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * Triggers the deadlines of a partition when they are due, e.g. timers, job time-outs and message
+ * time-to-lives.
+ *
+ * <p>Instead of polling the state periodically, the nearest deadlines of each source are loaded
+ * into an in-memory {@link DeadlineWheel}. The deadlines are triggered from the wheel precisely at
+ * their due date. The state is only read again when the wheel has turned to the end of the loaded
+ * window, in order to load the next deadlines. The number of deadlines which are loaded per source
+ * is limited by the window capacity.
+ *
+ * <p>New deadlines are scheduled by the processors while processing. They are only added to the
+ * wheel if they are due within the loaded window, otherwise they are loaded later from the state.
+ * Since the wheel is rebuilt from the state on recovery, scheduled deadlines may be outdated, e.g.
+ * the job was completed in the meantime. The source verifies the deadline against the state before
+ * it is triggered.
+ */
+public final class DeadlineScheduler implements StreamProcessorLifecycleAware {
+
+  static final Duration TICK_DURATION = Duration.ofMillis(10);
+  static final int WHEEL_SLOTS = 4096;
+  static final int DEFAULT_WINDOW_CAPACITY = 10_000;
+  private static final Duration WRITE_RETRY_DELAY = Duration.ofMillis(100);
+
+  private final List<SourceWindow> windows = new ArrayList<>();
+  private final DeadlineWheel.DeadlineHandler triggerHandler = this::trigger;
+  private final int partitionId;
+  private final int windowCapacity;
+
+  private DeadlineWheel wheel;
+  private ActorControl actor;
+  private TypedCommandWriter writer;
+  private ScheduledTimer wakeUpTimer;
+  private long wakeUpTime;
+  private boolean isOpen;
+  private boolean isPaused;
+
+  public DeadlineScheduler(final int partitionId) {
+    this(partitionId, DEFAULT_WINDOW_CAPACITY);
+  }
+
+  DeadlineScheduler(final int partitionId, final int windowCapacity) {
+    this.partitionId = partitionId;
+    this.windowCapacity = windowCapacity;
+  }
+
+  public void addSource(final DeadlineSource source) {
+    windows.add(new SourceWindow(source));
+  }
+
+  /**
+   * Schedules the given deadline of the source. If the deadline with the same key is already
+   * scheduled, then it is replaced. The deadlines which are scheduled before the partition is
+   * recovered are ignored, since they are loaded from the state on recovery.
+   */
+  public void schedule(
+      final DeadlineSource source, final long dueDate, final long key, final long secondaryKey) {
+    if (!isOpen) {
+      return;
+    }
+
+    final SourceWindow window = getWindow(source);
+    window.remove(key);
+
+    if (dueDate < window.loadedUntil && window.add(dueDate, key, secondaryKey)) {
+      scheduleWakeUp(dueDate);
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    actor = context.getActor();
+    writer = context.getLogStreamWriter();
+    wheel =
+        new DeadlineWheel(TICK_DURATION.toMillis(), WHEEL_SLOTS, ActorClock.currentTimeMillis());
+    windows.forEach(SourceWindow::reset);
+    isOpen = true;
+
+    // load and trigger the deadlines from the state
+    onWakeUp();
+  }
+
+  @Override
+  public void onClose() {
+    isOpen = false;
+    cancelWakeUp();
+  }
+
+  @Override
+  public void onFailed() {
+    isOpen = false;
+    cancelWakeUp();
+  }
+
+  @Override
+  public void onPaused() {
+    isPaused = true;
+    cancelWakeUp();
+  }
+
+  @Override
+  public void onResumed() {
+    isPaused = false;
+    if (isOpen) {
+      onWakeUp();
+    }
+  }
+
+  private void onWakeUp() {
+    wakeUpTimer = null;
+    if (isPaused) {
+      return;
+    }
+
+    final long now = ActorClock.currentTimeMillis();
+    boolean isTriggered = wheel.poll(now, triggerHandler);
+
+    if (isTriggered) {
+      boolean isRefilled = false;
+      for (final SourceWindow window : windows) {
+        if (window.canRefill(now)) {
+          window.refill();
+          isRefilled = true;
+        }
+      }
+
+      if (isRefilled) {
+        isTriggered = wheel.poll(now, triggerHandler);
+      }
+    }
+
+    windows.forEach(SourceWindow::updateMetrics);
+
+    if (isTriggered) {
+      scheduleWakeUp(nextWakeUpTime());
+    } else {
+      // the writer is full - retry later
+      scheduleWakeUp(now + WRITE_RETRY_DELAY.toMillis());
+    }
+  }
+
+  private boolean trigger(final Deadline deadline) {
+    final SourceWindow window = deadline.getWindow();
+
+    writer.reset();
+    if (window.source.appendTrigger(
+        writer, deadline.getDueDate(), deadline.getKey(), deadline.getSecondaryKey())) {
+
+      if (writer.flush() < 0) {
+        writer.reset();
+        return false;
+      }
+      window.metrics.triggered(ActorClock.currentTimeMillis() - deadline.getDueDate());
+    }
+
+    window.deadlines.remove(deadline.getKey());
+    return true;
+  }
+
+  private long nextWakeUpTime() {
+    final long nextDueDate = wheel.nextDueDate();
+    long wakeUpTime = nextDueDate >= 0 ? nextDueDate : Long.MAX_VALUE;
+
+    for (final SourceWindow window : windows) {
+      if (window.hasCapacity()) {
+        wakeUpTime = Math.min(wakeUpTime, window.loadedUntil);
+      }
+    }
+    return wakeUpTime;
+  }
+
+  private void scheduleWakeUp(final long time) {
+    if (isPaused || time == Long.MAX_VALUE) {
+      return;
+    }
+
+    if (wakeUpTimer != null) {
+      if (wakeUpTime <= time) {
+        return;
+      }
+      wakeUpTimer.cancel();
+    }
+
+    final long delay = Math.max(0, time - ActorClock.currentTimeMillis());
+    wakeUpTime = time;
+    wakeUpTimer = actor.runDelayed(Duration.ofMillis(delay), this::onWakeUp);
+  }
+
+  private void cancelWakeUp() {
+    if (wakeUpTimer != null) {
+      wakeUpTimer.cancel();
+      wakeUpTimer = null;
+    }
+  }
+
+  private SourceWindow getWindow(final DeadlineSource source) {
+    for (final SourceWindow window : windows) {
+      if (window.source == source) {
+        return window;
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("Expected deadline source '%s' to be added, but was not", source.getName()));
+  }
+
+  /**
+   * The deadlines of a source which are loaded into the wheel. All deadlines of the state which are
+   * due before {@link #loadedUntil} are scheduled in the wheel or were already triggered.
+   */
+  final class SourceWindow implements DeadlineVisitor {
+
+    private final DeadlineSource source;
+    private final DeadlineMetrics metrics;
+    private final Long2ObjectHashMap<Deadline> deadlines = new Long2ObjectHashMap<>();
+
+    private long loadedUntil;
+    private long refillFrom;
+    private long refillUntil;
+    private long lastLoadedDueDate;
+
+    private SourceWindow(final DeadlineSource source) {
+      this.source = source;
+      metrics = new DeadlineMetrics(source.getName(), partitionId);
+    }
+
+    private void reset() {
+      deadlines.clear();
+      loadedUntil = Long.MIN_VALUE;
+    }
+
+    private boolean hasCapacity() {
+      return deadlines.size() < windowCapacity;
+    }
+
+    private boolean canRefill(final long now) {
+      return loadedUntil <= now && hasCapacity();
+    }
+
+    private void refill() {
+      refillFrom = loadedUntil;
+      refillUntil = wheel.getHorizon();
+      lastLoadedDueDate = Long.MIN_VALUE;
+      loadedUntil = refillUntil;
+
+      source.visitDeadlines(this);
+      metrics.refilled();
+    }
+
+    @Override
+    public boolean visit(final long dueDate, final long key, final long secondaryKey) {
+      if (dueDate < refillFrom) {
+        // the deadline was triggered already, but it is not processed yet
+        return true;
+
+      } else if (dueDate >= refillUntil) {
+        return false;
+
+      } else if (!hasCapacity() && dueDate != lastLoadedDueDate) {
+        // deadlines with the same due date are loaded together, to continue after them
+        loadedUntil = dueDate;
+        return false;
+      }
+
+      if (!deadlines.containsKey(key)) {
+        add(dueDate, key, secondaryKey);
+      }
+      lastLoadedDueDate = dueDate;
+      return true;
+    }
+
+    private boolean add(final long dueDate, final long key, final long secondaryKey) {
+      final Deadline deadline = new Deadline(this, dueDate, key, secondaryKey);
+      if (wheel.add(deadline)) {
+        deadlines.put(key, deadline);
+        return true;
+      }
+      return false;
+    }
+
+    private void remove(final long key) {
+      final Deadline deadline = deadlines.remove(key);
+      if (deadline != null) {
+        wheel.remove(deadline);
+      }
+    }
+
+    private void updateMetrics() {
+      metrics.setScheduledDeadlines(deadlines.size());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+
+/**
+ * A kind of deadline which is triggered by the {@link DeadlineScheduler}, e.g. the due dates of
+ * timers. The deadlines are stored in the state, ordered by their due date. A deadline is
+ * identified by its key and an optional secondary key which is needed to look it up in the state.
+ */
+public interface DeadlineSource {
+
+  /** @return the name of the deadlines, which is used as label of the metrics */
+  String getName();
+
+  /**
+   * Visits the deadlines of the state in ascending order of their due date, until the visitor
+   * returns {@code false}.
+   */
+  void visitDeadlines(DeadlineVisitor visitor);
+
+  /**
+   * Appends the command which triggers the given deadline, if the deadline is still pending in the
+   * state. The deadline may be outdated, e.g. if the timer was canceled in the meantime.
+   *
+   * @return {@code true} if the command was appended, or {@code false} if the deadline is not
+   *     pending anymore
+   */
+  boolean appendTrigger(TypedCommandWriter writer, long dueDate, long key, long secondaryKey);
+
+  @FunctionalInterface
+  interface DeadlineVisitor {
+    boolean visit(long dueDate, long key, long secondaryKey);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.agrona.BitUtil;
+
+/**
+ * A timer wheel of the deadlines which are due within its span. Each slot of the wheel holds the
+ * deadlines of one tick, and the wheel turns by one slot per tick. Deadlines which are further away
+ * than the span are not accepted - they are kept in the state until the wheel has turned far
+ * enough, which makes the state the outer level of the wheel.
+ *
+ * <p>In contrast to {@link org.agrona.DeadlineTimerWheel}, the wheel tracks its occupied slots, so
+ * the next due date can be determined without visiting all deadlines.
+ */
+final class DeadlineWheel {
+
+  private final long tickMillis;
+  private final int mask;
+  private final List<List<Deadline>> slots;
+  private final BitSet occupiedSlots;
+
+  private long currentTick;
+  private int size;
+
+  DeadlineWheel(final long tickMillis, final int slotCount, final long now) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException(
+          "Expected tick duration to be greater than zero, but was " + tickMillis);
+    }
+    if (!BitUtil.isPowerOfTwo(slotCount)) {
+      throw new IllegalArgumentException(
+          "Expected slot count to be a power of two, but was " + slotCount);
+    }
+
+    this.tickMillis = tickMillis;
+    mask = slotCount - 1;
+    slots = new ArrayList<>(slotCount);
+    for (int i = 0; i < slotCount; i++) {
+      slots.add(null);
+    }
+    occupiedSlots = new BitSet(slotCount);
+    currentTick = now / tickMillis;
+  }
+
+  /** @return the time until which deadlines can be added, exclusive */
+  long getHorizon() {
+    return (currentTick + slots.size()) * tickMillis;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Adds the given deadline to the slot of its due date. A deadline which is already due is added
+   * to the current slot.
+   *
+   * @return {@code false} if the deadline is beyond the horizon of the wheel
+   */
+  boolean add(final Deadline deadline) {
+    final long tick = Math.max(deadline.getDueDate() / tickMillis, currentTick);
+    if (tick >= currentTick + slots.size()) {
+      return false;
+    }
+
+    final int slot = (int) (tick & mask);
+    List<Deadline> deadlines = slots.get(slot);
+    if (deadlines == null) {
+      deadlines = new ArrayList<>();
+      slots.set(slot, deadlines);
+    }
+
+    deadlines.add(deadline);
+    deadline.setSlot(slot);
+    occupiedSlots.set(slot);
+    size += 1;
+    return true;
+  }
+
+  void remove(final Deadline deadline) {
+    final int slot = deadline.getSlot();
+    final List<Deadline> deadlines = slot >= 0 ? slots.get(slot) : null;
+
+    if (deadlines != null && deadlines.remove(deadline)) {
+      deadline.setSlot(-1);
+      size -= 1;
+
+      if (deadlines.isEmpty()) {
+        occupiedSlots.clear(slot);
+      }
+    }
+  }
+
+  /**
+   * Turns the wheel to the given time and passes the deadlines which are due to the handler. A
+   * deadline is removed from the wheel if the handler returns {@code true}. Otherwise, the wheel
+   * stops turning and the deadline is passed again on the next poll.
+   *
+   * @return {@code true} if all due deadlines were handled
+   */
+  boolean poll(final long now, final DeadlineHandler handler) {
+    final long nowTick = now / tickMillis;
+    // if the wheel is behind by more than one rotation, then all its deadlines are due
+    final long ticks = Math.min(nowTick - currentTick + 1, slots.size());
+
+    for (long i = 0; i < ticks; i++) {
+      final int slot = (int) ((currentTick + i) & mask);
+      if (occupiedSlots.get(slot) && !pollSlot(slot, now, handler)) {
+        currentTick += i;
+        return false;
+      }
+    }
+
+    currentTick = Math.max(currentTick, nowTick);
+    return true;
+  }
+
+  private boolean pollSlot(final int slot, final long now, final DeadlineHandler handler) {
+    final List<Deadline> deadlines = slots.get(slot);
+    final int count = deadlines.size();
+
+    // the remaining deadlines are moved to the front, to keep their order
+    int remaining = 0;
+    int index = 0;
+    boolean isHandled = true;
+    while (index < count) {
+      final Deadline deadline = deadlines.get(index);
+      index += 1;
+
+      if (deadline.getDueDate() > now) {
+        deadlines.set(remaining++, deadline);
+
+      } else if (handler.onDue(deadline)) {
+        deadline.setSlot(-1);
+        size -= 1;
+
+      } else {
+        deadlines.set(remaining++, deadline);
+        isHandled = false;
+        break;
+      }
+    }
+
+    while (index < count) {
+      deadlines.set(remaining++, deadlines.get(index++));
+    }
+    deadlines.subList(remaining, count).clear();
+
+    if (deadlines.isEmpty()) {
+      occupiedSlots.clear(slot);
+    }
+    return isHandled;
+  }
+
+  /** @return the earliest due date of the deadlines in the wheel, or -1 if the wheel is empty */
+  long nextDueDate() {
+    if (size == 0) {
+      return -1L;
+    }
+
+    final int currentSlot = (int) (currentTick & mask);
+    int slot = occupiedSlots.nextSetBit(currentSlot);
+    if (slot < 0) {
+      slot = occupiedSlots.nextSetBit(0);
+    }
+
+    long nextDueDate = Long.MAX_VALUE;
+    for (final Deadline deadline : slots.get(slot)) {
+      nextDueDate = Math.min(nextDueDate, deadline.getDueDate());
+    }
+    return nextDueDate;
+  }
+
+  @FunctionalInterface
+  interface DeadlineHandler {
+
+    /** @return {@code false} if the deadline could not be handled and must be retried */
+    boolean onDue(Deadline deadline);
+  }
+}
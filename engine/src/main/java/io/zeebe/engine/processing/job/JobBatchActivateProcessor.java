@@ -41,6 +41,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public final class JobBatchActivateProcessor implements TypedRecordProcessor<JobBatchRecord> {
 
   private final JobState jobState;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
   private final VariablesState variablesState;
   private final KeyGenerator keyGenerator;
   private final long maxRecordLength;
@@ -50,11 +51,13 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
   public JobBatchActivateProcessor(
       final JobState jobState,
+      final JobTimeoutTrigger jobTimeoutTrigger,
       final VariablesState variablesState,
       final KeyGenerator keyGenerator,
       final long maxRecordLength) {
 
     this.jobState = jobState;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
     this.variablesState = variablesState;
     this.keyGenerator = keyGenerator;
 
@@ -185,6 +188,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
       // first write follow up event as state.activate will clear the variables
       streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, copiedJob);
       jobState.activate(key, copiedJob);
+      jobTimeoutTrigger.scheduleTimeOut(key, copiedJob.getDeadline());
     }
   }
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.KeyGenerator;
+import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.engine.state.instance.JobState.State;
+import io.zeebe.msgpack.value.LongValue;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.Iterator;
+
+/**
+ * Completes a batch of jobs with one command. Every job of the batch is completed like by a single
+ * complete command, i.e. a COMPLETED job event is written for it. Jobs which are not found or not
+ * activatable are skipped; the COMPLETED job batch event contains the keys of the jobs which are
+ * completed. The command is only rejected if none of the jobs can be completed.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String INVALID_BATCH_MESSAGE =
+      "Expected to complete a batch of jobs with variables for each job, but got %d job keys and %d jobs";
+  private static final String NO_JOB_COMPLETED_MESSAGE =
+      "Expected to complete a batch of %d jobs, but none of them was found or activatable";
+
+  private final JobState jobState;
+  private final KeyGenerator keyGenerator;
+  private final JobBatchRecord completedBatch = new JobBatchRecord();
+
+  public JobBatchCompleteProcessor(final JobState jobState, final KeyGenerator keyGenerator) {
+    this.jobState = jobState;
+    this.keyGenerator = keyGenerator;
+  }
+
+  @Override
+  public void processRecord(
+      final TypedRecord<JobBatchRecord> record,
+      final TypedResponseWriter responseWriter,
+      final TypedStreamWriter streamWriter) {
+    final JobBatchRecord value = record.getValue();
+
+    final int jobKeyCount = count(value.jobKeys());
+    final int jobCount = count(value.jobs());
+    if (jobKeyCount == 0 || jobKeyCount != jobCount) {
+      final String reason = String.format(INVALID_BATCH_MESSAGE, jobKeyCount, jobCount);
+      streamWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    completedBatch.reset();
+    completedBatch.setType(value.getTypeBuffer()).setWorker(value.getWorkerBuffer());
+
+    int completedJobs = 0;
+    final Iterator<LongValue> jobKeys = value.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    while (jobKeys.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      final JobRecord completion = jobs.next();
+
+      final State state = jobState.getState(jobKey);
+      if (state == State.ACTIVATABLE || state == State.ACTIVATED) {
+        final JobRecord job = jobState.getJob(jobKey);
+        job.setVariables(completion.getVariablesBuffer());
+        jobState.complete(jobKey, job);
+        streamWriter.appendFollowUpEvent(jobKey, JobIntent.COMPLETED, job);
+
+        completedBatch.jobKeys().add().setValue(jobKey);
+        completedJobs += 1;
+      }
+    }
+
+    if (completedJobs > 0) {
+      final long jobBatchKey = keyGenerator.nextKey();
+      streamWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedBatch);
+      responseWriter.writeEventOnCommand(
+          jobBatchKey, JobBatchIntent.COMPLETED, completedBatch, record);
+    } else {
+      final String reason = String.format(NO_JOB_COMPLETED_MESSAGE, jobKeyCount);
+      streamWriter.appendRejection(record, RejectionType.NOT_FOUND, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.NOT_FOUND, reason);
+    }
+  }
+
+  private static int count(final Iterable<?> values) {
+    int count = 0;
+    for (final Object ignored : values) {
+      count += 1;
+    }
+    return count;
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.zeebe.engine.processing.job;
 
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
@@ -22,7 +23,8 @@ public final class JobEventProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final ZeebeState zeebeState,
       final Consumer<String> onJobsAvailableCallback,
-      final int maxRecordSize) {
+      final int maxRecordSize,
+      final DeadlineScheduler deadlineScheduler) {
 
     final var workflowState = zeebeState.getWorkflowState();
     final var jobState = zeebeState.getJobState();
@@ -31,6 +33,9 @@ public final class JobEventProcessors {
     final var jobErrorThrownProcessor =
         new JobErrorThrownProcessor(workflowState, keyGenerator, jobState);
 
+    final var jobTimeoutTrigger = new JobTimeoutTrigger(jobState, deadlineScheduler);
+    deadlineScheduler.addSource(jobTimeoutTrigger);
+
     typedRecordProcessors
         .onEvent(ValueType.JOB, JobIntent.CREATED, new JobCreatedProcessor(workflowState))
         .onEvent(ValueType.JOB, JobIntent.COMPLETED, new JobCompletedEventProcessor(workflowState))
@@ -48,10 +53,14 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 jobState,
+                jobTimeoutTrigger,
                 workflowState.getElementInstanceState().getVariablesState(),
                 keyGenerator,
                 maxRecordSize))
-        .withListener(new JobTimeoutTrigger(jobState))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(jobState, keyGenerator))
         .withListener(
             new StreamProcessorLifecycleAware() {
               @Override
@@ -7,84 +7,61 @@
  */
 package io.zeebe.engine.processing.job;
 
-import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
-
-import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
-import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
+import io.zeebe.engine.processing.deadline.DeadlineSource;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.engine.state.instance.JobState.State;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
-import io.zeebe.util.sched.ScheduledTimer;
-import java.time.Duration;
 
-public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
-  public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
-  private final JobState state;
+/**
+ * Times out the activated jobs when their deadline is reached, using the {@link DeadlineScheduler}.
+ */
+public final class JobTimeoutTrigger implements DeadlineSource {
 
-  private ScheduledTimer timer;
-  private TypedCommandWriter writer;
-  private ReadonlyProcessingContext processingContext;
+  private static final long NO_SECONDARY_KEY = -1L;
 
-  public JobTimeoutTrigger(final JobState state) {
-    this.state = state;
-  }
+  private final JobState state;
+  private final DeadlineScheduler deadlineScheduler;
 
-  @Override
-  public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    this.processingContext = processingContext;
-    timer =
-        this.processingContext
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
-    writer = processingContext.getLogStreamWriter();
+  public JobTimeoutTrigger(final JobState state, final DeadlineScheduler deadlineScheduler) {
+    this.state = state;
+    this.deadlineScheduler = deadlineScheduler;
   }
 
-  @Override
-  public void onClose() {
-    cancelTimer();
+  public void scheduleTimeOut(final long jobKey, final long deadline) {
+    deadlineScheduler.schedule(this, deadline, jobKey, NO_SECONDARY_KEY);
   }
 
   @Override
-  public void onFailed() {
-    cancelTimer();
+  public String getName() {
+    return "job";
   }
 
   @Override
-  public void onPaused() {
-    cancelTimer();
+  public void visitDeadlines(final DeadlineVisitor visitor) {
+    state.visitDeadlines((deadline, jobKey) -> visitor.visit(deadline, jobKey, NO_SECONDARY_KEY));
   }
 
   @Override
-  public void onResumed() {
-    if (timer == null) {
-      timer =
-          processingContext
-              .getActor()
-              .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+  public boolean appendTrigger(
+      final TypedCommandWriter writer,
+      final long deadline,
+      final long jobKey,
+      final long secondaryKey) {
+    if (!state.isInState(jobKey, State.ACTIVATED)) {
+      return false;
     }
-  }
 
-  private void cancelTimer() {
-    if (timer != null) {
-      timer.cancel();
-      timer = null;
+    final JobRecord job = state.getJob(jobKey);
+    if (job == null || job.getDeadline() != deadline) {
+      return false;
     }
-  }
-
-  void deactivateTimedOutJobs() {
-    final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
 
-          final boolean flushed = writer.flush() >= 0;
-          if (!flushed) {
-            writer.reset();
-          }
-          return flushed;
-        });
+    writer.appendFollowUpCommand(
+        jobKey, JobIntent.TIME_OUT, job, (m) -> m.valueType(ValueType.JOB));
+    return true;
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.zeebe.engine.processing.message;
 
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.zeebe.engine.state.KeyGenerator;
@@ -25,7 +26,8 @@ public final class MessageEventProcessors {
   public static void addMessageProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final ZeebeState zeebeState,
-      final SubscriptionCommandSender subscriptionCommandSender) {
+      final SubscriptionCommandSender subscriptionCommandSender,
+      final DeadlineScheduler deadlineScheduler) {
 
     final MessageState messageState = zeebeState.getMessageState();
     final MessageSubscriptionState subscriptionState = zeebeState.getMessageSubscriptionState();
@@ -35,6 +37,10 @@ public final class MessageEventProcessors {
         zeebeState.getWorkflowState().getEventScopeInstanceState();
     final KeyGenerator keyGenerator = zeebeState.getKeyGenerator();
 
+    final MessageTimeToLiveChecker timeToLiveChecker =
+        new MessageTimeToLiveChecker(messageState, deadlineScheduler);
+    deadlineScheduler.addSource(timeToLiveChecker);
+
     typedRecordProcessors
         .onCommand(
             ValueType.MESSAGE,
@@ -45,7 +51,8 @@ public final class MessageEventProcessors {
                 startEventSubscriptionState,
                 eventScopeInstanceState,
                 subscriptionCommandSender,
-                keyGenerator))
+                keyGenerator,
+                timeToLiveChecker))
         .onCommand(
             ValueType.MESSAGE, MessageIntent.DELETE, new DeleteMessageProcessor(messageState))
         .onCommand(
@@ -77,7 +84,6 @@ public final class MessageEventProcessors {
             MessageStartEventSubscriptionIntent.CLOSE,
             new CloseMessageStartEventSubscriptionProcessor(
                 startEventSubscriptionState, eventScopeInstanceState))
-        .withListener(
-            new MessageObserver(messageState, subscriptionState, subscriptionCommandSender));
+        .withListener(new MessageObserver(subscriptionState, subscriptionCommandSender));
   }
 }
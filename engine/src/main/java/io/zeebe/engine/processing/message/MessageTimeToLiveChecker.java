@@ -7,33 +7,56 @@
  */
 package io.zeebe.engine.processing.message;
 
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
+import io.zeebe.engine.processing.deadline.DeadlineSource;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
-import io.zeebe.util.sched.clock.ActorClock;
 
-public final class MessageTimeToLiveChecker implements Runnable {
+/** Deletes the messages when their time-to-live is reached, using the {@link DeadlineScheduler}. */
+public final class MessageTimeToLiveChecker implements DeadlineSource {
+
+  private static final long NO_SECONDARY_KEY = -1L;
 
-  private final TypedCommandWriter writer;
   private final MessageState messageState;
+  private final DeadlineScheduler deadlineScheduler;
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
-    this.writer = writer;
+      final MessageState messageState, final DeadlineScheduler deadlineScheduler) {
     this.messageState = messageState;
+    this.deadlineScheduler = deadlineScheduler;
+  }
+
+  public void scheduleTimeToLive(final Message message) {
+    deadlineScheduler.schedule(this, message.getDeadline(), message.getKey(), NO_SECONDARY_KEY);
+  }
+
+  @Override
+  public String getName() {
+    return "message";
   }
 
   @Override
-  public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+  public void visitDeadlines(final DeadlineVisitor visitor) {
+    messageState.visitDeadlines(
+        (deadline, messageKey) -> visitor.visit(deadline, messageKey, NO_SECONDARY_KEY));
   }
 
-  private boolean writeDeleteMessageCommand(final Message message) {
+  @Override
+  public boolean appendTrigger(
+      final TypedCommandWriter writer,
+      final long deadline,
+      final long messageKey,
+      final long secondaryKey) {
+    final Message message = messageState.getMessage(messageKey);
+    if (message == null || message.getDeadline() != deadline) {
+      return false;
+    }
+
     deleteMessageCommand.reset();
     deleteMessageCommand
         .setName(message.getName())
@@ -45,10 +68,7 @@ public final class MessageTimeToLiveChecker implements Runnable {
       deleteMessageCommand.setMessageId(message.getId());
     }
 
-    writer.reset();
     writer.appendFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
-
-    final long position = writer.flush();
-    return position > 0;
+    return true;
   }
 }
@@ -38,6 +38,7 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
   private final MessageStartEventSubscriptionState startEventSubscriptionState;
   private final SubscriptionCommandSender commandSender;
   private final KeyGenerator keyGenerator;
+  private final MessageTimeToLiveChecker timeToLiveChecker;
   private final EventHandle eventHandle;
 
   private final Subscriptions correlatingSubscriptions = new Subscriptions();
@@ -52,12 +53,14 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
       final MessageStartEventSubscriptionState startEventSubscriptionState,
       final EventScopeInstanceState scopeEventInstanceState,
       final SubscriptionCommandSender commandSender,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final MessageTimeToLiveChecker timeToLiveChecker) {
     this.messageState = messageState;
     this.subscriptionState = subscriptionState;
     this.startEventSubscriptionState = startEventSubscriptionState;
     this.commandSender = commandSender;
     this.keyGenerator = keyGenerator;
+    this.timeToLiveChecker = timeToLiveChecker;
 
     eventHandle = new EventHandle(keyGenerator, scopeEventInstanceState);
   }
@@ -109,6 +112,7 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
     if (messageRecord.getTimeToLive() > 0L) {
       final Message message = newMessage(messageKey, messageRecord);
       messageState.put(message);
+      timeToLiveChecker.scheduleTimeToLive(message);
 
       // avoid correlating this message to the workflow again
       correlatingSubscriptions.visitBpmnProcessIds(
@@ -12,6 +12,7 @@ import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopTypedStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.util.sched.ActorControl;
@@ -35,6 +36,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private int maxBatchRecords = 1;
+  private int maxBatchSize;
+  private int maxPipelineDepth;
+  private int maxCachedWorkflows = WorkflowPersistenceCache.DEFAULT_MAX_CACHED_WORKFLOWS;
+  private long maxWorkflowCacheSize = WorkflowPersistenceCache.DEFAULT_MAX_CACHE_SIZE;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -102,6 +108,31 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxBatchRecords(final int maxBatchRecords) {
+    this.maxBatchRecords = maxBatchRecords;
+    return this;
+  }
+
+  public ProcessingContext maxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public ProcessingContext maxPipelineDepth(final int maxPipelineDepth) {
+    this.maxPipelineDepth = maxPipelineDepth;
+    return this;
+  }
+
+  public ProcessingContext maxCachedWorkflows(final int maxCachedWorkflows) {
+    this.maxCachedWorkflows = maxCachedWorkflows;
+    return this;
+  }
+
+  public ProcessingContext maxWorkflowCacheSize(final long maxWorkflowCacheSize) {
+    this.maxWorkflowCacheSize = maxWorkflowCacheSize;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -165,4 +196,24 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public Consumer<TypedRecord> getOnProcessedListener() {
     return onProcessedListener;
   }
+
+  public int getMaxBatchRecords() {
+    return maxBatchRecords;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public int getMaxPipelineDepth() {
+    return maxPipelineDepth;
+  }
+
+  public int getMaxCachedWorkflows() {
+    return maxCachedWorkflows;
+  }
+
+  public long getMaxWorkflowCacheSize() {
+    return maxWorkflowCacheSize;
+  }
 }
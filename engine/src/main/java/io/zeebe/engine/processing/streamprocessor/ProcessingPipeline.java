@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Holds the records which are processed in the current transaction, until the transaction is
+ * committed. The responses of the held records are sent and the processed listener is invoked only
+ * after the follow-up records are written and the state is committed, see {@link
+ * #release(Consumer)}.
+ *
+ * <p>Every held record which has a response gets its own response writer, such that the next
+ * record can stage its response without overriding the response of the held record. The number of
+ * held responses is bounded by the pipeline depth, while records without a response can be held
+ * for the whole batch.
+ */
+final class ProcessingPipeline {
+
+  private final List<HeldRecord> heldRecords = new ArrayList<>();
+  private final TypedResponseWriterImpl[] responseWriters;
+  private final int partitionId;
+  private int heldCount;
+  private int depth;
+
+  ProcessingPipeline(
+      final int maxDepth,
+      final int partitionId,
+      final CommandResponseWriter commandResponseWriter) {
+    this.partitionId = partitionId;
+    responseWriters = new TypedResponseWriterImpl[maxDepth + 1];
+    for (int i = 0; i <= maxDepth; i++) {
+      responseWriters[i] = new TypedResponseWriterImpl(commandResponseWriter, partitionId);
+    }
+  }
+
+  /** @return the response writer for the next record which is processed */
+  TypedResponseWriterImpl getResponseWriter() {
+    return responseWriters[depth];
+  }
+
+  /**
+   * Holds a copy of the given record and the response which is staged in the current response
+   * writer, until the pipeline is released.
+   *
+   * @return the response writer for the next record which is processed
+   */
+  TypedResponseWriterImpl hold(final LoggedEvent event) {
+    final TypedResponseWriterImpl responseWriter = responseWriters[depth];
+    responseWriter.detach();
+    nextHeldRecord().copy(event, responseWriter);
+
+    depth += 1;
+
+    final TypedResponseWriterImpl nextResponseWriter = responseWriters[depth];
+    nextResponseWriter.reset();
+    return nextResponseWriter;
+  }
+
+  /**
+   * Holds a copy of the given record, which has no response, until the pipeline is released. The
+   * record is copied because the processed record is overwritten by the next record of the batch.
+   */
+  void holdWithoutResponse(final LoggedEvent event) {
+    nextHeldRecord().copy(event, null);
+  }
+
+  /**
+   * Sends the responses of the held records and invokes the given listener for them, in the order
+   * in which the records were held. Must only be called after the follow-up records of the held
+   * records are written and the transaction is committed.
+   */
+  void release(final Consumer<TypedRecord> onProcessed) {
+    for (int i = 0; i < heldCount; i++) {
+      final HeldRecord heldRecord = heldRecords.get(i);
+      if (heldRecord.responseWriter != null) {
+        heldRecord.responseWriter.flush();
+      }
+      onProcessed.accept(heldRecord.record);
+    }
+    clear();
+  }
+
+  /** Drops the held records and their responses, e.g. if the processing is rolled back. */
+  void clear() {
+    for (int i = 0; i < depth; i++) {
+      responseWriters[i].reset();
+    }
+    depth = 0;
+    heldCount = 0;
+  }
+
+  private HeldRecord nextHeldRecord() {
+    if (heldCount == heldRecords.size()) {
+      heldRecords.add(new HeldRecord(partitionId));
+    }
+    return heldRecords.get(heldCount++);
+  }
+
+  private static final class HeldRecord {
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedEventImpl record;
+    private TypedResponseWriterImpl responseWriter;
+
+    private HeldRecord(final int partitionId) {
+      record = new TypedEventImpl(partitionId);
+    }
+
+    private void copy(final LoggedEvent source, final TypedResponseWriterImpl responseWriter) {
+      this.responseWriter = responseWriter;
+
+      buffer.checkLimit(source.getLength());
+      source.write(buffer, 0);
+      event.wrap(buffer, 0);
+
+      metadata.reset();
+      event.readMetadata(metadata);
+      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+      record.wrap(event, metadata, value);
+    }
+  }
+}
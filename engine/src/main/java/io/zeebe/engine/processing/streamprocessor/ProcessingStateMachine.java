@@ -74,6 +74,23 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If batch processing is enabled, processEvent() continues with the next records which are
+ * already committed, in the same transaction, until the batch is full. The follow-up records of the
+ * whole batch are written at once and the transaction is committed once. A batch ends with a record
+ * which produces side effects or which has request metadata, because these need to be executed
+ * after writing and can't be collected for multiple records. If a record of the batch can't be
+ * processed, the whole batch is rolled back and its records are processed again one by one.
+ *
+ * <p>If pipelining is enabled, the next records are processed on top of the uncommitted
+ * transaction while the previous write is in flight, i.e. its follow-up records are not committed
+ * yet, or while the follow-up records can't be written because the write buffer is full. Their
+ * follow-up records are added to the pending write, which is bounded by the pipeline depth and the
+ * max batch size. The responses of these records are held back and sent, like the side effects,
+ * only after the follow-up records are written. The pipeline stalls at a record with other side
+ * effects than a response, because these can't be held back, and the pending write is flushed.
+ * If there are no records to process, the pending write waits for the commit of the previous
+ * write, or for new records, which both update the commit position.
  */
 public final class ProcessingStateMachine {
 
@@ -94,6 +111,10 @@ public final class ProcessingStateMachine {
       "Expected to process event '{}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String PROCESSING_ERROR_MESSAGE =
       "Expected to process event '%s' without errors, but exception occurred with message '%s' .";
+  private static final String ERROR_MESSAGE_PROCESSING_FAILED_IN_BATCH =
+      "Expected to process event '{}' in batch, but caught an exception. Roll back batch and process its events one by one.";
+  private static final String ERROR_MESSAGE_PROCESSING_FAILED_IN_PIPELINE =
+      "Expected to process event '{}' while waiting for the write of the previous events, but caught an exception. Roll back and process the events one by one.";
   private static final String NOTIFY_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for event {} successfully, but exception was thrown.";
 
@@ -102,10 +123,17 @@ public final class ProcessingStateMachine {
   private static final String LOG_ERROR_EVENT_WRITTEN =
       "Error record was written at {}, we will continue with processing if event was committed. Current commit position is {}.";
 
+  private static final String STALL_REASON_ERROR_HANDLING = "error_handling";
+  private static final String STALL_REASON_SIDE_EFFECTS = "side_effects";
+  private static final String STALL_REASON_PIPELINE_FULL = "pipeline_full";
+  private static final String STALL_REASON_BATCH_SIZE = "batch_size";
+  private static final String STALL_REASON_PAUSED = "paused";
+  private static final String STALL_REASON_NO_RECORDS = "no_records";
+
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
   protected final ZeebeState zeebeState;
   protected final RecordMetadata metadata = new RecordMetadata();
-  protected final TypedResponseWriterImpl responseWriter;
+  protected TypedResponseWriterImpl responseWriter;
   private final ActorControl actor;
   private final EventFilter eventFilter;
   private final LogStream logStream;
@@ -123,6 +151,11 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxBatchRecords;
+  private final int maxBatchSize;
+  private final int maxFragmentSize;
+  private final int maxPipelineDepth;
+  private final ProcessingPipeline pipeline;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -136,6 +169,17 @@ public final class ProcessingStateMachine {
   private long errorRecordPosition = StreamProcessor.UNSET_POSITION;
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
+  private long batchStartPosition = StreamProcessor.UNSET_POSITION;
+  private int batchRecords;
+  private boolean isListenerNotified;
+  // records up to this position are processed one by one, after their batch was rolled back
+  private long processWithoutBatchUntilPosition = StreamProcessor.UNSET_POSITION;
+  private boolean isWriteBlocked;
+  private int pipelinedRecords;
+  private int maxPipelinedRecordLength;
+  private String pipelineStallReason;
+  private long commitPosition = StreamProcessor.UNSET_POSITION;
+  private boolean isAwaitingCommit;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -158,10 +202,20 @@ public final class ProcessingStateMachine {
 
     final int partitionId = logStream.getPartitionId();
     typedEvent = new TypedEventImpl(partitionId);
-    responseWriter = new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
+    maxPipelineDepth = context.getMaxPipelineDepth();
+    pipeline =
+        new ProcessingPipeline(maxPipelineDepth, partitionId, context.getCommandResponseWriter());
+    responseWriter = pipeline.getResponseWriter();
 
     metrics = new StreamProcessorMetrics(partitionId);
     onProcessed = context.getOnProcessedListener();
+
+    maxFragmentSize = context.getMaxFragmentSize();
+    maxBatchRecords = context.getMaxBatchRecords();
+    maxBatchSize =
+        context.getMaxBatchSize() > 0
+            ? Math.min(context.getMaxBatchSize(), maxFragmentSize)
+            : maxFragmentSize;
   }
 
   private void skipRecord() {
@@ -169,6 +223,25 @@ public final class ProcessingStateMachine {
     metrics.eventSkipped();
   }
 
+  void onCommitPositionUpdated() {
+    if (maxPipelineDepth > 0) {
+      logStream
+          .getCommitPositionAsync()
+          .onComplete(
+              (position, error) -> {
+                if (error == null) {
+                  commitPosition = Math.max(commitPosition, position);
+
+                  if (isAwaitingCommit) {
+                    continuePipeline();
+                  }
+                }
+              });
+    }
+
+    readNextEvent();
+  }
+
   void readNextEvent() {
     if (onErrorRetries > 0) {
       onErrorHandlingLoop = false;
@@ -208,6 +281,9 @@ public final class ProcessingStateMachine {
   }
 
   private void processEvent(final LoggedEvent event) {
+    batchStartPosition = event.getPosition();
+    batchRecords = 1;
+    isListenerNotified = false;
     metadata.reset();
     event.readMetadata(metadata);
 
@@ -228,6 +304,11 @@ public final class ProcessingStateMachine {
 
       metrics.eventProcessed();
 
+      if (isBatchProcessingEnabled(event) && !processBatch()) {
+        return;
+      }
+
+      metrics.batchProcessed(batchRecords, logStreamWriter.getBatchLength());
       writeEvent();
     } catch (final RecoverableException recoverableException) {
       // recoverable
@@ -239,6 +320,124 @@ public final class ProcessingStateMachine {
     }
   }
 
+  private boolean isBatchProcessingEnabled(final LoggedEvent event) {
+    return maxBatchRecords > 1 && !isProcessedOneByOne(event);
+  }
+
+  private boolean isProcessedOneByOne(final LoggedEvent event) {
+    return event.getPosition() <= processWithoutBatchUntilPosition;
+  }
+
+  /**
+   * Processes the next records in the current transaction, until the batch is full.
+   *
+   * @return <code>false</code> if the batch was rolled back
+   */
+  private boolean processBatch() {
+    while (canContinueBatch()) {
+      if (!isListenerNotified) {
+        // the record is overwritten by the next record, but it is notified only after the commit
+        pipeline.holdWithoutResponse(currentEvent);
+        isListenerNotified = true;
+      }
+
+      try {
+        if (!processNextInBatch()) {
+          continue;
+        }
+      } catch (final Exception e) {
+        LOG.debug(ERROR_MESSAGE_PROCESSING_FAILED_IN_BATCH, currentEvent, e);
+        rollbackBatch();
+        return false;
+      }
+
+      if (logStreamWriter.getBatchLength() >= maxFragmentSize) {
+        // the follow-up records of the batch can't be written at once
+        rollbackBatch();
+        return false;
+      }
+
+      batchRecords++;
+      metrics.eventProcessed();
+    }
+
+    return true;
+  }
+
+  /**
+   * Reads the next record and processes it in the current transaction, on top of the previous
+   * records. The follow-up records of the previous records are kept.
+   *
+   * @return <code>false</code> if the record was skipped
+   */
+  private boolean processNextInBatch() throws Exception {
+    final LoggedEvent event = logStreamReader.next();
+    currentEvent = event;
+
+    if (eventFilter != null && !eventFilter.applies(event)) {
+      metrics.eventSkipped();
+      return false;
+    }
+
+    metadata.reset();
+    event.readMetadata(metadata);
+
+    final TypedRecordProcessor<?> processor = chooseNextProcessor(event);
+    if (processor == null) {
+      metrics.eventSkipped();
+      return false;
+    }
+    currentProcessor = processor;
+
+    metrics.processingLatency(
+        metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
+
+    final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+    typedEvent.wrap(event, metadata, value);
+
+    processInBatch(typedEvent);
+    isListenerNotified = false;
+    return true;
+  }
+
+  private boolean canContinueBatch() {
+    return batchRecords < maxBatchRecords
+        && logStreamWriter.getBatchLength() < maxBatchSize
+        && !sideEffectProducer.hasSideEffects()
+        && !typedEvent.hasRequestMetadata()
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext();
+  }
+
+  private void rollbackBatch() {
+    metrics.batchRolledBack();
+    processWithoutBatchUntilPosition = currentEvent.getPosition();
+
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.rollback();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, throwable);
+          }
+
+          logStreamWriter.reset();
+          logStreamReader.seek(batchStartPosition);
+          pipeline.clear();
+          responseWriter = pipeline.getResponseWriter();
+
+          currentProcessor = null;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
   private TypedRecordProcessor<?> chooseNextProcessor(final LoggedEvent event) {
     TypedRecordProcessor<?> typedRecordProcessor = null;
 
@@ -260,22 +459,34 @@ public final class ProcessingStateMachine {
           final long position = typedRecord.getPosition();
           resetOutput(position);
 
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
-          }
+          processRecord(position, typedRecord);
+        });
+  }
+
+  private void processInBatch(final TypedEventImpl typedRecord) throws Exception {
+    zeebeDbTransaction.run(
+        () -> {
+          final long position = typedRecord.getPosition();
+          // keep the follow-up records of the previous records of the batch
+          responseWriter.reset();
+          logStreamWriter.configureSourceContext(position);
 
-          zeebeState.markAsProcessed(position);
+          processRecord(position, typedRecord);
         });
   }
 
+  private void processRecord(final long position, final TypedEventImpl typedRecord) {
+    // default side effect is responses; can be changed by processor
+    sideEffectProducer = responseWriter;
+    final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
+    if (isNotOnBlacklist) {
+      currentProcessor.processRecord(
+          position, typedRecord, responseWriter, logStreamWriter, this::setSideEffectProducer);
+    }
+
+    zeebeState.markAsProcessed(position);
+  }
+
   private void resetOutput(final long sourceRecordPosition) {
     responseWriter.reset();
     logStreamWriter.reset();
@@ -346,20 +557,62 @@ public final class ProcessingStateMachine {
   }
 
   private void writeEvent() {
+    isWriteBlocked = false;
+    pipelinedRecords = 0;
+    maxPipelinedRecordLength = logStreamWriter.getBatchLength() / batchRecords;
+    pipelineStallReason = null;
+
+    if (maxPipelineDepth > 0 && isWriteInFlight()) {
+      // instead of queuing another write behind the previous one, process the next records meanwhile
+      isAwaitingCommit = true;
+      continuePipeline();
+    } else {
+      flushEvents();
+    }
+  }
+
+  /**
+   * Processes the next records on top of the current transaction while the previous write is in
+   * flight. The commit position is only updated by actor jobs, so if there are no records to process
+   * yet, it returns and is called again when the commit position is updated.
+   */
+  private void continuePipeline() {
+    while (isWriteInFlight()) {
+      if (!processPipelined()) {
+        isAwaitingCommit = false;
+        rollbackBatch();
+        return;
+      }
+
+      if (STALL_REASON_NO_RECORDS.equals(pipelineStallReason)) {
+        // wait for the commit of the previous write or for the next records
+        return;
+      } else if (pipelineStallReason != null) {
+        break;
+      }
+    }
+
+    isAwaitingCommit = false;
+    flushEvents();
+  }
+
+  private void flushEvents() {
     final ActorFuture<Boolean> retryFuture =
-        writeRetryStrategy.runWithRetry(
-            () -> {
-              writtenEventPosition = logStreamWriter.flush();
-              return writtenEventPosition >= 0;
-            },
-            abortCondition);
+        writeRetryStrategy.runWithRetry(this::tryWriteEvent, abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
         (bool, t) -> {
           if (t != null) {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
-            onError(t, this::writeEvent);
+            if (batchRecords > 1) {
+              rollbackBatch();
+            } else {
+              onError(t, this::writeEvent);
+            }
+          } else if (writtenEventPosition < 0) {
+            // a record which was processed while waiting for the write failed
+            rollbackBatch();
           } else {
             updateState();
             metrics.eventWritten();
@@ -367,6 +620,103 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private boolean tryWriteEvent() {
+    writtenEventPosition = logStreamWriter.flush();
+    if (writtenEventPosition >= 0) {
+      if (maxPipelineDepth > 0) {
+        metrics.pipelineDepth(pipelinedRecords);
+      }
+      return true;
+    }
+
+    if (!isWriteBlocked) {
+      metrics.writeBlocked();
+      isWriteBlocked = true;
+    }
+
+    // the write buffer is full; process the next record meanwhile, or retry if it is not possible
+    return maxPipelineDepth > 0 && !processPipelined();
+  }
+
+  private boolean isWriteInFlight() {
+    return lastWrittenEventPosition > commitPosition;
+  }
+
+  /**
+   * Processes the next record on top of the current transaction, while the follow-up records of the
+   * previous records are not written yet. The previous record and its response are held in the
+   * pipeline until the write succeeds.
+   *
+   * @return <code>false</code> if the record can't be processed and the transaction must be rolled
+   *     back
+   */
+  private boolean processPipelined() {
+    final String stallReason = getPipelineStallReason();
+    if (stallReason != null) {
+      if (!stallReason.equals(pipelineStallReason)) {
+        metrics.pipelineStalled(stallReason);
+        pipelineStallReason = stallReason;
+      }
+      return true;
+    }
+    pipelineStallReason = null;
+
+    if (!isListenerNotified) {
+      if (sideEffectProducer.hasSideEffects() || typedEvent.hasRequestMetadata()) {
+        if (sideEffectProducer != responseWriter) {
+          // the processor replaced the response by its own side effects
+          responseWriter.reset();
+        }
+        responseWriter = pipeline.hold(currentEvent);
+        sideEffectProducer = responseWriter;
+      } else {
+        pipeline.holdWithoutResponse(currentEvent);
+      }
+      isListenerNotified = true;
+    }
+
+    final int batchLength = logStreamWriter.getBatchLength();
+    try {
+      if (!processNextInBatch()) {
+        return true;
+      }
+    } catch (final Exception e) {
+      LOG.debug(ERROR_MESSAGE_PROCESSING_FAILED_IN_PIPELINE, currentEvent, e);
+      return false;
+    }
+    maxPipelinedRecordLength =
+        Math.max(maxPipelinedRecordLength, logStreamWriter.getBatchLength() - batchLength);
+
+    if (logStreamWriter.getBatchLength() >= maxFragmentSize) {
+      // the follow-up records can't be written at once
+      return false;
+    }
+
+    batchRecords++;
+    pipelinedRecords++;
+    metrics.eventProcessed();
+    return true;
+  }
+
+  private String getPipelineStallReason() {
+    if (onErrorHandling || isProcessedOneByOne(currentEvent)) {
+      return STALL_REASON_ERROR_HANDLING;
+    } else if (sideEffectProducer != responseWriter && sideEffectProducer.hasSideEffects()) {
+      // only responses can be held back
+      return STALL_REASON_SIDE_EFFECTS;
+    } else if (pipelinedRecords >= maxPipelineDepth) {
+      return STALL_REASON_PIPELINE_FULL;
+    } else if (logStreamWriter.getBatchLength() + maxPipelinedRecordLength > maxBatchSize) {
+      // the follow-up records of the next record would likely exceed the pending write
+      return STALL_REASON_BATCH_SIZE;
+    } else if (!shouldProcessNext.getAsBoolean()) {
+      return STALL_REASON_PAUSED;
+    } else if (!logStreamReader.hasNext()) {
+      return STALL_REASON_NO_RECORDS;
+    }
+    return null;
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
@@ -405,15 +755,18 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private void notifyListener() {
+  private void notifyListener(final TypedRecord record) {
     try {
-      onProcessed.accept(typedEvent);
+      onProcessed.accept(record);
     } catch (final Exception e) {
-      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, currentEvent, e);
+      LOG.error(NOTIFY_LISTENER_ERROR_MESSAGE, record, e);
     }
   }
 
   private void executeSideEffects() {
+    // the held records are processed before the current record
+    pipeline.release(this::notifyListener);
+
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
 
@@ -424,9 +777,12 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, throwable);
           }
 
-          notifyListener();
+          if (!isListenerNotified) {
+            notifyListener(typedEvent);
+          }
 
           // continue with next event
+          responseWriter = pipeline.getResponseWriter();
           currentProcessor = null;
           actor.submit(this::readNextEvent);
         });
@@ -15,15 +15,31 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.ReflectUtil;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 public final class RecordValues {
 
+  /**
+   * The types of the record values which are decoded lazily: the records with many properties, of
+   * which the processors usually read only a few. Lazy decoding copies the whole value on every
+   * read, so compare the eager and lazy variants of RecordSerializationBenchmark before adding a
+   * type.
+   */
+  private static final Set<ValueType> LAZILY_DECODED_VALUE_TYPES =
+      EnumSet.of(ValueType.WORKFLOW_INSTANCE, ValueType.JOB, ValueType.DEPLOYMENT);
+
   private final Map<ValueType, UnifiedRecordValue> eventCache;
 
   public RecordValues() {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    EVENT_REGISTRY.forEach(
+        (t, c) -> {
+          final UnifiedRecordValue value = ReflectUtil.newInstance(c);
+          value.setLazyDecoding(LAZILY_DECODED_VALUE_TYPES.contains(t));
+          cache.put(t, value);
+        });
 
     eventCache = Collections.unmodifiableMap(cache);
   }
@@ -260,7 +260,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   private ZeebeState recoverState() {
     final DbContext dbContext = zeebeDb.createContext();
-    final ZeebeState zeebeState = new ZeebeState(partitionId, zeebeDb, dbContext);
+    final ZeebeState zeebeState =
+        new ZeebeState(
+            partitionId,
+            zeebeDb,
+            dbContext,
+            processingContext.getMaxCachedWorkflows(),
+            processingContext.getMaxWorkflowCacheSize());
 
     processingContext.dbContext(dbContext);
     processingContext.zeebeState(zeebeState);
@@ -272,7 +278,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     phase = Phase.PROCESSING;
     onCommitPositionUpdatedCondition =
         actor.onCondition(
-            getName() + "-on-commit-position-updated", processingStateMachine::readNextEvent);
+            getName() + "-on-commit-position-updated",
+            processingStateMachine::onCommitPositionUpdated);
     logStream.registerOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
 
     // start reading
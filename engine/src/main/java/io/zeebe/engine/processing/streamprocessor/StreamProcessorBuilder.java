@@ -64,6 +64,51 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables batch processing: up to the given number of records are processed in one transaction,
+   * as long as their follow-up records are not larger than the given size. A size of zero limits
+   * the batch only by the max fragment size of the log stream.
+   */
+  public StreamProcessorBuilder processingBatch(final int maxRecords, final int maxSize) {
+    if (maxRecords < 1) {
+      throw new IllegalArgumentException(
+          "Expected max records of a processing batch to be at least 1, but was " + maxRecords);
+    }
+    processingContext.maxBatchRecords(maxRecords).maxBatchSize(maxSize);
+    return this;
+  }
+
+  /**
+   * Enables pipelined processing: while the follow-up records can't be written because the write
+   * buffer is full, up to the given number of following records are processed on top of the
+   * uncommitted state. Their responses are sent after the follow-up records are written. A depth of
+   * zero disables the pipelining.
+   */
+  public StreamProcessorBuilder processingPipeline(final int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException(
+          "Expected max depth of the processing pipeline to be at least 0, but was " + maxDepth);
+    }
+    processingContext.maxPipelineDepth(maxDepth);
+    return this;
+  }
+
+  /**
+   * Limits the transformed workflows which are kept in memory to the given number of workflows and
+   * to the given estimated size in bytes. Workflows which are not cached are transformed again on
+   * access.
+   */
+  public StreamProcessorBuilder workflowCache(final int maxWorkflows, final long maxSize) {
+    if (maxWorkflows < 1 || maxSize < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the workflow cache to hold at least 1 workflow and 1 byte, but was %d workflows and %d bytes",
+              maxWorkflows, maxSize));
+    }
+    processingContext.maxCachedWorkflows(maxWorkflows).maxWorkflowCacheSize(maxSize);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -20,4 +20,12 @@ public interface SideEffectProducer {
    * @return <code>false</code> to indicate that the side effect could not be applied successfully
    */
   boolean flush();
+
+  /**
+   * @return <code>false</code> if there is nothing to apply, i.e. flushing has no effect; producers
+   *     which can't tell it return always <code>true</code>
+   */
+  default boolean hasSideEffects() {
+    return true;
+  }
 }
@@ -48,6 +48,11 @@ public final class SideEffectQueue implements SideEffectProducer, SideEffects {
     return flushed;
   }
 
+  @Override
+  public boolean hasSideEffects() {
+    return !sideEffects.isEmpty();
+  }
+
   @Override
   public void add(final SideEffectProducer sideEffectProducer) {
     sideEffects.add(sideEffectProducer);
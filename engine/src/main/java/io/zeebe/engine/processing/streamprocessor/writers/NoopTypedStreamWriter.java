@@ -57,6 +57,11 @@ public final class NoopTypedStreamWriter implements TypedStreamWriter {
     // no op implementation
   }
 
+  @Override
+  public int getBatchLength() {
+    return 0;
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
     // no op implementation
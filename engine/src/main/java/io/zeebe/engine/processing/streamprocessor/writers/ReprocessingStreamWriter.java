@@ -84,6 +84,11 @@ public final class ReprocessingStreamWriter implements TypedStreamWriter {
     this.sourceRecordPosition = sourceRecordPosition;
   }
 
+  @Override
+  public int getBatchLength() {
+    return 0;
+  }
+
   @Override
   public void appendNewCommand(final Intent intent, final UnpackedObject value) {
 
@@ -74,7 +74,8 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
     final LogEntryBuilder event = batchWriter.event();
 
     if (sourceRecordPosition >= 0) {
-      batchWriter.sourceRecordPosition(sourceRecordPosition);
+      // set the source per entry, the batch may contain the follow-ups of multiple records
+      event.sourcePosition(sourceRecordPosition);
     }
 
     initMetadata(type, intent, value);
@@ -111,6 +112,10 @@ public class TypedCommandWriterImpl implements TypedCommandWriter {
     appendRecord(key, RecordType.COMMAND, intent, value, metadata);
   }
 
+  public int getBatchLength() {
+    return batchWriter.getBatchLength();
+  }
+
   @Override
   public void reset() {
     batchWriter.reset();
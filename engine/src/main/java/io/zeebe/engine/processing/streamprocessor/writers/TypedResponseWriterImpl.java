@@ -14,8 +14,11 @@ import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.charset.StandardCharsets;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class TypedResponseWriterImpl implements TypedResponseWriter, SideEffectProducer {
@@ -23,9 +26,20 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   private final CommandResponseWriter writer;
   private final int partitionId;
   private final UnsafeBuffer stringWrapper = new UnsafeBuffer(0, 0);
+  private final ExpandableArrayBuffer detachedBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer detachedRejectionReason = new UnsafeBuffer(0, 0);
+  private final DirectBufferWriter detachedValue = new DirectBufferWriter();
+  private RecordType recordType;
+  private Intent intent;
+  private long key;
+  private RejectionType rejectionType;
+  private DirectBuffer rejectionReason;
+  private ValueType valueType;
+  private BufferWriter value;
   private long requestId;
   private int requestStreamId;
   private boolean isResponseStaged;
+  private boolean isDetached;
 
   public TypedResponseWriterImpl(final CommandResponseWriter writer, final int partitionId) {
     this.writer = writer;
@@ -111,11 +125,20 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   @Override
   public boolean flush() {
     if (isResponseStaged) {
+      if (isDetached) {
+        // the writer may be staged with another response in the meantime
+        stageOnWriter();
+      }
       writer.tryWriteResponse(requestStreamId, requestId);
     }
     return true;
   }
 
+  @Override
+  public boolean hasSideEffects() {
+    return isResponseStaged;
+  }
+
   private void stage(
       final RecordType type,
       final Intent intent,
@@ -126,22 +149,57 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
       final long requestId,
       final int requestStreamId,
       final UnpackedObject value) {
+    recordType = type;
+    this.intent = intent;
+    this.key = key;
+    this.rejectionType = rejectionType;
+    this.rejectionReason = rejectionReason;
+    this.valueType = valueType;
+    this.value = value;
+    this.requestId = requestId;
+    this.requestStreamId = requestStreamId;
+    isResponseStaged = true;
+    isDetached = false;
+
+    stageOnWriter();
+  }
+
+  private void stageOnWriter() {
     writer
         .partitionId(partitionId)
         .key(key)
         .intent(intent)
-        .recordType(type)
+        .recordType(recordType)
         .valueType(valueType)
         .rejectionType(rejectionType)
         .rejectionReason(rejectionReason)
         .valueWriter(value);
+  }
 
-    this.requestId = requestId;
-    this.requestStreamId = requestStreamId;
-    isResponseStaged = true;
+  /**
+   * Copies the value and the rejection reason of the staged response, such that the response can
+   * still be sent after the value object is reused, e.g. for the processing of the next record.
+   */
+  public void detach() {
+    if (!isResponseStaged) {
+      return;
+    }
+
+    final int reasonLength = rejectionReason.capacity();
+    final int valueLength = value.getLength();
+    detachedBuffer.checkLimit(reasonLength + valueLength);
+    detachedBuffer.putBytes(0, rejectionReason, 0, reasonLength);
+    value.write(detachedBuffer, reasonLength);
+
+    detachedRejectionReason.wrap(detachedBuffer, 0, reasonLength);
+    rejectionReason = detachedRejectionReason;
+    value = detachedValue.wrap(detachedBuffer, reasonLength, valueLength);
+    isDetached = true;
   }
 
   public void reset() {
     isResponseStaged = false;
+    isDetached = false;
+    value = null;
   }
 }
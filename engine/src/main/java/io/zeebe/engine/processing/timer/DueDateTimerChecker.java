@@ -7,77 +7,56 @@
  */
 package io.zeebe.engine.processing.timer;
 
-import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
-import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
-import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
-import io.zeebe.engine.state.deployment.WorkflowState;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
+import io.zeebe.engine.processing.deadline.DeadlineSource;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.instance.TimerInstance;
+import io.zeebe.engine.state.instance.TimerInstanceState;
 import io.zeebe.protocol.impl.record.value.timer.TimerRecord;
 import io.zeebe.protocol.record.intent.TimerIntent;
-import io.zeebe.util.sched.ActorControl;
-import io.zeebe.util.sched.ScheduledTimer;
-import io.zeebe.util.sched.clock.ActorClock;
-import java.time.Duration;
 
-public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
-
-  private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
+/** Triggers the timers when their due date is reached, using the {@link DeadlineScheduler}. */
+public final class DueDateTimerChecker implements DeadlineSource {
 
   private final TimerRecord timerRecord = new TimerRecord();
 
-  private final WorkflowState workflowState;
-  private ActorControl actor;
-  private TypedStreamWriter streamWriter;
-
-  private ScheduledTimer scheduledTimer;
-  private long nextDueDate = -1L;
+  private final TimerInstanceState timerState;
+  private final DeadlineScheduler deadlineScheduler;
 
-  public DueDateTimerChecker(final WorkflowState workflowState) {
-    this.workflowState = workflowState;
+  public DueDateTimerChecker(
+      final TimerInstanceState timerState, final DeadlineScheduler deadlineScheduler) {
+    this.timerState = timerState;
+    this.deadlineScheduler = deadlineScheduler;
   }
 
   public void scheduleTimer(final TimerInstance timer) {
-
-    // We schedule only one runnable for all timers.
-    // - The runnable is scheduled when the first timer is scheduled.
-    // - If a new timer is scheduled which should be triggered before the current runnable is
-    // executed then the runnable is canceled and re-scheduled with the new duration.
-    // - Otherwise, we don't need to cancel the runnable. It will be rescheduled when it is
-    // executed.
-
-    final Duration duration =
-        Duration.ofMillis(timer.getDueDate() - ActorClock.currentTimeMillis());
-
-    if (scheduledTimer == null) {
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
-      nextDueDate = timer.getDueDate();
-
-    } else if (nextDueDate - timer.getDueDate() > TIMER_RESOLUTION) {
-      scheduledTimer.cancel();
-
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
-      nextDueDate = timer.getDueDate();
-    }
+    deadlineScheduler.schedule(
+        this, timer.getDueDate(), timer.getKey(), timer.getElementInstanceKey());
   }
 
-  private void triggerTimers() {
-    nextDueDate =
-        workflowState
-            .getTimerState()
-            .findTimersWithDueDateBefore(ActorClock.currentTimeMillis(), this::triggerTimer);
-
-    // reschedule the runnable if there are timers left
+  @Override
+  public String getName() {
+    return "timer";
+  }
 
-    if (nextDueDate > 0) {
-      final Duration duration = Duration.ofMillis(nextDueDate - ActorClock.currentTimeMillis());
-      scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
+  @Override
+  public void visitDeadlines(final DeadlineVisitor visitor) {
+    timerState.visitDueDates(
+        (dueDate, elementInstanceKey, timerKey) ->
+            visitor.visit(dueDate, timerKey, elementInstanceKey));
+  }
 
-    } else {
-      scheduledTimer = null;
+  @Override
+  public boolean appendTrigger(
+      final TypedCommandWriter writer,
+      final long dueDate,
+      final long timerKey,
+      final long elementInstanceKey) {
+    final TimerInstance timer = timerState.get(elementInstanceKey, timerKey);
+    if (timer == null || timer.getDueDate() != dueDate) {
+      return false;
     }
-  }
 
-  private boolean triggerTimer(final TimerInstance timer) {
     timerRecord.reset();
     timerRecord
         .setElementInstanceKey(timer.getElementInstanceKey())
@@ -87,32 +66,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         .setRepetitions(timer.getRepetitions())
         .setWorkflowKey(timer.getWorkflowKey());
 
-    streamWriter.reset();
-    streamWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
-
-    return streamWriter.flush() > 0;
-  }
-
-  @Override
-  public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    actor = processingContext.getActor();
-    streamWriter = processingContext.getLogStreamWriter();
-    // check if timers are due after restart
-    triggerTimers();
-  }
-
-  @Override
-  public void onPaused() {
-    if (scheduledTimer != null) {
-      scheduledTimer.cancel();
-      scheduledTimer = null;
-    }
-  }
-
-  @Override
-  public void onResumed() {
-    if (scheduledTimer == null) {
-      triggerTimers();
-    }
+    writer.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+    return true;
   }
 }
@@ -9,6 +9,7 @@ package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyProfile;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDBMetricExporter;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import java.util.Properties;
@@ -43,6 +44,23 @@ public final class DefaultZeebeDbFactory {
     return defaultFactory(ZbColumnFamilies.class, userProvidedColumnFamilyOptions);
   }
 
+  /**
+   * Returns a zeebe database factory, which tunes the column families by their access pattern and
+   * shares one block cache of the given size between them.
+   *
+   * @param userProvidedColumnFamilyOptions additional column family options
+   * @param blockCacheSize the size of the shared block cache in bytes
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> profiledFactory(
+      final Properties userProvidedColumnFamilyOptions, final long blockCacheSize) {
+    return ZeebeRocksDbFactory.newFactory(
+        ZbColumnFamilies.class,
+        userProvidedColumnFamilyOptions,
+        DefaultZeebeDbFactory::profileOf,
+        blockCacheSize);
+  }
+
   /**
    * Returns the default zeebe database factory which is used in the broker.
    *
@@ -71,4 +89,31 @@ public final class DefaultZeebeDbFactory {
     // one place to replace the zeebe database implementation
     return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass, userProvidedColumnFamilyOptions);
   }
+
+  private static ColumnFamilyProfile profileOf(final ZbColumnFamilies columnFamily) {
+    switch (columnFamily) {
+      case JOB_DEADLINES:
+      case JOB_ACTIVATABLE:
+      case TIMER_DUE_DATES:
+      case MESSAGE_DEADLINES:
+      case MESSAGE_SUBSCRIPTION_BY_SENT_TIME:
+      case WORKFLOW_SUBSCRIPTION_BY_SENT_TIME:
+        return ColumnFamilyProfile.QUEUE;
+      case VARIABLES:
+      case ELEMENT_INSTANCE_KEY:
+      case ELEMENT_INSTANCE_CHILD_PARENT:
+      case JOBS:
+      case JOB_STATES:
+      case EVENT_SCOPE:
+        return ColumnFamilyProfile.POINT_LOOKUP;
+      case WORKFLOW_VERSION:
+      case WORKFLOW_CACHE:
+      case WORKFLOW_CACHE_BY_ID_AND_VERSION:
+      case WORKFLOW_CACHE_LATEST_KEY:
+      case WORKFLOW_CACHE_DIGEST_BY_ID:
+        return ColumnFamilyProfile.READ_MOSTLY;
+      default:
+        return ColumnFamilyProfile.DEFAULT;
+    }
+  }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.DbKey;
+import io.zeebe.db.DbValue;
+import io.zeebe.db.TransactionListener;
+import io.zeebe.engine.metrics.StateCacheMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A cache of the values of a column family, which is scoped to the current transaction. Each value
+ * is read and deserialized at most once per transaction, and the same cached instance is returned
+ * for every lookup of its key. The cache is cleared when the transaction is committed or rolled
+ * back.
+ *
+ * <p>A write of another instance than the cached one copies the value into the cached instance,
+ * reusing its buffer, so the caller keeps ownership of the written instance. A write of the cached
+ * instance itself doesn't copy anything. Changes to a cached instance are seen by all lookups of
+ * the transaction right away, but they must still be written with {@link #put(DbKey, DbValue)}.
+ *
+ * <p>A write-back cache defers the writes of values until the transaction is committed, so a value
+ * which is updated multiple times is written only once. Since the deferred values are not visible
+ * to iterations over the column family, only column families which are read by key should be
+ * cached this way.
+ *
+ * <p>A write-through cache writes the values immediately, so iterations over the column family see
+ * the changes.
+ *
+ * <p>Outside of a transaction, every operation runs in its own transaction and nothing is cached
+ * beyond it.
+ */
+public final class TransactionalCache<KeyType extends DbKey, ValueType extends DbValue>
+    implements TransactionListener {
+
+  private final Map<DirectBuffer, Entry<ValueType>> entries = new HashMap<>();
+  private final List<Entry<ValueType>> dirtyEntries = new ArrayList<>();
+
+  private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+
+  private final DbContext dbContext;
+  private final ColumnFamily<KeyType, ValueType> columnFamily;
+  private final KeyType writeBackKey;
+  private final Supplier<ValueType> valueFactory;
+  private final boolean isWriteBack;
+  private final StateCacheMetrics metrics;
+
+  private ValueType loadedValue;
+
+  // the reads of the current transaction which are served by the cache
+  private int hits;
+
+  private TransactionalCache(
+      final DbContext dbContext,
+      final ColumnFamily<KeyType, ValueType> columnFamily,
+      final KeyType writeBackKey,
+      final Supplier<ValueType> valueFactory,
+      final boolean isWriteBack,
+      final StateCacheMetrics metrics) {
+    this.dbContext = dbContext;
+    this.columnFamily = columnFamily;
+    this.writeBackKey = writeBackKey;
+    this.valueFactory = valueFactory;
+    this.isWriteBack = isWriteBack;
+    this.metrics = metrics;
+
+    dbContext.addTransactionListener(this);
+  }
+
+  /**
+   * @param writeBackKey a key instance which is used to write back the values, it must not be
+   *     shared with the callers of the cache
+   */
+  public static <KeyType extends DbKey, ValueType extends DbValue>
+      TransactionalCache<KeyType, ValueType> writeBack(
+          final DbContext dbContext,
+          final ColumnFamily<KeyType, ValueType> columnFamily,
+          final KeyType writeBackKey,
+          final Supplier<ValueType> valueFactory,
+          final StateCacheMetrics metrics) {
+    return new TransactionalCache<>(
+        dbContext, columnFamily, writeBackKey, valueFactory, true, metrics);
+  }
+
+  public static <KeyType extends DbKey, ValueType extends DbValue>
+      TransactionalCache<KeyType, ValueType> writeThrough(
+          final DbContext dbContext,
+          final ColumnFamily<KeyType, ValueType> columnFamily,
+          final Supplier<ValueType> valueFactory,
+          final StateCacheMetrics metrics) {
+    return new TransactionalCache<>(dbContext, columnFamily, null, valueFactory, false, metrics);
+  }
+
+  /** @return the cached instance of the value, or {@code null} if no value exists for the key */
+  public ValueType get(final KeyType key) {
+    final Entry<ValueType> cachedEntry = getEntry(key);
+    if (cachedEntry != null) {
+      hits += 1;
+      metrics.hit();
+      return cachedEntry.value;
+    }
+
+    metrics.miss();
+
+    dbContext.runInTransaction(
+        () -> {
+          final Entry<ValueType> entry = getOrCreateEntry(key);
+          final ValueType storedValue = columnFamily.get(key);
+          if (storedValue != null) {
+            copy(storedValue, entry);
+          }
+          loadedValue = entry.value;
+        });
+
+    final ValueType value = loadedValue;
+    loadedValue = null;
+    return value;
+  }
+
+  /** @return the cached instance of the written value */
+  public ValueType put(final KeyType key, final ValueType value) {
+    dbContext.runInTransaction(
+        () -> {
+          final Entry<ValueType> entry = getOrCreateEntry(key);
+          if (entry.value != value) {
+            copy(value, entry);
+          }
+
+          if (isWriteBack) {
+            if (!entry.isDirty) {
+              entry.isDirty = true;
+              dirtyEntries.add(entry);
+            }
+            metrics.writeDeferred();
+
+          } else {
+            columnFamily.put(key, value);
+          }
+          loadedValue = entry.value;
+        });
+
+    final ValueType cachedValue = loadedValue;
+    loadedValue = null;
+    return cachedValue;
+  }
+
+  public void delete(final KeyType key) {
+    dbContext.runInTransaction(
+        () -> {
+          columnFamily.delete(key);
+
+          // the deleted instance may still be referenced, so it is not reused for the key
+          final Entry<ValueType> entry = getOrCreateEntry(key);
+          entry.value = null;
+          if (entry.isDirty) {
+            entry.isDirty = false;
+            dirtyEntries.remove(entry);
+          }
+        });
+  }
+
+  @Override
+  public void beforeCommit() {
+    for (final Entry<ValueType> entry : dirtyEntries) {
+      writeBackKey.wrap(entry.key, 0, entry.key.capacity());
+      columnFamily.put(writeBackKey, entry.value);
+      entry.isDirty = false;
+    }
+
+    metrics.written(dirtyEntries.size());
+    dirtyEntries.clear();
+  }
+
+  @Override
+  public void onCommit() {
+    if (hits > 0) {
+      metrics.savedReads(hits);
+    }
+    clear();
+  }
+
+  @Override
+  public void onRollback() {
+    clear();
+  }
+
+  private void clear() {
+    entries.clear();
+    dirtyEntries.clear();
+    hits = 0;
+  }
+
+  private Entry<ValueType> getEntry(final KeyType key) {
+    key.write(keyBuffer, 0);
+    keyView.wrap(keyBuffer, 0, key.getLength());
+    return entries.get(keyView);
+  }
+
+  private Entry<ValueType> getOrCreateEntry(final KeyType key) {
+    Entry<ValueType> entry = getEntry(key);
+    if (entry == null) {
+      final byte[] keyBytes = new byte[key.getLength()];
+      keyBuffer.getBytes(0, keyBytes);
+      entry = new Entry<>(new UnsafeBuffer(keyBytes));
+      entries.put(entry.key, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Copies the value into the cached instance of the entry. The instance may refer to its buffer,
+   * so the buffer is owned by the entry and only reused for the same instance.
+   */
+  private void copy(final ValueType value, final Entry<ValueType> entry) {
+    if (entry.value == null) {
+      entry.value = valueFactory.get();
+      entry.valueBuffer = null;
+    }
+
+    final int length = value.getLength();
+    if (entry.valueBuffer == null) {
+      entry.valueBuffer = new ExpandableArrayBuffer(length);
+    } else {
+      entry.valueBuffer.checkLimit(length);
+    }
+
+    value.write(entry.valueBuffer, 0);
+    entry.value.wrap(entry.valueBuffer, 0, length);
+  }
+
+  private static final class Entry<ValueType> {
+    private final DirectBuffer key;
+    private ValueType value;
+    private ExpandableArrayBuffer valueBuffer;
+    private boolean isDirty;
+
+    private Entry(final DirectBuffer key) {
+      this.key = key;
+    }
+  }
+}
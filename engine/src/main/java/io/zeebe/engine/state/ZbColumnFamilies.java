@@ -7,7 +7,14 @@
  */
 package io.zeebe.engine.state;
 
-public enum ZbColumnFamilies {
+import io.zeebe.db.ColumnFamilyKeyPrefix;
+
+/**
+ * The column families of the state. Column families which are iterated by prefix declare the length
+ * of the first component of their composite keys as key prefix, e.g. {@code Long.BYTES} for a
+ * {@code DbLong}.
+ */
+public enum ZbColumnFamilies implements ColumnFamilyKeyPrefix {
   DEFAULT,
 
   // util
@@ -23,18 +30,18 @@ public enum ZbColumnFamilies {
   WORKFLOW_CACHE_DIGEST_BY_ID,
 
   // element instance
-  ELEMENT_INSTANCE_PARENT_CHILD,
+  ELEMENT_INSTANCE_PARENT_CHILD(Long.BYTES),
   ELEMENT_INSTANCE_KEY,
   STORED_INSTANCE_EVENTS,
-  STORED_INSTANCE_EVENTS_PARENT_CHILD,
+  STORED_INSTANCE_EVENTS_PARENT_CHILD(Long.BYTES),
 
   // variable state
   ELEMENT_INSTANCE_CHILD_PARENT,
-  VARIABLES,
+  VARIABLES(Long.BYTES),
   TEMPORARY_VARIABLE_STORE,
 
   // timer state
-  TIMERS,
+  TIMERS(Long.BYTES),
   TIMER_DUE_DATES,
 
   // pending deployments
@@ -51,7 +58,7 @@ public enum ZbColumnFamilies {
   MESSAGES,
   MESSAGE_DEADLINES,
   MESSAGE_IDS,
-  MESSAGE_CORRELATED,
+  MESSAGE_CORRELATED(Long.BYTES),
   MESSAGE_WORKFLOWS_ACTIVE_BY_CORRELATION_KEY,
   MESSAGE_WORKFLOW_INSTANCE_CORRELATION_KEYS,
 
@@ -62,10 +69,10 @@ public enum ZbColumnFamilies {
 
   // message start event subscription
   MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY,
-  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME,
+  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME(Long.BYTES),
 
   // workflow instance subscription
-  WORKFLOW_SUBSCRIPTION_BY_KEY,
+  WORKFLOW_SUBSCRIPTION_BY_KEY(Long.BYTES),
   WORKFLOW_SUBSCRIPTION_BY_SENT_TIME,
 
   // incident
@@ -75,11 +82,26 @@ public enum ZbColumnFamilies {
 
   // event
   EVENT_SCOPE,
-  EVENT_TRIGGER,
+  EVENT_TRIGGER(Long.BYTES),
 
   BLACKLIST,
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT;
+
+  private final int keyPrefixLength;
+
+  ZbColumnFamilies() {
+    this(NO_KEY_PREFIX);
+  }
+
+  ZbColumnFamilies(final int keyPrefixLength) {
+    this.keyPrefixLength = keyPrefixLength;
+  }
+
+  @Override
+  public int getKeyPrefixLength() {
+    return keyPrefixLength;
+  }
 }
@@ -12,6 +12,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.deployment.DeploymentsState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.IncidentState;
 import io.zeebe.engine.state.instance.JobState;
@@ -55,10 +56,26 @@ public class ZeebeState {
 
   public ZeebeState(
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(
+        partitionId,
+        zeebeDb,
+        dbContext,
+        WorkflowPersistenceCache.DEFAULT_MAX_CACHED_WORKFLOWS,
+        WorkflowPersistenceCache.DEFAULT_MAX_CACHE_SIZE);
+  }
+
+  public ZeebeState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int maxCachedWorkflows,
+      final long maxWorkflowCacheSize) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState =
+        new WorkflowState(
+            zeebeDb, dbContext, keyState, partitionId, maxCachedWorkflows, maxWorkflowCacheSize);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * A size-bounded cache of the transformed workflows. If the max number of workflows or the max
+ * estimated size of the workflows is exceeded, the least recently used workflows are evicted.
+ *
+ * <p>The size of a workflow is estimated by the length of its persisted form, i.e. mainly the BPMN
+ * resource, multiplied by a constant factor for the transformed model.
+ */
+final class DeployedWorkflowCache {
+
+  /** the transformed model and the parsed BPMN resource take more memory than the resource */
+  static final int TRANSFORMED_SIZE_FACTOR = 10;
+
+  // access order, to iterate from the least recently used workflow
+  private final LinkedHashMap<Long, DeployedWorkflow> workflowsByKey =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
+      workflowsByProcessIdAndVersion = new HashMap<>();
+
+  private final int maxWorkflows;
+  private final long maxSize;
+  private final WorkflowCacheMetrics metrics;
+
+  private long size;
+
+  DeployedWorkflowCache(
+      final int maxWorkflows, final long maxSize, final WorkflowCacheMetrics metrics) {
+    this.maxWorkflows = maxWorkflows;
+    this.maxSize = maxSize;
+    this.metrics = metrics;
+  }
+
+  /** @return the cached workflow with the given key, or {@code null} if it is not cached */
+  DeployedWorkflow getByKey(final long key) {
+    return recordLookup(workflowsByKey.get(key));
+  }
+
+  /** @return the cached workflow with the given id and version, or {@code null} if not cached */
+  DeployedWorkflow getByProcessIdAndVersion(final DirectBuffer processId, final int version) {
+    final Long2ObjectHashMap<DeployedWorkflow> versions =
+        workflowsByProcessIdAndVersion.get(processId);
+    final DeployedWorkflow workflow = versions != null ? versions.get(version) : null;
+
+    if (workflow != null) {
+      // mark the workflow as recently used
+      workflowsByKey.get(workflow.getKey());
+    }
+    return recordLookup(workflow);
+  }
+
+  void put(final DeployedWorkflow workflow) {
+    final DeployedWorkflow replacedWorkflow = workflowsByKey.put(workflow.getKey(), workflow);
+    if (replacedWorkflow != null) {
+      size -= estimateSize(replacedWorkflow);
+    }
+    size += estimateSize(workflow);
+
+    workflowsByProcessIdAndVersion
+        .computeIfAbsent(workflow.getBpmnProcessId(), id -> new Long2ObjectHashMap<>())
+        .put(workflow.getVersion(), workflow);
+
+    evictLeastRecentlyUsed(workflow);
+    metrics.setCacheSize(workflowsByKey.size(), size);
+  }
+
+  int size() {
+    return workflowsByKey.size();
+  }
+
+  private DeployedWorkflow recordLookup(final DeployedWorkflow workflow) {
+    if (workflow != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+    return workflow;
+  }
+
+  private void evictLeastRecentlyUsed(final DeployedWorkflow addedWorkflow) {
+    final Iterator<DeployedWorkflow> iterator = workflowsByKey.values().iterator();
+
+    while ((workflowsByKey.size() > maxWorkflows || size > maxSize) && iterator.hasNext()) {
+      final DeployedWorkflow workflow = iterator.next();
+      if (workflow == addedWorkflow) {
+        // keep the added workflow, even if it exceeds the max size on its own
+        break;
+      }
+
+      iterator.remove();
+      size -= estimateSize(workflow);
+      removeVersion(workflow);
+      metrics.evicted();
+    }
+  }
+
+  private void removeVersion(final DeployedWorkflow workflow) {
+    final DirectBuffer processId = workflow.getBpmnProcessId();
+    final Long2ObjectHashMap<DeployedWorkflow> versions =
+        workflowsByProcessIdAndVersion.get(processId);
+
+    if (versions != null) {
+      versions.remove(workflow.getVersion());
+      if (versions.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(processId);
+      }
+    }
+  }
+
+  private static long estimateSize(final DeployedWorkflow workflow) {
+    return (long) workflow.getResource().capacity() * TRANSFORMED_SIZE_FACTOR;
+  }
+}
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
@@ -23,26 +24,30 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Stores the deployed workflows and caches the transformed workflows in memory. The cache is
+ * bounded by the number of workflows and by their estimated size; workflows which are not cached
+ * are loaded and transformed lazily on access.
+ */
 public final class WorkflowPersistenceCache {
 
+  public static final int DEFAULT_MAX_CACHED_WORKFLOWS = 1_000;
+  public static final long DEFAULT_MAX_CACHE_SIZE = 256 * 1024 * 1024;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
-      workflowsByProcessIdAndVersion = new HashMap<>();
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  private final DeployedWorkflowCache workflowCache;
+  private final WorkflowCacheMetrics metrics;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -61,7 +66,11 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final int maxCachedWorkflows,
+      final long maxCacheSize) {
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,7 +96,8 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
+    metrics = new WorkflowCacheMetrics(partitionId);
+    workflowCache = new DeployedWorkflowCache(maxCachedWorkflows, maxCacheSize, metrics);
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -133,6 +143,7 @@ public final class WorkflowPersistenceCache {
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    final long startTime = System.nanoTime();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
@@ -155,7 +166,8 @@ public final class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow =
         new DeployedWorkflow(executableWorkflow, copiedWorkflow);
 
-    addWorkflowToInMemoryState(deployedWorkflow);
+    workflowCache.put(deployedWorkflow);
+    metrics.transformed(System.nanoTime() - startTime);
 
     return deployedWorkflow;
   }
@@ -166,69 +178,22 @@ public final class WorkflowPersistenceCache {
     }
   }
 
-  private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
-    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
-
-    Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (versionMap == null) {
-      versionMap = new Long2ObjectHashMap<>();
-      workflowsByProcessIdAndVersion.put(bpmnProcessId, versionMap);
-    }
-
-    final int version = deployedWorkflow.getVersion();
-    versionMap.put(version, deployedWorkflow);
-  }
-
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
     workflowId.wrapBuffer(processId);
     final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-      }
-    }
-    return deployedWorkflow;
-  }
-
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(
-      final LatestWorkflowVersion version) {
-    final long latestVersion = version != null ? version.get() : -1;
-    workflowVersion.wrapLong(latestVersion);
-
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
-
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
-      return deployedWorkflow;
+    if (latestVersion == null) {
+      return null;
     }
-    return null;
+    return getWorkflowByProcessIdAndVersion(processId, (int) latestVersion.get());
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedWorkflow deployedWorkflow =
+        workflowCache.getByProcessIdAndVersion(processId, version);
+
+    return deployedWorkflow != null ? deployedWorkflow : lookupPersistenceState(processId, version);
   }
 
   private DeployedWorkflow lookupPersistenceState(final DirectBuffer processId, final int version) {
@@ -239,21 +204,14 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = workflowCache.getByKey(key);
 
     if (deployedWorkflow != null) {
       return deployedWorkflow;
@@ -267,35 +225,40 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  /**
+   * Returns all deployed workflows. Since the cache is bounded, the workflows which are not cached
+   * are loaded and transformed, which is expensive if many workflows are deployed.
+   */
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(
+        (key, workflow) -> workflows.add(getOrTransformWorkflow(key.getValue(), workflow)));
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getOrTransformWorkflow(workflow.getKey(), workflow));
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getOrTransformWorkflow(
+      final long key, final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = workflowCache.getByKey(key);
+    return deployedWorkflow != null ? deployedWorkflow : updateInMemoryState(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
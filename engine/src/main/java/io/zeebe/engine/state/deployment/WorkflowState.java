@@ -33,11 +33,30 @@ public final class WorkflowState {
   public WorkflowState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
+    this(
+        zeebeDb,
+        dbContext,
+        keyGenerator,
+        partitionId,
+        WorkflowPersistenceCache.DEFAULT_MAX_CACHED_WORKFLOWS,
+        WorkflowPersistenceCache.DEFAULT_MAX_CACHE_SIZE);
+  }
+
+  public WorkflowState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final KeyGenerator keyGenerator,
+      final int partitionId,
+      final int maxCachedWorkflows,
+      final long maxWorkflowCacheSize) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
-    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
+    workflowPersistenceCache =
+        new WorkflowPersistenceCache(
+            zeebeDb, dbContext, partitionId, maxCachedWorkflows, maxWorkflowCacheSize);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
-    elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
+    elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator, partitionId);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
   }
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import java.util.Arrays;
+
+/**
+ * The keys of the activatable jobs of one job type, in ascending order. The jobs are usually
+ * created with increasing keys and activated from the head, so both ends are changed without moving
+ * the other keys.
+ */
+final class ActivatableJobKeys {
+
+  private static final int INITIAL_CAPACITY = 16;
+  // the capacity which is kept when all jobs of the type are activated
+  private static final int MAX_RETAINED_CAPACITY = 1024;
+
+  private final String type;
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  ActivatableJobKeys(final String type) {
+    this.type = type;
+  }
+
+  String getType() {
+    return type;
+  }
+
+  int size() {
+    return tail - head;
+  }
+
+  boolean isEmpty() {
+    return head == tail;
+  }
+
+  /** @return the key at the given position, where the position zero is the lowest key */
+  long get(final int index) {
+    return keys[head + index];
+  }
+
+  /** @return {@code true} if the key was added, {@code false} if it is already contained */
+  boolean add(final long key) {
+    if (isEmpty() || key > keys[tail - 1]) {
+      ensureCapacityAtTail();
+      keys[tail++] = key;
+      return true;
+    }
+
+    final int index = Arrays.binarySearch(keys, head, tail, key);
+    if (index >= 0) {
+      return false;
+    }
+
+    if (-index - 1 == head && head > 0) {
+      keys[--head] = key;
+      return true;
+    }
+
+    ensureCapacityAtTail();
+    // the keys may be moved to make room
+    final int insertionPoint = -Arrays.binarySearch(keys, head, tail, key) - 1;
+    System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+    keys[insertionPoint] = key;
+    tail++;
+    return true;
+  }
+
+  /** @return {@code true} if the key was removed, {@code false} if it is not contained */
+  boolean remove(final long key) {
+    if (isEmpty()) {
+      return false;
+    }
+
+    if (key == keys[head]) {
+      head++;
+    } else {
+      final int index = Arrays.binarySearch(keys, head, tail, key);
+      if (index < 0) {
+        return false;
+      }
+      System.arraycopy(keys, index + 1, keys, index, tail - index - 1);
+      tail--;
+    }
+
+    if (isEmpty()) {
+      head = 0;
+      tail = 0;
+      if (keys.length > MAX_RETAINED_CAPACITY) {
+        keys = new long[INITIAL_CAPACITY];
+      }
+    }
+    return true;
+  }
+
+  private void ensureCapacityAtTail() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    if (head > keys.length / 2) {
+      System.arraycopy(keys, head, keys, 0, tail - head);
+    } else {
+      final long[] newKeys = new long[keys.length * 2];
+      System.arraycopy(keys, head, newKeys, 0, tail - head);
+      keys = newKeys;
+    }
+    tail -= head;
+    head = 0;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.db.TransactionListener;
+import io.zeebe.engine.metrics.JobMetrics;
+import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An in-memory index of the activatable jobs, which mirrors the JOB_ACTIVATABLE column family. It
+ * holds the keys of the activatable jobs per job type, so that the jobs of a type can be activated
+ * without iterating over the column family, and a type without activatable jobs is detected without
+ * reading the state.
+ *
+ * <p>The index is changed within the transaction of the state. The changes are recorded until the
+ * transaction ends, and they are reverted if the transaction is rolled back. It must be loaded from
+ * the state when the state is recovered. A type is removed from the index, and from the metrics, when
+ * a committed transaction leaves it without activatable jobs.
+ */
+final class ActivatableJobsIndex implements TransactionListener {
+
+  private static final int ADDED = 0;
+  private static final int REMOVED = 1;
+
+  private final Map<DirectBuffer, ActivatableJobKeys> jobKeysByType = new HashMap<>();
+  private final UnsafeBuffer typeView = new UnsafeBuffer(0, 0);
+  private final JobMetrics metrics;
+
+  // the changes of the current transaction
+  private final List<ActivatableJobKeys> changedJobKeys = new ArrayList<>();
+  private final LongArrayList changedKeys = new LongArrayList();
+  private final IntArrayList changes = new IntArrayList();
+
+  ActivatableJobsIndex(final JobMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /** Adds a job which is already activatable in the committed state, e.g. on recovery. */
+  void load(final DirectBuffer type, final long key) {
+    getOrCreateJobKeys(type).add(key);
+  }
+
+  /** Publishes the number of activatable jobs per type after the index is loaded. */
+  void onLoaded() {
+    jobKeysByType.values().forEach(this::updateMetrics);
+  }
+
+  void add(final DirectBuffer type, final long key) {
+    final ActivatableJobKeys jobKeys = getOrCreateJobKeys(type);
+    if (jobKeys.add(key)) {
+      recordChange(jobKeys, key, ADDED);
+    }
+  }
+
+  void remove(final DirectBuffer type, final long key) {
+    final ActivatableJobKeys jobKeys = getJobKeys(type);
+    if (jobKeys != null && jobKeys.remove(key)) {
+      recordChange(jobKeys, key, REMOVED);
+    }
+  }
+
+  /**
+   * @return the keys of the activatable jobs of the given type, or {@code null} if there are none
+   */
+  ActivatableJobKeys getJobKeys(final DirectBuffer type) {
+    typeView.wrap(type, 0, type.capacity());
+    return jobKeysByType.get(typeView);
+  }
+
+  @Override
+  public void onCommit() {
+    ActivatableJobKeys previousJobKeys = null;
+    for (final ActivatableJobKeys jobKeys : changedJobKeys) {
+      // the changes of a transaction usually belong to a few types
+      if (jobKeys != previousJobKeys) {
+        if (jobKeys.isEmpty()) {
+          removeJobKeys(jobKeys);
+        } else {
+          updateMetrics(jobKeys);
+        }
+        previousJobKeys = jobKeys;
+      }
+    }
+    clearChanges();
+  }
+
+  @Override
+  public void onRollback() {
+    for (int i = changedJobKeys.size() - 1; i >= 0; i--) {
+      final ActivatableJobKeys jobKeys = changedJobKeys.get(i);
+      final long key = changedKeys.getLong(i);
+
+      if (changes.getInt(i) == ADDED) {
+        jobKeys.remove(key);
+      } else {
+        jobKeys.add(key);
+      }
+    }
+    clearChanges();
+  }
+
+  private ActivatableJobKeys getOrCreateJobKeys(final DirectBuffer type) {
+    ActivatableJobKeys jobKeys = getJobKeys(type);
+    if (jobKeys == null) {
+      final UnsafeBuffer typeCopy = new UnsafeBuffer(BufferUtil.bufferAsArray(type));
+      jobKeys = new ActivatableJobKeys(BufferUtil.bufferAsString(typeCopy));
+      jobKeysByType.put(typeCopy, jobKeys);
+    }
+    return jobKeys;
+  }
+
+  private void removeJobKeys(final ActivatableJobKeys jobKeys) {
+    final DirectBuffer type = BufferUtil.wrapString(jobKeys.getType());
+    if (jobKeysByType.remove(type, jobKeys)) {
+      metrics.removeActivatableJobs(jobKeys.getType());
+    }
+  }
+
+  private void recordChange(final ActivatableJobKeys jobKeys, final long key, final int change) {
+    changedJobKeys.add(jobKeys);
+    changedKeys.addLong(key);
+    changes.addInt(change);
+  }
+
+  private void clearChanges() {
+    changedJobKeys.clear();
+    changedKeys.clear();
+    changes.clear();
+  }
+
+  private void updateMetrics(final ActivatableJobKeys jobKeys) {
+    metrics.activatableJobs(jobKeys.getType(), jobKeys.size());
+  }
+}
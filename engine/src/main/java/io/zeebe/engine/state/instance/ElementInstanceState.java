@@ -14,7 +14,9 @@ import io.zeebe.db.impl.DbByte;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
+import io.zeebe.engine.metrics.StateCacheMetrics;
 import io.zeebe.engine.state.KeyGenerator;
+import io.zeebe.engine.state.TransactionalCache;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.instance.StoredRecord.Purpose;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
@@ -32,6 +34,7 @@ public final class ElementInstanceState {
   private final DbLong elementInstanceKey;
   private final ElementInstance elementInstance;
   private final ColumnFamily<DbLong, ElementInstance> elementInstanceColumnFamily;
+  private final TransactionalCache<DbLong, ElementInstance> elementInstanceCache;
 
   private final DbLong recordKey;
   private final StoredRecord storedRecord;
@@ -53,7 +56,8 @@ public final class ElementInstanceState {
   public ElementInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
 
     elementInstanceKey = new DbLong();
     parentKey = new DbLong();
@@ -69,6 +73,13 @@ public final class ElementInstanceState {
     elementInstanceColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.ELEMENT_INSTANCE_KEY, dbContext, elementInstanceKey, elementInstance);
+    elementInstanceCache =
+        TransactionalCache.writeBack(
+            dbContext,
+            elementInstanceColumnFamily,
+            new DbLong(),
+            ElementInstance::new,
+            new StateCacheMetrics("element_instance", partitionId));
 
     recordKey = new DbLong();
     storedRecord = new StoredRecord();
@@ -87,7 +98,7 @@ public final class ElementInstanceState {
             recordParentStateRecordKey,
             DbNil.INSTANCE);
 
-    variablesState = new VariablesState(zeebeDb, dbContext, keyGenerator);
+    variablesState = new VariablesState(zeebeDb, dbContext, keyGenerator, partitionId);
     awaitResultMetadata = new AwaitWorkflowInstanceResultMetadata();
     awaitWorkflowInstanceResultMetadataColumnFamily =
         zeebeDb.createColumnFamily(
@@ -115,24 +126,23 @@ public final class ElementInstanceState {
       instance = new ElementInstance(key, parent, state, value);
       updateInstance(parent);
     }
-    updateInstance(instance);
-
-    return instance;
-  }
 
-  private void writeElementInstance(final ElementInstance instance) {
     elementInstanceKey.wrapLong(instance.getKey());
     parentKey.wrapLong(instance.getParentKey());
 
-    elementInstanceColumnFamily.put(elementInstanceKey, instance);
     parentChildColumnFamily.put(parentChildKey, DbNil.INSTANCE);
     variablesState.createScope(elementInstanceKey.getValue(), parentKey.getValue());
+    return elementInstanceCache.put(elementInstanceKey, instance);
   }
 
+  /**
+   * Returns the element instance with the given key. Within a transaction, every call returns the
+   * same instance, so changes to it are seen right away; they must still be written with {@link
+   * #updateInstance(ElementInstance)}.
+   */
   public ElementInstance getInstance(final long key) {
     elementInstanceKey.wrapLong(key);
-    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
-    return copyElementInstance(elementInstance);
+    return elementInstanceCache.get(elementInstanceKey);
   }
 
   public void removeInstance(final long key) {
@@ -143,7 +153,7 @@ public final class ElementInstanceState {
       parentKey.wrapLong(instance.getParentKey());
 
       parentChildColumnFamily.delete(parentChildKey);
-      elementInstanceColumnFamily.delete(elementInstanceKey);
+      elementInstanceCache.delete(elementInstanceKey);
 
       recordParentChildColumnFamily.whileEqualPrefix(
           elementInstanceKey,
@@ -175,8 +185,13 @@ public final class ElementInstanceState {
     return recordColumnFamily.get(this.recordKey);
   }
 
+  /**
+   * Writes the given instance. The write to the state is deferred until the transaction is
+   * committed, but the written value is returned by {@link #getInstance(long)} right away.
+   */
   public void updateInstance(final ElementInstance scopeInstance) {
-    writeElementInstance(scopeInstance);
+    elementInstanceKey.wrapLong(scopeInstance.getKey());
+    elementInstanceCache.put(elementInstanceKey, scopeInstance);
   }
 
   public List<ElementInstance> getChildren(final long parentKey) {
@@ -189,10 +204,7 @@ public final class ElementInstanceState {
           this.parentKey,
           (key, value) -> {
             final DbLong childKey = key.getSecond();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
+            children.add(getInstance(childKey.getValue()));
           });
     }
     return children;
@@ -300,19 +312,6 @@ public final class ElementInstanceState {
     return variablesState;
   }
 
-  private ElementInstance copyElementInstance(final ElementInstance elementInstance) {
-    if (elementInstance != null) {
-      final byte[] bytes = new byte[elementInstance.getLength()];
-      final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
-
-      elementInstance.write(buffer, 0);
-      final ElementInstance copiedElementInstance = new ElementInstance();
-      copiedElementInstance.wrap(buffer, 0, elementInstance.getLength());
-      return copiedElementInstance;
-    }
-    return null;
-  }
-
   public void setAwaitResultRequestMetadata(
       final long workflowInstanceKey, final AwaitWorkflowInstanceResultMetadata metadata) {
     elementInstanceKey.wrapLong(workflowInstanceKey);
@@ -52,6 +52,8 @@ public final class JobState {
   private final DbCompositeKey<DbLong, DbLong> deadlineJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> deadlinesColumnFamily;
 
+  private final ActivatableJobsIndex activatableJobs;
+
   private final JobMetrics metrics;
 
   private Consumer<String> onJobsAvailableCallback;
@@ -78,6 +80,18 @@ public final class JobState {
             ZbColumnFamilies.JOB_DEADLINES, dbContext, deadlineJobKey, DbNil.INSTANCE);
 
     metrics = new JobMetrics(partitionId);
+
+    activatableJobs = new ActivatableJobsIndex(metrics);
+    loadActivatableJobs();
+    dbContext.addTransactionListener(activatableJobs);
+  }
+
+  private void loadActivatableJobs() {
+    activatableColumnFamily.forEach(
+        (compositeKey, nil) ->
+            activatableJobs.load(
+                compositeKey.getFirst().getBuffer(), compositeKey.getSecond().getValue()));
+    activatableJobs.onLoaded();
   }
 
   public void create(final long key, final JobRecord record) {
@@ -109,7 +123,7 @@ public final class JobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.put(deadlineJobKey, DbNil.INSTANCE);
@@ -142,12 +156,12 @@ public final class JobState {
 
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer());
+    makeJobNotActivatable(record.getTypeBuffer(), key);
   }
 
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key);
 
     metrics.jobErrorThrown(updatedValue.getType());
   }
@@ -161,7 +175,7 @@ public final class JobState {
 
     statesJobColumnFamily.delete(jobKey);
 
-    makeJobNotActivatable(type);
+    makeJobNotActivatable(type, key);
 
     removeJobDeadline(deadline);
   }
@@ -215,6 +229,16 @@ public final class JobState {
         });
   }
 
+  /**
+   * Visits the deadlines of all activated jobs in ascending order, without reading the jobs. The
+   * iteration stops if the visitor returns {@code false}.
+   */
+  public void visitDeadlines(final DeadlineVisitor visitor) {
+    deadlinesColumnFamily.whileTrue(
+        (compositeKey, zbNil) ->
+            visitor.visit(compositeKey.getFirst().getValue(), compositeKey.getSecond().getValue()));
+  }
+
   public boolean exists(final long jobKey) {
     this.jobKey.wrapLong(jobKey);
     return jobsColumnFamily.exists(this.jobKey);
@@ -236,16 +260,31 @@ public final class JobState {
     return getState(key) == state;
   }
 
+  /**
+   * Visits the activatable jobs of the given type in the order of their keys. The iteration stops
+   * if the callback returns {@code false}. The callback may make the visited job not activatable.
+   */
   public void forEachActivatableJobs(
       final DirectBuffer type, final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    final ActivatableJobKeys jobKeys = activatableJobs.getJobKeys(type);
+    if (jobKeys == null) {
+      return;
+    }
 
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((compositeKey, zbNil) -> {
-          final long jobKey = compositeKey.getSecond().getValue();
-          return visitJob(jobKey, callback, () -> activatableColumnFamily.delete(compositeKey));
-        }));
+    int index = 0;
+    while (index < jobKeys.size()) {
+      final long key = jobKeys.get(index);
+      final boolean shouldContinue =
+          visitJob(key, callback, () -> makeJobNotActivatable(type, key));
+      if (!shouldContinue) {
+        return;
+      }
+
+      final boolean isRemoved = index >= jobKeys.size() || jobKeys.get(index) != key;
+      if (!isRemoved) {
+        index++;
+      }
+    }
   }
 
   boolean visitJob(
@@ -302,6 +341,9 @@ public final class JobState {
   private void makeJobActivatable(final DirectBuffer type, final long key) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
+    // the index is changed first, so a change in an implicit transaction is committed with it
+    activatableJobs.add(type, key);
+
     jobTypeKey.wrapBuffer(type);
 
     jobKey.wrapLong(key);
@@ -311,10 +353,13 @@ public final class JobState {
     notifyJobAvailable(type);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type) {
+  private void makeJobNotActivatable(final DirectBuffer type, final long key) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
 
+    activatableJobs.remove(type, key);
+
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     activatableColumnFamily.delete(typeJobKey);
   }
 
@@ -336,4 +381,9 @@ public final class JobState {
       this.value = value;
     }
   }
+
+  @FunctionalInterface
+  public interface DeadlineVisitor {
+    boolean visit(long deadline, long jobKey);
+  }
 }
@@ -81,6 +81,21 @@ public final class TimerInstanceState {
     return nextDueDate;
   }
 
+  /**
+   * Visits the due dates of all timers in ascending order, without reading the timer instances. The
+   * iteration stops if the visitor returns {@code false}.
+   */
+  public void visitDueDates(final DueDateVisitor visitor) {
+    dueDateColumnFamily.whileTrue(
+        (key, nil) -> {
+          final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+          return visitor.visit(
+              key.getFirst().getValue(),
+              elementAndTimerKey.getFirst().getValue(),
+              elementAndTimerKey.getSecond().getValue());
+        });
+  }
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -116,4 +131,9 @@ public final class TimerInstanceState {
   public interface TimerVisitor {
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  public interface DueDateVisitor {
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
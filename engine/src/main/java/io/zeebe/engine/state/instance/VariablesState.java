@@ -13,7 +13,9 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.StateCacheMetrics;
 import io.zeebe.engine.state.KeyGenerator;
+import io.zeebe.engine.state.TransactionalCache;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackToken;
@@ -52,6 +54,8 @@ public class VariablesState {
   private final DbCompositeKey<DbLong, DbString> scopeKeyVariableNameKey;
   private final DbLong scopeKey;
   private final DbString variableName;
+  private final TransactionalCache<DbCompositeKey<DbLong, DbString>, VariableInstance>
+      variablesCache;
 
   // (scope key) => (temporaryVariables)
   private final ColumnFamily<DbLong, TemporaryVariables> temporaryVariableStoreColumnFamily;
@@ -74,7 +78,8 @@ public class VariablesState {
   public VariablesState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
     this.keyGenerator = keyGenerator;
 
     childKey = new DbLong();
@@ -88,6 +93,13 @@ public class VariablesState {
     variablesColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.VARIABLES, dbContext, scopeKeyVariableNameKey, new VariableInstance());
+    // the variables of a scope are iterated, so the writes can't be deferred
+    variablesCache =
+        TransactionalCache.writeThrough(
+            dbContext,
+            variablesColumnFamily,
+            VariableInstance::new,
+            new StateCacheMetrics("variable", partitionId));
 
     temporaryVariableStoreColumnFamily =
         zeebeDb.createColumnFamily(
@@ -158,7 +170,7 @@ public class VariablesState {
 
     if (currentVariable == null) {
       newVariable.setKey(keyGenerator.nextKey());
-      variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      variablesCache.put(scopeKeyVariableNameKey, newVariable);
 
       if (listener != null) {
         final long rootScopeKey = getRootScopeKey(scopeKey);
@@ -173,7 +185,7 @@ public class VariablesState {
 
     } else if (!BufferUtil.equals(currentVariable.getValue(), newVariable.getValue())) {
       newVariable.setKey(currentVariable.getKey());
-      variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      variablesCache.put(scopeKeyVariableNameKey, newVariable);
 
       if (listener != null) {
         final long rootScopeKey = getRootScopeKey(scopeKey);
@@ -197,7 +209,7 @@ public class VariablesState {
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.exists(scopeKeyVariableNameKey);
+    return variablesCache.get(scopeKeyVariableNameKey) != null;
   }
 
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
@@ -216,7 +228,7 @@ public class VariablesState {
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+    return variablesCache.get(scopeKeyVariableNameKey);
   }
 
   /**
@@ -476,7 +488,7 @@ public class VariablesState {
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
+        (dbString, variable1) -> variablesCache.delete(scopeKeyVariableNameKey),
         () -> false);
   }
 
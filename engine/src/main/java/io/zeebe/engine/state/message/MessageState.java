@@ -280,6 +280,16 @@ public final class MessageState {
         }));
   }
 
+  /**
+   * Visits the deadlines of all messages in ascending order, without reading the messages. The
+   * iteration stops if the visitor returns {@code false}.
+   */
+  public void visitDeadlines(final DeadlineVisitor visitor) {
+    deadlineColumnFamily.whileTrue(
+        (compositeKey, zbNil) ->
+            visitor.visit(compositeKey.getFirst().getValue(), compositeKey.getSecond().getValue()));
+  }
+
   public boolean exist(
       final DirectBuffer name, final DirectBuffer correlationKey, final DirectBuffer messageId) {
     messageName.wrapBuffer(name);
@@ -323,4 +333,9 @@ public final class MessageState {
   public interface MessageVisitor {
     boolean visit(Message message);
   }
+
+  @FunctionalInterface
+  public interface DeadlineVisitor {
+    boolean visit(long deadline, long messageKey);
+  }
 }
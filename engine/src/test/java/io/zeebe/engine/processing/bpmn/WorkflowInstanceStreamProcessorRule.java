@@ -20,11 +20,11 @@ import io.zeebe.el.ExpressionLanguageFactory;
 import io.zeebe.engine.processing.WorkflowEventProcessors;
 import io.zeebe.engine.processing.common.CatchEventBehavior;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.job.JobEventProcessors;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.CopiedRecords;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
-import io.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.util.Records;
 import io.zeebe.engine.util.StreamProcessorRule;
@@ -113,6 +113,10 @@ public final class WorkflowInstanceStreamProcessorRule extends ExternalResource
                   ExpressionLanguageFactory.createExpressionLanguage(),
                   variablesState::getVariable);
 
+          final var deadlineScheduler =
+              new DeadlineScheduler(processingContext.getLogStream().getPartitionId());
+          typedRecordProcessors.withListener(deadlineScheduler);
+
           WorkflowEventProcessors.addWorkflowProcessors(
               zeebeState,
               expressionProcessor,
@@ -120,10 +124,10 @@ public final class WorkflowInstanceStreamProcessorRule extends ExternalResource
               mockSubscriptionCommandSender,
               new CatchEventBehavior(
                   zeebeState, expressionProcessor, mockSubscriptionCommandSender, 1),
-              new DueDateTimerChecker(workflowState));
+              deadlineScheduler);
 
           JobEventProcessors.addJobProcessors(
-              typedRecordProcessors, zeebeState, type -> {}, Integer.MAX_VALUE);
+              typedRecordProcessors, zeebeState, type -> {}, Integer.MAX_VALUE, deadlineScheduler);
           typedRecordProcessors.withListener(this);
           return typedRecordProcessors;
         });
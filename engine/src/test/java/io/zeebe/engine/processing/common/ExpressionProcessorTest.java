@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.common;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.ExpressionLanguageFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ExpressionProcessorTest {
+
+  private static final long SCOPE_KEY = 1;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+
+  private final Map<String, DirectBuffer> variables =
+      Map.of("x", asMsgPack("5"), "y", asMsgPack("\"ok\""));
+  private final List<String> lookedUpVariables = new ArrayList<>();
+
+  // like the variable state, the lookup returns a view on a reused buffer
+  private final ExpandableArrayBuffer lookupBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer lookupView = new UnsafeBuffer();
+
+  private final ExpressionProcessor expressionProcessor =
+      new ExpressionProcessor(expressionLanguage, this::lookupVariable);
+
+  @Test
+  public void shouldLookupVariableOnlyOncePerEvaluation() {
+    // given
+    final var expression =
+        expressionLanguage.parseExpression("=x > 1 and x < 10 and y = \"ok\" and x != 3");
+
+    // when
+    final var result = expressionProcessor.evaluateBooleanExpression(expression, SCOPE_KEY);
+
+    // then
+    assertThat(result.get()).isTrue();
+    assertThat(lookedUpVariables).containsExactly("x", "y");
+  }
+
+  @Test
+  public void shouldLookupVariablesAgainOnNextEvaluation() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x > 1");
+
+    // when
+    expressionProcessor.evaluateBooleanExpression(expression, SCOPE_KEY);
+    expressionProcessor.evaluateBooleanExpression(expression, SCOPE_KEY);
+
+    // then
+    assertThat(lookedUpVariables).containsExactly("x", "x");
+  }
+
+  private DirectBuffer lookupVariable(final long scopeKey, final DirectBuffer name) {
+    final var variableName = bufferAsString(name);
+    lookedUpVariables.add(variableName);
+
+    final var value = variables.get(variableName);
+    if (value == null) {
+      return null;
+    }
+
+    lookupBuffer.putBytes(0, value, 0, value.capacity());
+    lookupView.wrap(lookupBuffer, 0, value.capacity());
+    return lookupView;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class DeadlineSchedulerTest {
+
+  private static final int WINDOW_CAPACITY = 2;
+
+  private final ActorControl actor = mock(ActorControl.class);
+  private final TypedStreamWriter writer = mock(TypedStreamWriter.class);
+  private final TestSource source = new TestSource();
+  private final DeadlineScheduler scheduler = new DeadlineScheduler(1, WINDOW_CAPACITY);
+
+  private long now;
+
+  @Before
+  public void setUp() {
+    scheduler.addSource(source);
+    now = System.currentTimeMillis();
+  }
+
+  @Test
+  public void shouldTriggerDueDeadlinesOnRecovery() {
+    // given
+    source.addDeadline(now - 1_000, 1);
+    source.addDeadline(now + Duration.ofHours(1).toMillis(), 2);
+
+    // when
+    recover();
+
+    // then
+    assertThat(source.triggeredKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldLoadDeadlinesWithSameDueDateBeyondCapacity() {
+    // given
+    source.addDeadline(now - 3_000, 1);
+    source.addDeadline(now - 2_000, 2);
+    source.addDeadline(now - 2_000, 3);
+    source.addDeadline(now - 1_000, 4);
+
+    // when
+    recover();
+
+    // then
+    assertThat(source.triggeredKeys).containsExactly(1L, 2L, 3L);
+    assertThat(source.visits).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRefillWindowFromState() {
+    // given
+    source.addDeadline(now - 3_000, 1);
+    source.addDeadline(now - 2_000, 2);
+    source.addDeadline(now - 1_000, 3);
+    recover();
+
+    // when
+    awaitWakeUp().run();
+
+    // then
+    assertThat(source.triggeredKeys).containsExactly(1L, 2L, 3L);
+    assertThat(source.visits).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldTriggerScheduledDeadline() {
+    // given
+    recover();
+
+    // when
+    scheduler.schedule(source, now - 1, 1, -1);
+    scheduler.schedule(source, now + Duration.ofHours(1).toMillis(), 2, -1);
+    awaitWakeUp().run();
+
+    // then
+    assertThat(source.triggeredKeys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldReplaceScheduledDeadlineWithSameKey() {
+    // given
+    recover();
+    scheduler.schedule(source, now - 1, 1, -1);
+
+    // when
+    scheduler.schedule(source, now + Duration.ofHours(1).toMillis(), 1, -1);
+    awaitWakeUp().run();
+
+    // then
+    assertThat(source.triggeredKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldRetryIfWriteFails() {
+    // given
+    source.addDeadline(now - 1_000, 1);
+    when(writer.flush()).thenReturn(-1L, 1L);
+
+    // when
+    recover();
+
+    // then
+    assertThat(source.triggeredKeys).containsExactly(1L);
+    verify(actor).runDelayed(any(), any(Runnable.class));
+
+    awaitWakeUp().run();
+    assertThat(source.triggeredKeys).containsExactly(1L, 1L);
+  }
+
+  private void recover() {
+    scheduler.onRecovered(new ProcessingContext().actor(actor).logStreamWriter(writer));
+  }
+
+  private Runnable awaitWakeUp() {
+    final ArgumentCaptor<Runnable> wakeUpCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(actor, atLeastOnce()).runDelayed(any(), wakeUpCaptor.capture());
+    return wakeUpCaptor.getValue();
+  }
+
+  private static final class TestSource implements DeadlineSource {
+
+    private final List<long[]> deadlines = new ArrayList<>();
+    private final List<Long> triggeredKeys = new ArrayList<>();
+    private int visits;
+
+    private void addDeadline(final long dueDate, final long key) {
+      deadlines.add(new long[] {dueDate, key});
+      deadlines.sort(Comparator.comparingLong(deadline -> deadline[0]));
+    }
+
+    @Override
+    public String getName() {
+      return "test";
+    }
+
+    @Override
+    public void visitDeadlines(final DeadlineVisitor visitor) {
+      visits += 1;
+      for (final long[] deadline : deadlines) {
+        if (!visitor.visit(deadline[0], deadline[1], -1)) {
+          return;
+        }
+      }
+    }
+
+    @Override
+    public boolean appendTrigger(
+        final TypedCommandWriter writer,
+        final long dueDate,
+        final long key,
+        final long secondaryKey) {
+      triggeredKeys.add(key);
+      return true;
+    }
+  }
+}
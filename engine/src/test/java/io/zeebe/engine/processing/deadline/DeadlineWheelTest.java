@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class DeadlineWheelTest {
+
+  private static final long TICK = 10;
+  private static final int SLOTS = 8;
+  private static final long START_TIME = 1_000;
+
+  private final DeadlineWheel wheel = new DeadlineWheel(TICK, SLOTS, START_TIME);
+  private final List<Deadline> polledDeadlines = new ArrayList<>();
+
+  @Test
+  public void shouldPollDueDeadlines() {
+    // given
+    final Deadline first = addDeadline(START_TIME + 15, 1);
+    final Deadline second = addDeadline(START_TIME + 25, 2);
+    addDeadline(START_TIME + 45, 3);
+
+    // when
+    final boolean polledAll = wheel.poll(START_TIME + 30, this::onDue);
+
+    // then
+    assertThat(polledAll).isTrue();
+    assertThat(polledDeadlines).containsExactly(first, second);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotPollDeadlineOfCurrentTickBeforeDueDate() {
+    // given
+    final Deadline deadline = addDeadline(START_TIME + 18, 1);
+
+    // when
+    wheel.poll(START_TIME + 12, this::onDue);
+
+    // then
+    assertThat(polledDeadlines).isEmpty();
+
+    wheel.poll(START_TIME + 18, this::onDue);
+    assertThat(polledDeadlines).containsExactly(deadline);
+  }
+
+  @Test
+  public void shouldAddDueDeadlineToCurrentSlot() {
+    // given
+    final Deadline deadline = addDeadline(START_TIME - 100, 1);
+
+    // when
+    wheel.poll(START_TIME, this::onDue);
+
+    // then
+    assertThat(polledDeadlines).containsExactly(deadline);
+  }
+
+  @Test
+  public void shouldNotAddDeadlineBeyondHorizon() {
+    // when
+    final boolean added = wheel.add(new Deadline(null, wheel.getHorizon(), 1, -1));
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldMoveHorizonWhenTurning() {
+    // given
+    final long horizon = wheel.getHorizon();
+
+    // when
+    wheel.poll(START_TIME + 3 * TICK, this::onDue);
+
+    // then
+    assertThat(wheel.getHorizon()).isEqualTo(horizon + 3 * TICK);
+    assertThat(wheel.add(new Deadline(null, horizon, 1, -1))).isTrue();
+  }
+
+  @Test
+  public void shouldPollAllDeadlinesIfBehindByMoreThanOneRotation() {
+    // given
+    final Deadline first = addDeadline(START_TIME + 10, 1);
+    final Deadline second = addDeadline(START_TIME + 70, 2);
+
+    // when
+    wheel.poll(START_TIME + 100 * SLOTS * TICK, this::onDue);
+
+    // then
+    assertThat(polledDeadlines).containsExactlyInAnyOrder(first, second);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldKeepDeadlineIfHandlerFails() {
+    // given
+    final Deadline first = addDeadline(START_TIME + 10, 1);
+    final Deadline second = addDeadline(START_TIME + 20, 2);
+
+    // when
+    final boolean polledAll = wheel.poll(START_TIME + 30, deadline -> deadline != second);
+
+    // then
+    assertThat(polledAll).isFalse();
+    assertThat(wheel.size()).isEqualTo(1);
+    assertThat(wheel.nextDueDate()).isEqualTo(second.getDueDate());
+
+    wheel.poll(START_TIME + 30, this::onDue);
+    assertThat(polledDeadlines).containsExactly(second).doesNotContain(first);
+  }
+
+  @Test
+  public void shouldRemoveDeadline() {
+    // given
+    final Deadline deadline = addDeadline(START_TIME + 10, 1);
+
+    // when
+    wheel.remove(deadline);
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.nextDueDate()).isEqualTo(-1L);
+
+    wheel.poll(START_TIME + 10, this::onDue);
+    assertThat(polledDeadlines).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnNextDueDateAfterWrapAround() {
+    // given
+    wheel.poll(START_TIME + 6 * TICK, this::onDue);
+    final long dueDate = START_TIME + 9 * TICK + 5;
+    addDeadline(START_TIME + 12 * TICK, 1);
+    addDeadline(dueDate, 2);
+
+    // when
+    final long nextDueDate = wheel.nextDueDate();
+
+    // then
+    assertThat(nextDueDate).isEqualTo(dueDate);
+  }
+
+  private Deadline addDeadline(final long dueDate, final long key) {
+    final Deadline deadline = new Deadline(null, dueDate, key, -1);
+    assertThat(wheel.add(deadline)).isTrue();
+    return deadline;
+  }
+
+  private boolean onDue(final Deadline deadline) {
+    polledDeadlines.add(deadline);
+    return true;
+  }
+}
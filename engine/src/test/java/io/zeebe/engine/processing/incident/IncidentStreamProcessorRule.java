@@ -20,9 +20,9 @@ import io.zeebe.el.ExpressionLanguageFactory;
 import io.zeebe.engine.processing.WorkflowEventProcessors;
 import io.zeebe.engine.processing.common.CatchEventBehavior;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.job.JobEventProcessors;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
-import io.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.util.StreamProcessorRule;
@@ -50,7 +50,6 @@ public final class IncidentStreamProcessorRule extends ExternalResource {
   @Rule public TemporaryFolder folder = new TemporaryFolder();
   private final StreamProcessorRule environmentRule;
   private SubscriptionCommandSender mockSubscriptionCommandSender;
-  private DueDateTimerChecker mockTimerEventScheduler;
 
   private WorkflowState workflowState;
   private ZeebeState zeebeState;
@@ -62,7 +61,6 @@ public final class IncidentStreamProcessorRule extends ExternalResource {
   @Override
   protected void before() {
     mockSubscriptionCommandSender = mock(SubscriptionCommandSender.class);
-    mockTimerEventScheduler = mock(DueDateTimerChecker.class);
 
     when(mockSubscriptionCommandSender.openMessageSubscription(
             anyInt(), anyLong(), anyLong(), any(), any(), any(), anyBoolean()))
@@ -85,6 +83,10 @@ public final class IncidentStreamProcessorRule extends ExternalResource {
                   ExpressionLanguageFactory.createExpressionLanguage(),
                   variablesState::getVariable);
 
+          // the scheduler is not registered as listener, so the deadlines are not triggered
+          final var deadlineScheduler =
+              new DeadlineScheduler(processingContext.getLogStream().getPartitionId());
+
           final var stepProcessor =
               WorkflowEventProcessors.addWorkflowProcessors(
                   zeebeState,
@@ -93,11 +95,15 @@ public final class IncidentStreamProcessorRule extends ExternalResource {
                   mockSubscriptionCommandSender,
                   new CatchEventBehavior(
                       zeebeState, expressionProcessor, mockSubscriptionCommandSender, 1),
-                  mockTimerEventScheduler);
+                  deadlineScheduler);
 
           final var jobErrorThrownProcessor =
               JobEventProcessors.addJobProcessors(
-                  typedRecordProcessors, zeebeState, type -> {}, Integer.MAX_VALUE);
+                  typedRecordProcessors,
+                  zeebeState,
+                  type -> {},
+                  Integer.MAX_VALUE,
+                  deadlineScheduler);
 
           IncidentEventProcessors.addProcessors(
               typedRecordProcessors, zeebeState, stepProcessor, jobErrorThrownProcessor);
@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.util.EngineRule;
+import io.zeebe.protocol.record.Assertions;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.protocol.record.value.JobRecordValue;
+import io.zeebe.test.util.Strings;
+import io.zeebe.test.util.record.RecordingExporter;
+import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+  private static String jobType;
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteBatchOfJobs() {
+    // given
+    final List<Long> jobKeys = createAndActivateJobs(2);
+
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE
+            .jobBatch()
+            .withJob(jobKeys.get(0), "{'a':1}")
+            .withJob(jobKeys.get(1), "{'b':2}")
+            .complete();
+
+    // then
+    Assertions.assertThat(batchRecord)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(JobBatchIntent.COMPLETED);
+    assertThat(batchRecord.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+
+    final List<Record<JobRecordValue>> completedJobs =
+        RecordingExporter.jobRecords(JobIntent.COMPLETED).withType(jobType).limit(2).asList();
+    assertThat(completedJobs)
+        .extracting(Record::getKey)
+        .containsExactlyInAnyOrderElementsOf(jobKeys);
+    assertThat(completedJobs)
+        .extracting(r -> r.getValue().getVariables())
+        .containsExactlyInAnyOrder(Map.of("a", 1), Map.of("b", 2));
+  }
+
+  @Test
+  public void shouldContinueWorkflowInstancesOfCompletedJobs() {
+    // given
+    final List<Long> jobKeys = createAndActivateJobs(2);
+
+    // when
+    ENGINE.jobBatch().withJob(jobKeys.get(0)).withJob(jobKeys.get(1)).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(2))
+        .hasSize(2);
+  }
+
+  @Test
+  public void shouldSkipJobsWhichAreNotFound() {
+    // given
+    final List<Long> jobKeys = createAndActivateJobs(1);
+
+    // when
+    final Record<JobBatchRecordValue> batchRecord =
+        ENGINE.jobBatch().withJob(123L).withJob(jobKeys.get(0)).complete();
+
+    // then
+    assertThat(batchRecord.getValue().getJobKeys()).containsExactly(jobKeys.get(0));
+  }
+
+  @Test
+  public void shouldRejectIfNoJobIsFound() {
+    // when
+    final Record<JobBatchRecordValue> rejection =
+        ENGINE.jobBatch().withJob(123L).withJob(456L).expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.NOT_FOUND)
+        .hasRejectionReason(
+            "Expected to complete a batch of 2 jobs, but none of them was found or activatable");
+  }
+
+  @Test
+  public void shouldRejectIfJobIsCompletedTwice() {
+    // given
+    final List<Long> jobKeys = createAndActivateJobs(1);
+    ENGINE.jobBatch().withJob(jobKeys.get(0)).complete();
+
+    // when
+    final Record<JobBatchRecordValue> rejection =
+        ENGINE.jobBatch().withJob(jobKeys.get(0)).expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.NOT_FOUND);
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when
+    final Record<JobBatchRecordValue> rejection = ENGINE.jobBatch().expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            "Expected to complete a batch of jobs with variables for each job, but got 0 job keys and 0 jobs");
+  }
+
+  private List<Long> createAndActivateJobs(final int count) {
+    for (int i = 0; i < count; i++) {
+      ENGINE.createJob(jobType, PROCESS_ID);
+    }
+    return ENGINE
+        .jobs()
+        .withType(jobType)
+        .withMaxJobsToActivate(count)
+        .activate()
+        .getValue()
+        .getJobKeys();
+  }
+}
@@ -7,11 +7,15 @@
  */
 package io.zeebe.engine.processing.job;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.streamprocessor.ProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.instance.JobState;
@@ -19,12 +23,12 @@ import io.zeebe.engine.util.ZeebeStateRule;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.util.sched.ActorControl;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
-import org.mockito.InOrder;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 
 public final class JobTimeoutTriggerTest {
 
@@ -33,54 +37,87 @@ public final class JobTimeoutTriggerTest {
   @Mock private ActorControl someActor;
 
   @Mock private TypedStreamWriter typedStreamWriter;
+
+  private JobState jobState;
+  private DeadlineScheduler deadlineScheduler;
   private JobTimeoutTrigger jobTimeoutTrigger;
 
   @Before
   public void setUp() {
     initMocks(this);
 
-    final JobState jobState = stateRule.getZeebeState().getJobState();
-    jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
-
-    final ProcessingContext processingContext =
-        new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
-    jobTimeoutTrigger.onRecovered(processingContext);
-
-    jobState.activate(0, newJobRecord());
-    jobState.activate(1, newJobRecord());
-    jobState.activate(2, newJobRecord());
+    jobState = stateRule.getZeebeState().getJobState();
+    deadlineScheduler = new DeadlineScheduler(1);
+    jobTimeoutTrigger = new JobTimeoutTrigger(jobState, deadlineScheduler);
+    deadlineScheduler.addSource(jobTimeoutTrigger);
   }
 
-  private JobRecord newJobRecord() {
+  private JobRecord newJobRecord(final long deadline) {
     final JobRecord jobRecord = new JobRecord();
 
     jobRecord.setRetries(2);
-    jobRecord.setDeadline(256L);
+    jobRecord.setDeadline(deadline);
     jobRecord.setType("test");
 
     return jobRecord;
   }
 
   @Test
-  public void shouldNotWriteAgainAfterFlushFailed() {
+  public void shouldTimeOutActivatedJobsOnRecovery() {
     // given
-    when(typedStreamWriter.flush()).thenReturn(1L, -1L);
+    jobState.activate(0, newJobRecord(256L));
+    jobState.activate(1, newJobRecord(256L));
+    jobState.activate(2, newJobRecord(System.currentTimeMillis() + 60_000L));
 
     // when
-    jobTimeoutTrigger.deactivateTimedOutJobs();
+    recover();
 
     // then
-    final InOrder inOrder = Mockito.inOrder(typedStreamWriter);
-
-    inOrder
-        .verify(typedStreamWriter)
+    verify(typedStreamWriter)
         .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
-    inOrder.verify(typedStreamWriter).flush();
-    inOrder
-        .verify(typedStreamWriter)
+    verify(typedStreamWriter)
         .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
-    inOrder.verify(typedStreamWriter).flush();
-    inOrder.verify(typedStreamWriter).reset();
-    inOrder.verifyNoMoreInteractions();
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+  }
+
+  @Test
+  public void shouldNotTimeOutJobWhichIsNotActivated() {
+    // given
+    jobState.activate(0, newJobRecord(256L));
+    jobState.complete(0, newJobRecord(256L));
+
+    // when
+    final boolean appended = jobTimeoutTrigger.appendTrigger(typedStreamWriter, 256L, 0, -1);
+
+    // then
+    assertThat(appended).isFalse();
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+  }
+
+  @Test
+  public void shouldNotTimeOutJobWithOtherDeadline() {
+    // given
+    jobState.activate(0, newJobRecord(512L));
+    final List<Long> keys = new ArrayList<>();
+
+    // when
+    final boolean appended = jobTimeoutTrigger.appendTrigger(typedStreamWriter, 256L, 0, -1);
+    jobTimeoutTrigger.visitDeadlines(
+        (dueDate, key, secondaryKey) -> {
+          keys.add(key);
+          return true;
+        });
+
+    // then
+    assertThat(appended).isFalse();
+    assertThat(keys).containsExactly(0L);
+  }
+
+  private void recover() {
+    final ProcessingContext processingContext =
+        new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
+    deadlineScheduler.onRecovered(processingContext);
   }
 }
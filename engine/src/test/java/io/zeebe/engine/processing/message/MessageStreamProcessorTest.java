@@ -19,6 +19,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.zeebe.engine.processing.deadline.DeadlineScheduler;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.util.StreamProcessorRule;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -62,8 +63,11 @@ public final class MessageStreamProcessorTest {
     rule.startTypedStreamProcessor(
         (typedRecordProcessors, processingContext) -> {
           final var zeebeState = processingContext.getZeebeState();
+          final var deadlineScheduler =
+              new DeadlineScheduler(processingContext.getLogStream().getPartitionId());
           MessageEventProcessors.addMessageProcessors(
-              typedRecordProcessors, zeebeState, mockSubscriptionCommandSender);
+              typedRecordProcessors, zeebeState, mockSubscriptionCommandSender, deadlineScheduler);
+          typedRecordProcessors.withListener(deadlineScheduler);
           return typedRecordProcessors;
         });
   }
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.util.RecordToWrite;
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.test.util.TestUtil;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamProcessorBatchTest {
+
+  private static final int MAX_BATCH_RECORDS = 10;
+  private static final String PARTITION_LABEL = "0";
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule().withProcessingBatch(MAX_BATCH_RECORDS);
+
+  @Test
+  public void shouldProcessRecordsInOneBatch() {
+    // given
+    final double batchesBefore = getBatchCount();
+    final double batchRecordsBefore = getBatchRecordsSum();
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                new FollowUpEventProcessor(processedPositions::add)));
+
+    // when
+    final long lastPosition = writeActivatingEvents(3);
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> followUpEvents = awaitActivatedEvents(3);
+    assertThat(followUpEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(processedPositions)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+
+    assertThat(getBatchCount() - batchesBefore).isEqualTo(1);
+    assertThat(getBatchRecordsSum() - batchRecordsBefore).isEqualTo(3);
+    assertThat(streamProcessorRule.getZeebeState().getLastSuccessfulProcessedRecordPosition())
+        .isEqualTo(lastPosition);
+  }
+
+  @Test
+  public void shouldEndBatchWithRecordWhichHasSideEffects() throws Exception {
+    // given
+    final double batchesBefore = getBatchCount();
+    final CountDownLatch sideEffectLatch = new CountDownLatch(3);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                new TypedRecordProcessor<UnifiedRecordValue>() {
+                  @Override
+                  public void processRecord(
+                      final long position,
+                      final TypedRecord<UnifiedRecordValue> record,
+                      final TypedResponseWriter responseWriter,
+                      final TypedStreamWriter streamWriter,
+                      final Consumer<SideEffectProducer> sideEffect) {
+                    sideEffect.accept(
+                        () -> {
+                          sideEffectLatch.countDown();
+                          return true;
+                        });
+                  }
+                }));
+
+    // when
+    writeActivatingEvents(3);
+
+    // then
+    assertThat(sideEffectLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(getBatchCount() - batchesBefore).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldProcessRecordsOneByOneIfBatchFails() {
+    // given
+    final double rollbacksBefore = getRolledBackBatches();
+    final AtomicBoolean failed = new AtomicBoolean();
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                new FollowUpEventProcessor(
+                    position -> {
+                      processedPositions.add(position);
+                      if (processedPositions.size() == 2 && failed.compareAndSet(false, true)) {
+                        throw new RuntimeException("expected");
+                      }
+                    })));
+
+    // when
+    final long lastPosition = writeActivatingEvents(3);
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> followUpEvents = awaitActivatedEvents(3);
+    assertThat(followUpEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(processedPositions)
+        .containsExactly(
+            lastPosition - 2, lastPosition - 1, lastPosition - 2, lastPosition - 1, lastPosition);
+
+    assertThat(getRolledBackBatches() - rollbacksBefore).isEqualTo(1);
+    assertThat(streamProcessorRule.events().onlyErrorRecords().exists()).isFalse();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnlyForCommittedRecords() {
+    // given
+    final AtomicBoolean failed = new AtomicBoolean();
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final List<Long> notifiedPositions = new CopyOnWriteArrayList<>();
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                new FollowUpEventProcessor(
+                    position -> {
+                      processedPositions.add(position);
+                      if (processedPositions.size() == 2 && failed.compareAndSet(false, true)) {
+                        throw new RuntimeException("expected");
+                      }
+                    })),
+        record -> notifiedPositions.add(record.getPosition()));
+
+    // when
+    final long lastPosition = writeActivatingEvents(3);
+
+    // then
+    awaitActivatedEvents(3);
+    TestUtil.waitUntil(() -> notifiedPositions.size() >= 3);
+    assertThat(notifiedPositions).containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+  }
+
+  private long writeActivatingEvents(final int count) {
+    final RecordToWrite[] records = new RecordToWrite[count];
+    for (int i = 0; i < count; i++) {
+      records[i] =
+          RecordToWrite.event()
+              .key(i + 1)
+              .workflowInstance(
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING, new WorkflowInstanceRecord());
+    }
+    return streamProcessorRule.writeBatch(records);
+  }
+
+  private List<Record<WorkflowInstanceRecord>> awaitActivatedEvents(final int count) {
+    return TestUtil.doRepeatedly(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyWorkflowInstanceRecords()
+                    .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                    .collect(Collectors.toList()))
+        .until(events -> events.size() >= count);
+  }
+
+  private static double getBatchCount() {
+    return getSample("zeebe_stream_processor_batch_records_count");
+  }
+
+  private static double getBatchRecordsSum() {
+    return getSample("zeebe_stream_processor_batch_records_sum");
+  }
+
+  private static double getRolledBackBatches() {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_events_total",
+            new String[] {"action", "partition"},
+            new String[] {"batch_rolled_back", PARTITION_LABEL});
+    return value == null ? 0 : value;
+  }
+
+  private static double getSample(final String name) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name, new String[] {"partition"}, new String[] {PARTITION_LABEL});
+    return value == null ? 0 : value;
+  }
+
+  private static final class FollowUpEventProcessor
+      implements TypedRecordProcessor<UnifiedRecordValue> {
+
+    private final Consumer<Long> onProcess;
+
+    private FollowUpEventProcessor(final Consumer<Long> onProcess) {
+      this.onProcess = onProcess;
+    }
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<UnifiedRecordValue> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      onProcess.accept(position);
+      streamWriter.appendFollowUpEvent(
+          record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+    }
+  }
+}
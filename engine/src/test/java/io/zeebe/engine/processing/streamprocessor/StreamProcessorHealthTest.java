@@ -285,6 +285,11 @@ public class StreamProcessorHealthTest {
       wrappedWriter.configureSourceContext(sourceRecordPosition);
     }
 
+    @Override
+    public int getBatchLength() {
+      return wrappedWriter.getBatchLength();
+    }
+
     @Override
     public void appendNewCommand(final Intent intent, final UnpackedObject value) {
       wrappedWriter.appendNewCommand(intent, value);
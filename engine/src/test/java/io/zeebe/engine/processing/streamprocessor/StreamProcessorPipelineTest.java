@@ -0,0 +1,381 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.streamprocessor;
+
+import static io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors.processors;
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.util.ListLogStorage;
+import io.zeebe.engine.util.RecordToWrite;
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.test.util.TestUtil;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class StreamProcessorPipelineTest {
+
+  private static final int MAX_PIPELINE_DEPTH = 2;
+  private static final String PARTITION_LABEL = "0";
+
+  private final DelayedCommitLogStorage logStorage = new DelayedCommitLogStorage();
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule()
+          .withProcessingPipeline(MAX_PIPELINE_DEPTH)
+          .withLogStorage(() -> logStorage);
+
+  private final AtomicBoolean isWriteBlocked = new AtomicBoolean(true);
+  private final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void shouldProcessNextRecordsWhileWriteIsBlocked() {
+    // given
+    final double pipelinedRecordsBefore = getPipelineDepthSum();
+    startStreamProcessor(
+        (record, responseWriter, streamWriter) -> {
+          streamWriter.appendFollowUpEvent(
+              record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+          responseWriter.writeEvent(record);
+        });
+
+    // when
+    final long lastPosition = writeActivatingEvents(3);
+
+    // then
+    waitUntil(() -> processedPositions.size() == 3);
+    verify(streamProcessorRule.getCommandResponseWriter(), never())
+        .tryWriteResponse(anyInt(), anyLong());
+    assertThat(streamProcessorRule.events().onlyWorkflowInstanceRecords().count()).isEqualTo(3);
+
+    isWriteBlocked.set(false);
+
+    final List<Record<WorkflowInstanceRecord>> followUpEvents = awaitActivatedEvents(3);
+    assertThat(followUpEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    verify(streamProcessorRule.getCommandResponseWriter(), timeout(5_000).times(3))
+        .tryWriteResponse(anyInt(), anyLong());
+    verify(streamProcessorRule.getProcessedListener(), timeout(5_000).times(3)).accept(any());
+
+    assertThat(processedPositions)
+        .containsExactly(lastPosition - 2, lastPosition - 1, lastPosition);
+    assertThat(getPipelineDepthSum() - pipelinedRecordsBefore).isEqualTo(MAX_PIPELINE_DEPTH);
+  }
+
+  @Test
+  public void shouldProcessNextRecordWhileWriteIsNotCommitted() {
+    // given
+    isWriteBlocked.set(false);
+    final double pipelinedRecordsBefore = getPipelineDepthSum();
+    startStreamProcessor(
+        (record, responseWriter, streamWriter) -> {
+          streamWriter.appendFollowUpEvent(
+              record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+          responseWriter.writeEvent(record);
+        });
+    logStorage.delayCommitsAfter(1);
+
+    // when
+    final long lastPosition = writeActivatingEvents(2);
+
+    // then
+    waitUntil(() -> processedPositions.size() == 2);
+    verify(streamProcessorRule.getProcessedListener(), after(500).times(1)).accept(any());
+    verify(streamProcessorRule.getCommandResponseWriter(), times(1))
+        .tryWriteResponse(anyInt(), anyLong());
+    assertThat(awaitActivatedEvents(1))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 1);
+
+    logStorage.commitDelayedRecords();
+
+    final List<Record<WorkflowInstanceRecord>> followUpEvents = awaitActivatedEvents(2);
+    assertThat(followUpEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 1, lastPosition);
+    verify(streamProcessorRule.getCommandResponseWriter(), timeout(5_000).times(2))
+        .tryWriteResponse(anyInt(), anyLong());
+    verify(streamProcessorRule.getProcessedListener(), timeout(5_000).times(2)).accept(any());
+    assertThat(getPipelineDepthSum() - pipelinedRecordsBefore).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStallPipelineIfItIsFull() {
+    // given
+    final double stallsBefore = getPipelineStalls("pipeline_full");
+    startStreamProcessor(
+        (record, responseWriter, streamWriter) ->
+            streamWriter.appendFollowUpEvent(
+                record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue()));
+
+    // when
+    writeActivatingEvents(MAX_PIPELINE_DEPTH + 2);
+
+    // then
+    waitUntil(() -> getPipelineStalls("pipeline_full") > stallsBefore);
+    assertThat(processedPositions).hasSize(MAX_PIPELINE_DEPTH + 1);
+
+    isWriteBlocked.set(false);
+
+    awaitActivatedEvents(MAX_PIPELINE_DEPTH + 2);
+    assertThat(processedPositions).hasSize(MAX_PIPELINE_DEPTH + 2);
+  }
+
+  @Test
+  public void shouldRollbackPipelineIfRecordFails() {
+    // given
+    final AtomicBoolean failed = new AtomicBoolean();
+    startStreamProcessor(
+        (record, responseWriter, streamWriter) -> {
+          if (processedPositions.size() == 2 && failed.compareAndSet(false, true)) {
+            throw new RuntimeException("expected");
+          }
+          streamWriter.appendFollowUpEvent(
+              record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+          responseWriter.writeEvent(record);
+        });
+
+    // when
+    final long lastPosition = writeActivatingEvents(2);
+    waitUntil(failed::get);
+    isWriteBlocked.set(false);
+
+    // then
+    final List<Record<WorkflowInstanceRecord>> followUpEvents = awaitActivatedEvents(2);
+    assertThat(followUpEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(lastPosition - 1, lastPosition);
+    verify(streamProcessorRule.getCommandResponseWriter(), timeout(5_000).times(2))
+        .tryWriteResponse(anyInt(), anyLong());
+    assertThat(streamProcessorRule.events().onlyErrorRecords().exists()).isFalse();
+  }
+
+  private void startStreamProcessor(final RecordProcessor recordProcessor) {
+    streamProcessorRule.startTypedStreamProcessor(
+        processingContext -> {
+          processingContext.logStreamWriter(
+              new BlockingStreamWriter(processingContext.getLogStreamWriter()));
+          return processors(processingContext.getZeebeState().getKeyGenerator())
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                  new TypedRecordProcessor<UnifiedRecordValue>() {
+                    @Override
+                    public void processRecord(
+                        final long position,
+                        final TypedRecord<UnifiedRecordValue> record,
+                        final TypedResponseWriter responseWriter,
+                        final TypedStreamWriter streamWriter,
+                        final Consumer<SideEffectProducer> sideEffect) {
+                      processedPositions.add(position);
+                      recordProcessor.process(record, responseWriter, streamWriter);
+                    }
+                  });
+        });
+  }
+
+  private long writeActivatingEvents(final int count) {
+    final RecordToWrite[] records = new RecordToWrite[count];
+    for (int i = 0; i < count; i++) {
+      records[i] =
+          RecordToWrite.event()
+              .key(i + 1)
+              .workflowInstance(
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING, new WorkflowInstanceRecord());
+    }
+    return streamProcessorRule.writeBatch(records);
+  }
+
+  private List<Record<WorkflowInstanceRecord>> awaitActivatedEvents(final int count) {
+    return TestUtil.doRepeatedly(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyWorkflowInstanceRecords()
+                    .withIntent(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+                    .collect(Collectors.toList()))
+        .until(events -> events.size() >= count);
+  }
+
+  private static double getPipelineDepthSum() {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_pipeline_depth_sum",
+            new String[] {"partition"},
+            new String[] {PARTITION_LABEL});
+    return value == null ? 0 : value;
+  }
+
+  private static double getPipelineStalls(final String reason) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_pipeline_stalls_total",
+            new String[] {"reason", "partition"},
+            new String[] {reason, PARTITION_LABEL});
+    return value == null ? 0 : value;
+  }
+
+  @FunctionalInterface
+  private interface RecordProcessor {
+    void process(
+        TypedRecord<UnifiedRecordValue> record,
+        TypedResponseWriter responseWriter,
+        TypedStreamWriter streamWriter);
+  }
+
+  /** Holds back the commit of the records which are appended after the given number of appends. */
+  private static final class DelayedCommitLogStorage extends ListLogStorage {
+
+    private final AtomicInteger commitsBeforeDelay = new AtomicInteger(Integer.MAX_VALUE);
+    private volatile long delayedCommitPosition = -1;
+    private LongConsumer commitListener;
+
+    @Override
+    public void setPositionListener(final LongConsumer positionListener) {
+      commitListener = positionListener;
+      super.setPositionListener(this::onCommit);
+    }
+
+    private void delayCommitsAfter(final int commits) {
+      commitsBeforeDelay.set(commits);
+    }
+
+    private void commitDelayedRecords() {
+      commitsBeforeDelay.set(Integer.MAX_VALUE);
+      commitListener.accept(delayedCommitPosition);
+    }
+
+    private void onCommit(final long position) {
+      if (commitsBeforeDelay.getAndDecrement() > 0) {
+        commitListener.accept(position);
+      } else {
+        delayedCommitPosition = position;
+      }
+    }
+  }
+
+  private final class BlockingStreamWriter implements TypedStreamWriter {
+
+    private final TypedStreamWriter wrappedWriter;
+
+    private BlockingStreamWriter(final TypedStreamWriter wrappedWriter) {
+      this.wrappedWriter = wrappedWriter;
+    }
+
+    @Override
+    public void appendRejection(
+        final TypedRecord<? extends UnpackedObject> command,
+        final RejectionType type,
+        final String reason) {
+      wrappedWriter.appendRejection(command, type, reason);
+    }
+
+    @Override
+    public void appendRejection(
+        final TypedRecord<? extends UnpackedObject> command,
+        final RejectionType type,
+        final String reason,
+        final Consumer<RecordMetadata> metadata) {
+      wrappedWriter.appendRejection(command, type, reason, metadata);
+    }
+
+    @Override
+    public void appendNewEvent(final long key, final Intent intent, final UnpackedObject value) {
+      wrappedWriter.appendNewEvent(key, intent, value);
+    }
+
+    @Override
+    public void appendFollowUpEvent(
+        final long key, final Intent intent, final UnpackedObject value) {
+      wrappedWriter.appendFollowUpEvent(key, intent, value);
+    }
+
+    @Override
+    public void appendFollowUpEvent(
+        final long key,
+        final Intent intent,
+        final UnpackedObject value,
+        final Consumer<RecordMetadata> metadata) {
+      wrappedWriter.appendFollowUpEvent(key, intent, value, metadata);
+    }
+
+    @Override
+    public void configureSourceContext(final long sourceRecordPosition) {
+      wrappedWriter.configureSourceContext(sourceRecordPosition);
+    }
+
+    @Override
+    public int getBatchLength() {
+      return wrappedWriter.getBatchLength();
+    }
+
+    @Override
+    public void appendNewCommand(final Intent intent, final UnpackedObject value) {
+      wrappedWriter.appendNewCommand(intent, value);
+    }
+
+    @Override
+    public void appendFollowUpCommand(
+        final long key, final Intent intent, final UnpackedObject value) {
+      wrappedWriter.appendFollowUpCommand(key, intent, value);
+    }
+
+    @Override
+    public void appendFollowUpCommand(
+        final long key,
+        final Intent intent,
+        final UnpackedObject value,
+        final Consumer<RecordMetadata> metadata) {
+      wrappedWriter.appendFollowUpCommand(key, intent, value, metadata);
+    }
+
+    @Override
+    public void reset() {
+      wrappedWriter.reset();
+    }
+
+    @Override
+    public long flush() {
+      if (isWriteBlocked.get()) {
+        // like a full write buffer
+        return -1;
+      }
+      return wrappedWriter.flush();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
+import io.zeebe.protocol.impl.record.value.deployment.Workflow;
+import org.junit.Test;
+
+public final class DeployedWorkflowCacheTest {
+
+  private static final int RESOURCE_SIZE = 100;
+  private static final long WORKFLOW_SIZE =
+      RESOURCE_SIZE * DeployedWorkflowCache.TRANSFORMED_SIZE_FACTOR;
+
+  private final WorkflowCacheMetrics metrics = new WorkflowCacheMetrics(1);
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflowIfMaxWorkflowsExceeded() {
+    // given
+    final var cache = new DeployedWorkflowCache(2, Long.MAX_VALUE, metrics);
+    cache.put(deployedWorkflow(1, "process-1"));
+    cache.put(deployedWorkflow(2, "process-2"));
+    cache.getByKey(1);
+
+    // when
+    cache.put(deployedWorkflow(3, "process-3"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getByKey(2)).isNull();
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process-2"), 1)).isNull();
+    assertThat(cache.getByKey(1)).isNotNull();
+    assertThat(cache.getByKey(3)).isNotNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflowIfMaxSizeExceeded() {
+    // given
+    final var cache = new DeployedWorkflowCache(10, 2 * WORKFLOW_SIZE, metrics);
+    cache.put(deployedWorkflow(1, "process-1"));
+    cache.put(deployedWorkflow(2, "process-2"));
+    cache.getByProcessIdAndVersion(wrapString("process-1"), 1);
+
+    // when
+    cache.put(deployedWorkflow(3, "process-3"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getByKey(2)).isNull();
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process-1"), 1)).isNotNull();
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process-3"), 1)).isNotNull();
+  }
+
+  @Test
+  public void shouldKeepAddedWorkflowEvenIfItExceedsMaxSize() {
+    // given
+    final var cache = new DeployedWorkflowCache(10, WORKFLOW_SIZE - 1, metrics);
+    cache.put(deployedWorkflow(1, "process-1"));
+
+    // when
+    cache.put(deployedWorkflow(2, "process-2"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getByKey(1)).isNull();
+    assertThat(cache.getByKey(2)).isNotNull();
+  }
+
+  @Test
+  public void shouldFindWorkflowByProcessIdAndVersion() {
+    // given
+    final var cache = new DeployedWorkflowCache(10, Long.MAX_VALUE, metrics);
+    cache.put(deployedWorkflow(1, "process", 1));
+    cache.put(deployedWorkflow(2, "process", 2));
+
+    // when
+    final var workflow = cache.getByProcessIdAndVersion(wrapString("process"), 2);
+
+    // then
+    assertThat(workflow.getKey()).isEqualTo(2);
+    assertThat(cache.getByProcessIdAndVersion(wrapString("process"), 3)).isNull();
+  }
+
+  private static DeployedWorkflow deployedWorkflow(final long key, final String processId) {
+    return deployedWorkflow(key, processId, 1);
+  }
+
+  private static DeployedWorkflow deployedWorkflow(
+      final long key, final String processId, final int version) {
+    final var resource =
+        new DeploymentResource()
+            .setResourceName("process.bpmn")
+            .setResource(new byte[RESOURCE_SIZE]);
+    final var workflow =
+        new Workflow()
+            .setBpmnProcessId(processId)
+            .setVersion(version)
+            .setKey(key)
+            .setResourceName("process.bpmn");
+
+    final var persistedWorkflow = new PersistedWorkflow();
+    persistedWorkflow.wrap(resource, workflow, key);
+    return new DeployedWorkflow(null, persistedWorkflow);
+  }
+}
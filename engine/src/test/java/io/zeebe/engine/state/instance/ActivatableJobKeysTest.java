@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ActivatableJobKeysTest {
+
+  private final ActivatableJobKeys jobKeys = new ActivatableJobKeys("test");
+
+  @Test
+  public void shouldKeepKeysInOrder() {
+    // when
+    jobKeys.add(5L);
+    jobKeys.add(1L);
+    jobKeys.add(3L);
+    jobKeys.add(7L);
+
+    // then
+    assertThat(getKeys()).containsExactly(1L, 3L, 5L, 7L);
+  }
+
+  @Test
+  public void shouldNotAddKeyTwice() {
+    // given
+    jobKeys.add(1L);
+
+    // when
+    final boolean isAdded = jobKeys.add(1L);
+
+    // then
+    assertThat(isAdded).isFalse();
+    assertThat(jobKeys.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRemoveKeys() {
+    // given
+    for (long key = 1; key <= 5; key++) {
+      jobKeys.add(key);
+    }
+
+    // when
+    jobKeys.remove(1L);
+    jobKeys.remove(3L);
+    jobKeys.remove(5L);
+
+    // then
+    assertThat(getKeys()).containsExactly(2L, 4L);
+    assertThat(jobKeys.remove(3L)).isFalse();
+  }
+
+  @Test
+  public void shouldBeEmptyIfAllKeysAreRemoved() {
+    // given
+    jobKeys.add(1L);
+    jobKeys.add(2L);
+
+    // when
+    jobKeys.remove(2L);
+    jobKeys.remove(1L);
+
+    // then
+    assertThat(jobKeys.isEmpty()).isTrue();
+    assertThat(jobKeys.size()).isZero();
+  }
+
+  @Test
+  public void shouldAddAndRemoveManyKeys() {
+    // given
+    final int count = 10_000;
+    for (long key = 0; key < count; key++) {
+      jobKeys.add(key);
+    }
+
+    // when - remove from the head, as the jobs are activated in order, and add new ones
+    for (long key = 0; key < count / 2; key++) {
+      jobKeys.remove(key);
+      jobKeys.add(count + key);
+    }
+
+    // then
+    final List<Long> keys = getKeys();
+    assertThat(keys).hasSize(count);
+    assertThat(keys.get(0)).isEqualTo(count / 2);
+    assertThat(keys.get(count - 1)).isEqualTo(count + count / 2 - 1);
+    assertThat(keys).isSorted();
+  }
+
+  private List<Long> getKeys() {
+    final List<Long> keys = new ArrayList<>();
+    for (int i = 0; i < jobKeys.size(); i++) {
+      keys.add(jobKeys.get(i));
+    }
+    return keys;
+  }
+}
@@ -11,6 +11,7 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static java.util.function.Predicate.not;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.StoredRecord.Purpose;
@@ -456,6 +457,102 @@ public final class ElementInstanceStateTest {
     assertThat(metadata.getRequestStreamId()).isEqualTo(streamId);
   }
 
+  @Test
+  public void shouldWriteCachedInstanceOnCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          final ElementInstance instance =
+              elementInstanceState.newInstance(
+                  100, createWorkflowInstanceRecord(), WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+          instance.setState(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+          elementInstanceState.updateInstance(instance);
+        });
+    transaction.commit();
+
+    // then
+    final ElementInstanceState recoveredState =
+        new ElementInstanceState(
+            stateRule.getDb(), stateRule.getDb().createContext(), zeebeState.getKeyGenerator(), 1);
+    assertElementInstance(recoveredState.getInstance(100), 0);
+  }
+
+  @Test
+  public void shouldReturnCachedInstanceWithinTransaction() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          final ElementInstance parent =
+              elementInstanceState.newInstance(
+                  100, createWorkflowInstanceRecord(), WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+          final ElementInstance child =
+              elementInstanceState.newInstance(
+                  parent,
+                  101,
+                  createWorkflowInstanceRecord(),
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+
+          // then
+          assertThat(elementInstanceState.getInstance(100)).isSameAs(parent);
+          assertThat(elementInstanceState.getInstance(101)).isSameAs(child);
+          assertThat(elementInstanceState.getChildren(100)).containsExactly(child);
+          assertElementInstance(parent, 1);
+        });
+    transaction.commit();
+  }
+
+  @Test
+  public void shouldCopyWrittenInstanceIntoCachedInstance() throws Exception {
+    // given
+    elementInstanceState.newInstance(
+        100, createWorkflowInstanceRecord(), WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final ElementInstance writtenInstance = elementInstanceState.getInstance(100);
+    writtenInstance.setState(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          final ElementInstance cachedInstance = elementInstanceState.getInstance(100);
+          elementInstanceState.updateInstance(writtenInstance);
+
+          // then
+          assertThat(elementInstanceState.getInstance(100))
+              .isSameAs(cachedInstance)
+              .isNotSameAs(writtenInstance);
+          assertElementInstance(cachedInstance, 0);
+        });
+    transaction.commit();
+
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
+  @Test
+  public void shouldDiscardCachedInstanceOnRollback() throws Exception {
+    // given
+    elementInstanceState.newInstance(
+        100, createWorkflowInstanceRecord(), WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          final ElementInstance instance = elementInstanceState.getInstance(100);
+          instance.setState(WorkflowInstanceIntent.ELEMENT_COMPLETING);
+          elementInstanceState.updateInstance(instance);
+        });
+    transaction.rollback();
+
+    // then
+    assertElementInstance(elementInstanceState.getInstance(100), 0);
+  }
+
   private void assertElementInstance(final ElementInstance elementInstance, final int childCount) {
     Assertions.assertThat(elementInstance.getKey()).isEqualTo(100);
     Assertions.assertThat(elementInstance.getState())
@@ -11,10 +11,13 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.instance.JobState.State;
 import io.zeebe.engine.util.ZeebeStateRule;
 import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.test.util.BufferAssert;
 import io.zeebe.test.util.MsgPackUtil;
@@ -582,6 +585,104 @@ public final class JobStateTest {
     jobState.activate(key, record);
   }
 
+  @Test
+  public void shouldIterateOverActivatableJobsInKeyOrder() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(3L, jobRecord);
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+
+    // when
+    final List<Long> activatableKeys = getActivatableKeys(jobRecord.getTypeBuffer());
+
+    // then
+    assertThat(activatableKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldContinueIterationIfVisitedJobIsDisabled() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(
+        jobRecord.getTypeBuffer(),
+        (key, job) -> {
+          visitedKeys.add(key);
+          if (key == 2L) {
+            jobState.disable(key, job);
+          }
+          return true;
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(1L, 2L, 3L);
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer())).containsExactly(1L, 3L);
+  }
+
+  @Test
+  public void shouldRevertActivatableJobsOnRollback() throws Exception {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+
+    // when
+    final ZeebeDbTransaction transaction = stateRule.getDbContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          jobState.create(2L, jobRecord);
+          jobState.activate(1L, jobRecord);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer())).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldLoadActivatableJobsOnRecovery() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.activate(1L, jobRecord);
+    jobState.create(3L, newJobRecord().setType("other"));
+
+    // when
+    jobState = new JobState(stateRule.getDb(), stateRule.getDb().createContext(), 1);
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer())).containsExactly(2L);
+    assertThat(getActivatableKeys(wrapString("other"))).containsExactly(3L);
+  }
+
+  @Test
+  public void shouldRemoveTypeWithoutActivatableJobsFromMetrics() {
+    // given
+    final JobRecord jobRecord = newJobRecord().setType("drained");
+    jobState.create(1L, jobRecord);
+    assertThat(getActivatableJobsMetric("drained")).isEqualTo(1.0);
+
+    // when
+    jobState.activate(1L, jobRecord);
+
+    // then
+    assertThat(getActivatableJobsMetric("drained")).isNull();
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer())).isEmpty();
+  }
+
+  private static Double getActivatableJobsMetric(final String type) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "zeebe_activatable_jobs",
+        new String[] {"partition", "type"},
+        new String[] {String.valueOf(Protocol.DEPLOYMENT_PARTITION), type});
+  }
+
   private JobRecord newJobRecord() {
     final JobRecord jobRecord = new JobRecord();
 
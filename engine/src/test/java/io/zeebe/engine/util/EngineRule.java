@@ -28,6 +28,7 @@ import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.client.DeploymentClient;
 import io.zeebe.engine.util.client.IncidentClient;
 import io.zeebe.engine.util.client.JobActivationClient;
+import io.zeebe.engine.util.client.JobBatchCompletionClient;
 import io.zeebe.engine.util.client.JobClient;
 import io.zeebe.engine.util.client.PublishMessageClient;
 import io.zeebe.engine.util.client.VariableClient;
@@ -250,6 +251,10 @@ public final class EngineRule extends ExternalResource {
     return new JobClient(environmentRule);
   }
 
+  public JobBatchCompletionClient jobBatch() {
+    return new JobBatchCompletionClient(environmentRule);
+  }
+
   public IncidentClient incident() {
     return new IncidentClient(environmentRule);
   }
@@ -58,6 +58,9 @@ public final class StreamProcessorRule implements TestRule {
   private final int partitionCount;
   private final RuleChain chain;
   private TestStreams streams;
+  private int maxProcessingBatchRecords = 1;
+  private int maxProcessingPipelineDepth = 0;
+  private Supplier<ListLogStorage> logStorageSupplier = ListLogStorage::new;
   private StreamProcessingComposite streamProcessingComposite;
 
   public StreamProcessorRule() {
@@ -102,6 +105,21 @@ public final class StreamProcessorRule implements TestRule {
             .around(new FailedTestRecordPrinter());
   }
 
+  public StreamProcessorRule withProcessingBatch(final int maxRecords) {
+    maxProcessingBatchRecords = maxRecords;
+    return this;
+  }
+
+  public StreamProcessorRule withProcessingPipeline(final int maxDepth) {
+    maxProcessingPipelineDepth = maxDepth;
+    return this;
+  }
+
+  public StreamProcessorRule withLogStorage(final Supplier<ListLogStorage> logStorageSupplier) {
+    this.logStorageSupplier = logStorageSupplier;
+    return this;
+  }
+
   public ActorSchedulerRule getActorSchedulerRule() {
     return actorSchedulerRule;
   }
@@ -252,10 +270,12 @@ public final class StreamProcessorRule implements TestRule {
     @Override
     protected void before() {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get());
+      streams.withProcessingBatch(maxProcessingBatchRecords);
+      streams.withProcessingPipeline(maxProcessingPipelineDepth);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
-        streams.createLogStream(getLogName(partitionId), partitionId++);
+        streams.createLogStream(getLogName(partitionId), partitionId++, logStorageSupplier.get());
       }
 
       streamProcessingComposite =
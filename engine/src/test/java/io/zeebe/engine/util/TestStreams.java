@@ -73,6 +73,8 @@ public final class TestStreams {
   private final Map<String, LogContext> logContextMap = new HashMap<>();
   private final Map<String, ProcessorContext> streamContextMap = new HashMap<>();
   private boolean snapshotWasTaken = false;
+  private int maxProcessingBatchRecords = 1;
+  private int maxProcessingPipelineDepth = 0;
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -96,6 +98,14 @@ public final class TestStreams {
     mockOnProcessedListener = mock(Consumer.class);
   }
 
+  public void withProcessingBatch(final int maxRecords) {
+    maxProcessingBatchRecords = maxRecords;
+  }
+
+  public void withProcessingPipeline(final int maxDepth) {
+    maxProcessingPipelineDepth = maxDepth;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -227,6 +237,8 @@ public final class TestStreams {
             .commandResponseWriter(mockCommandResponseWriter)
             .onProcessedListener(mockOnProcessedListener)
             .streamProcessorFactory(factory)
+            .processingBatch(maxProcessingBatchRecords, 0)
+            .processingPipeline(maxProcessingPipelineDepth)
             .build();
     streamProcessor.openAsync().join(15, TimeUnit.SECONDS);
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.util.client;
+
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.zeebe.test.util.MsgPackUtil;
+import io.zeebe.test.util.record.RecordingExporter;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+public final class JobBatchCompletionClient {
+  private static final int DEFAULT_PARTITION = 1;
+  private static final String DEFAULT_WORKER = "defaultWorker";
+
+  private static final BiFunction<Integer, Long, Record<JobBatchRecordValue>>
+      SUCCESS_EXPECTATION_SUPPLIER =
+          (partitionId, position) ->
+              RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED)
+                  .withPartitionId(partitionId)
+                  .withSourceRecordPosition(position)
+                  .getFirst();
+
+  private static final BiFunction<Integer, Long, Record<JobBatchRecordValue>>
+      REJECTION_EXPECTATION_SUPPLIER =
+          (partitionId, position) ->
+              RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETE)
+                  .onlyCommandRejections()
+                  .withPartitionId(partitionId)
+                  .withSourceRecordPosition(position)
+                  .getFirst();
+
+  private final StreamProcessorRule environmentRule;
+  private final JobBatchRecord jobBatchRecord;
+
+  private int partitionId;
+  private BiFunction<Integer, Long, Record<JobBatchRecordValue>> expectation =
+      SUCCESS_EXPECTATION_SUPPLIER;
+
+  public JobBatchCompletionClient(final StreamProcessorRule environmentRule) {
+    this.environmentRule = environmentRule;
+
+    jobBatchRecord = new JobBatchRecord();
+    jobBatchRecord.setType("").setWorker(DEFAULT_WORKER);
+    partitionId = DEFAULT_PARTITION;
+  }
+
+  public JobBatchCompletionClient withJob(final long jobKey) {
+    return withJob(jobKey, "{}");
+  }
+
+  public JobBatchCompletionClient withJob(final long jobKey, final String variables) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add().setVariables(MsgPackUtil.asMsgPack(variables));
+    return this;
+  }
+
+  public JobBatchCompletionClient withJob(final long jobKey, final Map<String, Object> variables) {
+    jobBatchRecord.jobKeys().add().setValue(jobKey);
+    jobBatchRecord.jobs().add().setVariables(MsgPackUtil.asMsgPack(variables));
+    return this;
+  }
+
+  public JobBatchCompletionClient onPartition(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public JobBatchCompletionClient expectRejection() {
+    expectation = REJECTION_EXPECTATION_SUPPLIER;
+    return this;
+  }
+
+  public Record<JobBatchRecordValue> complete() {
+    final long position =
+        environmentRule.writeCommandOnPartition(
+            partitionId, JobBatchIntent.COMPLETE, jobBatchRecord);
+
+    return expectation.apply(partitionId, position);
+  }
+}
@@ -34,4 +34,15 @@ public interface Controller {
    * @param task the task to run
    */
   void scheduleTask(Duration delay, Runnable task);
+
+  /**
+   * Signals to the broker that the exporter can't take the record which is currently passed to
+   * {@link io.zeebe.exporter.api.Exporter#export(io.zeebe.protocol.record.Record)} yet, e.g.
+   * because its sink is busy. The record is passed to the exporter again shortly. Unlike throwing
+   * an exception, this is not treated as an error, so nothing is logged and the broker doesn't back
+   * off.
+   *
+   * <p>Must only be called from within the export method.
+   */
+  default void retryExportLater() {}
 }
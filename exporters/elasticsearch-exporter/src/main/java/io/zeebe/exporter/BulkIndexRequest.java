@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+
+/**
+ * The body of a bulk request which indexes records. The index commands and the records are
+ * serialized as newline delimited JSON directly into a byte buffer, without an intermediate string
+ * per record. The buffer is reused for the next bulk and passed as entity of the request without
+ * copying it.
+ */
+final class BulkIndexRequest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final int INITIAL_CAPACITY = 64 * 1024;
+
+  private final BulkBuffer buffer;
+  private final JsonGenerator generator;
+  private final int maxRetainedCapacity;
+
+  private int size;
+  private int lastEntryOffset = -1;
+  private long serializationDuration;
+
+  BulkIndexRequest(final int maxRetainedCapacity) {
+    this.maxRetainedCapacity = maxRetainedCapacity;
+    buffer = new BulkBuffer(Math.min(INITIAL_CAPACITY, maxRetainedCapacity));
+
+    try {
+      generator = MAPPER.getFactory().createGenerator(buffer);
+    } catch (final IOException e) {
+      throw new ElasticsearchExporterException("Failed to create JSON generator for bulk", e);
+    }
+    // the entries are separated by new lines
+    generator.setRootValueSeparator(null);
+  }
+
+  /**
+   * Appends the index command and the given record to the bulk. The record is serialized to JSON
+   * like {@link io.zeebe.protocol.record.JsonSerializable#toJson()} does. It is ignored if it is
+   * equal to the last record of the bulk, e.g. if it is exported again after a failed flush.
+   */
+  void index(
+      final String index,
+      final String type,
+      final String id,
+      final String routing,
+      final Object record) {
+    final long startTime = System.nanoTime();
+    final int entryOffset = buffer.size();
+
+    try {
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("index");
+      generator.writeStringField("_index", index);
+      generator.writeStringField("_type", type);
+      generator.writeStringField("_id", id);
+      generator.writeStringField("routing", routing);
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+      MAPPER.writeValue(generator, record);
+      generator.writeRaw('\n');
+      generator.flush();
+    } catch (final IOException e) {
+      buffer.truncate(entryOffset);
+      throw new ElasticsearchExporterException("Failed to serialize record to bulk request", e);
+    }
+
+    if (isEqualToLastEntry(entryOffset)) {
+      // don't re-append when retrying same record, to avoid OOM
+      buffer.truncate(entryOffset);
+    } else {
+      lastEntryOffset = entryOffset;
+      size += 1;
+    }
+
+    serializationDuration += System.nanoTime() - startTime;
+  }
+
+  private boolean isEqualToLastEntry(final int entryOffset) {
+    if (lastEntryOffset < 0) {
+      return false;
+    }
+
+    final int entryEnd = buffer.size();
+    return entryEnd - entryOffset == entryOffset - lastEntryOffset
+        && Arrays.equals(
+            buffer.array(), lastEntryOffset, entryOffset, buffer.array(), entryOffset, entryEnd);
+  }
+
+  /** @return the number of records in the bulk */
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** @return the size of the serialized bulk in bytes */
+  int memorySize() {
+    return buffer.size();
+  }
+
+  /** @return the time in nanoseconds which was spent to serialize the records of the bulk */
+  long serializationDuration() {
+    return serializationDuration;
+  }
+
+  /**
+   * @return an entity which is backed by the buffer of the bulk; it is only valid until the bulk is
+   *     modified
+   */
+  HttpEntity toEntity() {
+    return new ByteArrayEntity(buffer.array(), 0, buffer.size(), ContentType.APPLICATION_JSON);
+  }
+
+  /**
+   * Removes all records from the bulk. If the buffer grew larger than the max retained capacity, it
+   * is released.
+   */
+  void reset() {
+    buffer.reset(maxRetainedCapacity);
+    size = 0;
+    lastEntryOffset = -1;
+    serializationDuration = 0;
+  }
+
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+
+    private final int initialCapacity;
+
+    private BulkBuffer(final int initialCapacity) {
+      super(initialCapacity);
+      this.initialCapacity = initialCapacity;
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+
+    private void truncate(final int length) {
+      count = length;
+    }
+
+    private void reset(final int maxRetainedCapacity) {
+      if (buf.length > maxRetainedCapacity) {
+        buf = new byte[initialCapacity];
+      }
+      count = 0;
+    }
+  }
+}
@@ -23,12 +23,12 @@ import java.net.URISyntaxException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
@@ -38,6 +38,8 @@ import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.common.xcontent.DeprecationHandler;
@@ -58,18 +60,19 @@ public class ElasticsearchClient {
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
-  private List<String> bulkRequest;
+  private final Deque<BulkIndexRequest> releasedBulkRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkRequest;
   private ElasticsearchMetrics metrics;
 
   public ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration, final Logger log) {
-    this(configuration, log, new ArrayList<>());
+    this(configuration, log, newBulkRequest(configuration));
   }
 
   ElasticsearchClient(
       final ElasticsearchExporterConfiguration configuration,
       final Logger log,
-      final List<String> bulkRequest) {
+      final BulkIndexRequest bulkRequest) {
     this.configuration = configuration;
     this.log = log;
     client = createClient();
@@ -87,7 +90,7 @@ public class ElasticsearchClient {
     }
 
     checkRecord(record);
-    bulk(newIndexCommand(record), record);
+    bulk(record);
   }
 
   private void checkRecord(final Record<?> record) {
@@ -112,21 +115,20 @@ public class ElasticsearchClient {
     }
   }
 
-  public void bulk(final Map<String, Object> command, final Record<?> record) {
-    final String serializedCommand;
-
-    try {
-      serializedCommand = MAPPER.writeValueAsString(command);
-    } catch (final IOException e) {
-      throw new ElasticsearchExporterException(
-          "Failed to serialize bulk request command to JSON", e);
-    }
+  private void bulk(final Record<?> record) {
+    bulkRequest.index(
+        indexFor(record),
+        typeFor(record),
+        idFor(record),
+        String.valueOf(record.getPartitionId()),
+        record);
+  }
 
-    final String jsonCommand = serializedCommand + "\n" + record.toJson();
-    // don't re-append when retrying same record, to avoid OOM
-    if (bulkRequest.isEmpty() || !bulkRequest.get(bulkRequest.size() - 1).equals(jsonCommand)) {
-      bulkRequest.add(jsonCommand);
-    }
+  private static BulkIndexRequest newBulkRequest(
+      final ElasticsearchExporterConfiguration configuration) {
+    // the buffer grows by doubling, so a full bulk may take up to twice the memory limit
+    return new BulkIndexRequest(
+        (int) Math.min(Integer.MAX_VALUE - 8, 2L * configuration.bulk.memoryLimit));
   }
 
   /**
@@ -137,11 +139,7 @@ public class ElasticsearchClient {
       return;
     }
 
-    final int bulkSize = bulkRequest.size();
-    metrics.recordBulkSize(bulkSize);
-
-    final var bulkMemorySize = getBulkMemorySize();
-    metrics.recordBulkMemorySize(bulkMemorySize);
+    recordBulkMetrics(bulkRequest);
 
     final BulkResponse bulkResponse;
     try {
@@ -156,8 +154,85 @@ public class ElasticsearchClient {
       throw new ElasticsearchExporterException("Failed to flush all items of the bulk");
     }
 
-    // all records where flushed, create new bulk request, otherwise retry next time
-    bulkRequest = new ArrayList<>();
+    // all records where flushed, reuse the bulk request, otherwise retry next time
+    bulkRequest.reset();
+  }
+
+  public boolean isBulkEmpty() {
+    return bulkRequest.isEmpty();
+  }
+
+  /**
+   * Takes the current bulk, which is sent by {@link #flushAsync(BulkIndexRequest)}, and continues
+   * with an empty bulk. The taken bulk must be returned by {@link #releaseBulk(BulkIndexRequest)}
+   * once it is flushed successfully.
+   */
+  BulkIndexRequest takeBulk() {
+    final BulkIndexRequest takenBulkRequest = bulkRequest;
+
+    final BulkIndexRequest releasedBulkRequest = releasedBulkRequests.poll();
+    bulkRequest = releasedBulkRequest != null ? releasedBulkRequest : newBulkRequest(configuration);
+
+    return takenBulkRequest;
+  }
+
+  void releaseBulk(final BulkIndexRequest bulk) {
+    bulk.reset();
+    releasedBulkRequests.add(bulk);
+  }
+
+  /**
+   * Sends the given bulk without waiting for the response. The bulk must not be modified until the
+   * returned future is completed.
+   *
+   * @return a future which is completed when all items of the bulk are flushed, or completed
+   *     exceptionally with an {@link ElasticsearchExporterException} otherwise; note that the
+   *     future is completed by the thread of the HTTP client
+   */
+  CompletableFuture<Void> flushAsync(final BulkIndexRequest bulk) {
+    recordBulkMetrics(bulk);
+
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    final Histogram.Timer timer = metrics.measureFlushDuration();
+
+    final var request = new Request("POST", "/_bulk");
+    request.setEntity(bulk.toEntity());
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              final BulkResponse bulkResponse =
+                  MAPPER.readValue(response.getEntity().getContent(), BulkResponse.class);
+              if (checkBulkResponse(bulkResponse)) {
+                result.complete(null);
+              } else {
+                result.completeExceptionally(
+                    new ElasticsearchExporterException("Failed to flush all items of the bulk"));
+              }
+            } catch (final IOException e) {
+              result.completeExceptionally(
+                  new ElasticsearchExporterException("Failed to flush bulk", e));
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+
+    return result;
+  }
+
+  private void recordBulkMetrics(final BulkIndexRequest bulk) {
+    metrics.recordBulkSize(bulk.size());
+    metrics.recordBulkMemorySize(bulk.memorySize());
+    metrics.recordSerializationDuration(bulk.serializationDuration());
   }
 
   private boolean checkBulkResponse(final BulkResponse bulkResponse) {
@@ -182,7 +257,7 @@ public class ElasticsearchClient {
   private BulkResponse exportBulk() throws IOException {
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
       final var request = new Request("POST", "/_bulk");
-      request.setJsonEntity(String.join("\n", bulkRequest) + "\n");
+      request.setEntity(bulkRequest.toEntity());
 
       final var response = client.performRequest(request);
 
@@ -192,11 +267,7 @@ public class ElasticsearchClient {
 
   public boolean shouldFlush() {
     return bulkRequest.size() >= configuration.bulk.size
-        || getBulkMemorySize() >= configuration.bulk.memoryLimit;
-  }
-
-  private int getBulkMemorySize() {
-    return bulkRequest.stream().mapToInt(String::length).sum();
+        || bulkRequest.memorySize() >= configuration.bulk.memoryLimit;
   }
 
   /** @return true if request was acknowledged */
@@ -338,16 +409,4 @@ public class ElasticsearchClient {
       throw new ElasticsearchExporterException("Failed to parse content to map", e);
     }
   }
-
-  private Map<String, Object> newIndexCommand(final Record<?> record) {
-    final Map<String, Object> command = new HashMap<>();
-    final Map<String, Object> contents = new HashMap<>();
-    contents.put("_index", indexFor(record));
-    contents.put("_type", typeFor(record));
-    contents.put("_id", idFor(record));
-    contents.put("routing", String.valueOf(record.getPartitionId()));
-
-    command.put("index", contents);
-    return command;
-  }
 }
@@ -16,6 +16,10 @@ import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 
 public class ElasticsearchExporter implements Exporter {
@@ -25,6 +29,9 @@ public class ElasticsearchExporter implements Exporter {
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
 
+  // interval to check for the responses of in-flight bulks
+  private static final Duration ACKNOWLEDGE_INTERVAL = Duration.ofMillis(100);
+
   private Logger log;
   private Controller controller;
 
@@ -35,6 +42,10 @@ public class ElasticsearchExporter implements Exporter {
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
 
+  // bulks which are sent but not acknowledged yet, in the order in which they were sent
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private boolean isAcknowledgeScheduled;
+
   @Override
   public void configure(final Context context) {
     log = context.getLogger();
@@ -61,6 +72,7 @@ public class ElasticsearchExporter implements Exporter {
 
     try {
       flush();
+      awaitInFlightBulks();
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -80,6 +92,16 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    if (client.shouldFlush()) {
+      // the full bulk is held back until one of the in-flight bulks is acknowledged
+      flush();
+
+      if (client.shouldFlush()) {
+        controller.retryExportLater();
+        return;
+      }
+    }
+
     client.index(record);
     lastPosition = record.getPosition();
 
@@ -96,6 +118,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk max in-flight requests must not be negative. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -122,8 +151,102 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    client.flush();
-    controller.updateLastExportedRecordPosition(lastPosition);
+    if (configuration.bulk.maxInFlightRequests > 0) {
+      flushAsync();
+    } else {
+      client.flush();
+      controller.updateLastExportedRecordPosition(lastPosition);
+    }
+  }
+
+  /**
+   * Sends the current bulk without waiting for the response. The last exported position is updated
+   * only after the bulk and all bulks which were sent before are acknowledged. If the max number of
+   * in-flight bulks is reached, the bulk is kept and sent once a bulk is acknowledged. While the
+   * kept bulk is full, the exporter asks the broker to pass the record again later.
+   */
+  private void flushAsync() {
+    acknowledgeBulks();
+
+    if (client.isBulkEmpty()) {
+      if (inFlightBulks.isEmpty()) {
+        controller.updateLastExportedRecordPosition(lastPosition);
+      }
+      return;
+    }
+
+    if (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      return;
+    }
+
+    final BulkIndexRequest bulk = client.takeBulk();
+    inFlightBulks.add(new InFlightBulk(bulk, lastPosition, client.flushAsync(bulk)));
+    scheduleAcknowledge();
+  }
+
+  /**
+   * Removes the completed bulks from the head of the in-flight bulks and updates the last exported
+   * position accordingly. The bulks are acknowledged in the order in which they were sent, so a
+   * completed bulk is not acknowledged while a bulk before it is still in flight.
+   *
+   * @throws ElasticsearchExporterException if the oldest bulk failed; the bulk is sent again
+   */
+  private void acknowledgeBulks() {
+    while (!inFlightBulks.isEmpty()) {
+      final InFlightBulk inFlightBulk = inFlightBulks.peek();
+      if (!inFlightBulk.response.isDone()) {
+        return;
+      }
+
+      try {
+        inFlightBulk.response.join();
+      } catch (final CompletionException e) {
+        inFlightBulk.response = client.flushAsync(inFlightBulk.bulk);
+        scheduleAcknowledge();
+        throw new ElasticsearchExporterException(
+            "Failed to flush bulk, will send it again", e.getCause());
+      }
+
+      inFlightBulks.poll();
+      client.releaseBulk(inFlightBulk.bulk);
+      controller.updateLastExportedRecordPosition(inFlightBulk.lastPosition);
+    }
+  }
+
+  private void awaitInFlightBulks() {
+    // the exporter is closed, so it can block until the remaining bulks are acknowledged
+    while (!inFlightBulks.isEmpty()) {
+      // the outcome is handled when the bulk is acknowledged
+      inFlightBulks.peek().response.handle((nothing, error) -> null).join();
+      acknowledgeBulks();
+      flushAsync();
+    }
+  }
+
+  private void scheduleAcknowledge() {
+    if (!isAcknowledgeScheduled) {
+      isAcknowledgeScheduled = true;
+      controller.scheduleTask(ACKNOWLEDGE_INTERVAL, this::acknowledgeAndReschedule);
+    }
+  }
+
+  private void acknowledgeAndReschedule() {
+    isAcknowledgeScheduled = false;
+
+    try {
+      acknowledgeBulks();
+
+      if (client.shouldFlush()) {
+        // send the full bulk which was held back, such that new records are accepted again
+        flushAsync();
+      }
+    } catch (final Exception e) {
+      log.warn("Failed to flush bulk, will retry later.", e);
+    }
+
+    if (!inFlightBulks.isEmpty()) {
+      scheduleAcknowledge();
+    }
   }
 
   private void createIndexTemplates() {
@@ -188,6 +311,21 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  private static final class InFlightBulk {
+    private final BulkIndexRequest bulk;
+    private final long lastPosition;
+    private CompletableFuture<Void> response;
+
+    private InFlightBulk(
+        final BulkIndexRequest bulk,
+        final long lastPosition,
+        final CompletableFuture<Void> response) {
+      this.bulk = bulk;
+      this.lastPosition = lastPosition;
+      this.response = response;
+    }
+  }
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
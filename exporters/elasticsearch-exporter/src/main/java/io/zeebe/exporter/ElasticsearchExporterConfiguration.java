@@ -168,6 +168,8 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // max number of bulks which are sent without waiting for the response; 0 flushes synchronously
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -178,6 +180,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
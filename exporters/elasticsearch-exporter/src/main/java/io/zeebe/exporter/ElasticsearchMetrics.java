@@ -37,6 +37,23 @@ public class ElasticsearchMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram BULK_MEMORY_SIZE_BYTES =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("bulk_memory_size_bytes")
+          .help("Bytes of the serialized records which are sent per flush")
+          .exponentialBuckets(1024, 4, 10)
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram SERIALIZATION_DURATION =
+      Histogram.build()
+          .namespace("zeebe_elasticsearch_exporter")
+          .name("serialization_duration_seconds")
+          .help("Time spent to serialize the records of a bulk in seconds")
+          .labelNames("partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -53,5 +70,10 @@ public class ElasticsearchMetrics {
 
   public void recordBulkMemorySize(final int bulkMemorySize) {
     BULK_MEMORY_SIZE.labels(partitionIdLabel).set(bulkMemorySize);
+    BULK_MEMORY_SIZE_BYTES.labels(partitionIdLabel).observe(bulkMemorySize);
+  }
+
+  public void recordSerializationDuration(final long durationNanos) {
+    SERIALIZATION_DURATION.labels(partitionIdLabel).observe(durationNanos / 1_000_000_000D);
   }
 }
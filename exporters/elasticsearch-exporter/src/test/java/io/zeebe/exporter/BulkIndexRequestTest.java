@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+public class BulkIndexRequestTest {
+
+  private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+  private final BulkIndexRequest bulkRequest = new BulkIndexRequest(MAX_RETAINED_CAPACITY);
+
+  @Test
+  public void shouldSerializeRecordsAsNewlineDelimitedJson() throws IOException {
+    // when
+    bulkRequest.index("index-1", "_doc", "1-1", "1", Map.of("key", 1));
+    bulkRequest.index("index-2", "_doc", "1-2", "1", Map.of("key", 2));
+
+    // then
+    assertThat(bulkRequest.size()).isEqualTo(2);
+    assertThat(EntityUtils.toString(bulkRequest.toEntity(), StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index-1\",\"_type\":\"_doc\",\"_id\":\"1-1\",\"routing\":\"1\"}}\n"
+                + "{\"key\":1}\n"
+                + "{\"index\":{\"_index\":\"index-2\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{\"key\":2}\n");
+    assertThat(bulkRequest.memorySize()).isEqualTo((int) bulkRequest.toEntity().getContentLength());
+  }
+
+  @Test
+  public void shouldIgnoreRecordIfDuplicateOfLast() {
+    // given
+    bulkRequest.index("index", "_doc", "1-1", "1", Map.of());
+    final int memorySize = bulkRequest.memorySize();
+
+    // when
+    bulkRequest.index("index", "_doc", "1-1", "1", Map.of());
+
+    // then
+    assertThat(bulkRequest.size()).isEqualTo(1);
+    assertThat(bulkRequest.memorySize()).isEqualTo(memorySize);
+  }
+
+  @Test
+  public void shouldNotIgnoreRecordIfDifferentFromLast() {
+    // given
+    bulkRequest.index("index", "_doc", "1-1", "1", Map.of());
+    bulkRequest.index("index", "_doc", "1-2", "1", Map.of());
+
+    // when
+    bulkRequest.index("index", "_doc", "1-1", "1", Map.of());
+
+    // then
+    assertThat(bulkRequest.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldReuseBufferAfterReset() throws IOException {
+    // given
+    bulkRequest.index("index", "_doc", "1-1", "1", Map.of());
+
+    // when
+    bulkRequest.reset();
+    bulkRequest.index("index", "_doc", "1-2", "1", Map.of());
+
+    // then
+    assertThat(bulkRequest.size()).isEqualTo(1);
+    assertThat(EntityUtils.toString(bulkRequest.toEntity(), StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{}\n");
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    final Map<String, String> largeRecord =
+        Map.of("value", "x".repeat(2 * MAX_RETAINED_CAPACITY));
+    bulkRequest.index("index", "_doc", "1-1", "1", largeRecord);
+
+    // when
+    bulkRequest.reset();
+
+    // then
+    assertThat(bulkRequest.isEmpty()).isTrue();
+    assertThat(bulkRequest.memorySize()).isZero();
+    assertThat(bulkRequest.serializationDuration()).isZero();
+  }
+}
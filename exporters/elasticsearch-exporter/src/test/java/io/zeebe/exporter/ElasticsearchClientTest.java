@@ -36,7 +36,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
   private ElasticsearchExporterConfiguration configuration;
   private Logger logSpy;
   private ElasticsearchClient client;
-  private ArrayList<String> bulkRequest;
+  private BulkIndexRequest bulkRequest;
 
   @Before
   public void init() {
@@ -44,7 +44,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
 
     configuration = getDefaultConfiguration();
     logSpy = spy(LoggerFactory.getLogger(ElasticsearchClientTest.class));
-    bulkRequest = new ArrayList<>();
+    bulkRequest = new BulkIndexRequest(configuration.bulk.memoryLimit);
     client = new ElasticsearchClient(configuration, logSpy, bulkRequest);
   }
 
@@ -53,7 +53,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     // given
     final String variableValue = "x".repeat(configuration.index.ignoreVariablesAbove);
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mock(ToJsonRecord.class);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getKey()).thenReturn(RECORD_KEY);
     when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
@@ -78,7 +78,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     final long scopeKey = 1234L;
     final long workflowInstanceKey = 5678L;
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mock(ToJsonRecord.class);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getKey()).thenReturn(RECORD_KEY);
     when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
@@ -116,7 +116,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     // given
     final int bulkSize = 10;
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mock(ToJsonRecord.class);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
 
@@ -150,20 +150,20 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
   @Test
   public void shouldIgnoreRecordIfDuplicateOfLast() {
     // given
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mock(ToJsonRecord.class);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.WORKFLOW_INSTANCE);
     when(recordMock.getKey()).thenReturn(RECORD_KEY + 1);
     when(recordMock.toJson()).thenReturn("{}");
 
     client.index(recordMock);
-    assertThat(bulkRequest).hasSize(1);
+    assertThat(bulkRequest.size()).isEqualTo(1);
 
     // when
     client.index(recordMock);
 
     // then
-    assertThat(bulkRequest).hasSize(1);
+    assertThat(bulkRequest.size()).isEqualTo(1);
   }
 
   @Test
@@ -184,7 +184,7 @@ public class ElasticsearchClientTest extends AbstractElasticsearchExporterIntegr
     final VariableRecordValue recordValue = mock(VariableRecordValue.class);
     when(recordValue.getValue()).thenReturn(variableValue1);
 
-    final Record<VariableRecordValue> recordMock = mock(Record.class);
+    final Record<VariableRecordValue> recordMock = mock(ToJsonRecord.class);
     when(recordMock.getKey()).thenReturn(1L);
     when(recordMock.getPartitionId()).thenReturn(1);
     when(recordMock.getValueType()).thenReturn(ValueType.VARIABLE);
@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.zeebe.test.exporter.ExporterTestHarness;
+import io.zeebe.test.exporter.record.MockRecord;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ElasticsearchExporterAsyncFlushTest {
+
+  private static final int MAX_IN_FLIGHT_REQUESTS = 3;
+  private static final long BULK_LATENCY_MS = 1_000;
+  private static final byte[] BULK_RESPONSE =
+      "{\"errors\":false,\"items\":[]}".getBytes(StandardCharsets.UTF_8);
+
+  private final List<String> receivedBulks = new CopyOnWriteArrayList<>();
+  private final AtomicInteger respondedBulks = new AtomicInteger();
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private HttpServer server;
+  private IntToLongFunction latencyMs = request -> 0;
+  private IntPredicate failRequest = request -> false;
+
+  private ExporterTestHarness testHarness;
+
+  @Before
+  public void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/_bulk", this::handleBulk);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    final ElasticsearchExporterConfiguration config = new ElasticsearchExporterConfiguration();
+    config.url = "http://localhost:" + server.getAddress().getPort();
+    config.index.createTemplate = false;
+    config.bulk.size = 1;
+    config.bulk.maxInFlightRequests = MAX_IN_FLIGHT_REQUESTS;
+
+    testHarness = new ExporterTestHarness(new ElasticsearchExporter());
+    testHarness.configure("elasticsearch", config);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+    serverExecutor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldNotWaitForBulkResponses() {
+    // given
+    latencyMs = request -> BULK_LATENCY_MS;
+    testHarness.open();
+
+    // when
+    final long startTime = System.currentTimeMillis();
+    final List<MockRecord> records = export(MAX_IN_FLIGHT_REQUESTS);
+    final long exportDuration = System.currentTimeMillis() - startTime;
+
+    // then
+    assertThat(exportDuration).isLessThan(BULK_LATENCY_MS);
+    assertThat(testHarness.getLastUpdatedPosition()).isEqualTo(-1);
+
+    testHarness.close();
+    assertThat(receivedBulks).hasSize(MAX_IN_FLIGHT_REQUESTS);
+    assertThat(testHarness.getLastUpdatedPosition())
+        .isEqualTo(records.get(records.size() - 1).getPosition());
+  }
+
+  @Test
+  public void shouldUpdatePositionInOrderOfBulks() {
+    // given
+    latencyMs = request -> request == 0 ? BULK_LATENCY_MS : 0;
+    testHarness.open();
+
+    // when
+    final List<MockRecord> records = export(MAX_IN_FLIGHT_REQUESTS);
+    waitUntil(() -> respondedBulks.get() == MAX_IN_FLIGHT_REQUESTS - 1);
+
+    // then - the later bulks are acknowledged, but not the first one
+    assertThat(testHarness.getLastUpdatedPosition()).isEqualTo(-1);
+
+    // when - the next bulk is held back, as the max in-flight requests are reached
+    testHarness.export();
+
+    // then - the exporter doesn't wait for the first bulk, but asks to get the next record later
+    assertThat(receivedBulks).hasSize(MAX_IN_FLIGHT_REQUESTS);
+    assertThat(testHarness.getController().takeRetryRequest()).isFalse();
+    final MockRecord rejectedRecord = testHarness.export();
+    assertThat(testHarness.getController().takeRetryRequest()).isTrue();
+    assertThat(respondedBulks.get()).isEqualTo(MAX_IN_FLIGHT_REQUESTS - 1);
+
+    // when - the record is exported again after the first bulk is acknowledged
+    waitUntil(() -> respondedBulks.get() == MAX_IN_FLIGHT_REQUESTS);
+    testHarness.export(rejectedRecord);
+
+    // then
+    assertThat(testHarness.getController().takeRetryRequest()).isFalse();
+    assertThat(testHarness.getLastUpdatedPosition())
+        .isGreaterThanOrEqualTo(records.get(records.size() - 1).getPosition());
+
+    testHarness.close();
+    assertThat(receivedBulks).hasSize(MAX_IN_FLIGHT_REQUESTS + 2);
+    assertThat(testHarness.getLastUpdatedPosition()).isEqualTo(rejectedRecord.getPosition());
+  }
+
+  @Test
+  public void shouldSendHeldBackBulkOnceBulkIsAcknowledged() {
+    // given
+    latencyMs = request -> request == 0 ? BULK_LATENCY_MS : 0;
+    testHarness.open();
+    export(MAX_IN_FLIGHT_REQUESTS + 1);
+
+    // when
+    waitUntil(() -> respondedBulks.get() == MAX_IN_FLIGHT_REQUESTS);
+    testHarness.runScheduledTasks(Duration.ofSeconds(1));
+
+    // then
+    waitUntil(() -> receivedBulks.size() == MAX_IN_FLIGHT_REQUESTS + 1);
+    assertThat(testHarness.getLastUpdatedPosition()).isGreaterThan(-1);
+  }
+
+  @Test
+  public void shouldSendFailedBulkAgain() {
+    // given
+    failRequest = request -> request == 0;
+    testHarness.open();
+    testHarness.export();
+    waitUntil(() -> respondedBulks.get() == 1);
+
+    // when - the failure is noticed on the next flush
+    final AtomicReference<MockRecord> secondRecord = new AtomicReference<>();
+    assertThatThrownBy(() -> testHarness.export(secondRecord::set))
+        .isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(testHarness.getLastUpdatedPosition()).isEqualTo(-1);
+
+    waitUntil(() -> respondedBulks.get() == 2);
+    testHarness.export(secondRecord.get());
+    testHarness.close();
+
+    // then
+    assertThat(receivedBulks).hasSize(3);
+    assertThat(receivedBulks.get(1)).isEqualTo(receivedBulks.get(0));
+    assertThat(receivedBulks.get(2)).isNotEqualTo(receivedBulks.get(0));
+    assertThat(testHarness.getLastUpdatedPosition()).isEqualTo(secondRecord.get().getPosition());
+  }
+
+  private List<MockRecord> export(final int count) {
+    final List<MockRecord> records = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      records.add(testHarness.export());
+    }
+    return records;
+  }
+
+  private void handleBulk(final HttpExchange exchange) throws IOException {
+    try {
+      receivedBulks.add(
+          new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      final int request = receivedBulks.size() - 1;
+
+      Thread.sleep(latencyMs.applyAsLong(request));
+
+      if (failRequest.test(request)) {
+        exchange.sendResponseHeaders(500, -1);
+      } else {
+        exchange.sendResponseHeaders(200, BULK_RESPONSE.length);
+        try (final OutputStream body = exchange.getResponseBody()) {
+          body.write(BULK_RESPONSE);
+        }
+      }
+      respondedBulks.incrementAndGet();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      exchange.close();
+    }
+  }
+}
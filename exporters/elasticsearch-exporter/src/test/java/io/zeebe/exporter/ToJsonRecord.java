@@ -0,0 +1,36 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordValue;
+import java.io.IOException;
+
+/** A record which is serialized as the JSON returned by {@link #toJson()}, e.g. when mocked. */
+@JsonSerialize(using = ToJsonRecord.Serializer.class)
+abstract class ToJsonRecord<T extends RecordValue> implements Record<T> {
+
+  @Override
+  public abstract Record<T> clone();
+
+  static final class Serializer extends JsonSerializer<ToJsonRecord<?>> {
+
+    @Override
+    public void serialize(
+        final ToJsonRecord<?> record,
+        final JsonGenerator generator,
+        final SerializerProvider serializers)
+        throws IOException {
+      generator.writeRawValue(record.toJson());
+    }
+  }
+}
@@ -8,18 +8,27 @@
 package io.zeebe.el.impl;
 
 import io.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> variableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final var names = new HashSet<String>();
+    collectVariableNames(expression.expression(), names);
+    variableNames = Set.copyOf(names);
   }
 
   @Override
@@ -59,10 +68,39 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Collects the names of the variables which are referenced in the given expression, by walking
+   * the syntax tree. The names may include local variables of the expression (e.g. of a for
+   * expression), but every variable which is looked up on evaluation is included.
+   */
+  private static void collectVariableNames(final Object node, final Set<String> names) {
+    if (node instanceof Ref) {
+      final var ref = (Ref) node;
+      names.add(ref.names().head());
+
+    } else if (node instanceof Product) {
+      final var elements = ((Product) node).productIterator();
+      while (elements.hasNext()) {
+        collectVariableNames(elements.next(), names);
+      }
+
+    } else if (node instanceof Iterable) {
+      final var elements = ((Iterable<?>) node).iterator();
+      while (elements.hasNext()) {
+        collectVariableNames(elements.next(), names);
+      }
+    }
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
 
+  /** @return the names of the variables which are referenced in the expression */
+  public Set<String> getVariableNames() {
+    return variableNames;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -40,6 +40,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  // reused for all evaluations, like the value mapper of the engine
+  private final FeelVariableContext feelContext = new FeelVariableContext();
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final ActorClock clock) {
@@ -107,9 +110,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    feelContext.wrap(context, feelExpression.getVariableNames());
 
-    final Either<Failure, Object> evalResult = feelEngine.eval(parsedExpression, feelContext);
+    final Either<Failure, Object> evalResult;
+    try {
+      evalResult = feelEngine.eval(parsedExpression, feelContext);
+    } finally {
+      feelContext.reset();
+    }
 
     if (evalResult.isLeft()) {
       final var failure = evalResult.left().get();
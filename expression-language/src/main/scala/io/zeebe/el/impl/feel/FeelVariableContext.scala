@@ -10,15 +10,37 @@ package io.zeebe.el.impl.feel
 import io.zeebe.el.EvaluationContext
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
-class FeelVariableContext(context: EvaluationContext) extends CustomContext {
+/**
+ * A context which looks up the variables of an expression in the wrapped evaluation context. It
+ * can be reused for multiple evaluations. Only the variables which are referenced by the
+ * expression are looked up, other names (e.g. of functions) are not resolved as variables.
+ */
+class FeelVariableContext extends CustomContext {
+
+  private var context: EvaluationContext = _
+  private var variableNames: java.util.Set[String] = java.util.Set.of()
+
+  def wrap(context: EvaluationContext, variableNames: java.util.Set[String]): Unit = {
+    this.context = context
+    this.variableNames = variableNames
+  }
+
+  def reset(): Unit = {
+    context = null
+    variableNames = java.util.Set.of()
+  }
 
   override val variableProvider: VariableProvider = new EvaluationContextWrapper
 
   class EvaluationContextWrapper extends VariableProvider {
 
     override def getVariable(name: String): Option[Any] = {
-      Option(context.getVariable(name))
-        .filter(_.capacity > 0)
+      if (variableNames.contains(name)) {
+        Option(context.getVariable(name))
+          .filter(_.capacity > 0)
+      } else {
+        None
+      }
     }
 
     override def keys: Iterable[String] = List.empty
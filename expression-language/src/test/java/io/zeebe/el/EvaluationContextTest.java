@@ -10,6 +10,7 @@ package io.zeebe.el;
 import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.junit.Test;
@@ -103,6 +104,26 @@ public class EvaluationContextTest {
     assertThat(evaluationResult.toBuffer()).isEqualTo(variable);
   }
 
+  @Test
+  public void shouldLookupOnlyReferencedVariables() {
+    // given
+    final var variables = Map.of("x", asMsgPack("1"), "y", asMsgPack("2"));
+    final var lookedUpVariables = new ArrayList<String>();
+    final EvaluationContext context =
+        name -> {
+          lookedUpVariables.add(name);
+          return variables.get(name);
+        };
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=sum([x, y])");
+    final var evaluationResult = expressionLanguage.evaluateExpression(expression, context);
+
+    // then
+    assertThat(evaluationResult.getNumber()).isEqualTo(3L);
+    assertThat(lookedUpVariables).doesNotContain("sum").contains("x", "y");
+  }
+
   private EvaluationResult evaluateExpressionWithContext(final DirectBuffer variable) {
     final var parseExpression = expressionLanguage.parseExpression("=x");
     final var evaluationResult =
@@ -10,6 +10,7 @@ package io.zeebe.el;
 import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.el.impl.FeelExpression;
 import io.zeebe.el.impl.StaticExpression;
 import java.util.Map;
 import org.junit.Test;
@@ -168,6 +169,15 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult.getFailureMessage()).isNull();
   }
 
+  @Test
+  public void shouldCollectReferencedVariableNames() {
+    final var expression =
+        expressionLanguage.parseExpression("=if x.y > 1 then count(z) else appendTo(x, {a: 1})");
+
+    assertThat(expression).isInstanceOf(FeelExpression.class);
+    assertThat(((FeelExpression) expression).getVariableNames()).containsOnly("x", "z");
+  }
+
   @Test
   public void shouldEvaluateExpressionWithMissingVariables() {
     final var expression = expressionLanguage.parseExpression("=x");
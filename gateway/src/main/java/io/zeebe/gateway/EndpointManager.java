@@ -20,19 +20,24 @@ import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerRejection;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -49,6 +54,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -59,23 +65,32 @@ import io.zeebe.msgpack.MsgpackPropertyException;
 import io.zeebe.util.VersionUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
 
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
+  private final JobStreamHandler jobStreamHandler;
   private final RequestRetryHandler requestRetryHandler;
 
   public EndpointManager(
-      final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
+      final BrokerClient brokerClient,
+      final ActivateJobsHandler activateJobsHandler,
+      final JobStreamHandler jobStreamHandler) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = activateJobsHandler;
+    this.jobStreamHandler = jobStreamHandler;
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
   }
 
@@ -122,6 +137,12 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    return jobStreamHandler.openStream(responseObserver);
+  }
+
   @Override
   public void cancelWorkflowInstance(
       final CancelWorkflowInstanceRequest request,
@@ -144,6 +165,46 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    final Collection<BrokerCompleteJobBatchRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobBatchRequests(request);
+    } catch (final Exception e) {
+      responseObserver.onError(convertThrowable(e));
+      return;
+    }
+
+    suppressCancelledException(request, responseObserver);
+
+    // a rejected batch means that none of its jobs could be completed, which doesn't fail the jobs
+    // of the other partitions; any other error fails the whole request to let the client retry it
+    final List<CompletableFuture<List<Long>>> completedJobKeys =
+        brokerRequests.stream()
+            .map(
+                brokerRequest ->
+                    brokerClient
+                        .sendRequestWithRetry(brokerRequest)
+                        .thenApply(response -> response.getResponse().getJobKeys())
+                        .exceptionally(EndpointManager::ignoreRejection))
+            .collect(Collectors.toList());
+
+    CompletableFuture.allOf(completedJobKeys.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (nothing, error) -> {
+              if (error == null) {
+                final List<Long> jobKeys = new ArrayList<>();
+                completedJobKeys.forEach(keys -> jobKeys.addAll(keys.join()));
+                responseObserver.onNext(ResponseMapper.toCompleteJobsResponse(jobKeys));
+                responseObserver.onCompleted();
+              } else {
+                responseObserver.onError(convertThrowable(unwrapCompletionException(error)));
+              }
+            });
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -382,6 +443,21 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
     }
   }
 
+  private static List<Long> ignoreRejection(final Throwable error) {
+    final Throwable cause = unwrapCompletionException(error);
+    if (cause instanceof BrokerRejectionException) {
+      return Collections.emptyList();
+    }
+    throw new CompletionException(cause);
+  }
+
+  private static Throwable unwrapCompletionException(final Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+    return error;
+  }
+
   public static StatusRuntimeException convertThrowable(final Throwable cause) {
     Status status = Status.INTERNAL;
 
@@ -18,6 +18,7 @@ import io.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.zeebe.util.VersionUtil;
@@ -107,7 +108,10 @@ public final class Gateway {
     } else {
       activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
     }
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final JobStreamHandler jobStreamHandler = new JobStreamHandler(brokerClient);
+    actorScheduler.submitActor(jobStreamHandler);
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
 
     final ServerBuilder serverBuilder = serverBuilderFactory.apply(gatewayCfg);
 
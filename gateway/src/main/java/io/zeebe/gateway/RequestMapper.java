@@ -7,8 +7,10 @@
  */
 package io.zeebe.gateway;
 
+import io.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCancelWorkflowInstanceRequest;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
@@ -22,6 +24,7 @@ import io.zeebe.gateway.impl.broker.request.BrokerUpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
@@ -29,11 +32,16 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowRequestObject;
 import io.zeebe.msgpack.value.DocumentValue;
+import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -85,6 +93,26 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  /**
+   * Groups the jobs by the partition they belong to, such that all jobs of a partition can be
+   * completed with one command.
+   */
+  public static Collection<BrokerCompleteJobBatchRequest> toCompleteJobBatchRequests(
+      final CompleteJobsRequest grpcRequest) {
+    if (grpcRequest.getJobsCount() == 0) {
+      throw new InvalidBrokerRequestArgumentException("jobs", "not empty", "empty");
+    }
+
+    final Map<Integer, BrokerCompleteJobBatchRequest> requestsByPartition = new HashMap<>();
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      final int partitionId = Protocol.decodePartitionId(job.getJobKey());
+      requestsByPartition
+          .computeIfAbsent(partitionId, BrokerCompleteJobBatchRequest::new)
+          .addJob(job.getJobKey(), ensureJsonSet(job.getVariables()));
+    }
+    return requestsByPartition.values();
+  }
+
   public static BrokerCreateWorkflowInstanceRequest toCreateWorkflowInstanceRequest(
       final CreateWorkflowInstanceRequest grpcRequest) {
     final BrokerCreateWorkflowInstanceRequest brokerRequest =
@@ -146,6 +174,15 @@ public final class RequestMapper {
         .setVariables(grpcRequest.getFetchVariableList());
   }
 
+  public static BrokerActivateJobsRequest toActivateJobsRequest(
+      final StreamActivatedJobsRequest grpcRequest, final int maxJobsToActivate) {
+    return new BrokerActivateJobsRequest(grpcRequest.getType())
+        .setTimeout(grpcRequest.getTimeout())
+        .setWorker(grpcRequest.getWorker())
+        .setMaxJobsToActivate(maxJobsToActivate)
+        .setVariables(grpcRequest.getFetchVariableList());
+  }
+
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
       final ResolveIncidentRequest grpcRequest) {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
@@ -14,6 +14,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
@@ -33,6 +34,7 @@ import io.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceResultRecord;
+import java.util.Collection;
 import java.util.Iterator;
 import org.agrona.DirectBuffer;
 
@@ -81,6 +83,11 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final Collection<Long> completedJobKeys) {
+    return CompleteJobsResponse.newBuilder().addAllCompletedJobKeys(completedJobKeys).build();
+  }
+
   public static CreateWorkflowInstanceResponse toCreateWorkflowInstanceResponse(
       final long key, final WorkflowInstanceCreationRecord brokerResponse) {
     return CreateWorkflowInstanceResponse.newBuilder()
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import org.slf4j.Logger;
+
+/**
+ * The state of a stream which is opened by a job worker. The stream is registered by its first
+ * request; the credits of all requests are the number of jobs which can still be pushed to the
+ * worker. The jobs are activated by the {@link JobStreamGroup} of the stream. Must only be accessed
+ * by the {@link JobStreamHandler} actor.
+ */
+final class JobStream {
+
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final StreamObserver<ActivatedJob> responseObserver;
+
+  private StreamActivatedJobsRequest registration;
+  private JobStreamGroup group;
+  private int credits;
+  private boolean isClosed;
+
+  JobStream(final StreamObserver<ActivatedJob> responseObserver) {
+    this.responseObserver = responseObserver;
+  }
+
+  boolean isRegistered() {
+    return registration != null;
+  }
+
+  void register(final StreamActivatedJobsRequest request, final JobStreamGroup group) {
+    registration = request;
+    this.group = group;
+  }
+
+  JobStreamGroup getGroup() {
+    return group;
+  }
+
+  String getType() {
+    return registration.getType();
+  }
+
+  String getWorker() {
+    return registration.getWorker();
+  }
+
+  int getCredits() {
+    return credits;
+  }
+
+  void addCredits(final int credits) {
+    this.credits += credits;
+  }
+
+  /**
+   * Pushes the activated job to the worker; every job consumes one credit.
+   *
+   * @return {@code false} if the job could not be pushed, because the stream is closed
+   */
+  boolean push(final ActivatedJob job) {
+    if (isClosed) {
+      return false;
+    }
+
+    try {
+      responseObserver.onNext(job);
+      credits -= 1;
+      return true;
+    } catch (final Exception e) {
+      LOG.warn("Failed to push job to worker '{}', closing the stream", getWorker(), e);
+      isClosed = true;
+      return false;
+    }
+  }
+
+  boolean isClosed() {
+    return isClosed;
+  }
+
+  void close() {
+    if (!isClosed) {
+      isClosed = true;
+      try {
+        responseObserver.onCompleted();
+      } catch (final Exception e) {
+        LOG.debug("Failed to complete job stream", e);
+      }
+    }
+  }
+
+  void reject(final String message) {
+    isClosed = true;
+    responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(message).asRuntimeException());
+  }
+
+  /** Marks the stream as closed after the worker closed it or the stream failed. */
+  void onClosedByWorker() {
+    isClosed = true;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.zeebe.gateway.RequestMapper;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The streams which are registered with the same job type, worker, timeout and fetch variables,
+ * e.g. by several instances of the same job worker. The jobs of a group are activated for all of
+ * its streams at once - at most as many as the streams have credits together - and the activated
+ * jobs are distributed round-robin over the streams which have credits left. Must only be accessed
+ * by the {@link JobStreamHandler} actor.
+ */
+final class JobStreamGroup {
+
+  private final StreamActivatedJobsRequest registration;
+  private final List<JobStream> streams = new ArrayList<>();
+
+  private int nextStream;
+  private boolean isActivating;
+  private boolean hasPendingNotification;
+
+  /** @param registration the registration of the streams, without credits */
+  JobStreamGroup(final StreamActivatedJobsRequest registration) {
+    this.registration = registration;
+  }
+
+  /** @return the registration which identifies the group, without credits */
+  static StreamActivatedJobsRequest groupKey(final StreamActivatedJobsRequest registration) {
+    return registration.toBuilder().clearCredits().build();
+  }
+
+  /** @return the registration of the streams, without credits */
+  StreamActivatedJobsRequest getKey() {
+    return registration;
+  }
+
+  String getType() {
+    return registration.getType();
+  }
+
+  void add(final JobStream stream) {
+    streams.add(stream);
+  }
+
+  void remove(final JobStream stream) {
+    streams.remove(stream);
+  }
+
+  void removeClosedStreams() {
+    streams.removeIf(JobStream::isClosed);
+  }
+
+  boolean isEmpty() {
+    return streams.isEmpty();
+  }
+
+  /** @return the credits of all streams of the group */
+  int getCredits() {
+    int credits = 0;
+    for (final JobStream stream : streams) {
+      if (!stream.isClosed()) {
+        credits += stream.getCredits();
+      }
+    }
+    return credits;
+  }
+
+  boolean isActivating() {
+    return isActivating;
+  }
+
+  /** @return a request which activates at most the given number of jobs for the group */
+  BrokerActivateJobsRequest startActivation(final int credits) {
+    isActivating = true;
+    hasPendingNotification = false;
+    return RequestMapper.toActivateJobsRequest(registration, credits);
+  }
+
+  /**
+   * Completes the activation.
+   *
+   * @return {@code true} if jobs of the type were notified as available during the activation
+   */
+  boolean completeActivation() {
+    isActivating = false;
+    return hasPendingNotification;
+  }
+
+  void notifyJobsAvailable() {
+    hasPendingNotification = true;
+  }
+
+  /**
+   * Distributes the activated jobs over the streams which have credits left, starting after the
+   * stream which received the last job. If no stream can take a job anymore, e.g. because the
+   * streams were closed in the meantime, the job is not pushed and is activated again after its
+   * timeout.
+   */
+  void push(final ActivateJobsResponse response) {
+    for (final ActivatedJob job : response.getJobsList()) {
+      pushToNextStream(job);
+    }
+  }
+
+  private void pushToNextStream(final ActivatedJob job) {
+    for (int i = 0; i < streams.size(); i++) {
+      final JobStream stream = streams.get((nextStream + i) % streams.size());
+      if (!stream.isClosed() && stream.getCredits() > 0 && stream.push(job)) {
+        nextStream = (nextStream + i + 1) % streams.size();
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.impl.broker.BrokerClient;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.zeebe.util.sched.Actor;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * Activates jobs on behalf of the streams of job workers and sends them on the streams. Brokers
+ * don't push jobs: the gateway sends activate jobs requests to the brokers - for at most as many
+ * jobs as the streams have credits - when a stream is opened, when a worker grants new credits and
+ * when the brokers notify that jobs of the streams' type are available. The streams with the same
+ * registration are grouped, such that the jobs are activated once for the whole group instead of
+ * once per stream, see {@link JobStreamGroup}. Groups which have credits left are probed
+ * periodically, in case a notification was missed.
+ */
+public final class JobStreamHandler extends Actor {
+
+  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(10);
+
+  private final BrokerClient brokerClient;
+  private final RoundRobinActivateJobsHandler activateJobsHandler;
+  private final Duration probeInterval;
+
+  // jobType -> registration without credits -> group of streams
+  private final Map<String, Map<StreamActivatedJobsRequest, JobStreamGroup>> jobTypeGroups =
+      new HashMap<>();
+
+  public JobStreamHandler(final BrokerClient brokerClient) {
+    this(brokerClient, DEFAULT_PROBE_INTERVAL);
+  }
+
+  public JobStreamHandler(final BrokerClient brokerClient, final Duration probeInterval) {
+    this.brokerClient = brokerClient;
+    this.probeInterval = probeInterval;
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+  }
+
+  @Override
+  public String getName() {
+    return "GatewayJobStreamHandler";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    actor.runAtFixedRate(probeInterval, this::probe);
+  }
+
+  /**
+   * Opens a new stream which sends the jobs activated on its behalf to the given observer.
+   *
+   * @param responseObserver the observer of the worker's stream
+   * @return the observer of the requests which register the stream and grant credits
+   */
+  public StreamObserver<StreamActivatedJobsRequest> openStream(
+      final StreamObserver<ActivatedJob> responseObserver) {
+    final JobStream stream = new JobStream(responseObserver);
+
+    return new StreamObserver<>() {
+      @Override
+      public void onNext(final StreamActivatedJobsRequest request) {
+        actor.run(() -> onRequest(stream, request));
+      }
+
+      @Override
+      public void onError(final Throwable throwable) {
+        actor.run(
+            () -> {
+              stream.onClosedByWorker();
+              removeStream(stream);
+            });
+      }
+
+      @Override
+      public void onCompleted() {
+        actor.run(
+            () -> {
+              removeStream(stream);
+              stream.close();
+            });
+      }
+    };
+  }
+
+  private void onRequest(final JobStream stream, final StreamActivatedJobsRequest request) {
+    if (stream.isClosed()) {
+      return;
+    }
+
+    if (!stream.isRegistered()) {
+      final String rejection = validateRegistration(request);
+      if (rejection != null) {
+        stream.reject(rejection);
+        return;
+      }
+
+      final JobStreamGroup group =
+          jobTypeGroups
+              .computeIfAbsent(request.getType(), type -> new HashMap<>())
+              .computeIfAbsent(JobStreamGroup.groupKey(request), JobStreamGroup::new);
+      group.add(stream);
+      stream.register(request, group);
+      LOG.trace(
+          "Opened job stream of worker '{}' for jobs of type '{}'",
+          request.getWorker(),
+          request.getType());
+    }
+
+    if (request.getCredits() < 0) {
+      removeStream(stream);
+      stream.reject(
+          String.format(
+              "Expected to grant a positive number of credits, but was %d", request.getCredits()));
+      return;
+    }
+
+    stream.addCredits(request.getCredits());
+    activateJobs(stream.getGroup());
+  }
+
+  private static String validateRegistration(final StreamActivatedJobsRequest request) {
+    if (request.getType().isBlank()) {
+      return "Expected to open a job stream for a job type, but the type is blank";
+    } else if (request.getWorker().isBlank()) {
+      return "Expected to open a job stream for a worker, but the worker is blank";
+    } else if (request.getTimeout() < 1) {
+      return String.format(
+          "Expected to open a job stream with a timeout of at least 1 ms, but was %d",
+          request.getTimeout());
+    }
+    return null;
+  }
+
+  private void onNotification(final String jobType) {
+    actor.run(
+        () -> {
+          final Map<StreamActivatedJobsRequest, JobStreamGroup> groups =
+              jobTypeGroups.get(jobType);
+          if (groups == null) {
+            return;
+          }
+
+          LOG.trace(
+              "Received jobs available notification for {} stream groups of type {}",
+              groups.size(),
+              jobType);
+          for (final JobStreamGroup group : groups.values()) {
+            if (group.isActivating()) {
+              // the running activation may have missed the new jobs
+              group.notifyJobsAvailable();
+            } else {
+              activateJobs(group);
+            }
+          }
+        });
+  }
+
+  private void activateJobs(final JobStreamGroup group) {
+    if (group.isActivating()) {
+      return;
+    }
+
+    final int credits = group.getCredits();
+    if (credits <= 0) {
+      return;
+    }
+
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null) {
+      // the group is probed again when the topology is known
+      return;
+    }
+
+    final BrokerActivateJobsRequest request = group.startActivation(credits);
+    activateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        request,
+        credits,
+        group.getType(),
+        response -> actor.submit(() -> group.push(response)),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            actor.submit(() -> onActivationCompleted(group, credits - remainingAmount)));
+  }
+
+  private void onActivationCompleted(final JobStreamGroup group, final int activatedJobs) {
+    final boolean hasPendingNotification = group.completeActivation();
+
+    // streams which failed while the jobs were pushed
+    group.removeClosedStreams();
+    if (group.isEmpty()) {
+      removeGroup(group);
+    } else if (activatedJobs > 0 || hasPendingNotification) {
+      // more jobs may be available, otherwise the group waits for the next notification
+      activateJobs(group);
+    }
+  }
+
+  private void removeStream(final JobStream stream) {
+    if (!stream.isRegistered()) {
+      return;
+    }
+
+    final JobStreamGroup group = stream.getGroup();
+    group.remove(stream);
+    if (group.isEmpty()) {
+      removeGroup(group);
+    }
+  }
+
+  private void removeGroup(final JobStreamGroup group) {
+    final Map<StreamActivatedJobsRequest, JobStreamGroup> groups =
+        jobTypeGroups.get(group.getType());
+    if (groups != null && groups.remove(group.getKey(), group) && groups.isEmpty()) {
+      jobTypeGroups.remove(group.getType());
+    }
+  }
+
+  private void probe() {
+    jobTypeGroups.values().forEach(groups -> groups.values().forEach(this::activateJobs));
+  }
+}
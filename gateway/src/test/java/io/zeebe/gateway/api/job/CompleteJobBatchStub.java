@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class CompleteJobBatchStub
+    implements RequestStub<BrokerCompleteJobBatchRequest, BrokerResponse<JobBatchRecord>> {
+
+  public static final long JOB_BATCH_KEY = 123;
+
+  private final Set<Integer> rejectingPartitions = new HashSet<>();
+
+  @Override
+  public BrokerResponse<JobBatchRecord> handle(final BrokerCompleteJobBatchRequest request)
+      throws Exception {
+    final int partitionId = request.getPartitionId();
+    if (rejectingPartitions.contains(partitionId)) {
+      return new BrokerRejectionResponse<>(
+          new BrokerRejection(
+              JobBatchIntent.COMPLETE, JOB_BATCH_KEY, RejectionType.NOT_FOUND, "not found"));
+    }
+
+    final JobBatchRecord responseValue = new JobBatchRecord();
+    request
+        .getRequestWriter()
+        .jobKeys()
+        .forEach(key -> responseValue.jobKeys().add().setValue(key.getValue()));
+    return new BrokerResponse<>(responseValue, partitionId, JOB_BATCH_KEY);
+  }
+
+  public CompleteJobBatchStub rejectOnPartition(final int partitionId) {
+    rejectingPartitions.add(partitionId);
+    return this;
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerCompleteJobBatchRequest.class, this);
+  }
+}
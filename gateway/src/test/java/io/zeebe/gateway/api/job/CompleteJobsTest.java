@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobBatchRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.test.util.MsgPackUtil;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long JOB_KEY_1 = Protocol.encodePartitionId(1, 10);
+  private static final long JOB_KEY_2 = Protocol.encodePartitionId(1, 11);
+  private static final long JOB_KEY_3 = Protocol.encodePartitionId(2, 12);
+
+  @Test
+  public void shouldCompleteJobsWithOneRequestPerPartition() {
+    // given
+    new CompleteJobBatchStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(JOB_KEY_1, "{\"a\":1}"))
+            .addJobs(job(JOB_KEY_2, ""))
+            .addJobs(job(JOB_KEY_3, "{\"b\":2}"))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getCompletedJobKeysList())
+        .containsExactlyInAnyOrder(JOB_KEY_1, JOB_KEY_2, JOB_KEY_3);
+
+    final List<BrokerCompleteJobBatchRequest> brokerRequests = getBrokerRequests();
+    assertThat(brokerRequests)
+        .extracting(BrokerCompleteJobBatchRequest::getPartitionId)
+        .containsExactlyInAnyOrder(1, 2);
+    assertThat(brokerRequests)
+        .allSatisfy(
+            brokerRequest -> {
+              assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.JOB_BATCH);
+              assertThat(brokerRequest.getIntent()).isEqualTo(JobBatchIntent.COMPLETE);
+            });
+
+    final JobBatchRecord firstPartitionBatch =
+        brokerRequests.stream()
+            .filter(brokerRequest -> brokerRequest.getPartitionId() == 1)
+            .findFirst()
+            .orElseThrow()
+            .getRequestWriter();
+    assertThat(firstPartitionBatch.getJobKeys()).containsExactly(JOB_KEY_1, JOB_KEY_2);
+    MsgPackUtil.assertEqualityExcluding(
+        firstPartitionBatch.jobs().iterator().next().getVariablesBuffer(), "{\"a\":1}");
+  }
+
+  @Test
+  public void shouldOmitJobsOfRejectedBatch() {
+    // given
+    new CompleteJobBatchStub().rejectOnPartition(2).registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(JOB_KEY_1, ""))
+            .addJobs(job(JOB_KEY_3, ""))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getCompletedJobKeysList()).containsExactly(JOB_KEY_1);
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // given
+    new CompleteJobBatchStub().registerWith(brokerClient);
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJobs(CompleteJobsRequest.getDefaultInstance()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(error -> ((StatusRuntimeException) error).getStatus().getCode())
+        .isEqualTo(Code.INVALID_ARGUMENT);
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static CompleteJobRequest job(final long jobKey, final String variables) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(variables).build();
+  }
+
+  private List<BrokerCompleteJobBatchRequest> getBrokerRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .map(BrokerCompleteJobBatchRequest.class::cast)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class JobStreamHandlerTest {
+
+  private static final String TYPE = "test";
+  private static final Duration PROBE_INTERVAL = Duration.ofSeconds(20);
+
+  private final ControlledActorClock actorClock = new ControlledActorClock();
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(actorClock);
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub stub = new ActivateJobsStub();
+  private JobStreamHandler handler;
+
+  @Before
+  public void setup() {
+    handler = new JobStreamHandler(brokerClient, PROBE_INTERVAL);
+    actorSchedulerRule.submitActor(handler).join();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs(TYPE, 0);
+  }
+
+  @Test
+  public void shouldPushAvailableJobsUpToCredits() {
+    // given
+    stub.addAvailableJobs(TYPE, 5);
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+
+    // when
+    final StreamObserver<StreamActivatedJobsRequest> stream = handler.openStream(worker);
+    stream.onNext(registration(3));
+
+    // then
+    verify(worker, timeout(5_000).times(3)).onNext(any());
+
+    // when
+    stream.onNext(StreamActivatedJobsRequest.newBuilder().setCredits(4).build());
+
+    // then
+    verify(worker, timeout(5_000).times(5)).onNext(any());
+  }
+
+  @Test
+  public void shouldPushJobsWhenNotifiedAboutAvailableJobs() {
+    // given
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+    final StreamObserver<StreamActivatedJobsRequest> stream = handler.openStream(worker);
+    stream.onNext(registration(3));
+
+    // when
+    stub.addAvailableJobs(TYPE, 2);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(worker, timeout(5_000).times(2)).onNext(any());
+  }
+
+  @Test
+  public void shouldNotPushJobsWithoutCredits() {
+    // given
+    stub.addAvailableJobs(TYPE, 2);
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+    final StreamObserver<StreamActivatedJobsRequest> stream = handler.openStream(worker);
+    stream.onNext(registration(1));
+    verify(worker, timeout(5_000).times(1)).onNext(any());
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE);
+    stream.onNext(StreamActivatedJobsRequest.newBuilder().setCredits(0).build());
+
+    // then
+    verify(worker, after(500).times(1)).onNext(any());
+  }
+
+  @Test
+  public void shouldProbeStreamsWithCredits() {
+    // given
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+    final StreamObserver<StreamActivatedJobsRequest> stream = handler.openStream(worker);
+    stream.onNext(registration(1));
+
+    // when - the jobs become available without a notification
+    stub.addAvailableJobs(TYPE, 1);
+    actorClock.addTime(PROBE_INTERVAL);
+
+    // then
+    verify(worker, timeout(5_000).times(1)).onNext(any());
+  }
+
+  @Test
+  public void shouldNotPushJobsAfterStreamIsCompleted() {
+    // given
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+    final StreamObserver<StreamActivatedJobsRequest> stream = handler.openStream(worker);
+    stream.onNext(registration(1));
+
+    // when
+    stream.onCompleted();
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(worker, timeout(5_000)).onCompleted();
+    verify(worker, after(500).never()).onNext(any());
+  }
+
+  @Test
+  public void shouldActivateJobsOnceForStreamsWithSameRegistration() {
+    // given
+    final StreamObserver<ActivatedJob> firstWorker = mockWorker();
+    final StreamObserver<ActivatedJob> secondWorker = mockWorker();
+    handler.openStream(firstWorker).onNext(registration(2));
+    handler.openStream(secondWorker).onNext(registration(2));
+    verify(firstWorker, after(500).never()).onNext(any());
+    final int sentRequests = brokerClient.getBrokerRequests().size();
+
+    // when
+    stub.addAvailableJobs(TYPE, 4);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(firstWorker, timeout(5_000).times(2)).onNext(any());
+    verify(secondWorker, timeout(5_000).times(2)).onNext(any());
+    assertThat(brokerClient.getBrokerRequests()).hasSize(sentRequests + 1);
+  }
+
+  @Test
+  public void shouldRejectStreamWithoutType() {
+    // given
+    final StreamObserver<ActivatedJob> worker = mockWorker();
+
+    // when
+    handler
+        .openStream(worker)
+        .onNext(StreamActivatedJobsRequest.newBuilder().setWorker("worker").setTimeout(1).build());
+
+    // then
+    verify(worker, timeout(5_000))
+        .onError(argThat(error -> Status.fromThrowable(error).getCode() == Code.INVALID_ARGUMENT));
+    verify(worker, never()).onNext(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static StreamObserver<ActivatedJob> mockWorker() {
+    return mock(StreamObserver.class);
+  }
+
+  private static StreamActivatedJobsRequest registration(final int credits) {
+    return StreamActivatedJobsRequest.newBuilder()
+        .setType(TYPE)
+        .setWorker("worker")
+        .setTimeout(Duration.ofMinutes(5).toMillis())
+        .setCredits(credits)
+        .build();
+  }
+}
@@ -25,12 +25,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final List<Consumer<String>> jobsAvailableHandlers = new CopyOnWriteArrayList<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -107,7 +108,7 @@ public final class StubbedBrokerClient implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+    jobsAvailableHandlers.add(handler);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -117,7 +118,11 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    jobsAvailableHandlers.forEach(handler -> handler.accept(type));
+  }
+
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
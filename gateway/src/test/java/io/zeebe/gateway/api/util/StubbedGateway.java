@@ -13,6 +13,7 @@ import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.zeebe.gateway.EndpointManager;
 import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.impl.job.JobStreamHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
@@ -26,6 +27,7 @@ public final class StubbedGateway {
 
   private final StubbedBrokerClient brokerClient;
   private final ActivateJobsHandler activateJobsHandler;
+  private final JobStreamHandler jobStreamHandler;
   private final ActorScheduler actorScheduler;
   private Server server;
 
@@ -36,13 +38,16 @@ public final class StubbedGateway {
     this.actorScheduler = actorScheduler;
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
+    jobStreamHandler = new JobStreamHandler(brokerClient);
   }
 
   public void start() throws IOException {
     if (activateJobsHandler instanceof LongPollingActivateJobsHandler) {
       actorScheduler.submitActor((LongPollingActivateJobsHandler) activateJobsHandler);
     }
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    actorScheduler.submitActor(jobStreamHandler);
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
     final InProcessServerBuilder serverBuilder =
         InProcessServerBuilder.forName(SERVER_NAME).addService(endpointManager);
     server = serverBuilder.build();
@@ -23,6 +23,7 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.zeebe.protocol.Protocol;
@@ -56,6 +57,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
 
   private long sourceEventPosition;
   private int sourceIndex;
+  private long sourcePosition;
 
   private BufferWriter metadataWriter;
   private BufferWriter valueWriter;
@@ -85,6 +87,16 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public int getBatchLength() {
+    if (eventCount == 0) {
+      return 0;
+    }
+
+    final int batchLength = eventLength + (eventCount * HEADER_BLOCK_LENGTH);
+    return LogBufferAppender.claimedBatchLength(eventCount, batchLength);
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -110,6 +122,12 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return this;
   }
 
+  @Override
+  public LogEntryBuilder sourcePosition(final long position) {
+    sourcePosition = position;
+    return this;
+  }
+
   @Override
   public LogEntryBuilder metadata(final DirectBuffer buffer, final int offset, final int length) {
     metadataWriterInstance.wrap(buffer, offset, length);
@@ -168,6 +186,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
+    eventBuffer.putLong(eventBufferOffset, sourcePosition, Protocol.ENDIANNESS);
+    eventBufferOffset += SIZE_OF_LONG;
+
     eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
     eventBufferOffset += SIZE_OF_INT;
 
@@ -236,6 +257,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
+      final long sourcePosition = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
+      eventBufferOffset += SIZE_OF_LONG;
+
       final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
@@ -253,6 +277,8 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
 
       if (sourceIndex >= 0 && sourceIndex < i) {
         setSourceEventPosition(writeBuffer, bufferOffset, firstPosition + sourceIndex);
+      } else if (sourcePosition >= 0) {
+        setSourceEventPosition(writeBuffer, bufferOffset, sourcePosition);
       } else {
         setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
       }
@@ -277,6 +303,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   private void resetEvent() {
     key = LogEntryDescriptor.KEY_NULL_VALUE;
     sourceIndex = -1;
+    sourcePosition = -1L;
 
     metadataWriter = metadataWriterInstance;
     valueWriter = null;
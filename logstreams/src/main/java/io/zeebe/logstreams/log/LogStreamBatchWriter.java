@@ -25,6 +25,13 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * Returns the length which the log entries, that were added to the batch so far, claim in the log
+   * stream write buffer. The batch can only be written if it is shorter than the {@link
+   * #getMaxFragmentLength() max fragment length}.
+   */
+  int getBatchLength();
+
   /** Discard all non-written batch data. */
   void reset();
 
@@ -43,6 +50,14 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
      */
     LogEntryBuilder sourceIndex(int index);
 
+    /**
+     * Set the source event of this log entry, which overrides the source event of the batch. Can be
+     * used if the log entries of the batch are caused by different records.
+     *
+     * @param position the position of the source event
+     */
+    LogEntryBuilder sourcePosition(long position);
+
     /** Set the log entry metadata. */
     LogEntryBuilder metadata(DirectBuffer buffer, int offset, int length);
 
@@ -10,17 +10,24 @@ package io.zeebe.logstreams.storage.atomix;
 import io.atomix.raft.zeebe.ZeebeEntry;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.OrderedLongArrayMap;
 import io.atomix.storage.journal.index.Position;
 import io.atomix.storage.journal.index.SparseJournalIndex;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Maps indexes to the lowest position of their entries. The mapping is kept in primitive arrays
+ * sorted by index; since positions grow with the index, the same arrays are used to look up the
+ * index of a position.
+ *
+ * <p>The index is written by the Raft thread only, but {@link #lookupPosition(long)} may be called
+ * concurrently by log storage readers, which is why accesses to the mapping are guarded by a {@link
+ * StampedLock}.
+ */
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
-      new ConcurrentSkipListMap<>();
+  private final OrderedLongArrayMap indexPositionMapping = new OrderedLongArrayMap();
+  private final StampedLock lock = new StampedLock();
   private final SparseJournalIndex sparseJournalIndex;
   private final int density;
 
@@ -41,8 +48,12 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
         final var lowestPosition = zeebeEntry.lowestPosition();
 
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+        final var stamp = lock.writeLock();
+        try {
+          indexPositionMapping.put(index, lowestPosition);
+        } finally {
+          lock.unlockWrite(stamp);
+        }
       }
     }
 
@@ -56,15 +67,11 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
-
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+    final var stamp = lock.writeLock();
+    try {
+      indexPositionMapping.removeAfter(index);
+    } finally {
+      lock.unlockWrite(stamp);
     }
 
     sparseJournalIndex.truncate(index);
@@ -72,15 +79,14 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
-
-    if (lowerEntry != null) {
-
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
-
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
+    final var stamp = lock.writeLock();
+    try {
+      final var lowerSlot = indexPositionMapping.lowerSlot(index);
+      if (lowerSlot != OrderedLongArrayMap.NO_SLOT) {
+        indexPositionMapping.removeBefore(indexPositionMapping.keyAt(lowerSlot));
+      }
+    } finally {
+      lock.unlockWrite(stamp);
     }
 
     sparseJournalIndex.compact(index);
@@ -88,13 +94,12 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public long lookupPosition(final long position) {
-    long index = -1L;
-
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+    final var stamp = lock.readLock();
+    try {
+      final var slot = indexPositionMapping.floorSlotByValue(position);
+      return slot != OrderedLongArrayMap.NO_SLOT ? indexPositionMapping.keyAt(slot) : -1L;
+    } finally {
+      lock.unlockRead(stamp);
     }
-
-    return index;
   }
 }
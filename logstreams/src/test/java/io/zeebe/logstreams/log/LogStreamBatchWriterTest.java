@@ -350,6 +350,48 @@ public final class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(-1L);
   }
 
+  @Test
+  public void shouldWriteEventWithSourceEventOfEntry() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .sourcePosition(456L)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .event()
+                    .key(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+
+    assertThat(events.get(0).getSourceEventPosition()).isEqualTo(456L);
+    assertThat(events.get(1).getSourceEventPosition()).isEqualTo(123L);
+  }
+
+  @Test
+  public void shouldReturnBatchLength() {
+    // given
+    assertThat(writer.getBatchLength()).isZero();
+
+    // when
+    writer.event().key(1).value(EVENT_VALUE_1).done();
+    final int lengthOfOneEvent = writer.getBatchLength();
+    writer.event().key(2).value(EVENT_VALUE_2).done();
+
+    // then
+    assertThat(lengthOfOneEvent).isPositive();
+    assertThat(writer.getBatchLength()).isGreaterThan(lengthOfOneEvent);
+
+    writer.reset();
+    assertThat(writer.getBatchLength()).isZero();
+  }
+
   @Test
   public void shouldWriteEventWithTimestamp() throws InterruptedException, ExecutionException {
     // given
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.dispatcher;
+
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.FragmentHandler;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a fragment passing through the {@link Dispatcher}: it is claimed, written and committed
+ * by the publisher, and consumed by a subscription on the same thread. The publisher limit is
+ * updated directly after the fragment is consumed, instead of waiting for the dispatcher actor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatcherBenchmark {
+
+  private static final FragmentHandler CONSUME_HANDLER =
+      (buffer, offset, length, streamId, isMarkedFailed) -> FragmentHandler.CONSUME_FRAGMENT_RESULT;
+
+  @Param({"64", "1024"})
+  private int fragmentLength;
+
+  private final ClaimedFragment claimedFragment = new ClaimedFragment();
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+
+  @Setup(Level.Trial)
+  public void openDispatcher() {
+    actorScheduler = ActorScheduler.newActorScheduler().build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .actorScheduler(actorScheduler)
+            .bufferSize(4 * 1024 * 1024)
+            .build();
+    subscription = dispatcher.openSubscription("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDispatcher() throws Exception {
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long claimAndCommit() {
+    final long position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+    if (position >= 0) {
+      claimedFragment.getBuffer().setMemory(claimedFragment.getOffset(), fragmentLength, (byte) 1);
+      claimedFragment.commit();
+    }
+
+    subscription.poll(CONSUME_HANDLER, 1);
+    dispatcher.updatePublisherLimit();
+    return position;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.el;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.Expression;
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.ExpressionLanguageFactory;
+import io.zeebe.engine.processing.common.ExpressionProcessor;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the evaluation of typical conditions of exclusive gateways. The variables are looked up
+ * in a hierarchy of scopes, like in the variable state, where the variables are defined in the root
+ * scope.
+ *
+ * <p>{@code expressionProcessor} evaluates the condition like the engine, {@code
+ * expressionLanguage} evaluates it without the memoized variable lookups of the processor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionEvaluationBenchmark {
+
+  private static final int SCOPE_DEPTH = 3;
+  private static final long SCOPE_KEY = SCOPE_DEPTH;
+
+  @Param({
+    "= amount > 100",
+    "= amount > 100 and status = \"approved\"",
+    "= amount > 10 and amount < 1000 and amount != 500",
+    "= count(items) > 2 and customer.vip"
+  })
+  public String condition;
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+  private final ExpressionProcessor expressionProcessor =
+      new ExpressionProcessor(expressionLanguage, this::lookupVariable);
+  private final EvaluationContext evaluationContext =
+      name -> lookupVariable(SCOPE_KEY, wrapString(name));
+
+  // the variables of the scopes, from the root scope to the innermost scope
+  private final List<Map<DirectBuffer, DirectBuffer>> scopes =
+      List.of(createVariables(), Map.of(), Map.of(), Map.of());
+
+  // like the variable state, the lookup returns a view on a reused buffer
+  private final ExpandableArrayBuffer lookupBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer lookupView = new UnsafeBuffer();
+
+  private Expression expression;
+
+  @Setup
+  public void parseExpression() {
+    expression = expressionLanguage.parseExpression(condition);
+  }
+
+  @Benchmark
+  public Boolean expressionProcessor() {
+    return expressionProcessor.evaluateBooleanExpression(expression, SCOPE_KEY).get();
+  }
+
+  @Benchmark
+  public Boolean expressionLanguage() {
+    return expressionLanguage.evaluateExpression(expression, evaluationContext).getBoolean();
+  }
+
+  private DirectBuffer lookupVariable(final long scopeKey, final DirectBuffer name) {
+    for (long scope = scopeKey; scope >= 0; scope--) {
+      final DirectBuffer value = scopes.get((int) scope).get(name);
+      if (value != null) {
+        lookupBuffer.putBytes(0, value, 0, value.capacity());
+        lookupView.wrap(lookupBuffer, 0, value.capacity());
+        return lookupView;
+      }
+    }
+    return null;
+  }
+
+  private static Map<DirectBuffer, DirectBuffer> createVariables() {
+    final Map<DirectBuffer, DirectBuffer> variables = new HashMap<>();
+    final MsgPackWriter writer = new MsgPackWriter();
+
+    variables.put(wrapString("amount"), encode(writer, () -> writer.writeInteger(250)));
+    variables.put(
+        wrapString("status"), encode(writer, () -> writer.writeString(wrapString("approved"))));
+    variables.put(
+        wrapString("items"),
+        encode(
+            writer,
+            () -> {
+              writer.writeArrayHeader(3);
+              writer.writeInteger(1);
+              writer.writeInteger(2);
+              writer.writeInteger(3);
+            }));
+    variables.put(
+        wrapString("customer"),
+        encode(
+            writer,
+            () -> {
+              writer.writeMapHeader(2);
+              writer.writeString(wrapString("name"));
+              writer.writeString(wrapString("x".repeat(32)));
+              writer.writeString(wrapString("vip"));
+              writer.writeBoolean(true);
+            }));
+    return variables;
+  }
+
+  private static DirectBuffer encode(final MsgPackWriter writer, final Runnable write) {
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    writer.wrap(buffer, 0);
+    write.run();
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.journal;
+
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
+import io.zeebe.logstreams.storage.atomix.ZeebeIndexMapping;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the primitive array based {@link ZeebeIndexAdapter} with the previous implementation,
+ * which kept boxed entries in a {@link TreeMap} and two {@link ConcurrentSkipListMap}s.
+ *
+ * <p>Run with {@code -prof gc}: the normalized allocation rate of {@link #index()} approximates the
+ * heap retained per indexed entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+  private static final ByteBuffer EMPTY_DATA = ByteBuffer.allocate(0);
+
+  @Param({"primitive", "boxed"})
+  private String implementation;
+
+  @Param({"1000000"})
+  private int entryCount;
+
+  private Indexed<ZeebeEntry>[] entries;
+  private JournalIndex journalIndex;
+  private ZeebeIndexMapping indexMapping;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void createEntries() {
+    entries = new Indexed[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      final long index = i + 1L;
+      final long position = index * 10;
+      entries[i] =
+          new Indexed<>(index, new ZeebeEntry(1, 0, position, position + 9, EMPTY_DATA), 0);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void fillIndex() {
+    journalIndex = index();
+    indexMapping = (ZeebeIndexMapping) journalIndex;
+  }
+
+  @Benchmark
+  public JournalIndex index() {
+    final JournalIndex newIndex =
+        "boxed".equals(implementation)
+            ? new BoxedZeebeIndex(DENSITY)
+            : ZeebeIndexAdapter.ofDensity(DENSITY);
+
+    for (int i = 0; i < entryCount; i++) {
+      newIndex.index(entries[i], i * 64);
+    }
+    return newIndex;
+  }
+
+  @Benchmark
+  public Position lookup() {
+    return journalIndex.lookup(ThreadLocalRandom.current().nextLong(1, entryCount + 1));
+  }
+
+  @Benchmark
+  public long lookupPosition() {
+    return indexMapping.lookupPosition(ThreadLocalRandom.current().nextLong(10, entryCount * 10L));
+  }
+
+  /** The boxed index implementation which was used before the primitive one, as baseline. */
+  private static final class BoxedZeebeIndex implements JournalIndex, ZeebeIndexMapping {
+
+    private final TreeMap<Long, Integer> positions = new TreeMap<>();
+    private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
+        new ConcurrentSkipListMap<>();
+    private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
+        new ConcurrentSkipListMap<>();
+    private final int density;
+
+    private BoxedZeebeIndex(final int density) {
+      this.density = density;
+    }
+
+    @Override
+    public void index(final Indexed indexedEntry, final int position) {
+      final long index = indexedEntry.index();
+      if (index % density == 0) {
+        final long lowestPosition = ((ZeebeEntry) indexedEntry.entry()).lowestPosition();
+        positionIndexMapping.put(lowestPosition, index);
+        indexPositionMapping.put(index, lowestPosition);
+        positions.put(index, position);
+      }
+    }
+
+    @Override
+    public Position lookup(final long index) {
+      final Map.Entry<Long, Integer> entry = positions.floorEntry(index);
+      return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    }
+
+    @Override
+    public void truncate(final long index) {
+      final Map.Entry<Long, Long> higherEntry = indexPositionMapping.higherEntry(index);
+      if (higherEntry != null) {
+        indexPositionMapping.tailMap(higherEntry.getKey()).clear();
+        positionIndexMapping.tailMap(higherEntry.getValue()).clear();
+      }
+
+      positions.tailMap(index, false).clear();
+    }
+
+    @Override
+    public void compact(final long index) {
+      final Map.Entry<Long, Long> lowerEntry = indexPositionMapping.lowerEntry(index);
+      if (lowerEntry != null) {
+        indexPositionMapping.headMap(lowerEntry.getKey()).clear();
+        positionIndexMapping.headMap(lowerEntry.getValue()).clear();
+      }
+
+      final Map.Entry<Long, Integer> floorEntry = positions.floorEntry(index);
+      if (floorEntry != null) {
+        positions.headMap(floorEntry.getKey(), false).clear();
+      }
+    }
+
+    @Override
+    public long lookupPosition(final long position) {
+      final Map.Entry<Long, Long> entry = positionIndexMapping.floorEntry(position);
+      return entry != null ? entry.getValue() : -1L;
+    }
+  }
+}
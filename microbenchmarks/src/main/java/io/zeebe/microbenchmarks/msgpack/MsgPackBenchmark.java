@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.msgpack;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the low-level encoding and decoding of a document with {@link MsgPackWriter} and {@link
+ * MsgPackReader}, with the value types which are common in variables: integers, strings, booleans
+ * and arrays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MsgPackBenchmark {
+
+  private static final DirectBuffer ORDER_ID = wrapString("orderId");
+  private static final DirectBuffer CUSTOMER = wrapString("customer");
+  private static final DirectBuffer EXPRESS = wrapString("express");
+  private static final DirectBuffer ITEMS = wrapString("items");
+  private static final DirectBuffer CUSTOMER_VALUE = wrapString("x".repeat(64));
+  private static final int ITEM_COUNT = 10;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer document = new UnsafeBuffer();
+
+  @Setup
+  public void encodeDocument() {
+    final int length = writeDocument();
+    final byte[] bytes = new byte[length];
+    writeBuffer.getBytes(0, bytes);
+    document.wrap(bytes);
+  }
+
+  @Benchmark
+  public int write() {
+    return writeDocument();
+  }
+
+  @Benchmark
+  public long read() {
+    // the document is read by its known layout, like the properties of a record
+    reader.wrap(document, 0, document.capacity());
+    reader.readMapHeader();
+
+    long checksum = 0;
+
+    reader.skipBytes(reader.readStringLength());
+    checksum += reader.readInteger();
+
+    reader.skipBytes(reader.readStringLength());
+    checksum += reader.readStringLength();
+    reader.skipBytes(CUSTOMER_VALUE.capacity());
+
+    reader.skipBytes(reader.readStringLength());
+    checksum += reader.readBoolean() ? 1 : 0;
+
+    reader.skipBytes(reader.readStringLength());
+    final int items = reader.readArrayHeader();
+    for (int i = 0; i < items; i++) {
+      checksum += reader.readInteger();
+    }
+
+    return checksum;
+  }
+
+  @Benchmark
+  public int skip() {
+    reader.wrap(document, 0, document.capacity());
+    reader.skipValue();
+    return reader.getOffset();
+  }
+
+  private int writeDocument() {
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(4);
+
+    writer.writeString(ORDER_ID);
+    writer.writeInteger(123_456_789L);
+
+    writer.writeString(CUSTOMER);
+    writer.writeString(CUSTOMER_VALUE);
+
+    writer.writeString(EXPRESS);
+    writer.writeBoolean(true);
+
+    writer.writeString(ITEMS);
+    writer.writeArrayHeader(ITEM_COUNT);
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      writer.writeInteger(i * 1_000L);
+    }
+
+    return writer.getOffset();
+  }
+}
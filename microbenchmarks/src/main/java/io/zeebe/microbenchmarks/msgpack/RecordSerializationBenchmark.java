@@ -0,0 +1,237 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.msgpack;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization and deserialization of the record values which are written and read
+ * most often: the {@link WorkflowInstanceRecord} of every element transition and the {@link
+ * JobRecord} with its variables and custom headers - and the {@link DeploymentRecord}, which is
+ * rare but carries the whole BPMN resource.
+ *
+ * <p>The lazy variants read the records with lazy decoding, as the stream processor does for the
+ * record types which are decoded lazily. A processor usually reads only a few properties of a
+ * record, and writes the record again with few changes. Compare the eager and lazy variants of a
+ * record type before changing whether the stream processor decodes it lazily.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordSerializationBenchmark {
+
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+
+  private final WorkflowInstanceRecord workflowInstanceRecord = new WorkflowInstanceRecord();
+  private final WorkflowInstanceRecord readWorkflowInstanceRecord = new WorkflowInstanceRecord();
+  private final DirectBuffer encodedWorkflowInstanceRecord = new UnsafeBuffer();
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final JobRecord readJobRecord = new JobRecord();
+  private final DirectBuffer encodedJobRecord = new UnsafeBuffer();
+
+  private final DeploymentRecord deploymentRecord = new DeploymentRecord();
+  private final DeploymentRecord readDeploymentRecord = new DeploymentRecord();
+  private final DirectBuffer encodedDeploymentRecord = new UnsafeBuffer();
+
+  private final WorkflowInstanceRecord lazyWorkflowInstanceRecord = new WorkflowInstanceRecord();
+  private final JobRecord lazyJobRecord = new JobRecord();
+  private final DeploymentRecord lazyDeploymentRecord = new DeploymentRecord();
+
+  @Setup
+  public void createRecords() {
+    workflowInstanceRecord
+        .setBpmnProcessId("order-process")
+        .setVersion(3)
+        .setWorkflowKey(2251799813685249L)
+        .setWorkflowInstanceKey(2251799813685251L)
+        .setElementId("collect-money")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+    encode(workflowInstanceRecord, encodedWorkflowInstanceRecord);
+
+    jobRecord
+        .setType("payment-service")
+        .setWorker("payment-worker")
+        .setRetries(3)
+        .setDeadline(1_600_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setWorkflowDefinitionVersion(3)
+        .setWorkflowKey(2251799813685249L)
+        .setWorkflowInstanceKey(2251799813685251L)
+        .setElementId("collect-money")
+        .setElementInstanceKey(2251799813685260L)
+        .setCustomHeaders(encodeMap("method", "VISA", "timeout", "PT30S"))
+        .setVariables(encodeMap("orderId", "order-123", "customer", "x".repeat(64)));
+    encode(jobRecord, encodedJobRecord);
+
+    deploymentRecord
+        .resources()
+        .add()
+        .setResourceName(wrapString("order-process.bpmn"))
+        .setResourceType(ResourceType.BPMN_XML)
+        .setResource(wrapString("<bpmn:definitions/>".repeat(256)));
+    deploymentRecord
+        .workflows()
+        .add()
+        .setBpmnProcessId(wrapString("order-process"))
+        .setVersion(3)
+        .setKey(2251799813685249L)
+        .setResourceName(wrapString("order-process.bpmn"));
+    encode(deploymentRecord, encodedDeploymentRecord);
+
+    lazyWorkflowInstanceRecord.setLazyDecoding(true);
+    lazyJobRecord.setLazyDecoding(true);
+    lazyDeploymentRecord.setLazyDecoding(true);
+  }
+
+  @Benchmark
+  public int writeWorkflowInstanceRecord() {
+    workflowInstanceRecord.write(writeBuffer, 0);
+    return workflowInstanceRecord.getLength();
+  }
+
+  @Benchmark
+  public long readWorkflowInstanceRecord() {
+    readWorkflowInstanceRecord.wrap(
+        encodedWorkflowInstanceRecord, 0, encodedWorkflowInstanceRecord.capacity());
+    return readWorkflowInstanceRecord.getElementIdBuffer().capacity()
+        + readWorkflowInstanceRecord.getFlowScopeKey();
+  }
+
+  @Benchmark
+  public int writeJobRecord() {
+    jobRecord.write(writeBuffer, 0);
+    return jobRecord.getLength();
+  }
+
+  @Benchmark
+  public long readJobRecord() {
+    readJobRecord.wrap(encodedJobRecord, 0, encodedJobRecord.capacity());
+    return readJobRecord.getTypeBuffer().capacity()
+        + readJobRecord.getVariablesBuffer().capacity()
+        + readJobRecord.getDeadline();
+  }
+
+  @Benchmark
+  public long readOneFieldOfWorkflowInstanceRecord() {
+    readWorkflowInstanceRecord.wrap(
+        encodedWorkflowInstanceRecord, 0, encodedWorkflowInstanceRecord.capacity());
+    return readWorkflowInstanceRecord.getFlowScopeKey();
+  }
+
+  @Benchmark
+  public long readOneFieldOfWorkflowInstanceRecordLazily() {
+    lazyWorkflowInstanceRecord.wrap(
+        encodedWorkflowInstanceRecord, 0, encodedWorkflowInstanceRecord.capacity());
+    return lazyWorkflowInstanceRecord.getFlowScopeKey();
+  }
+
+  @Benchmark
+  public int roundTripWorkflowInstanceRecord() {
+    return roundTrip(readWorkflowInstanceRecord, encodedWorkflowInstanceRecord);
+  }
+
+  @Benchmark
+  public int roundTripWorkflowInstanceRecordLazily() {
+    return roundTrip(lazyWorkflowInstanceRecord, encodedWorkflowInstanceRecord);
+  }
+
+  @Benchmark
+  public long readOneFieldOfJobRecord() {
+    readJobRecord.wrap(encodedJobRecord, 0, encodedJobRecord.capacity());
+    return readJobRecord.getDeadline();
+  }
+
+  @Benchmark
+  public long readOneFieldOfJobRecordLazily() {
+    lazyJobRecord.wrap(encodedJobRecord, 0, encodedJobRecord.capacity());
+    return lazyJobRecord.getDeadline();
+  }
+
+  @Benchmark
+  public int roundTripJobRecord() {
+    return roundTrip(readJobRecord, encodedJobRecord);
+  }
+
+  @Benchmark
+  public int roundTripJobRecordLazily() {
+    return roundTrip(lazyJobRecord, encodedJobRecord);
+  }
+
+  @Benchmark
+  public long readOneFieldOfDeploymentRecord() {
+    readDeploymentRecord.wrap(encodedDeploymentRecord, 0, encodedDeploymentRecord.capacity());
+    return readDeploymentRecord.workflows().iterator().next().getKey();
+  }
+
+  @Benchmark
+  public long readOneFieldOfDeploymentRecordLazily() {
+    lazyDeploymentRecord.wrap(encodedDeploymentRecord, 0, encodedDeploymentRecord.capacity());
+    return lazyDeploymentRecord.workflows().iterator().next().getKey();
+  }
+
+  @Benchmark
+  public int roundTripDeploymentRecord() {
+    return roundTrip(readDeploymentRecord, encodedDeploymentRecord);
+  }
+
+  @Benchmark
+  public int roundTripDeploymentRecordLazily() {
+    return roundTrip(lazyDeploymentRecord, encodedDeploymentRecord);
+  }
+
+  private int roundTrip(final UnpackedObject record, final DirectBuffer encoded) {
+    record.reset();
+    record.wrap(encoded, 0, encoded.capacity());
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  private static void encode(final UnpackedObject record, final DirectBuffer encoded) {
+    final byte[] bytes = new byte[record.getLength()];
+    record.write(new UnsafeBuffer(bytes), 0);
+    encoded.wrap(bytes);
+  }
+
+  private static DirectBuffer encodeMap(final String... keysAndValues) {
+    final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+    final MsgPackWriter writer = new MsgPackWriter().wrap(buffer, 0);
+    writer.writeMapHeader(keysAndValues.length / 2);
+    for (final String keyOrValue : keysAndValues) {
+      writer.writeString(wrapString(keyOrValue));
+    }
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
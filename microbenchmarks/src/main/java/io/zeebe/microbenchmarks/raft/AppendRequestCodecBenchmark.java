@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.raft;
+
+import io.atomix.raft.partition.impl.RaftMessageCodec;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the encoding and decoding of an {@link AppendRequest} by the Kryo serializer of the Raft
+ * protocol with the binary {@link RaftMessageCodec}. The entries are of the size of typical record
+ * batches, and a request carries as many entries as the leader appends at once.
+ *
+ * <p>Run it with {@code -prof gc} to compare the allocated bytes per operation, i.e. per request of
+ * {@code entries} entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppendRequestCodecBenchmark {
+
+  @Param({"1", "8"})
+  private int entries;
+
+  @Param({"512", "4096"})
+  private int entrySize;
+
+  private final Serializer serializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+  private final RaftMessageCodec codec = new RaftMessageCodec(serializer);
+
+  private AppendRequest request;
+  private byte[] serializedRequest;
+  private byte[] encodedRequest;
+
+  @Setup
+  public void createRequest() {
+    final List<RaftLogEntry> requestEntries = new ArrayList<>();
+    for (int i = 0; i < entries; i++) {
+      final byte[] data = new byte[entrySize];
+      ThreadLocalRandom.current().nextBytes(data);
+      requestEntries.add(
+          new ZeebeEntry(3, 1_600_000_000_000L, i * 10, i * 10 + 9, ByteBuffer.wrap(data)));
+    }
+
+    request = new AppendRequest(3, "1", 100, 3, requestEntries, 99);
+    serializedRequest = serializer.encode(request);
+    encodedRequest = codec.encodeAppendRequest(request);
+  }
+
+  @Benchmark
+  public byte[] serializeWithKryo() {
+    return serializer.encode(request);
+  }
+
+  @Benchmark
+  public AppendRequest deserializeWithKryo() {
+    return serializer.decode(serializedRequest);
+  }
+
+  @Benchmark
+  public byte[] encodeWithCodec() {
+    return codec.encodeAppendRequest(request);
+  }
+
+  @Benchmark
+  public AppendRequest decodeWithCodec() {
+    return codec.decodeAppendRequest(encodedRequest);
+  }
+}
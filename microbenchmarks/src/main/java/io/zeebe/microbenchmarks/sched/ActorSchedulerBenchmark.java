@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.sched;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the submission of jobs to an actor from a non-actor thread: the round trip of a single
+ * call, and the throughput of a burst of jobs, which are queued on the actor and executed by the
+ * actor thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActorSchedulerBenchmark {
+
+  private static final int BURST_SIZE = 1_000;
+
+  private ActorScheduler actorScheduler;
+  private CountingActor actor;
+
+  @Setup(Level.Trial)
+  public void startActor() {
+    actorScheduler = ActorScheduler.newActorScheduler().setCpuBoundActorThreadCount(1).build();
+    actorScheduler.start();
+
+    actor = new CountingActor();
+    actorScheduler.submitActor(actor).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopActor() throws Exception {
+    actor.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long callRoundTrip() {
+    return actor.increment().join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST_SIZE)
+  public long submitBurst() {
+    for (int i = 1; i < BURST_SIZE; i++) {
+      actor.incrementAsync();
+    }
+    return actor.increment().join();
+  }
+
+  private static final class CountingActor extends Actor {
+
+    private long counter;
+
+    private ActorFuture<Long> increment() {
+      return actor.call(() -> ++counter);
+    }
+
+    private void incrementAsync() {
+      actor.run(() -> counter++);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.state;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.engine.state.instance.VariablesState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the state access of a workflow instance with a single service task, with and without the
+ * column family profiles: the variables of the instance are written, a job is created, activated
+ * and completed, and the variables are collected and removed again. Every operation runs in its own
+ * transaction, like the processing of a command.
+ *
+ * <p>The database is filled with unrelated jobs and variables first. Both variants use small write
+ * buffers, such that the preloaded state is flushed to SST files and reads are not served from the
+ * memtables only; this is where the bloom filters and the shared block cache of the profiles apply.
+ * {@link #lookupMissingVariables()} resolves variables which don't exist in a preloaded scope, like
+ * the lookup of a variable in the parent scopes, which the bloom filters answer without reading a
+ * data block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ColumnFamilyProfileBenchmark {
+
+  private static final DirectBuffer JOB_TYPE = wrapString("task");
+  private static final DirectBuffer OTHER_JOB_TYPE = wrapString("other-task");
+  private static final DirectBuffer[] VARIABLE_NAMES = {
+    wrapString("orderId"), wrapString("customer"), wrapString("items")
+  };
+  private static final DirectBuffer VARIABLE_VALUE = wrapString("\"" + "x".repeat(100) + "\"");
+  private static final DirectBuffer MISSING_VARIABLE_NAME = wrapString("missing");
+  private static final long WORKFLOW_KEY = 1L;
+  // small enough that the preloaded state doesn't fit into the memtables
+  private static final String WRITE_BUFFER_SIZE = String.valueOf(ByteValue.ofMegabytes(1));
+
+  @Param({"disabled", "enabled"})
+  private String profiles;
+
+  @Param({"100000"})
+  private int preloadedInstances;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
+  private JobState jobState;
+  private VariablesState variablesState;
+  private JobRecord job;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void openDatabase() throws IOException {
+    directory = Files.createTempDirectory("zeebe-state-benchmark");
+    final Properties columnFamilyOptions = new Properties();
+    columnFamilyOptions.put("write_buffer_size", WRITE_BUFFER_SIZE);
+    final ZeebeDbFactory<ZbColumnFamilies> factory =
+        "enabled".equals(profiles)
+            ? DefaultZeebeDbFactory.profiledFactory(columnFamilyOptions, ByteValue.ofMegabytes(32))
+            : DefaultZeebeDbFactory.defaultFactory(columnFamilyOptions);
+    db = factory.createDb(directory.toFile());
+    dbContext = db.createContext();
+
+    final ZeebeState zeebeState = new ZeebeState(1, db, dbContext);
+    jobState = zeebeState.getJobState();
+    variablesState = zeebeState.getWorkflowState().getElementInstanceState().getVariablesState();
+    job = new JobRecord().setType(JOB_TYPE).setRetries(3).setWorkflowKey(WORKFLOW_KEY);
+
+    final JobRecord otherJob =
+        new JobRecord().setType(OTHER_JOB_TYPE).setRetries(3).setWorkflowKey(WORKFLOW_KEY);
+    for (int i = 0; i < preloadedInstances; i++) {
+      final long scopeKey = ++nextKey;
+      final long jobKey = ++nextKey;
+      dbContext.runInTransaction(
+          () -> {
+            setVariables(scopeKey);
+            jobState.create(jobKey, otherJob.setElementInstanceKey(scopeKey));
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDatabase() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int processWorkflowInstance() {
+    final long scopeKey = ++nextKey;
+    final long jobKey = ++nextKey;
+    final int[] documentLength = new int[1];
+
+    dbContext.runInTransaction(
+        () -> {
+          setVariables(scopeKey);
+          jobState.create(jobKey, job.setElementInstanceKey(scopeKey).setDeadline(-1L));
+        });
+
+    dbContext.runInTransaction(
+        () ->
+            jobState.forEachActivatableJobs(
+                JOB_TYPE,
+                (key, activatableJob) -> {
+                  activatableJob.setDeadline(jobKey);
+                  jobState.activate(key, activatableJob);
+                  return false;
+                }));
+
+    dbContext.runInTransaction(
+        () -> {
+          final JobRecord activatedJob = jobState.getJob(jobKey);
+          jobState.complete(jobKey, activatedJob);
+          documentLength[0] = variablesState.getVariablesAsDocument(scopeKey).capacity();
+          variablesState.removeAllVariables(scopeKey);
+        });
+
+    return documentLength[0];
+  }
+
+  @Benchmark
+  public DirectBuffer lookupMissingVariables() {
+    final long scopeKey = 1 + 2 * ThreadLocalRandom.current().nextInt(preloadedInstances);
+    final DirectBuffer[] variable = new DirectBuffer[1];
+    dbContext.runInTransaction(
+        () -> variable[0] = variablesState.getVariable(scopeKey, MISSING_VARIABLE_NAME));
+    return variable[0];
+  }
+
+  private void setVariables(final long scopeKey) {
+    for (final DirectBuffer name : VARIABLE_NAMES) {
+      variablesState.setVariableLocal(scopeKey, WORKFLOW_KEY, name, VARIABLE_VALUE);
+    }
+  }
+}
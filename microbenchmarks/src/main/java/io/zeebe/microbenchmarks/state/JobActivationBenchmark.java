@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.state;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the job activation on the state, like the processing of an ActivateJobs command: the
+ * activatable jobs of a type are visited and activated, each activation in its own transaction.
+ *
+ * <p>{@link #activateJob()} creates a job and activates the oldest job of a type with a backlog of
+ * {@link #backlog} jobs, such that the backlog stays constant. {@link #pollTypeWithoutJobs()} looks
+ * for jobs of a type which has none, while other types have activatable jobs, like a long polling
+ * worker which waits for jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobActivationBenchmark {
+
+  private static final DirectBuffer JOB_TYPE = wrapString("task");
+  private static final DirectBuffer EMPTY_JOB_TYPE = wrapString("idle-task");
+  private static final int OTHER_JOB_TYPES = 100;
+
+  @Param({"0", "10000"})
+  private int backlog;
+
+  @Param({"100000"})
+  private int otherJobs;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
+  private JobState jobState;
+  private JobRecord job;
+  private long nextKey;
+
+  @Setup(Level.Trial)
+  public void openDatabase() throws IOException {
+    directory = Files.createTempDirectory("zeebe-job-activation-benchmark");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    dbContext = db.createContext();
+    jobState = new ZeebeState(1, db, dbContext).getJobState();
+    job = new JobRecord().setType(JOB_TYPE).setRetries(3);
+
+    final JobRecord otherJob = new JobRecord().setRetries(3);
+    for (int i = 0; i < otherJobs; i++) {
+      final long key = ++nextKey;
+      otherJob.setType("other-task-" + (i % OTHER_JOB_TYPES));
+      dbContext.runInTransaction(() -> jobState.create(key, otherJob));
+    }
+
+    for (int i = 0; i < backlog; i++) {
+      final long key = ++nextKey;
+      dbContext.runInTransaction(() -> jobState.create(key, job));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDatabase() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public long activateJob() {
+    final long jobKey = ++nextKey;
+    final long[] activatedKey = new long[1];
+
+    dbContext.runInTransaction(() -> jobState.create(jobKey, job.setDeadline(-1L)));
+    dbContext.runInTransaction(
+        () ->
+            jobState.forEachActivatableJobs(
+                JOB_TYPE,
+                (key, activatableJob) -> {
+                  activatableJob.setDeadline(jobKey);
+                  jobState.activate(key, activatableJob);
+                  activatedKey[0] = key;
+                  return false;
+                }));
+
+    return activatedKey[0];
+  }
+
+  @Benchmark
+  public int pollTypeWithoutJobs() {
+    final int[] visitedJobs = new int[1];
+    dbContext.runInTransaction(
+        () ->
+            jobState.forEachActivatableJobs(
+                EMPTY_JOB_TYPE,
+                (key, activatableJob) -> {
+                  visitedJobs[0]++;
+                  return true;
+                }));
+    return visitedJobs[0];
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.state;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.instance.VariablesState;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the collection of the variables of a scope, which iterates over the {@link
+ * ZbColumnFamilies#VARIABLES} column family by the scope key prefix, while the number of unrelated
+ * scopes grows. With the prefix extractor of the column family, the latency should stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrefixIterationBenchmark {
+
+  private static final long WORKFLOW_KEY = 1L;
+  private static final DirectBuffer[] VARIABLE_NAMES = {
+    wrapString("orderId"), wrapString("customer"), wrapString("items")
+  };
+  private static final DirectBuffer VARIABLE_VALUE = wrapString("\"value\"");
+
+  @Param({"1000", "100000", "1000000"})
+  private int scopes;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private VariablesState variablesState;
+
+  @Setup(Level.Trial)
+  public void openDatabase() throws IOException {
+    directory = Files.createTempDirectory("zeebe-prefix-benchmark");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    final DbContext dbContext = db.createContext();
+    variablesState =
+        new ZeebeState(1, db, dbContext)
+            .getWorkflowState()
+            .getElementInstanceState()
+            .getVariablesState();
+
+    dbContext.runInTransaction(
+        () -> {
+          for (long scopeKey = 1; scopeKey <= scopes; scopeKey++) {
+            for (final DirectBuffer name : VARIABLE_NAMES) {
+              variablesState.setVariableLocal(scopeKey, WORKFLOW_KEY, name, VARIABLE_VALUE);
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDatabase() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public int collectVariables() {
+    final long scopeKey = ThreadLocalRandom.current().nextLong(1, scopes + 1);
+    return variablesState.getVariablesLocalAsDocument(scopeKey).capacity();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.state;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.KeyValuePairVisitor;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the reads of the transaction database which run within an open transaction, like the
+ * processing of a command does: a prefix scan over many entries and a get. Run it with the GC
+ * profiler ({@code -prof gc}) to compare the allocated bytes per operation ({@code
+ * gc.alloc.rate.norm}); the prefix scan reads the entries into the off-heap iterator buffers of the
+ * context and should not allocate per entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadAllocationBenchmark {
+
+  private static final int PREFIXES = 100;
+
+  @Param({"1000"})
+  private int entriesPerPrefix;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbLong value;
+
+  private final DbLong scanPrefix = new DbLong();
+  private long sum;
+  // a field, so that the benchmark itself doesn't allocate a capturing lambda per operation
+  private final KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbLong> sumVisitor =
+      (k, v) -> {
+        sum += v.getValue();
+        return true;
+      };
+
+  @Setup(Level.Trial)
+  public void openDatabase() throws IOException {
+    directory = Files.createTempDirectory("zeebe-read-allocation-benchmark");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    dbContext = db.createContext();
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbLong();
+    columnFamily = db.createColumnFamily(ZbColumnFamilies.DEFAULT, dbContext, key, value);
+
+    dbContext.runInTransaction(
+        () -> {
+          for (long keyPrefix = 1; keyPrefix <= PREFIXES; keyPrefix++) {
+            prefix.wrapLong(keyPrefix);
+            for (long keySuffix = 0; keySuffix < entriesPerPrefix; keySuffix++) {
+              suffix.wrapLong(keySuffix);
+              value.wrapLong(keySuffix);
+              columnFamily.put(key, value);
+            }
+          }
+        });
+
+    // keep a transaction open, like the stream processor does while processing a command
+    dbContext.getCurrentTransaction();
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDatabase() throws Exception {
+    dbContext.getCurrentTransaction().rollback();
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public long whileEqualPrefix() {
+    scanPrefix.wrapLong(ThreadLocalRandom.current().nextLong(1, PREFIXES + 1));
+
+    sum = 0;
+    columnFamily.whileEqualPrefix(scanPrefix, sumVisitor);
+    return sum;
+  }
+
+  @Benchmark
+  public long get() {
+    prefix.wrapLong(ThreadLocalRandom.current().nextLong(1, PREFIXES + 1));
+    suffix.wrapLong(ThreadLocalRandom.current().nextInt(entriesPerPrefix));
+
+    final DbLong found = columnFamily.get(key);
+    return found != null ? found.getValue() : -1;
+  }
+}
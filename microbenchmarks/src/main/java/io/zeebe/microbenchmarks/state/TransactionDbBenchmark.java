@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.state;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the basic operations of the transaction database on a column family with composite keys
+ * of two longs: a put and a get in their own transaction, and the iteration over the entries of a
+ * key prefix, like the state does for the children of an element instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionDbBenchmark {
+
+  private static final int ENTRIES_PER_PREFIX = 10;
+
+  @Param({"100000"})
+  private int prefixes;
+
+  private Path directory;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private DbContext dbContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong prefix;
+  private DbLong suffix;
+  private DbCompositeKey<DbLong, DbLong> key;
+  private DbLong value;
+  private long nextPrefix;
+
+  @Setup(Level.Trial)
+  public void openDatabase() throws IOException {
+    directory = Files.createTempDirectory("zeebe-db-benchmark");
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    dbContext = db.createContext();
+
+    prefix = new DbLong();
+    suffix = new DbLong();
+    key = new DbCompositeKey<>(prefix, suffix);
+    value = new DbLong();
+    columnFamily = db.createColumnFamily(ZbColumnFamilies.DEFAULT, dbContext, key, value);
+
+    for (nextPrefix = 1; nextPrefix <= prefixes; nextPrefix++) {
+      dbContext.runInTransaction(
+          () -> {
+            for (int i = 0; i < ENTRIES_PER_PREFIX; i++) {
+              put(nextPrefix, i);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void closeDatabase() throws Exception {
+    db.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public void put() {
+    final long keyPrefix = nextPrefix++;
+    dbContext.runInTransaction(() -> put(keyPrefix, 0));
+  }
+
+  @Benchmark
+  public long get() {
+    prefix.wrapLong(randomPrefix());
+    suffix.wrapLong(ThreadLocalRandom.current().nextInt(ENTRIES_PER_PREFIX));
+
+    final long[] result = new long[1];
+    dbContext.runInTransaction(
+        () -> {
+          final DbLong found = columnFamily.get(key);
+          result[0] = found != null ? found.getValue() : -1;
+        });
+    return result[0];
+  }
+
+  @Benchmark
+  public long iterateByPrefix() {
+    final DbLong keyPrefix = new DbLong();
+    keyPrefix.wrapLong(randomPrefix());
+
+    final long[] sum = new long[1];
+    dbContext.runInTransaction(
+        () ->
+            columnFamily.whileEqualPrefix(
+                keyPrefix,
+                (k, v) -> {
+                  sum[0] += v.getValue();
+                }));
+    return sum[0];
+  }
+
+  private void put(final long keyPrefix, final long keySuffix) {
+    prefix.wrapLong(keyPrefix);
+    suffix.wrapLong(keySuffix);
+    value.wrapLong(keyPrefix + keySuffix);
+    columnFamily.put(key, value);
+  }
+
+  private long randomPrefix() {
+    return ThreadLocalRandom.current().nextLong(1, prefixes + 1);
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.streamprocessor;
+
+import static io.zeebe.engine.processing.streamprocessor.TypedRecordProcessors.processors;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessor;
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.util.ListLogStorage;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.util.FileUtil;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the stream processor on an in-memory log storage: a batch of events is
+ * written to the log stream, and every event is read, processed in a transaction of the state and
+ * its follow-up event is written, until the processed listener is invoked for all events of the
+ * batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StreamProcessorBenchmark {
+
+  private static final int PARTITION_ID = 1;
+  private static final int WRITE_BATCH_SIZE = 100;
+
+  @Param({"1", "100"})
+  private int maxBatchRecords;
+
+  private final AtomicLong processedRecords = new AtomicLong();
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+  private long writtenRecords;
+
+  private Path directory;
+  private ActorScheduler actorScheduler;
+  private LogStream logStream;
+  private LogStreamBatchWriter writer;
+  private ZeebeDb<ZbColumnFamilies> db;
+  private StreamProcessor streamProcessor;
+
+  @Setup(Level.Trial)
+  public void startStreamProcessor() throws IOException {
+    directory = Files.createTempDirectory("zeebe-stream-processor-benchmark");
+    actorScheduler = ActorScheduler.newActorScheduler().build();
+    actorScheduler.start();
+
+    final ListLogStorage logStorage = new ListLogStorage();
+    logStream = buildLogStream(logStorage);
+    logStorage.setPositionListener(logStream::setCommitPosition);
+    writer = logStream.newLogStreamBatchWriter().join();
+
+    db = DefaultZeebeDbFactory.defaultFactory().createDb(directory.toFile());
+    streamProcessor =
+        StreamProcessor.builder()
+            .logStream(logStream)
+            .zeebeDb(db)
+            .actorScheduler(actorScheduler)
+            .commandResponseWriter(new NoopCommandResponseWriter())
+            .onProcessedListener(processed -> processedRecords.incrementAndGet())
+            .processingBatch(maxBatchRecords, 0)
+            .streamProcessorFactory(
+                context ->
+                    processors(context.getZeebeState().getKeyGenerator())
+                        .onEvent(
+                            ValueType.WORKFLOW_INSTANCE,
+                            WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                            new ActivateElementProcessor()))
+            .build();
+    streamProcessor.openAsync().join();
+
+    metadata
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.WORKFLOW_INSTANCE)
+        .intent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    record
+        .setBpmnProcessId("order-process")
+        .setVersion(1)
+        .setWorkflowKey(1L)
+        .setWorkflowInstanceKey(2L)
+        .setElementId("collect-money")
+        .setFlowScopeKey(2L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+  }
+
+  private LogStream buildLogStream(final ListLogStorage logStorage) {
+    // the log stream must be built from within an actor
+    final CompletableActorFuture<LogStream> logStreamFuture = new CompletableActorFuture<>();
+    actorScheduler.submitActor(
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            actor.runOnCompletionBlockingCurrentPhase(
+                LogStream.builder()
+                    .withLogName("benchmark")
+                    .withPartitionId(PARTITION_ID)
+                    .withLogStorage(logStorage)
+                    .withActorScheduler(actorScheduler)
+                    .buildAsync(),
+                (logStream, error) -> {
+                  if (error == null) {
+                    logStreamFuture.complete(logStream);
+                  } else {
+                    logStreamFuture.completeExceptionally(error);
+                  }
+                  actor.close();
+                });
+          }
+        });
+    return logStreamFuture.join();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopStreamProcessor() throws Exception {
+    streamProcessor.closeAsync().join();
+    logStream.close();
+    db.close();
+    actorScheduler.stop().get();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(WRITE_BATCH_SIZE)
+  public long processBatch() {
+    for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+      writer.event().key(writtenRecords + i).metadataWriter(metadata).valueWriter(record).done();
+    }
+    while (writer.tryWrite() < 0) {
+      Thread.onSpinWait();
+    }
+    writtenRecords += WRITE_BATCH_SIZE;
+
+    while (processedRecords.get() < writtenRecords) {
+      Thread.onSpinWait();
+    }
+    return processedRecords.get();
+  }
+
+  private static final class ActivateElementProcessor
+      implements TypedRecordProcessor<WorkflowInstanceRecord> {
+
+    @Override
+    public void processRecord(
+        final long position,
+        final TypedRecord<WorkflowInstanceRecord> record,
+        final TypedResponseWriter responseWriter,
+        final TypedStreamWriter streamWriter,
+        final Consumer<SideEffectProducer> sideEffect) {
+      streamWriter.appendFollowUpEvent(
+          record.getKey(), WorkflowInstanceIntent.ELEMENT_ACTIVATED, record.getValue());
+    }
+  }
+
+  private static final class NoopCommandResponseWriter implements CommandResponseWriter {
+
+    @Override
+    public CommandResponseWriter partitionId(final int partitionId) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter key(final long key) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter intent(final Intent intent) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter recordType(final RecordType type) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueType(final ValueType valueType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionType(final RejectionType rejectionType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionReason(final DirectBuffer rejectionReason) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueWriter(final BufferWriter value) {
+      return this;
+    }
+
+    @Override
+    public boolean tryWriteResponse(final int requestStreamId, final long requestId) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.transport;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import io.zeebe.transport.RequestHandler;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.transport.ServerTransport;
+import io.zeebe.transport.TransportFactory;
+import io.zeebe.transport.impl.ServerResponseImpl;
+import io.zeebe.util.sched.ActorScheduler;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of the command API for a growing number of leading partitions. A burst
+ * of requests is spread over the partitions and each request is answered after simulating the
+ * work of decoding and writing a command. Since each partition is handled by its own actor, the
+ * throughput should grow with the number of partitions, up to the number of actor threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandIngestionBenchmark {
+
+  private static final int BURST_SIZE = 1_000;
+  private static final int ACTOR_THREADS = 4;
+  // roughly the cost of decoding a command and writing it to the log stream
+  private static final long INGESTION_WORK_TOKENS = 2_000;
+
+  @Param({"1", "2", "4", "8"})
+  public int partitionCount;
+
+  private final byte[] request = new byte[256];
+  private final CompletableFuture<?>[] responses = new CompletableFuture[BURST_SIZE];
+
+  private ActorScheduler actorScheduler;
+  private NettyMessagingService messagingService;
+  private ServerTransport serverTransport;
+  private Address address;
+
+  @Setup(Level.Trial)
+  public void startTransport() throws IOException {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(ACTOR_THREADS)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    address = Address.from("localhost", findFreePort());
+    messagingService = new NettyMessagingService("benchmark", address, new MessagingConfig());
+    messagingService.start().join();
+
+    serverTransport =
+        new TransportFactory(actorScheduler).createServerTransport(0, messagingService);
+    for (int partitionId = 1; partitionId <= partitionCount; partitionId++) {
+      serverTransport.subscribe(partitionId, new IngestingHandler()).join();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void stopTransport() throws Exception {
+    serverTransport.close();
+    messagingService.stop().join();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST_SIZE)
+  public void ingestBurst() {
+    for (int i = 0; i < BURST_SIZE; i++) {
+      final int partitionId = 1 + i % partitionCount;
+      responses[i] =
+          messagingService.sendAndReceive(address, "command-api-" + partitionId, request);
+    }
+    CompletableFuture.allOf(responses).join();
+  }
+
+  private static int findFreePort() throws IOException {
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static final class IngestingHandler implements RequestHandler {
+
+    private final ServerResponseImpl response = new ServerResponseImpl();
+
+    @Override
+    public void onRequest(
+        final ServerOutput serverOutput,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      Blackhole.consumeCPU(INGESTION_WORK_TOKENS);
+
+      response
+          .reset()
+          .buffer(buffer, offset, length)
+          .setPartitionId(partitionId)
+          .setRequestId(requestId);
+      serverOutput.sendResponse(response);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.transport;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the round trip of small commands between two messaging services, when the payloads
+ * are copied into arrays and when they are written from pooled buffers. The sample mode reports
+ * the latency percentiles; run it with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessagingPayloadBenchmark {
+
+  private static final String ARRAY_SUBJECT = "command-api-array";
+  private static final String BUFFER_SUBJECT = "command-api-buffer";
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Param({"128", "1024"})
+  public int payloadSize;
+
+  private DirectBuffer command;
+
+  private NettyMessagingService client;
+  private NettyMessagingService server;
+  private Address serverAddress;
+
+  @Setup(Level.Trial)
+  public void startMessaging() throws IOException {
+    command = new UnsafeBuffer(new byte[payloadSize]);
+
+    serverAddress = Address.from("localhost", findFreePort());
+    server = new NettyMessagingService("benchmark", serverAddress, new MessagingConfig());
+    server.start().join();
+
+    client =
+        new NettyMessagingService(
+            "benchmark", Address.from("localhost", findFreePort()), new MessagingConfig());
+    client.start().join();
+
+    server.registerHandler(
+        ARRAY_SUBJECT, (sender, request) -> CompletableFuture.completedFuture(toArray(command)));
+    server.registerBufferHandler(
+        BUFFER_SUBJECT,
+        (sender, request) -> {
+          request.release();
+          return CompletableFuture.completedFuture(toBuffer(command));
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void stopMessaging() {
+    client.stop().join();
+    server.stop().join();
+  }
+
+  @Benchmark
+  public byte[] sendArray() {
+    return client.sendAndReceive(serverAddress, ARRAY_SUBJECT, toArray(command), TIMEOUT).join();
+  }
+
+  @Benchmark
+  public byte[] sendBuffer() {
+    return client.sendAndReceive(serverAddress, BUFFER_SUBJECT, toBuffer(command), TIMEOUT).join();
+  }
+
+  private static byte[] toArray(final DirectBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  private static ByteBuf toBuffer(final DirectBuffer buffer) {
+    final int length = buffer.capacity();
+    final ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.buffer(length);
+    new UnsafeBuffer(byteBuf.nioBuffer(0, length)).putBytes(0, buffer, 0, length);
+    return byteBuf.writerIndex(length);
+  }
+
+  private static int findFreePort() throws IOException {
+    try (final ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
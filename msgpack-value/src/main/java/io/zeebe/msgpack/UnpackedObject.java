@@ -13,6 +13,7 @@ import io.zeebe.msgpack.value.ObjectValue;
 import io.zeebe.util.buffer.BufferReader;
 import io.zeebe.util.buffer.BufferWriter;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 
 public class UnpackedObject extends ObjectValue implements Recyclable, BufferReader, BufferWriter {
@@ -20,13 +21,27 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
   protected final MsgPackReader reader = new MsgPackReader();
   protected final MsgPackWriter writer = new MsgPackWriter();
 
+  private ExpandableArrayBuffer lazyDecodingBuffer;
+
   public void wrap(final DirectBuffer buff) {
     wrap(buff, 0, buff.capacity());
   }
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
-    reader.wrap(buff, offset, length);
+    if (isLazyDecoding()) {
+      // the values are decoded later, so they are read from a copy which can't be changed by the
+      // caller in the meantime
+      if (lazyDecodingBuffer == null) {
+        lazyDecodingBuffer = new ExpandableArrayBuffer(length);
+      }
+      lazyDecodingBuffer.checkLimit(length);
+      buff.getBytes(offset, lazyDecodingBuffer, 0, length);
+      reader.wrap(lazyDecodingBuffer, 0, length);
+    } else {
+      reader.wrap(buff, offset, length);
+    }
+
     try {
       read(reader);
     } catch (final Exception e) {
@@ -34,7 +34,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   @Override
   public T add() {
     try {
-      return value.add();
+      return resolveValue().add();
     } catch (final Exception e) {
       throw new MsgpackPropertyException(getKey(), e);
     }
@@ -14,6 +14,8 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import io.zeebe.msgpack.value.BaseValue;
 import io.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +23,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value of a lazily read property, which is decoded on the first access
+  private final DirectBuffer encodedValue = new UnsafeBuffer(0, 0);
+  private MsgPackReader encodedValueReader;
+  private boolean isEncoded;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +47,13 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    isEncoded = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    isEncoded = false;
     value.reset();
   }
 
@@ -58,6 +67,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   protected T resolveValue() {
     if (isSet) {
+      decodeValue();
       return value;
     } else if (defaultValue != null) {
       return defaultValue;
@@ -68,6 +78,9 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (isEncoded) {
+      return key.getEncodedLength() + encodedValue.capacity();
+    }
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +89,44 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value instead of decoding it. The value is decoded with the given reader when it is
+   * accessed the first time, and it is written as it was read if it is not accessed at all. The
+   * buffer of the reader must not be changed as long as the value is not decoded.
+   *
+   * @param reader the reader which is positioned at the value
+   * @param valueReader the reader to decode the value with, which can be shared between properties
+   */
+  public void readLazily(final MsgPackReader reader, final MsgPackReader valueReader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    encodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+
+    encodedValueReader = valueReader;
+    isEncoded = true;
+    isSet = true;
+  }
+
+  private void decodeValue() {
+    if (isEncoded) {
+      isEncoded = false;
+
+      encodedValueReader.wrap(encodedValue, 0, encodedValue.capacity());
+      try {
+        value.read(encodedValueReader);
+      } catch (final Exception e) {
+        throw new MsgpackPropertyException(key, e);
+      }
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (isEncoded) {
+      key.write(writer);
+      writer.writeRaw(encodedValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +153,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +174,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
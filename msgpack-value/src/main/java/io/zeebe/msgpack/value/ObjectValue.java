@@ -12,8 +12,10 @@ import io.zeebe.msgpack.property.UndeclaredProperty;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,11 +24,44 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // the hashes of the keys of the declared properties, in the order of the declaration
+  private int[] declaredKeyHashes = new int[0];
+
+  private boolean isLazyDecoding;
+  private MsgPackReader valueReader;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+
+    final int index = declaredKeyHashes.length;
+    declaredKeyHashes = Arrays.copyOf(declaredKeyHashes, index + 1);
+    declaredKeyHashes[index] = hashKey(prop.getKey());
+    return this;
+  }
+
+  /**
+   * Enables or disables the lazy decoding of the declared properties. If enabled, reading the
+   * object only indexes the values of the declared properties, which are decoded when they are
+   * accessed. Values which are not accessed are written as they were read.
+   *
+   * <p>Since the values are decoded later, the read buffer must not be changed as long as the
+   * object is used. An {@link io.zeebe.msgpack.UnpackedObject} takes care of this by reading from
+   * a copy of the wrapped buffer, which costs a copy of the whole object on every read. Reading the
+   * object resets it first, so properties which are not read have no value or their default value
+   * afterwards. Invalid values are only detected when they are accessed.
+   */
+  public ObjectValue setLazyDecoding(final boolean lazyDecoding) {
+    isLazyDecoding = lazyDecoding;
+    if (lazyDecoding && valueReader == null) {
+      valueReader = new MsgPackReader();
+    }
     return this;
   }
 
+  public boolean isLazyDecoding() {
+    return isLazyDecoding;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -85,29 +120,28 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    if (isLazyDecoding) {
+      reset();
+    }
+
     final int mapSize = reader.readMapHeader();
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(decodedKey, i);
+      final boolean isDeclared = prop != null;
 
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      if (!isDeclared) {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (isDeclared && isLazyDecoding) {
+          prop.readLazily(reader, valueReader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -123,6 +157,40 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(
+      final StringValue key, final int expectedIndex) {
+    final int hash = hashKey(key);
+
+    // the properties are usually read in the order in which they are declared and written
+    if (expectedIndex < declaredKeyHashes.length
+        && declaredKeyHashes[expectedIndex] == hash
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return declaredProperties.get(expectedIndex);
+    }
+
+    for (int k = 0; k < declaredKeyHashes.length; ++k) {
+      if (declaredKeyHashes[k] == hash) {
+        final BaseProperty<? extends BaseValue> declaredProperty = declaredProperties.get(k);
+        if (declaredProperty.getKey().equals(key)) {
+          return declaredProperty;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash;
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
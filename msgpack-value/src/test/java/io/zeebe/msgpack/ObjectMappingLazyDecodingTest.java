@@ -0,0 +1,214 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.msgpack;
+
+import static io.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.msgpack.POJO.POJOEnum;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectMappingLazyDecodingTest {
+
+  private static final DirectBuffer BUF1 = wrapString("foo");
+  private static final DirectBuffer BUF2 = wrapString("bar");
+
+  @Test
+  public void shouldDecodePropertiesOnAccess() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(encodePOJO());
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF1);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldDecodePropertiesInAnyOrder() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(7);
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(encodeNested(24L));
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(88888L);
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(encodeNested(12L));
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF2);
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF1);
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.FOO.toString()));
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.FOO);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldWriteUnchangedPropertiesAsRead() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    final DirectBuffer encoded = encodePOJO();
+    pojo.wrap(encoded);
+
+    // when
+    final MutableDirectBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+
+    // then
+    assertThatBuffer(resultBuffer).hasBytes(encoded);
+  }
+
+  @Test
+  public void shouldWriteChangedProperties() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encodePOJO());
+
+    // when
+    pojo.setLong(456L);
+    pojo.nestedObject().setLong(42L);
+
+    final MutableDirectBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+
+    // then
+    final POJO result = new POJO();
+    result.wrap(resultBuffer);
+
+    assertThat(result.getLong()).isEqualTo(456L);
+    assertThat(result.getInt()).isEqualTo(123);
+    assertThatBuffer(result.getString()).hasBytes(BUF2);
+    assertThat(result.nestedObject().getLong()).isEqualTo(42L);
+  }
+
+  @Test
+  public void shouldNotChangeWithReadBuffer() {
+    // given
+    final POJO pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    final MutableDirectBuffer buffer = encodePOJO();
+    pojo.wrap(buffer);
+
+    // when
+    buffer.setMemory(0, buffer.capacity(), (byte) 0);
+
+    // then
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+  }
+
+  @Test
+  public void shouldResetPropertiesWhichAreNotRead() {
+    // given
+    final DefaultValuesPOJO pojo = new DefaultValuesPOJO(-1L);
+    pojo.setLazyDecoding(true);
+    pojo.wrap(
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(2);
+              w.writeString(wrapString("defaultValueProp"));
+              w.writeInteger(5L);
+              w.writeString(wrapString("noDefaultValueProp"));
+              w.writeInteger(6L);
+            }));
+
+    // when
+    pojo.wrap(
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("noDefaultValueProp"));
+              w.writeInteger(7L);
+            }));
+
+    // then
+    assertThat(pojo.getDefaultValueProperty()).isEqualTo(-1L);
+    assertThat(pojo.getNoDefaultValueProperty()).isEqualTo(7L);
+  }
+
+  @Test
+  public void shouldFailOnAccessOfInvalidValue() {
+    // given
+    final DefaultValuesPOJO pojo = new DefaultValuesPOJO(-1L);
+    pojo.setLazyDecoding(true);
+    pojo.wrap(
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("noDefaultValueProp"));
+              w.writeFloat(123123.123123d);
+            }));
+
+    // when - then
+    assertThatThrownBy(pojo::getNoDefaultValueProperty)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("noDefaultValueProp");
+  }
+
+  private static MutableDirectBuffer encodePOJO() {
+    return encodeMsgPack(
+        (w) -> {
+          w.writeMapHeader(7);
+          w.writeString(wrapString("enumProp"));
+          w.writeString(wrapString(POJOEnum.BAR.toString()));
+          w.writeString(wrapString("longProp"));
+          w.writeInteger(88888L);
+          w.writeString(wrapString("intProp"));
+          w.writeInteger(123L);
+          w.writeString(wrapString("stringProp"));
+          w.writeString(BUF2);
+          w.writeString(wrapString("packedProp"));
+          w.writeRaw(encodeNested(12L));
+          w.writeString(wrapString("binaryProp"));
+          w.writeBinary(BUF1);
+          w.writeString(wrapString("objectProp"));
+          w.writeRaw(encodeNested(24L));
+        });
+  }
+
+  private static DirectBuffer encodeNested(final long value) {
+    return encodeMsgPack(
+        (w) -> {
+          w.writeMapHeader(1);
+          w.writeString(wrapString("foo"));
+          w.writeInteger(value);
+        });
+  }
+}
@@ -15,18 +15,17 @@ import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
-import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.SortedMap;
 import org.slf4j.Logger;
 
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
@@ -61,7 +60,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
+    final var file = directory.resolve(FileBasedSnapshotChunkReader.decodeFileName(chunkId));
+    final var fileBlockPosition = FileBasedSnapshotChunkReader.decodeFileBlockPosition(chunkId);
+
+    // the blocks of a file are written in order
+    try {
+      return Files.exists(file) && (fileBlockPosition == 0 || Files.size(file) > fileBlockPosition);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Override
@@ -107,27 +114,44 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
-
-    if (expectedChecksum != actualChecksum) {
-      LOGGER.warn(
-          "Expected to have checksum {} for snapshot chunk {} ({}), but calculated {}",
-          expectedChecksum,
-          chunkName,
-          snapshotId,
-          actualChecksum);
-      return FAILED;
+    // a reused chunk has no content; its checksum is verified against the latest snapshot
+    if (!snapshotChunk.isReused()) {
+      final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+
+      if (expectedChecksum != actualChecksum) {
+        LOGGER.warn(
+            "Expected to have checksum {} for snapshot chunk {} ({}), but calculated {}",
+            expectedChecksum,
+            chunkName,
+            snapshotId,
+            actualChecksum);
+        return FAILED;
+      }
     }
 
     final var tmpSnapshotDirectory = directory;
     FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    final var fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    if (fileBlockPosition == 0 && Files.exists(snapshotFile)) {
       LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
       return FAILED;
     }
 
+    if (fileBlockPosition > 0 && !isNextBlockOfFile(snapshotFile, fileBlockPosition)) {
+      LOGGER.debug(
+          "Received a snapshot snapshotChunk at position {} which doesn't continue '{}'.",
+          fileBlockPosition,
+          snapshotFile);
+      return FAILED;
+    }
+
+    if (snapshotChunk.isReused()) {
+      LOGGER.debug("Reuse snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      return linkReusedSnapshotChunk(snapshotChunk, snapshotFile);
+    }
+
     LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
   }
@@ -170,10 +194,49 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return metadata.compareTo(receivedSnapshotId.get()) != 0;
   }
 
+  private boolean isNextBlockOfFile(final Path snapshotFile, final long fileBlockPosition)
+      throws IOException {
+    return Files.exists(snapshotFile) && Files.size(snapshotFile) == fileBlockPosition;
+  }
+
   private boolean writeReceivedSnapshotChunk(
       final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
-    Files.write(snapshotFile, snapshotChunk.getContent(), CREATE_NEW, StandardOpenOption.WRITE);
-    LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
+    final var fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    final var openOption = fileBlockPosition == 0 ? CREATE_NEW : StandardOpenOption.WRITE;
+
+    try (final var channel = FileChannel.open(snapshotFile, openOption, StandardOpenOption.WRITE)) {
+      final var content = ByteBuffer.wrap(snapshotChunk.getContent());
+      while (content.hasRemaining()) {
+        channel.write(content, fileBlockPosition + content.position());
+      }
+    }
+    LOGGER.trace(
+        "Wrote replicated snapshot chunk to file {} at position {}",
+        snapshotFile,
+        fileBlockPosition);
+    return SUCCESS;
+  }
+
+  private boolean linkReusedSnapshotChunk(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    final Long availableChecksum =
+        latestSnapshot.map(snapshot -> snapshot.getChunkChecksums().get(chunkName)).orElse(null);
+
+    // the latest snapshot may have been replaced since the available chunks were sent
+    if (availableChecksum == null || availableChecksum != snapshotChunk.getChecksum()) {
+      LOGGER.warn(
+          "Expected to reuse snapshot chunk {} with checksum {} of the latest snapshot {}, but it is not available",
+          chunkName,
+          snapshotChunk.getChecksum(),
+          latestSnapshot.map(PersistedSnapshot::getId).orElse(null));
+      return FAILED;
+    }
+
+    // the chunks of a snapshot are immutable, so it's safe to share the file with the new snapshot
+    Files.createLink(snapshotFile, latestSnapshot.get().getPath().resolve(chunkName));
+    LOGGER.trace("Linked reused snapshot chunk to file {}", snapshotFile);
     return SUCCESS;
   }
 
@@ -209,15 +272,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               expectedSnapshotChecksum, files.length, Arrays.toString(files)));
     }
 
-    final var filePaths =
-        Arrays.stream(files).sorted().map(File::toPath).collect(Collectors.toList());
-    final long actualSnapshotChecksum;
+    final SortedMap<String, Long> chunkChecksums;
     try {
-      actualSnapshotChecksum = ChecksumUtil.createCombinedChecksum(filePaths);
+      chunkChecksums = FileBasedSnapshot.collectChunkChecksums(directory);
     } catch (final IOException e) {
       throw new UncheckedIOException("Unexpected exception on calculating snapshot checksum.", e);
     }
 
+    final long actualSnapshotChecksum = ChecksumUtil.combineChecksums(chunkChecksums.values());
+
     if (actualSnapshotChecksum != expectedSnapshotChecksum) {
       throw new IllegalStateException(
           String.format(
@@ -225,18 +288,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               expectedSnapshotChecksum, actualSnapshotChecksum));
     }
 
-    return snapshotStore.newSnapshot(metadata, directory);
+    return snapshotStore.newSnapshot(metadata, directory, chunkChecksums);
   }
 
   public Path getPath() {
     return directory;
   }
 
-  private String getFile(final ByteBuffer chunkId) {
-    final var view = new UnsafeBuffer(chunkId);
-    return view.getStringWithoutLengthAscii(0, chunkId.remaining());
-  }
-
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -10,13 +10,17 @@ package io.zeebe.snapshots.broker.impl;
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
+import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import org.slf4j.Logger;
 
 public final class FileBasedSnapshot implements PersistedSnapshot {
@@ -25,11 +29,21 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   private static final Logger LOGGER = new ZbLogger(FileBasedSnapshot.class);
 
   private final Path directory;
+  private final Path checksumsFile;
   private final FileBasedSnapshotMetadata metadata;
-
-  FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+  // the checksums are stored when the snapshot is persisted; the snapshot is immutable, so they are
+  // only calculated again if they were not stored
+  private volatile SortedMap<String, Long> chunkChecksums;
+
+  FileBasedSnapshot(
+      final Path directory,
+      final Path checksumsFile,
+      final FileBasedSnapshotMetadata metadata,
+      final SortedMap<String, Long> chunkChecksums) {
     this.directory = directory;
+    this.checksumsFile = checksumsFile;
     this.metadata = metadata;
+    this.chunkChecksums = chunkChecksums;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -63,14 +77,44 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory);
+      return new FileBasedSnapshotChunkReader(directory, getChunkChecksums());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
+  @Override
+  public Map<String, Long> getChunkChecksums() {
+    if (chunkChecksums == null) {
+      try {
+        chunkChecksums = collectChunkChecksums(directory);
+      } catch (final IOException e) {
+        LOGGER.warn("Failed to calculate the checksums of the chunks of snapshot {}", this, e);
+        return Map.of();
+      }
+    }
+    return chunkChecksums;
+  }
+
+  /** @return the checksums of the files in the given directory, by file name */
+  static SortedMap<String, Long> collectChunkChecksums(final Path directory) throws IOException {
+    final SortedMap<String, Long> checksums = new TreeMap<>();
+    try (final var files = Files.list(directory)) {
+      for (final var file : (Iterable<Path>) files::iterator) {
+        checksums.put(file.getFileName().toString(), ChecksumUtil.createChecksum(file));
+      }
+    }
+    return checksums;
+  }
+
   @Override
   public void delete() {
+    try {
+      Files.deleteIfExists(checksumsFile);
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to delete the chunk checksums of snapshot {}", this, e);
+    }
+
     if (!Files.exists(directory)) {
       return;
     }
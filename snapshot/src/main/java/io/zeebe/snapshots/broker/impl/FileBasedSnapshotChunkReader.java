@@ -11,13 +11,19 @@ import io.zeebe.protocol.Protocol;
 import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
 import io.zeebe.util.ChecksumUtil;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -27,35 +33,72 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a block of a file in a root directory. The files
+ * are split into blocks of a bounded size, such that the memory usage doesn't depend on the file
+ * size. Files are ordered lexicographically, and the files are assumed to be immutable, i.e. no
+ * more are added to the directory once this is created.
+ *
+ * <p>The ID of a chunk is the file name, followed by the position of the block in the file.
+ *
+ * <p>The checksums of the files which were calculated when the snapshot was persisted are reused,
+ * such that the files are not read again only to compare them with the chunks of a follower.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  static final int DEFAULT_MAX_CHUNK_SIZE = 4 * 1024 * 1024;
 
   private final Path directory;
+  private final int maxChunkSize;
   private final NavigableSet<CharSequence> chunks;
   private final CharSequenceView chunkIdView;
 
   private NavigableSet<CharSequence> chunksView;
+  private long filePosition;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final Map<String, Long> chunkChecksums;
+  private Map<String, Long> availableChunks = Map.of();
 
   FileBasedSnapshotChunkReader(final Path directory) throws IOException {
+    this(directory, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> chunkChecksums)
+      throws IOException {
+    this(directory, DEFAULT_MAX_CHUNK_SIZE, chunkChecksums);
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final int maxChunkSize) throws IOException {
+    this(directory, maxChunkSize, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final int maxChunkSize, final Map<String, Long> chunkChecksums)
+      throws IOException {
     this.directory = directory;
+    this.maxChunkSize = maxChunkSize;
+    this.chunkChecksums = chunkChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
     chunkIdView = new CharSequenceView();
+    snapshotChecksum = createSnapshotChecksum();
+    snapshotID = directory.getFileName().toString();
+  }
 
-    try (final var fileStream = Files.list(directory).sorted()) {
-      snapshotChecksum =
-          ChecksumUtil.createCombinedChecksum(fileStream.collect(Collectors.toList()));
+  private long createSnapshotChecksum() throws IOException {
+    final List<Long> checksums = new ArrayList<>(totalCount);
+    for (final CharSequence chunk : chunks) {
+      final Long checksum = chunkChecksums.get(chunk.toString());
+      if (checksum == null) {
+        try (final var fileStream = Files.list(directory).sorted()) {
+          return ChecksumUtil.createCombinedChecksum(fileStream.collect(Collectors.toList()));
+        }
+      }
+      checksums.add(checksum);
     }
-
-    snapshotID = directory.getFileName().toString();
+    return ChecksumUtil.combineChecksums(checksums);
   }
 
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
@@ -72,8 +115,9 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
+    final var path = chunkIdView.wrapFileName(id);
     chunksView = chunks.tailSet(path, true);
+    filePosition = decodeFileBlockPosition(id);
   }
 
   @Override
@@ -82,7 +126,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), filePosition);
+  }
+
+  @Override
+  public void reuse(final Map<String, Long> availableChunks) {
+    this.availableChunks = availableChunks;
   }
 
   @Override
@@ -98,36 +147,101 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var chunkName = chunksView.first().toString();
+    final var path = directory.resolve(chunkName);
+
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long fileSize = channel.size();
+
+      final SnapshotChunk chunk;
+      if (filePosition == 0 && isAvailable(chunkName, path)) {
+        chunk =
+            SnapshotChunkUtil.createReusedSnapshotChunk(
+                snapshotID,
+                totalCount,
+                chunkName,
+                availableChunks.get(chunkName),
+                fileSize,
+                snapshotChecksum);
+        filePosition = fileSize;
+      } else {
+        final var content = readBlock(channel, filePosition, fileSize);
+        chunk =
+            SnapshotChunkUtil.createSnapshotChunk(
+                snapshotID,
+                totalCount,
+                chunkName,
+                content,
+                filePosition,
+                fileSize,
+                snapshotChecksum);
+        filePosition += content.length;
+      }
+
+      if (filePosition >= fileSize) {
+        chunksView.pollFirst();
+        filePosition = 0;
+      }
+      return chunk;
 
-    try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path.toFile(), snapshotID, totalCount, snapshotChecksum);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private byte[] readBlock(final FileChannel channel, final long position, final long fileSize)
+      throws IOException {
+    final var content = new byte[(int) Math.min(maxChunkSize, fileSize - position)];
+    final var buffer = ByteBuffer.wrap(content);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException(
+            String.format(
+                "Expected to read %d bytes of snapshot file at position %d, but reached the end",
+                content.length, position));
+      }
+    }
+    return content;
+  }
+
+  private boolean isAvailable(final String chunkName, final Path path) throws IOException {
+    final Long availableChecksum = availableChunks.get(chunkName);
+    if (availableChecksum == null) {
+      return false;
+    }
+
+    final Long checksum = chunkChecksums.get(chunkName);
+    return availableChecksum == (checksum != null ? checksum : ChecksumUtil.createChecksum(path));
+  }
+
+  static ByteBuffer encodeChunkId(final CharSequence fileName, final long fileBlockPosition) {
+    final var fileNameBytes = fileName.toString().getBytes(ID_CHARSET);
+    return ByteBuffer.allocate(fileNameBytes.length + Long.BYTES)
+        .order(Protocol.ENDIANNESS)
+        .put(fileNameBytes)
+        .putLong(fileBlockPosition)
+        .flip();
+  }
+
+  static String decodeFileName(final ByteBuffer id) {
+    return new UnsafeBuffer(id).getStringWithoutLengthAscii(0, id.remaining() - Long.BYTES);
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  static long decodeFileBlockPosition(final ByteBuffer id) {
+    return new UnsafeBuffer(id).getLong(id.remaining() - Long.BYTES, Protocol.ENDIANNESS);
   }
 
   private static final class CharSequenceView {
     private final DirectBuffer wrapper = new UnsafeBuffer();
     private final AsciiSequenceView view = new AsciiSequenceView();
 
-    private CharSequence wrap(final ByteBuffer buffer) {
+    private CharSequence wrapFileName(final ByteBuffer buffer) {
       wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+      return view.wrap(wrapper, 0, wrapper.capacity() - Long.BYTES);
     }
   }
 }
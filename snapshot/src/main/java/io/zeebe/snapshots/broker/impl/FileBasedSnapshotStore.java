@@ -27,15 +27,21 @@ import java.nio.file.StandardCopyOption;
 import java.util.ConcurrentModificationException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
 public final class FileBasedSnapshotStore
     implements ConstructableSnapshotStore, ReceivableSnapshotStore {
   // first is the metadata and the second the the received snapshot count
   private static final String RECEIVING_DIR_FORMAT = "%s-%d";
+  // the checksums of the chunks of the snapshots are stored next to the snapshots directory
+  private static final String CHECKSUMS_DIRECTORY = "checksums";
+  private static final char CHECKSUM_SEPARATOR = ' ';
 
   private static final Logger LOGGER = new ZbLogger(FileBasedSnapshotStore.class);
 
@@ -43,6 +49,8 @@ public final class FileBasedSnapshotStore
   private final Path snapshotsDirectory;
   // the root snapshotsDirectory when pending snapshots should be stored
   private final Path pendingDirectory;
+  // the directory where the chunk checksums of the snapshots are stored, by snapshot id
+  private final Path checksumsDirectory;
   // keeps track of all snapshot modification listeners
   private final Set<PersistedSnapshotListener> listeners;
 
@@ -58,6 +66,7 @@ public final class FileBasedSnapshotStore
       final Path pendingDirectory) {
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
+    checksumsDirectory = snapshotsDirectory.resolveSibling(CHECKSUMS_DIRECTORY);
     this.snapshotMetrics = snapshotMetrics;
     receivingSnapshotStartCount = new AtomicLong();
 
@@ -71,7 +80,9 @@ public final class FileBasedSnapshotStore
     FileBasedSnapshot latestPersistedSnapshot = null;
     try (final var stream = Files.newDirectoryStream(snapshotDirectory)) {
       for (final var path : stream) {
-        latestPersistedSnapshot = collectSnapshot(path);
+        if (Files.isDirectory(path)) {
+          latestPersistedSnapshot = collectSnapshot(path);
+        }
       }
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
@@ -83,7 +94,9 @@ public final class FileBasedSnapshotStore
     final var optionalMeta = FileBasedSnapshotMetadata.ofPath(path);
     if (optionalMeta.isPresent()) {
       final var metadata = optionalMeta.get();
-      return new FileBasedSnapshot(path, metadata);
+      final var checksumsFile = buildChecksumsFile(metadata);
+      final var chunkChecksums = readChunkChecksums(checksumsFile);
+      return new FileBasedSnapshot(path, checksumsFile, metadata, chunkChecksums);
     } else {
       LOGGER.warn("Expected snapshot file format to be %d-%d-%d-%d, but was {}", path);
     }
@@ -145,6 +158,15 @@ public final class FileBasedSnapshotStore
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    try {
+      if (Files.exists(checksumsDirectory)) {
+        LOGGER.debug("DELETE FOLDER {}", checksumsDirectory);
+        FileUtil.deleteFolder(checksumsDirectory);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Override
@@ -255,7 +277,10 @@ public final class FileBasedSnapshotStore
     return (persistedSnapshot != null && persistedSnapshot.getMetadata().compareTo(metadata) >= 0);
   }
 
-  PersistedSnapshot newSnapshot(final FileBasedSnapshotMetadata metadata, final Path directory) {
+  PersistedSnapshot newSnapshot(
+      final FileBasedSnapshotMetadata metadata,
+      final Path directory,
+      final SortedMap<String, Long> chunkChecksums) {
     final var currentPersistedSnapshot = currentPersistedSnapshotRef.get();
 
     if (isCurrentSnapshotNewer(metadata)) {
@@ -264,6 +289,11 @@ public final class FileBasedSnapshotStore
       return currentPersistedSnapshot;
     }
 
+    // the checksums are written before the snapshot is moved, such that a persisted snapshot has
+    // its checksums; if they can't be written, they are calculated again when they are needed
+    final var checksumsFile = buildChecksumsFile(metadata);
+    writeChunkChecksums(checksumsFile, chunkChecksums);
+
     final var destination = buildSnapshotDirectory(metadata);
     try {
       tryAtomicDirectoryMove(directory, destination);
@@ -277,7 +307,8 @@ public final class FileBasedSnapshotStore
       throw new UncheckedIOException(e);
     }
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot =
+        new FileBasedSnapshot(destination, checksumsFile, metadata, chunkChecksums);
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -335,6 +366,44 @@ public final class FileBasedSnapshotStore
     return snapshotsDirectory.resolve(metadata.getSnapshotIdAsString());
   }
 
+  private Path buildChecksumsFile(final FileBasedSnapshotMetadata metadata) {
+    return checksumsDirectory.resolve(metadata.getSnapshotIdAsString());
+  }
+
+  private void writeChunkChecksums(
+      final Path checksumsFile, final SortedMap<String, Long> chunkChecksums) {
+    final var lines =
+        chunkChecksums.entrySet().stream()
+            .map(entry -> entry.getKey() + CHECKSUM_SEPARATOR + entry.getValue())
+            .collect(Collectors.toList());
+
+    try {
+      FileUtil.ensureDirectoryExists(checksumsDirectory);
+      Files.write(checksumsFile, lines);
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to write the chunk checksums to {}", checksumsFile, e);
+    }
+  }
+
+  private SortedMap<String, Long> readChunkChecksums(final Path checksumsFile) {
+    if (!Files.exists(checksumsFile)) {
+      return null;
+    }
+
+    try {
+      final SortedMap<String, Long> chunkChecksums = new TreeMap<>();
+      for (final var line : Files.readAllLines(checksumsFile)) {
+        final var separator = line.lastIndexOf(CHECKSUM_SEPARATOR);
+        chunkChecksums.put(
+            line.substring(0, separator), Long.parseLong(line.substring(separator + 1)));
+      }
+      return chunkChecksums;
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Failed to read the chunk checksums from {}", checksumsFile, e);
+      return null;
+    }
+  }
+
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
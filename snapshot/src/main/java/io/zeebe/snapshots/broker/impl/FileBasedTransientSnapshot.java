@@ -12,7 +12,9 @@ import io.zeebe.snapshots.raft.TransientSnapshot;
 import io.zeebe.util.FileUtil;
 import io.zeebe.util.ZbLogger;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import org.slf4j.Logger;
 
@@ -69,7 +71,14 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   @Override
   public PersistedSnapshot persist() {
-    return snapshotStore.newSnapshot(metadata, directory);
+    final SortedMap<String, Long> chunkChecksums;
+    try {
+      chunkChecksums = FileBasedSnapshot.collectChunkChecksums(directory);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unexpected exception on calculating chunk checksums.", e);
+    }
+
+    return snapshotStore.newSnapshot(metadata, directory, chunkChecksums);
   }
 
   public Path getPath() {
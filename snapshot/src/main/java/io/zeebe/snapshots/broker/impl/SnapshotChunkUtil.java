@@ -8,9 +8,6 @@
 package io.zeebe.snapshots.broker.impl;
 
 import io.zeebe.snapshots.raft.SnapshotChunk;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
@@ -23,17 +20,48 @@ final class SnapshotChunkUtil {
     return crc32.getValue();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
-      final File snapshotChunkFile,
+  /** @return a chunk with the given block of the file, starting at the given position */
+  static SnapshotChunk createSnapshotChunk(
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
-      throws IOException {
-    final byte[] content;
-    content = Files.readAllBytes(snapshotChunkFile.toPath());
-    final long checksum = createChecksum(content);
+      final String chunkName,
+      final byte[] content,
+      final long fileBlockPosition,
+      final long totalFileSize,
+      final long snapshotChecksum) {
     return new SnapshotChunkImpl(
-        snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
+        snapshotId,
+        totalCount,
+        chunkName,
+        createChecksum(content),
+        content,
+        fileBlockPosition,
+        totalFileSize,
+        snapshotChecksum,
+        false);
+  }
+
+  /**
+   * @return a chunk of the whole file without content, which is marked as reused; the checksum is
+   *     the checksum of the whole file
+   */
+  static SnapshotChunk createReusedSnapshotChunk(
+      final String snapshotId,
+      final int totalCount,
+      final String chunkName,
+      final long checksum,
+      final long totalFileSize,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        chunkName,
+        checksum,
+        new byte[0],
+        0,
+        totalFileSize,
+        snapshotChecksum,
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -41,8 +69,11 @@ final class SnapshotChunkUtil {
     private final int totalCount;
     private final String chunkName;
     private final byte[] content;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean reused;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -50,13 +81,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long fileBlockPosition,
+        final long totalFileSize,
+        final long snapshotChecksum,
+        final boolean reused) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
       this.snapshotChecksum = snapshotChecksum;
+      this.reused = reused;
     }
 
     @Override
@@ -84,9 +121,24 @@ final class SnapshotChunkUtil {
       return content;
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
     @Override
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isReused() {
+      return reused;
+    }
   }
 }
@@ -10,6 +10,7 @@ package io.zeebe.snapshots.raft;
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.util.CloseableSilently;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot extends CloseableSilently {
@@ -75,4 +76,15 @@ public interface PersistedSnapshot extends CloseableSilently {
 
   /** @return the identifier of the snapshot */
   String getId();
+
+  /**
+   * Returns the checksums of the chunks of this snapshot, which can be reused when a newer snapshot
+   * is received. See {@link SnapshotChunkReader#reuse(Map)}. It is called on the Raft thread, so
+   * the checksums should be calculated when the snapshot is persisted instead of on each call.
+   *
+   * @return the checksums of the chunks by chunk name, or an empty map if no chunk can be reused
+   */
+  default Map<String, Long> getChunkChecksums() {
+    return Map.of();
+  }
 }
@@ -13,7 +13,10 @@ public interface SnapshotChunk {
   /** @return a unique snapshot identifier * */
   String getSnapshotId();
 
-  /** @return the total count of snapshot chunks, which correspond to the same snapshot */
+  /**
+   * @return the total count of snapshot files, which correspond to the same snapshot; a file may be
+   *     split into multiple chunks
+   */
   int getTotalCount();
 
   /** @return the name of the current chunk (e.g. file name) */
@@ -27,4 +30,22 @@ public interface SnapshotChunk {
 
   /** @return the checksum of the entire snapshot */
   long getSnapshotChecksum();
+
+  /** @return the position of the content in the file */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /** @return the size of the whole file, which the content is a block of */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
+
+  /**
+   * @return true if the chunk is sent without content, because the receiver holds an equal chunk in
+   *     its latest snapshot already
+   */
+  default boolean isReused() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package io.zeebe.snapshots.raft;
 import io.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,15 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the chunks which the receiver already holds, e.g. in its latest snapshot. The following
+   * chunks which are equal to one of them are returned without content, marked as {@link
+   * SnapshotChunk#isReused() reused}, such that the receiver can take them from its own snapshot.
+   *
+   * @param availableChunks the checksums of the available chunks by chunk name
+   */
+  default void reuse(final Map<String, Long> availableChunks) {
+    // chunks are always sent with their content by default
+  }
 }
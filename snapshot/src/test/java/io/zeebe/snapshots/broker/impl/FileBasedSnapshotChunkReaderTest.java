@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 import org.junit.Rule;
@@ -70,8 +71,74 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldReturnAvailableChunksWithoutContent() {
+    // given
+    final var reader = newReader(chunksOf("a", "b", "c"));
+    final long emptyFileChecksum = SnapshotChunkUtil.createChecksum(new byte[0]);
+
+    // when
+    reader.reuse(Map.of("a", emptyFileChecksum, "b", emptyFileChecksum + 1));
+
+    // then
+    final var chunks = new ArrayList<SnapshotChunk>();
+    reader.forEachRemaining(chunks::add);
+    assertThat(chunks).extracting(SnapshotChunk::getChunkName).containsExactly("a", "b", "c");
+    assertThat(chunks).extracting(SnapshotChunk::isReused).containsExactly(true, false, false);
+    assertThat(chunks.get(0).getChecksum()).isEqualTo(emptyFileChecksum);
+    assertThat(chunks.get(0).getContent()).isEmpty();
+  }
+
+  @Test
+  public void shouldSplitFileIntoBlocks() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.write(directory.resolve("a"), "0123456789".getBytes());
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+
+    // when
+    final var chunkIds = new ArrayList<ByteBuffer>();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunkIds.add(reader.nextId());
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunkIds).containsExactly(asBuffer("a", 0), asBuffer("a", 4), asBuffer("a", 8));
+    assertThat(chunks).extracting(SnapshotChunk::getChunkName).containsOnly("a");
+    assertThat(chunks).extracting(SnapshotChunk::getFileBlockPosition).containsExactly(0L, 4L, 8L);
+    assertThat(chunks).extracting(SnapshotChunk::getTotalFileSize).containsOnly(10L);
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(1);
+    assertThat(chunks)
+        .extracting(chunk -> new String(chunk.getContent()))
+        .containsExactly("0123", "4567", "89");
+  }
+
+  @Test
+  public void shouldSeekToBlockOfFile() throws IOException {
+    // given
+    final var directory = temporaryFolder.getRoot().toPath();
+    Files.write(directory.resolve("a"), "0123456789".getBytes());
+    Files.write(directory.resolve("b"), "01".getBytes());
+    final var reader = new FileBasedSnapshotChunkReader(directory, 4);
+
+    // when
+    reader.seek(asBuffer("a", 4));
+
+    // then
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("a");
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(4);
+    assertThat(reader.nextId()).isEqualTo(asBuffer("a", 8));
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
-    return ByteBuffer.wrap(chunk.toString().getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
+    return asBuffer(chunk, 0);
+  }
+
+  private ByteBuffer asBuffer(final CharSequence chunk, final long fileBlockPosition) {
+    return FileBasedSnapshotChunkReader.encodeChunkId(chunk, fileBlockPosition);
   }
 
   private NavigableSet<CharSequence> chunksOf(final CharSequence... chunks) {
@@ -9,6 +9,7 @@ package io.zeebe.snapshots.broker.impl;
 
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -16,6 +17,7 @@ import static org.mockito.Mockito.verify;
 
 import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
+import io.zeebe.util.ChecksumUtil;
 import io.zeebe.util.FileUtil;
 import java.io.File;
 import java.io.IOException;
@@ -413,6 +415,27 @@ public class FileBasedTransientSnapshotTest {
         .isEmpty();
   }
 
+  @Test
+  public void shouldStoreChunkChecksumsOnPersist() throws IOException {
+    // given
+    final var transientSnapshot = persistedSnapshotStore.newTransientSnapshot(1L, 0L, 1, 0);
+    transientSnapshot.orElseThrow().take(this::createSnapshotDir);
+    final var persistedSnapshot = transientSnapshot.get().persist();
+
+    // when
+    final var reloadedStore =
+        new FileBasedSnapshotStore(
+            new SnapshotMetrics("reloaded"), snapshotsDir, pendingSnapshotsDir);
+
+    // then
+    final var expectedChecksum =
+        ChecksumUtil.createChecksum(persistedSnapshot.getPath().resolve("file1.txt"));
+    assertThat(persistedSnapshot.getChunkChecksums())
+        .containsOnly(entry("file1.txt", expectedChecksum));
+    assertThat(reloadedStore.getLatestSnapshot().orElseThrow().getChunkChecksums())
+        .containsOnly(entry("file1.txt", expectedChecksum));
+  }
+
   private boolean createSnapshotDir(final Path path) {
     try {
       FileUtil.ensureDirectoryExists(path);
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.snapshots.broker.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.ChecksumUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Replicates a snapshot with a file which is larger than the heap, in a separate JVM with a small
+ * max heap size. The replication must not hold a whole file in memory.
+ */
+public final class LargeSnapshotReplicationTest {
+
+  private static final String MAX_HEAP_SIZE = "-Xmx64m";
+  private static final long LARGE_FILE_SIZE = 300L * 1024 * 1024;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void shouldReplicateSnapshotWithFileLargerThanHeap() throws Exception {
+    // given
+    final var java = ProcessHandle.current().info().command().orElse("java");
+    final var process =
+        new ProcessBuilder(
+                java,
+                MAX_HEAP_SIZE,
+                "-cp",
+                System.getProperty("java.class.path"),
+                LargeSnapshotReplicationTest.class.getName(),
+                temporaryFolder.getRoot().toString(),
+                String.valueOf(LARGE_FILE_SIZE))
+            .inheritIO()
+            .start();
+
+    // when
+    final var hasExited = process.waitFor(2, TimeUnit.MINUTES);
+
+    // then
+    if (!hasExited) {
+      process.destroyForcibly();
+    }
+    assertThat(hasExited).isTrue();
+    assertThat(process.exitValue()).isZero();
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final var root = Path.of(args[0]);
+    final var largeFileSize = Long.parseLong(args[1]);
+
+    final var senderFactory = new FileBasedSnapshotStoreFactory();
+    senderFactory.createReceivableSnapshotStore(root.resolve("sender"), "1");
+    final var senderSnapshotStore = senderFactory.getConstructableSnapshotStore("1");
+    final var receiverSnapshotStore =
+        new FileBasedSnapshotStoreFactory()
+            .createReceivableSnapshotStore(root.resolve("receiver"), "1");
+
+    final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(1L, 0L, 1, 0).get();
+    transientSnapshot.take(path -> createFiles(path, largeFileSize));
+    final var persistedSnapshot = transientSnapshot.persist();
+
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        if (!receivedSnapshot.apply(snapshotChunkReader.next())) {
+          System.exit(1);
+        }
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist();
+
+    final var largeFile = receivedPersistedSnapshot.getPath().resolve("large");
+    if (Files.size(largeFile) != largeFileSize
+        || ChecksumUtil.createChecksum(largeFile)
+            != ChecksumUtil.createChecksum(persistedSnapshot.getPath().resolve("large"))) {
+      System.exit(2);
+    }
+  }
+
+  private static boolean createFiles(final Path directory, final long largeFileSize) {
+    try {
+      Files.createDirectories(directory);
+      Files.writeString(directory.resolve("small"), "content");
+
+      // a sparse file, which ends with a non-zero byte
+      try (final var channel =
+          FileChannel.open(
+              directory.resolve("large"),
+              StandardOpenOption.CREATE_NEW,
+              StandardOpenOption.WRITE)) {
+        channel.write(ByteBuffer.wrap(new byte[] {1}), largeFileSize - 1);
+      }
+      return true;
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+}
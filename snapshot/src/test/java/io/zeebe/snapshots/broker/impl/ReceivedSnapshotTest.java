@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.atomix.utils.time.WallClockTimestamp;
 import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
+import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import io.zeebe.util.FileUtil;
 import java.io.IOException;
@@ -20,6 +21,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
@@ -337,6 +339,115 @@ public class ReceivedSnapshotTest {
     receivedSnapshot.abort();
   }
 
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() throws Exception {
+    // given
+    final var firstSnapshot =
+        takePersistedSnapshot(1L, List.of("file1", "file2"), List.of("this", "is"));
+    final var receivedFirstSnapshot = receiveSnapshot(firstSnapshot);
+    final var secondSnapshot =
+        takePersistedSnapshot(
+            2L, List.of("file1", "file2", "file3"), List.of("this", "was", "content"));
+
+    // when
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+    final var reusedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.reuse(receivedFirstSnapshot.getChunkChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (chunk.isReused()) {
+          reusedChunks.add(chunk.getChunkName());
+        }
+        assertThat(receivedSnapshot.apply(chunk)).isTrue();
+      }
+    }
+    final var receivedSecondSnapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(reusedChunks).containsExactly("file1");
+    assertThat(receivedSecondSnapshot.getChunkChecksums())
+        .isEqualTo(secondSnapshot.getChunkChecksums());
+    assertThat(receivedSecondSnapshot.getPath().resolve("file1")).hasContent("this");
+  }
+
+  @Test
+  public void shouldReturnFalseOnReusingChunkWhichIsNotAvailable() throws Exception {
+    // given
+    final var persistedSnapshot =
+        takePersistedSnapshot(1L, List.of("file1", "file2"), List.of("this", "is"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      // when - the receiver has no snapshot to take the chunk from
+      snapshotChunkReader.reuse(persistedSnapshot.getChunkChecksums());
+      final var success = receivedSnapshot.apply(snapshotChunkReader.next());
+
+      // then
+      assertThat(success).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldPersistSnapshotWithFilesSplitIntoChunks() throws Exception {
+    // given
+    final var persistedSnapshot =
+        takePersistedSnapshot(1L, List.of("file1", "file2"), List.of("this", "content"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(persistedSnapshot.getPath(), 3)) {
+      while (snapshotChunkReader.hasNext()) {
+        assertThat(receivedSnapshot.apply(snapshotChunkReader.next())).isTrue();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file1")).hasContent("this");
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2")).hasContent("content");
+  }
+
+  @Test
+  public void shouldReturnFalseOnConsumingBlockWhichDoesNotContinueFile() throws Exception {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L, List.of("file1"), List.of("content"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    try (final var snapshotChunkReader =
+        new FileBasedSnapshotChunkReader(persistedSnapshot.getPath(), 3)) {
+      // when - the first block is missing
+      snapshotChunkReader.next();
+      final var success = receivedSnapshot.apply(snapshotChunkReader.next());
+
+      // then
+      assertThat(success).isFalse();
+    }
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final List<String> fileNames, final List<String> fileContents) {
+    final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
+    transientSnapshot.take(p -> takeSnapshot(p, fileNames, fileContents));
+    return transientSnapshot.persist();
+  }
+
+  private PersistedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot)
+      throws IOException {
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next());
+      }
+    }
+    return receivedSnapshot.persist();
+  }
+
   private boolean takeSnapshot(
       final Path path, final List<String> fileNames, final List<String> fileContents) {
     assertThat(fileNames).hasSize(fileContents.size());
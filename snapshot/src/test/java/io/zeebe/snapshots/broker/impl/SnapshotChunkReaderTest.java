@@ -12,7 +12,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.atomix.utils.time.WallClockTimestamp;
-import io.zeebe.protocol.Protocol;
 import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
 import io.zeebe.snapshots.raft.SnapshotChunk;
 import io.zeebe.util.ChecksumUtil;
@@ -188,14 +187,14 @@ public class SnapshotChunkReaderTest {
     assertThat(snapshotChunk.getContent()).isEqualTo(chunkContent.getBytes());
     assertThat(snapshotChunk.getTotalCount()).isEqualTo(3);
     final var crc32 = new CRC32();
-    crc32.update(asByteBuffer(chunkContent));
+    crc32.update(chunkContent.getBytes());
     assertThat(snapshotChunk.getChecksum()).isEqualTo(crc32.getValue());
 
     assertThat(snapshotChunk.getSnapshotChecksum()).isEqualTo(expectedSnapshotChecksum);
   }
 
-  private ByteBuffer asByteBuffer(final String string) {
-    return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
+  private ByteBuffer asByteBuffer(final String fileName) {
+    return FileBasedSnapshotChunkReader.encodeChunkId(fileName, 0);
   }
 
   private boolean takeSnapshot(
@@ -20,6 +20,7 @@ public class MockController implements Controller {
   private final List<MockScheduledTask> scheduledTasks = new ArrayList<>();
   private long lastRanAtMs = 0;
   private long position = UNKNOWN_POSITION;
+  private boolean isRetryRequested;
 
   @Override
   public void updateLastExportedRecordPosition(final long position) {
@@ -32,6 +33,18 @@ public class MockController implements Controller {
     scheduledTasks.add(scheduledTask);
   }
 
+  @Override
+  public void retryExportLater() {
+    isRetryRequested = true;
+  }
+
+  /** @return true if a retry was requested since the last call, resetting the request */
+  public boolean takeRetryRequest() {
+    final boolean wasRequested = isRetryRequested;
+    isRetryRequested = false;
+    return wasRequested;
+  }
+
   public void resetScheduler() {
     lastRanAtMs = 0;
     scheduledTasks.clear();
@@ -25,7 +25,8 @@ public final class TransportFactory {
 
   public ServerTransport createServerTransport(
       final int nodeId, final MessagingService messagingService) {
-    final var atomixServerTransport = new AtomixServerTransport(nodeId, messagingService);
+    final var atomixServerTransport =
+        new AtomixServerTransport(nodeId, messagingService, actorScheduler);
     actorScheduler.submitActor(atomixServerTransport);
     return atomixServerTransport;
   }
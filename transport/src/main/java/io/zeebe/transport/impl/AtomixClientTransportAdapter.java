@@ -9,6 +9,8 @@ package io.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.zeebe.transport.ClientRequest;
 import io.zeebe.transport.ClientTransport;
 import io.zeebe.util.ZbLogger;
@@ -61,11 +63,8 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
       final boolean shouldRetry,
       final Duration timeout) {
 
-    // copy once
-    final var length = clientRequest.getLength();
-    final var requestBytes = new byte[length];
-    final var buffer = new UnsafeBuffer(requestBytes);
-    clientRequest.write(buffer, 0);
+    // copy once into a pooled buffer, which is shared by all tries of this request
+    final var requestBuffer = writeRequest(clientRequest);
 
     final var partitionId = clientRequest.getPartitionId();
 
@@ -75,7 +74,7 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
             requestFuture,
             nodeAddressSupplier,
             partitionId,
-            requestBytes,
+            requestBuffer,
             responseValidator,
             shouldRetry,
             timeout);
@@ -89,6 +88,19 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     return requestFuture;
   }
 
+  private static ByteBuf writeRequest(final ClientRequest clientRequest) {
+    final var length = clientRequest.getLength();
+    final var requestBuffer = PooledByteBufAllocator.DEFAULT.buffer(length);
+    try {
+      clientRequest.write(new UnsafeBuffer(requestBuffer.nioBuffer(0, length)), 0);
+      requestBuffer.writerIndex(length);
+      return requestBuffer;
+    } catch (final RuntimeException e) {
+      requestBuffer.release();
+      throw e;
+    }
+  }
+
   private void tryToSend(final RequestContext requestContext) {
     if (requestContext.isDone()) {
       if (LOG.isTraceEnabled()) {
@@ -143,9 +155,13 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
           requestContext.getTopicName());
     }
 
-    final var requestBytes = requestContext.getRequestBytes();
+    // the messaging service takes ownership of the retained buffer and releases it after sending
     messagingService
-        .sendAndReceive(nodeAddress, requestContext.getTopicName(), requestBytes, calculateTimeout)
+        .sendAndReceive(
+            nodeAddress,
+            requestContext.getTopicName(),
+            requestContext.retainRequestBuffer(),
+            calculateTimeout)
         .whenComplete(
             (response, errorOnRequest) ->
                 actor.run(() -> handleResponse(requestContext, response, errorOnRequest)));
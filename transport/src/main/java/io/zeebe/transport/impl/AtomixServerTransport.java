@@ -8,16 +8,17 @@
 package io.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerResponse;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.future.ActorFuture;
-import java.util.concurrent.CompletableFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import org.agrona.DirectBuffer;
-import org.agrona.collections.Int2ObjectHashMap;
-import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
@@ -25,21 +26,24 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private static final String API_TOPIC_FORMAT = "command-api-%d";
-  private static final String ERROR_MSG_MISSING_PARTITON_MAP =
-      "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
 
-  private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
-      partitionsRequestMap;
+  // the partition actors are looked up by the callers of sendResponse, on any thread
+  private final Map<Integer, PartitionRequestActor> partitionActors;
   private final AtomicLong requestCount;
-  private final DirectBuffer reusableRequestBuffer;
   private final MessagingService messagingService;
+  private final ActorScheduler actorScheduler;
+  private final int nodeId;
   private final String actorName;
 
-  public AtomixServerTransport(final int nodeId, final MessagingService messagingService) {
+  public AtomixServerTransport(
+      final int nodeId,
+      final MessagingService messagingService,
+      final ActorScheduler actorScheduler) {
+    this.nodeId = nodeId;
     this.messagingService = messagingService;
-    partitionsRequestMap = new Int2ObjectHashMap<>();
+    this.actorScheduler = actorScheduler;
+    partitionActors = new ConcurrentHashMap<>();
     requestCount = new AtomicLong(0);
-    reusableRequestBuffer = new UnsafeBuffer(0, 0);
     actorName = buildActorName(nodeId, "ServerTransport");
   }
 
@@ -53,7 +57,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     actor
         .call(
             () -> {
-              for (int partitionId : partitionsRequestMap.keySet()) {
+              for (final int partitionId : partitionActors.keySet()) {
                 removePartition(partitionId);
               }
               actor.close();
@@ -63,17 +67,43 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
   @Override
   public ActorFuture<Void> subscribe(final int partitionId, final RequestHandler requestHandler) {
-    return actor.call(
+    final CompletableActorFuture<Void> subscribed = new CompletableActorFuture<>();
+    actor.run(
         () -> {
           final var topicName = topicName(partitionId);
           if (LOG.isTraceEnabled()) {
             LOG.trace("Subscribe for topic {}", topicName);
           }
-          partitionsRequestMap.put(partitionId, new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
-              topicName,
-              (sender, request) -> handleAtomixRequest(request, partitionId, requestHandler));
+
+          final var partitionActor =
+              new PartitionRequestActor(
+                  nodeId, partitionId, topicName, requestHandler, this, requestCount);
+          final var started = actorScheduler.submitActor(partitionActor);
+
+          // the actor is registered in the same job which submits it, so an unsubscribe always
+          // finds and closes it; requests which arrive before it is started wait in its queue
+          final var previousActor = partitionActors.put(partitionId, partitionActor);
+          if (previousActor != null) {
+            previousActor.closeAsync();
+          }
+          messagingService.registerBufferHandler(
+              topicName, (sender, request) -> partitionActor.handleRequest(request));
+
+          actor.runOnCompletion(
+              started,
+              (nothing, error) -> {
+                if (error != null) {
+                  if (partitionActors.remove(partitionId, partitionActor)) {
+                    messagingService.unregisterHandler(topicName);
+                  }
+                  subscribed.completeExceptionally(error);
+                  return;
+                }
+
+                subscribed.complete(null);
+              });
         });
+    return subscribed;
   }
 
   @Override
@@ -89,84 +119,38 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
     messagingService.unregisterHandler(topicName);
 
-    final var requestMap = partitionsRequestMap.remove(partitionId);
-    if (requestMap != null) {
-      requestMap.clear();
+    final var partitionActor = partitionActors.remove(partitionId);
+    if (partitionActor != null) {
+      partitionActor.closeAsync();
     }
   }
 
-  private CompletableFuture<byte[]> handleAtomixRequest(
-      final byte[] requestBytes, final int partitionId, final RequestHandler requestHandler) {
-    final var completableFuture = new CompletableFuture<byte[]>();
-    actor.call(
-        () -> {
-          final var requestId = requestCount.getAndIncrement();
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
-            LOG.trace(errorMsg);
-            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
-            return;
-          }
-
-          try {
-            reusableRequestBuffer.wrap(requestBytes);
-            requestHandler.onRequest(
-                this, partitionId, requestId, reusableRequestBuffer, 0, requestBytes.length);
-            if (LOG.isTraceEnabled()) {
-              LOG.trace("Handled request {} for topic {}", requestId, topicName(partitionId));
-            }
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
-                partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
-          }
-        });
-
-    return completableFuture;
-  }
-
   @Override
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
     final var partitionId = response.getPartitionId();
-    final var length = response.getLength();
-    final var bytes = new byte[length];
-
-    // here we can't reuse an buffer, because sendResponse can be called concurrently
-    final var unsafeBuffer = new UnsafeBuffer(bytes);
-    response.write(unsafeBuffer, 0);
+    final var partitionActor = partitionActors.get(partitionId);
+    if (partitionActor == null) {
+      LOG.error(
+          "Node is no longer leader for partition {}, tried to respond on request with id {}",
+          partitionId,
+          requestId);
+      return;
+    }
 
-    actor.run(
-        () -> {
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            LOG.error(
-                "Node is no longer leader for partition {}, tried to respond on request with id {}",
-                partitionId,
-                requestId);
-            return;
-          }
+    // here we can't reuse an buffer, because sendResponse can be called concurrently; the pooled
+    // buffer is released by the messaging service after the response was written
+    final var length = response.getLength();
+    final var responseBuffer = PooledByteBufAllocator.DEFAULT.buffer(length);
+    try {
+      response.write(new UnsafeBuffer(responseBuffer.nioBuffer(0, length)), 0);
+      responseBuffer.writerIndex(length);
+    } catch (final RuntimeException e) {
+      responseBuffer.release();
+      throw e;
+    }
 
-          final var completableFuture = requestMap.remove(requestId);
-          if (completableFuture != null) {
-            if (LOG.isTraceEnabled()) {
-              LOG.trace(
-                  "Send response to request {} for topic {}", requestId, topicName(partitionId));
-            }
-
-            completableFuture.complete(bytes);
-          } else if (LOG.isTraceEnabled()) {
-            LOG.trace(
-                "Wasn't able to send response to request {} for topic {}",
-                requestId,
-                topicName(partitionId));
-          }
-        });
+    partitionActor.sendResponse(requestId, responseBuffer);
   }
 
   static String topicName(final int partitionId) {
@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.transport.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.zeebe.transport.RequestHandler;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.sched.Actor;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Handles the requests of one partition. Each subscribed partition has its own actor, so the
+ * requests of different partitions are handled in parallel and don't delay each other.
+ */
+final class PartitionRequestActor extends Actor {
+
+  private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
+  private static final String ERROR_MSG_UNSUBSCRIBED =
+      "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
+
+  private final Long2ObjectHashMap<CompletableFuture<ByteBuf>> requestMap =
+      new Long2ObjectHashMap<>();
+  // the requests which are not handled yet; their buffers must be released if the actor is closed
+  private final Queue<PendingRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+  // the responses which are not sent yet; their buffers must be released if the actor is closed
+  private final Queue<PendingResponse> pendingResponses = new ConcurrentLinkedQueue<>();
+  private final DirectBuffer reusableRequestBuffer = new UnsafeBuffer(0, 0);
+
+  private final int partitionId;
+  private final String topicName;
+  private final RequestHandler requestHandler;
+  private final ServerOutput serverOutput;
+  private final AtomicLong requestCount;
+  private final ServerTransportMetrics metrics;
+  private final String actorName;
+
+  PartitionRequestActor(
+      final int nodeId,
+      final int partitionId,
+      final String topicName,
+      final RequestHandler requestHandler,
+      final ServerOutput serverOutput,
+      final AtomicLong requestCount) {
+    this.partitionId = partitionId;
+    this.topicName = topicName;
+    this.requestHandler = requestHandler;
+    this.serverOutput = serverOutput;
+    this.requestCount = requestCount;
+    metrics = new ServerTransportMetrics(partitionId);
+    actorName = buildActorName(nodeId, "ServerTransport-" + partitionId);
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  @Override
+  protected void onActorClosing() {
+    requestMap.clear();
+    rejectPendingRequests();
+    releasePendingResponses();
+  }
+
+  /**
+   * Handles the given request on the actor. The request buffer is handed over to the actor, which
+   * releases it after the request was handled, or if the request is rejected.
+   */
+  CompletableFuture<ByteBuf> handleRequest(final ByteBuf request) {
+    final var completableFuture = new CompletableFuture<ByteBuf>();
+    metrics.requestQueued();
+    pendingRequests.offer(new PendingRequest(request, completableFuture, System.nanoTime()));
+
+    if (actor.isClosed()) {
+      // the actor may not run the job anymore, and may have rejected the pending requests already
+      rejectPendingRequests();
+      return completableFuture;
+    }
+
+    actor.run(this::handlePendingRequests);
+    return completableFuture;
+  }
+
+  private void handlePendingRequests() {
+    if (actor.isClosing()) {
+      rejectPendingRequests();
+      return;
+    }
+
+    PendingRequest pendingRequest;
+    while ((pendingRequest = pendingRequests.poll()) != null) {
+      metrics.requestDequeued();
+      try {
+        handlePendingRequest(pendingRequest);
+      } finally {
+        pendingRequest.request.release();
+      }
+    }
+  }
+
+  private void handlePendingRequest(final PendingRequest pendingRequest) {
+    final var request = pendingRequest.request;
+    final var completableFuture = pendingRequest.responseFuture;
+    final var requestId = requestCount.getAndIncrement();
+    try {
+      // the handler must not keep a reference to the request, which is released afterwards
+      final var length = request.readableBytes();
+      reusableRequestBuffer.wrap(request.nioBuffer(request.readerIndex(), length));
+      requestHandler.onRequest(
+          serverOutput, partitionId, requestId, reusableRequestBuffer, 0, length);
+      metrics.requestHandled(pendingRequest.receivedNanos);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Handled request {} for topic {}", requestId, topicName);
+      }
+      // we only add the request to the map after successful handling
+      requestMap.put(requestId, completableFuture);
+    } catch (final Exception exception) {
+      LOG.error(
+          "Unexpected exception on handling request for partition {}.", partitionId, exception);
+      completableFuture.completeExceptionally(exception);
+    }
+  }
+
+  private void rejectPendingRequests() {
+    PendingRequest pendingRequest;
+    while ((pendingRequest = pendingRequests.poll()) != null) {
+      metrics.requestDequeued();
+      pendingRequest.request.release();
+      rejectUnsubscribed(pendingRequest.responseFuture);
+    }
+  }
+
+  /**
+   * Completes the request with the given response. The response buffer is handed over to the
+   * messaging service, which releases it after writing it; if the request is unknown or the actor
+   * is closed, the buffer is released here.
+   */
+  void sendResponse(final long requestId, final ByteBuf response) {
+    pendingResponses.offer(new PendingResponse(requestId, response));
+
+    if (actor.isClosed()) {
+      // the actor may not run the job anymore, and may have released the pending responses already
+      releasePendingResponses();
+      return;
+    }
+
+    actor.run(this::sendPendingResponses);
+  }
+
+  private void sendPendingResponses() {
+    PendingResponse pendingResponse;
+    while ((pendingResponse = pendingResponses.poll()) != null) {
+      final var requestId = pendingResponse.requestId;
+      final var completableFuture = requestMap.remove(requestId);
+      if (completableFuture != null) {
+        if (LOG.isTraceEnabled()) {
+          LOG.trace("Send response to request {} for topic {}", requestId, topicName);
+        }
+
+        completableFuture.complete(pendingResponse.response);
+      } else {
+        pendingResponse.response.release();
+        if (LOG.isTraceEnabled()) {
+          LOG.trace(
+              "Wasn't able to send response to request {} for topic {}", requestId, topicName);
+        }
+      }
+    }
+  }
+
+  private void releasePendingResponses() {
+    PendingResponse pendingResponse;
+    while ((pendingResponse = pendingResponses.poll()) != null) {
+      pendingResponse.response.release();
+    }
+  }
+
+  private void rejectUnsubscribed(final CompletableFuture<ByteBuf> completableFuture) {
+    final var errorMsg = String.format(ERROR_MSG_UNSUBSCRIBED, partitionId);
+    LOG.trace(errorMsg);
+    completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+  }
+
+  private static final class PendingRequest {
+    private final ByteBuf request;
+    private final CompletableFuture<ByteBuf> responseFuture;
+    private final long receivedNanos;
+
+    private PendingRequest(
+        final ByteBuf request,
+        final CompletableFuture<ByteBuf> responseFuture,
+        final long receivedNanos) {
+      this.request = request;
+      this.responseFuture = responseFuture;
+      this.receivedNanos = receivedNanos;
+    }
+  }
+
+  private static final class PendingResponse {
+    private final long requestId;
+    private final ByteBuf response;
+
+    private PendingResponse(final long requestId, final ByteBuf response) {
+      this.requestId = requestId;
+      this.response = response;
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.zeebe.transport.impl;
 import static io.zeebe.transport.impl.AtomixServerTransport.topicName;
 
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.CompletableActorFuture;
@@ -24,26 +25,27 @@ final class RequestContext {
   private final CompletableActorFuture<DirectBuffer> currentFuture;
   private final Supplier<String> nodeAddressSupplier;
   private final int partitionId;
-  private final byte[] requestBytes;
+  private final ByteBuf requestBuffer;
   private final boolean shouldRetry;
   private final long startTime;
   private final Duration timeout;
   private final Predicate<DirectBuffer> responseValidator;
 
   private ScheduledTimer scheduledTimer;
+  private boolean released;
 
   RequestContext(
       final CompletableActorFuture<DirectBuffer> currentFuture,
       final Supplier<String> nodeAddressSupplier,
       final int partitionId,
-      final byte[] requestBytes,
+      final ByteBuf requestBuffer,
       final Predicate<DirectBuffer> responseValidator,
       final boolean shouldRetry,
       final Duration timeout) {
     this.currentFuture = currentFuture;
     this.nodeAddressSupplier = nodeAddressSupplier;
     this.partitionId = partitionId;
-    this.requestBytes = requestBytes;
+    this.requestBuffer = requestBuffer;
     this.shouldRetry = shouldRetry;
     startTime = ActorClock.currentTimeMillis();
     this.responseValidator = responseValidator;
@@ -63,8 +65,12 @@ final class RequestContext {
     return topicName(partitionId);
   }
 
-  byte[] getRequestBytes() {
-    return requestBytes;
+  /**
+   * @return a view of the request buffer, which shares its reference count; the caller has to
+   *     release it when it is no longer needed
+   */
+  ByteBuf retainRequestBuffer() {
+    return requestBuffer.retainedDuplicate();
   }
 
   public Duration getTimeout() {
@@ -90,11 +96,21 @@ final class RequestContext {
   public void complete(final DirectBuffer buffer) {
     currentFuture.complete(buffer);
     cancelTimer();
+    releaseRequestBuffer();
   }
 
   public void completeExceptionally(final Throwable throwable) {
     currentFuture.completeExceptionally(throwable);
     cancelTimer();
+    releaseRequestBuffer();
+  }
+
+  private void releaseRequestBuffer() {
+    // the request is not sent anymore, pending tries hold their own reference
+    if (!released) {
+      released = true;
+      requestBuffer.release();
+    }
   }
 
   private void cancelTimer() {
@@ -110,6 +126,7 @@ final class RequestContext {
   public void timeout() {
     currentFuture.completeExceptionally(
         new TimeoutException("Request timed out after " + timeout.toString()));
+    releaseRequestBuffer();
   }
 
   public boolean shouldRetry() {
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.transport.impl;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+final class ServerTransportMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Gauge QUEUED_REQUESTS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("command_api_queued_requests")
+          .help("Number of received requests which wait to be handled")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram INGESTION_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("command_api_ingestion_latency")
+          .help("Time in seconds from receiving a request until it is handled, e.g. written")
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1)
+          .labelNames("partition")
+          .register();
+
+  private final Gauge.Child queuedRequests;
+  private final Histogram.Child ingestionLatency;
+
+  ServerTransportMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    queuedRequests = QUEUED_REQUESTS.labels(partitionIdLabel);
+    ingestionLatency = INGESTION_LATENCY.labels(partitionIdLabel);
+  }
+
+  void requestQueued() {
+    queuedRequests.inc();
+  }
+
+  void requestDequeued() {
+    queuedRequests.dec();
+  }
+
+  void requestHandled(final long receivedNanos) {
+    ingestionLatency.observe((System.nanoTime() - receivedNanos) / 1e9);
+  }
+}
@@ -53,7 +53,8 @@ import org.junit.runners.Parameterized.Parameters;
 @RunWith(Parameterized.class)
 public class AtomixTransportTest {
 
-  @ClassRule public static final ActorSchedulerRule SCHEDULER_RULE = new ActorSchedulerRule();
+  // the requests of different partitions are handled on different threads
+  @ClassRule public static final ActorSchedulerRule SCHEDULER_RULE = new ActorSchedulerRule(3);
 
   private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
   private static final Duration REQUEST_TIMEOUT_NO_SUCCESS = Duration.ofMillis(200);
@@ -213,6 +214,41 @@ public class AtomixTransportTest {
         .hasCauseInstanceOf(MessagingException.RemoteHandlerFailure.class);
   }
 
+  @Test
+  public void shouldHandleRequestsOfPartitionsIndependently() throws Exception {
+    // given
+    final var handlerLatch = new CountDownLatch(1);
+    serverTransport
+        .subscribe(
+            0,
+            new DirectlyResponder(
+                bytes -> {
+                  try {
+                    handlerLatch.await();
+                  } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                }))
+        .join();
+    serverTransport.subscribe(1, new DirectlyResponder()).join();
+
+    final var blockedRequestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request("messageABC"), REQUEST_TIMEOUT);
+
+    // when
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request(1, "messageDEF"), REQUEST_TIMEOUT);
+
+    // then
+    assertThat(requestFuture.join().byteArray()).isEqualTo("messageDEF".getBytes());
+    assertThat(blockedRequestFuture).isNotDone();
+
+    handlerLatch.countDown();
+    assertThat(blockedRequestFuture.join().byteArray()).isEqualTo("messageABC".getBytes());
+  }
+
   @Test
   public void shouldUnsubscribeFromPartition() {
     // given
@@ -231,6 +267,26 @@ public class AtomixTransportTest {
     assertThat(incomingRequestFuture).isNotCompleted();
   }
 
+  @Test
+  public void shouldUnsubscribeFromPartitionBeforeSubscriptionIsCompleted() {
+    // given
+    final var incomingRequestFuture = new CompletableFuture<byte[]>();
+    final var subscribed =
+        serverTransport.subscribe(0, new DirectlyResponder(incomingRequestFuture::complete));
+
+    // when - the unsubscribe is queued right behind the subscribe, before the actor is started
+    serverTransport.unsubscribe(0).join();
+    subscribed.join();
+
+    final var requestFuture =
+        clientTransport.sendRequestWithRetry(
+            nodeAddressSupplier, new Request("messageABC"), REQUEST_TIMEOUT_NO_SUCCESS);
+
+    // then
+    assertThatThrownBy(requestFuture::join).hasCauseInstanceOf(TimeoutException.class);
+    assertThat(incomingRequestFuture).isNotCompleted();
+  }
+
   @Test
   public void shouldTimeoutAfterDurationOnNonExistingRemote() {
     // given
@@ -343,15 +399,21 @@ public class AtomixTransportTest {
 
   private static final class Request implements ClientRequest {
 
+    private final int partitionId;
     private final String msg;
 
     public Request(final String msg) {
+      this(0, msg);
+    }
+
+    public Request(final int partitionId, final String msg) {
+      this.partitionId = partitionId;
       this.msg = msg;
     }
 
     @Override
     public int getPartitionId() {
-      return 0;
+      return partitionId;
     }
 
     @Override
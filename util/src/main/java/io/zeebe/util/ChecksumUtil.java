@@ -9,29 +9,55 @@ package io.zeebe.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.zip.CRC32;
 
 public final class ChecksumUtil {
 
+  // files are read in blocks, such that the memory usage is independent of the file size
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
   private ChecksumUtil() {}
 
   /** computes a checksum for the files, in the order they're presented */
   public static long createCombinedChecksum(final List<Path> paths) throws IOException {
-    final CRC32 checksumGenerator = new CRC32();
     final List<Long> chunkChecksum = new ArrayList<>();
 
     for (final var path : paths) {
-      checksumGenerator.update(Files.readAllBytes(path));
-      chunkChecksum.add(checksumGenerator.getValue());
-      checksumGenerator.reset();
+      chunkChecksum.add(createChecksum(path));
     }
 
-    chunkChecksum.forEach(
+    return combineChecksums(chunkChecksum);
+  }
+
+  /**
+   * computes the same checksum as {@link #createCombinedChecksum(List)} from the already computed
+   * checksums of the files, in the order they're presented
+   */
+  public static long combineChecksums(final Collection<Long> checksums) {
+    final CRC32 checksumGenerator = new CRC32();
+    checksums.forEach(
         c -> checksumGenerator.update(ByteBuffer.allocate(Long.BYTES).putLong(0, c)));
     return checksumGenerator.getValue();
   }
+
+  /** computes the CRC32 checksum of the content of the file */
+  public static long createChecksum(final Path path) throws IOException {
+    final CRC32 checksumGenerator = new CRC32();
+    final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        checksumGenerator.update(buffer);
+        buffer.clear();
+      }
+    }
+    return checksumGenerator.getValue();
+  }
 }
@@ -9,8 +9,10 @@ package io.zeebe.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.CRC32;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -95,4 +97,17 @@ public class ChecksumUtilTest {
     // then
     assertThat(actual).isNotEqualTo(expectedChecksum);
   }
+
+  @Test
+  public void shouldGenerateChecksumOfFileContent() throws Exception {
+    // given
+    final var checksumGenerator = new CRC32();
+    checksumGenerator.update(Files.readAllBytes(exampleFile));
+
+    // when
+    final var actual = ChecksumUtil.createChecksum(exampleFile);
+
+    // then
+    assertThat(actual).isEqualTo(checksumGenerator.getValue());
+  }
 }
@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db;
+
+/**
+ * Can be implemented by the enum of the column family names to declare the length of the prefix,
+ * which all keys of a column family start with, e.g. the length of the first component of a
+ * composite key. The database uses it to filter and iterate by prefix natively, see {@link
+ * ColumnFamily#whileEqualPrefix(DbKey, KeyValuePairVisitor)}.
+ *
+ * <p>Every prefix which is used to iterate over the column family must be at least as long as the
+ * declared key prefix. Otherwise, the iteration may miss keys.
+ */
+public interface ColumnFamilyKeyPrefix {
+
+  int NO_KEY_PREFIX = 0;
+
+  /** @return the length of the key prefix in bytes, or {@link #NO_KEY_PREFIX} */
+  int getKeyPrefixLength();
+}
@@ -9,7 +9,7 @@ package io.zeebe.db;
 
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
-import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
@@ -69,7 +69,7 @@ public interface DbContext {
    * @param prefixKeyBufferConsumer consumer of the shared prefix key buffer
    * @throws RuntimeException if no shared prefix buffer is available at the moment
    */
-  void withPrefixKeyBuffer(Consumer<ExpandableArrayBuffer> prefixKeyBufferConsumer);
+  void withPrefixKeyBuffer(Consumer<ExpandableDirectByteBuffer> prefixKeyBufferConsumer);
 
   /**
    * Create a new iterator on the shared transaction
@@ -102,4 +102,13 @@ public interface DbContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified when a transaction of this context is committed or
+   * rolled back, including the transactions which are opened implicitly by {@link
+   * #runInTransaction(TransactionOperation)}.
+   *
+   * @param listener the listener to notify
+   */
+  void addTransactionListener(TransactionListener listener);
 }
@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db;
+
+/**
+ * Is notified when a transaction of a {@link DbContext} ends. It can be used to keep data which is
+ * derived from the state, e.g. an in-memory index, consistent with the committed state.
+ */
+public interface TransactionListener {
+
+  /**
+   * Called before the transaction is committed, while it is still open. Changes which are made to
+   * the state here are committed with the transaction, e.g. to write back cached values.
+   */
+  default void beforeCommit() {}
+
+  /** Called after the changes of the transaction are committed. */
+  void onCommit();
+
+  /** Called after the changes of the transaction are rolled back. */
+  void onRollback();
+}
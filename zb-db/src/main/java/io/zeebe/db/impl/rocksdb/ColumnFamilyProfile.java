@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import io.zeebe.util.ByteValue;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Tuning profiles for column families, selected by the access pattern of the column family. The
+ * options of a profile are applied on top of the defaults of the {@link ZeebeRocksDbFactory}, but
+ * can still be overwritten by the user provided column family options.
+ *
+ * <p>All column families of a database which uses profiles share one block cache.
+ */
+public enum ColumnFamilyProfile {
+  /** Column families without a dominant access pattern, uses the RocksDB defaults. */
+  DEFAULT(Map.of(), false, false),
+
+  /**
+   * Column families which are mostly accessed by their full key, e.g. variables or element
+   * instances. Uses bloom filters on the SST files and on the memtable to skip files which don't
+   * contain the key.
+   */
+  POINT_LOOKUP(
+      Map.of("memtable_prefix_bloom_size_ratio", "0.1", "memtable_whole_key_filtering", "true"),
+      true,
+      false),
+
+  /**
+   * Column families which are used like a queue, e.g. deadlines or due dates: entries are inserted
+   * with ascending keys, scanned from the start and deleted shortly after. Uses smaller write
+   * buffers and compacts level 0 earlier, such that the tombstones of deleted entries are dropped
+   * sooner and don't have to be skipped on every scan.
+   */
+  QUEUE(
+      Map.of(
+          "write_buffer_size",
+          String.valueOf(ByteValue.ofMegabytes(16)),
+          "level0_file_num_compaction_trigger",
+          "2"),
+      false,
+      false),
+
+  /**
+   * Column families which are written rarely but read often, e.g. the workflow cache. Uses bloom
+   * filters and keeps the index and filter blocks in the block cache with high priority.
+   */
+  READ_MOSTLY(Map.of(), true, true);
+
+  private final Map<String, String> columnFamilyOptions;
+  private final boolean bloomFilter;
+  private final boolean cacheIndexAndFilterBlocks;
+
+  ColumnFamilyProfile(
+      final Map<String, String> columnFamilyOptions,
+      final boolean bloomFilter,
+      final boolean cacheIndexAndFilterBlocks) {
+    this.columnFamilyOptions = columnFamilyOptions;
+    this.bloomFilter = bloomFilter;
+    this.cacheIndexAndFilterBlocks = cacheIndexAndFilterBlocks;
+  }
+
+  /** @return the column family options of this profile, in the format of RocksDB's cf_options.h */
+  public Properties getColumnFamilyOptions() {
+    final var properties = new Properties();
+    properties.putAll(columnFamilyOptions);
+    return properties;
+  }
+
+  public boolean hasBloomFilter() {
+    return bloomFilter;
+  }
+
+  public boolean cachesIndexAndFilterBlocks() {
+    return cacheIndexAndFilterBlocks;
+  }
+}
@@ -7,18 +7,26 @@
  */
 package io.zeebe.db.impl.rocksdb;
 
+import io.zeebe.db.ColumnFamilyKeyPrefix;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.Filter;
+import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 
@@ -29,52 +37,85 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+  // RocksDB's default size of the block cache of a column family
+  private static final long DEFAULT_BLOCK_CACHE_SIZE = 8 * 1024 * 1024L;
+
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
   private final Properties userProvidedColumnFamilyOptions;
+  private final Function<ColumnFamilyType, ColumnFamilyProfile> profileSelector;
+  private final long blockCacheSize;
 
   private ZeebeRocksDbFactory(
       final Class<ColumnFamilyType> columnFamilyTypeClass,
-      final Properties userProvidedColumnFamilyOptions) {
+      final Properties userProvidedColumnFamilyOptions,
+      final Function<ColumnFamilyType, ColumnFamilyProfile> profileSelector,
+      final long blockCacheSize) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
     this.userProvidedColumnFamilyOptions = Objects.requireNonNull(userProvidedColumnFamilyOptions);
+    this.profileSelector = profileSelector;
+    this.blockCacheSize = blockCacheSize;
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
     final var columnFamilyOptions = new Properties();
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, columnFamilyOptions);
+    return newFactory(columnFamilyTypeClass, columnFamilyOptions);
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass,
           final Properties userProvidedColumnFamilyOptions) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, userProvidedColumnFamilyOptions);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, userProvidedColumnFamilyOptions, null, DEFAULT_BLOCK_CACHE_SIZE);
+  }
+
+  /**
+   * Creates a factory which tunes each column family according to its {@link ColumnFamilyProfile}.
+   * All column families share one block cache of the given size.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param userProvidedColumnFamilyOptions additional column family options, which are applied on
+   *     top of the profiles
+   * @param profileSelector selects the profile of each column family
+   * @param blockCacheSize the size of the shared block cache in bytes
+   * @return the created zeebe database factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Properties userProvidedColumnFamilyOptions,
+          final Function<ColumnFamilyType, ColumnFamilyProfile> profileSelector,
+          final long blockCacheSize) {
+    if (blockCacheSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected block cache size to be greater than 0, but was " + blockCacheSize);
+    }
+
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass,
+        userProvidedColumnFamilyOptions,
+        Objects.requireNonNull(profileSelector),
+        blockCacheSize);
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
-    return open(
-        pathName,
-        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
-            .collect(Collectors.toList()));
+    return open(pathName);
   }
 
-  private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+  private ZeebeTransactionDb<ColumnFamilyType> open(final File dbDirectory) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
       // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
-
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(closeables);
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
@@ -98,27 +139,122 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final List<AutoCloseable> closeables) {
+    // the cache and the filter are shared by the options, so they have to be closed after them;
+    // without profiles, the column families keep the default block cache of RocksDB
+    final Cache blockCache = profileSelector != null ? new LRUCache(blockCacheSize) : null;
+    if (blockCache != null) {
+      closeables.add(blockCache);
+    }
+    final Filter bloomFilter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+    closeables.add(bloomFilter);
+
+    // column families with the same profile and key prefix share their options; without profiles
+    // the profile is null
+    final Map<ColumnFamilyProfile, Int2ObjectHashMap<ColumnFamilyOptions>> sharedOptions =
+        new HashMap<>();
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+    for (final ColumnFamilyType columnFamily : columnFamilyTypeClass.getEnumConstants()) {
+      final ColumnFamilyProfile profile =
+          profileSelector != null ? profileSelector.apply(columnFamily) : null;
+      final int keyPrefixLength = getKeyPrefixLength(columnFamily);
+      final ColumnFamilyOptions columnFamilyOptions =
+          sharedOptions
+              .computeIfAbsent(profile, p -> new Int2ObjectHashMap<>())
+              .computeIfAbsent(
+                  keyPrefixLength,
+                  length -> {
+                    final var options =
+                        createColumnFamilyOptions(profile, length, blockCache, bloomFilter);
+                    closeables.add(options);
+                    return options;
+                  });
 
-    if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
-        final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
-        columnFamilyDescriptors.add(columnFamilyDescriptor);
-      }
+      columnFamilyDescriptors.add(
+          new ColumnFamilyDescriptor(columnFamilyName(columnFamily), columnFamilyOptions));
     }
     return columnFamilyDescriptors;
   }
 
+  private static int getKeyPrefixLength(final Enum<?> columnFamily) {
+    return columnFamily instanceof ColumnFamilyKeyPrefix
+        ? ((ColumnFamilyKeyPrefix) columnFamily).getKeyPrefixLength()
+        : ColumnFamilyKeyPrefix.NO_KEY_PREFIX;
+  }
+
+  private static byte[] columnFamilyName(final Enum<?> columnFamily) {
+    return columnFamily.name().toLowerCase().getBytes();
+  }
+
   /** @return Options which are used on all column families */
   public ColumnFamilyOptions createColumnFamilyOptions() {
+    return createColumnFamilyOptions(new Properties());
+  }
+
+  /**
+   * Creates the options of the column families with the given profile and key prefix. Without a
+   * profile and a key prefix, these are the options which are used on all column families.
+   * Otherwise the table format is replaced to share the given bloom filter and, with a profile, the
+   * given block cache, so it can't be configured by the user provided options. Without a profile,
+   * the table format keeps the default block cache of RocksDB.
+   *
+   * @param profile the profile of the column families, or null if the profiles are disabled
+   * @param keyPrefixLength the length of the key prefix of the column families, or {@link
+   *     ColumnFamilyKeyPrefix#NO_KEY_PREFIX}
+   * @param blockCache the block cache which is shared by all profiles, or null if the profiles are
+   *     disabled
+   * @return Options which are used on the column families with the given profile and key prefix
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyProfile profile,
+      final int keyPrefixLength,
+      final Cache blockCache,
+      final Filter bloomFilter) {
+    final boolean hasKeyPrefix = keyPrefixLength != ColumnFamilyKeyPrefix.NO_KEY_PREFIX;
+    if (profile == null && !hasKeyPrefix) {
+      return createColumnFamilyOptions();
+    }
+
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(
+            profile != null ? profile.getColumnFamilyOptions() : new Properties());
+
+    final var tableConfig = new BlockBasedTableConfig();
+    if (profile != null) {
+      tableConfig.setBlockCache(blockCache);
+    }
+    if (hasKeyPrefix || profile.hasBloomFilter()) {
+      // the filter contains the key prefixes as well as the whole keys for point lookups
+      tableConfig.setFilterPolicy(bloomFilter).setWholeKeyFiltering(true);
+    }
+    if (profile != null && profile.cachesIndexAndFilterBlocks()) {
+      tableConfig
+          .setCacheIndexAndFilterBlocks(true)
+          .setCacheIndexAndFilterBlocksWithHighPriority(true)
+          .setPinL0FilterAndIndexBlocksInCache(true);
+    }
+
+    if (hasKeyPrefix) {
+      // capped instead of fixed, such that shorter keys are still in the domain of the extractor
+      columnFamilyOptions.useCappedPrefixExtractor(keyPrefixLength);
+      if (columnFamilyOptions.memtablePrefixBloomSizeRatio() == 0) {
+        columnFamilyOptions.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+      }
+    }
+
+    return columnFamilyOptions.setTableFormatConfig(tableConfig);
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(final Properties profileOptions) {
     // start with some defaults
     final var columnFamilyOptionProps = new Properties();
     // look for cf_options.h to find available keys
     // look for options_helper.cc to find available values
     columnFamilyOptionProps.put("compaction_pri", "kOldestSmallestSeqFirst");
 
+    // apply the options of the profile
+    columnFamilyOptionProps.putAll(profileOptions);
+
     // apply custom options
     columnFamilyOptionProps.putAll(userProvidedColumnFamilyOptions);
 
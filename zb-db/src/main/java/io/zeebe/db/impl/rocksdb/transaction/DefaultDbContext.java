@@ -12,6 +12,7 @@ import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.RECOVERABLE_E
 import io.zeebe.db.DbContext;
 import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
+import io.zeebe.db.TransactionListener;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
@@ -21,6 +22,7 @@ import java.util.Queue;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -40,13 +42,14 @@ public final class DefaultDbContext implements DbContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
-  private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
+  private final Queue<ExpandableDirectByteBuffer> prefixKeyBuffers;
+  private final Queue<IteratorBuffers> iteratorBuffers = new ArrayDeque<>();
 
   DefaultDbContext(final ZeebeTransaction transaction) {
     this.transaction = transaction;
     prefixKeyBuffers = new ArrayDeque<>();
-    prefixKeyBuffers.add(new ExpandableArrayBuffer());
-    prefixKeyBuffers.add(new ExpandableArrayBuffer());
+    prefixKeyBuffers.add(new ExpandableDirectByteBuffer());
+    prefixKeyBuffers.add(new ExpandableDirectByteBuffer());
   }
 
   @Override
@@ -108,12 +111,13 @@ public final class DefaultDbContext implements DbContext {
   }
 
   @Override
-  public void withPrefixKeyBuffer(final Consumer<ExpandableArrayBuffer> prefixKeyBufferConsumer) {
+  public void withPrefixKeyBuffer(
+      final Consumer<ExpandableDirectByteBuffer> prefixKeyBufferConsumer) {
     if (prefixKeyBuffers.peek() == null) {
       throw new IllegalStateException(
           "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
     }
-    final ExpandableArrayBuffer prefixKeyBuffer = prefixKeyBuffers.remove();
+    final ExpandableDirectByteBuffer prefixKeyBuffer = prefixKeyBuffers.remove();
     try {
       prefixKeyBufferConsumer.accept(prefixKeyBuffer);
     } finally {
@@ -121,6 +125,27 @@ public final class DefaultDbContext implements DbContext {
     }
   }
 
+  /**
+   * Runs a consumer with pooled off-heap buffers, into which the entries of an iterator can be read
+   * without allocating. The buffers are exclusive to the consumer until it returns, so iterations
+   * may be nested.
+   *
+   * @param iteratorBuffersConsumer consumer of the iterator buffers
+   */
+  void withIteratorBuffers(final Consumer<IteratorBuffers> iteratorBuffersConsumer) {
+    // the pool grows to the deepest nesting of iterations
+    IteratorBuffers buffers = iteratorBuffers.poll();
+    if (buffers == null) {
+      buffers = new IteratorBuffers();
+    }
+
+    try {
+      iteratorBuffersConsumer.accept(buffers);
+    } finally {
+      iteratorBuffers.add(buffers);
+    }
+  }
+
   @Override
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.newIterator(options, handle);
@@ -157,6 +182,11 @@ public final class DefaultDbContext implements DbContext {
     return transaction;
   }
 
+  @Override
+  public void addTransactionListener(final TransactionListener listener) {
+    transaction.addListener(listener);
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
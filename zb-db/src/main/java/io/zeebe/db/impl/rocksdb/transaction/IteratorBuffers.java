@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Off-heap buffers into which the key and the value of the current iterator entry are copied. In
+ * contrast to {@link RocksIterator#key()} and {@link RocksIterator#value()}, which allocate a new
+ * array for every entry, the buffers are reused for all entries and all iterations which use them.
+ *
+ * <p>The views returned by {@link #readKey(RocksIterator)} and {@link #readValue(RocksIterator)}
+ * are only valid until the iterator moves to the next entry. The buffers grow if an entry does not
+ * fit, but a grown buffer is kept alive as long as a view still refers to it.
+ */
+final class IteratorBuffers {
+
+  private static final int INITIAL_CAPACITY = 4 * 1024;
+
+  private final ExpandableDirectByteBuffer keyBuffer =
+      new ExpandableDirectByteBuffer(INITIAL_CAPACITY);
+  private final ExpandableDirectByteBuffer valueBuffer =
+      new ExpandableDirectByteBuffer(INITIAL_CAPACITY);
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+  /** @return a view of the key of the current entry of the given iterator */
+  DirectBuffer readKey(final RocksIterator iterator) {
+    final int length = readKey(iterator, keyBuffer.byteBuffer());
+    if (length > keyBuffer.capacity()) {
+      keyBuffer.checkLimit(length);
+      readKey(iterator, keyBuffer.byteBuffer());
+    }
+
+    keyView.wrap(keyBuffer, 0, length);
+    return keyView;
+  }
+
+  /** @return a view of the value of the current entry of the given iterator */
+  DirectBuffer readValue(final RocksIterator iterator) {
+    final int length = readValue(iterator, valueBuffer.byteBuffer());
+    if (length > valueBuffer.capacity()) {
+      valueBuffer.checkLimit(length);
+      readValue(iterator, valueBuffer.byteBuffer());
+    }
+
+    valueView.wrap(valueBuffer, 0, length);
+    return valueView;
+  }
+
+  private static int readKey(final RocksIterator iterator, final ByteBuffer target) {
+    target.clear();
+    return iterator.key(target);
+  }
+
+  private static int readValue(final RocksIterator iterator, final ByteBuffer target) {
+    target.clear();
+    return iterator.value(target);
+  }
+}
@@ -9,9 +9,12 @@ package io.zeebe.db.impl.rocksdb.transaction;
 
 import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.zeebe.db.TransactionListener;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -22,7 +25,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final Transaction transaction;
   private final long nativeHandle;
+  private final List<TransactionListener> listeners = new ArrayList<>();
   private boolean inCurrentTransaction;
+  // whether the listeners must be notified about the end of the transaction
+  private boolean hasPendingChanges;
 
   public ZeebeTransaction(final Transaction transaction) {
     this.transaction = transaction;
@@ -67,6 +73,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void resetTransaction() {
     inCurrentTransaction = true;
+    hasPendingChanges = true;
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
   }
 
   boolean isInCurrentTransaction() {
@@ -113,13 +124,28 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void commitInternal() throws RocksDBException {
+    if (hasPendingChanges) {
+      listeners.forEach(TransactionListener::beforeCommit);
+    }
+
     inCurrentTransaction = false;
     transaction.commit();
+
+    if (hasPendingChanges) {
+      hasPendingChanges = false;
+      listeners.forEach(TransactionListener::onCommit);
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.rollback();
+
+    // a transaction is also rolled back after it is committed, which doesn't change anything
+    if (hasPendingChanges) {
+      hasPendingChanges = false;
+      listeners.forEach(TransactionListener::onRollback);
+    }
   }
 
   public void close() {
@@ -7,8 +7,6 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
-import static io.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.DbKey;
@@ -18,6 +16,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.impl.rocksdb.Loggers;
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -53,6 +52,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final ReadOptions totalOrderReadOptions;
   private final WriteOptions defaultWriteOptions;
 
   protected ZeebeTransactionDb(
@@ -69,6 +69,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    // iterating over all keys of a column family must not be restricted by its prefix extractor
+    totalOrderReadOptions = new ReadOptions().setTotalOrderSeek(true);
+    closables.add(totalOrderReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
   }
@@ -174,6 +177,11 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         () -> operation.run((ZeebeTransaction) context.getCurrentTransaction()));
   }
 
+  private void withIteratorBuffers(
+      final DbContext context, final Consumer<IteratorBuffers> iteratorBuffersConsumer) {
+    ((DefaultDbContext) context).withIteratorBuffers(iteratorBuffersConsumer);
+  }
+
   protected DirectBuffer get(
       final long columnFamilyHandle, final DbContext context, final DbKey key) {
     context.writeKey(key);
@@ -281,18 +289,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final long columnFamilyHandle,
       final DbContext context,
       final BiConsumer<DirectBuffer, DirectBuffer> keyValuePairConsumer) {
-    ensureInOpenTransaction(
+    withIteratorBuffers(
         context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
-              context.wrapKeyView(iterator.key());
-              context.wrapValueView(iterator.value());
-              keyValuePairConsumer.accept(context.getKeyView(), context.getValueView());
-            }
-          }
-        });
+        buffers ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
+                    for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                      keyValuePairConsumer.accept(
+                          buffers.readKey(iterator), buffers.readValue(iterator));
+                    }
+                  }
+                }));
   }
 
   public <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
@@ -301,17 +311,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
-    ensureInOpenTransaction(
+    withIteratorBuffers(
         context,
-        transaction -> {
-          try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
-            boolean shouldVisitNext = true;
-            for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
-              shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
-            }
-          }
-        });
+        buffers ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
+                    boolean shouldVisitNext = true;
+                    for (iterator.seekToFirst();
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      shouldVisitNext =
+                          visit(
+                              buffers.readKey(iterator),
+                              keyInstance,
+                              valueInstance,
+                              visitor,
+                              buffers,
+                              iterator);
+                    }
+                  }
+                }));
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -334,13 +356,14 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   }
 
   /**
-   * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on iterators
-   * at the moment, so using prefixes seem to be mostly related to skipping files that do not
-   * contain keys with the given prefix (which is useful anyway), but it will still iterate over all
-   * keys contained in those files, so we still need to make sure the key actually matches the
-   * prefix.
+   * NOTE: if the column family declares a key prefix (see {@link
+   * io.zeebe.db.ColumnFamilyKeyPrefix}), it is configured with a prefix extractor of that length.
+   * The iterator then skips the files which don't contain the prefix and stops at the boundary of
+   * the extracted prefix by itself. Column families without a key prefix still iterate over all
+   * subsequent keys, and the given prefix may be longer than the extracted one.
    *
-   * <p>While iterating over subsequent keys we have to validate it.
+   * <p>While iterating over subsequent keys we have to validate it. The keys and values are read
+   * into the iterator buffers of the context, so the iteration doesn't allocate per entry.
    */
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       final long columnFamilyHandle,
@@ -351,54 +374,67 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
       final KeyValuePairVisitor<KeyType, ValueType> visitor) {
     context.withPrefixKeyBuffer(
         prefixKeyBuffer ->
-            ensureInOpenTransaction(
+            withIteratorBuffers(
                 context,
-                transaction -> {
-                  try (final RocksIterator iterator =
-                      newIterator(columnFamilyHandle, context, prefixReadOptions)) {
-                    prefix.write(prefixKeyBuffer, 0);
-                    final int prefixLength = prefix.getLength();
-
-                    boolean shouldVisitNext = true;
+                buffers ->
+                    ensureInOpenTransaction(
+                        context,
+                        transaction -> {
+                          try (final RocksIterator iterator =
+                              newIterator(columnFamilyHandle, context, prefixReadOptions)) {
+                            prefix.write(prefixKeyBuffer, 0);
+                            final int prefixLength = prefix.getLength();
+
+                            final ByteBuffer seekTarget = prefixKeyBuffer.byteBuffer();
+                            seekTarget.clear().limit(prefixLength);
+
+                            boolean shouldVisitNext = true;
+
+                            for (iterator.seek(seekTarget);
+                                iterator.isValid() && shouldVisitNext;
+                                iterator.next()) {
+                              final DirectBuffer keyBuffer = buffers.readKey(iterator);
+                              if (!startsWith(prefixKeyBuffer, prefixLength, keyBuffer)) {
+                                break;
+                              }
+
+                              shouldVisitNext =
+                                  visit(
+                                      keyBuffer,
+                                      keyInstance,
+                                      valueInstance,
+                                      visitor,
+                                      buffers,
+                                      iterator);
+                            }
+                          }
+                        })));
+  }
 
-                    for (RocksDbInternal.seek(
-                            iterator,
-                            getNativeHandle(iterator),
-                            prefixKeyBuffer.byteArray(),
-                            prefixLength);
-                        iterator.isValid() && shouldVisitNext;
-                        iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(
-                          prefixKeyBuffer.byteArray(),
-                          0,
-                          prefix.getLength(),
-                          keyBytes,
-                          0,
-                          keyBytes.length)) {
-                        break;
-                      }
+  private static boolean startsWith(
+      final DirectBuffer prefix, final int prefixLength, final DirectBuffer buffer) {
+    if (buffer.capacity() < prefixLength) {
+      return false;
+    }
 
-                      shouldVisitNext =
-                          visit(context, keyInstance, valueInstance, visitor, iterator);
-                    }
-                  }
-                }));
+    for (int i = 0; i < prefixLength; i++) {
+      if (prefix.getByte(i) != buffer.getByte(i)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private <KeyType extends DbKey, ValueType extends DbValue> boolean visit(
-      final DbContext context,
+      final DirectBuffer keyBuffer,
       final KeyType keyInstance,
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
+      final IteratorBuffers buffers,
       final RocksIterator iterator) {
-    context.wrapKeyView(iterator.key());
-    context.wrapValueView(iterator.value());
-
-    final DirectBuffer keyViewBuffer = context.getKeyView();
-    keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
-    final DirectBuffer valueViewBuffer = context.getValueView();
-    valueInstance.wrap(valueViewBuffer, 0, valueViewBuffer.capacity());
+    keyInstance.wrap(keyBuffer, 0, keyBuffer.capacity());
+    final DirectBuffer valueBuffer = buffers.readValue(iterator);
+    valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
 
     return iteratorConsumer.visit(keyInstance, valueInstance);
   }
@@ -409,7 +445,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, totalOrderReadOptions)) {
             iterator.seekToFirst();
             final boolean hasEntry = iterator.isValid();
             isEmpty.set(!hasEntry);
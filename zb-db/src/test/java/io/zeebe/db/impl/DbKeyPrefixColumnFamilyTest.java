@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ColumnFamilyKeyPrefix;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class DbKeyPrefixColumnFamilyTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final ZeebeDbFactory<PrefixedColumnFamilies> dbFactory =
+      DefaultZeebeDbFactory.getDefaultFactory(PrefixedColumnFamilies.class);
+  private ZeebeDb<PrefixedColumnFamilies> zeebeDb;
+  private DbContext dbContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong firstKey;
+  private DbLong secondKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb = dbFactory.createDb(pathName);
+    dbContext = zeebeDb.createContext();
+
+    firstKey = new DbLong();
+    secondKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(PrefixedColumnFamilies.PREFIXED, dbContext, compositeKey, value);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldIterateOverKeysWithPrefix() {
+    // given
+    for (long prefix = 1; prefix <= 100; prefix++) {
+      putKeyValuePair(prefix, 1, prefix);
+      putKeyValuePair(prefix, 2, prefix);
+    }
+
+    // when
+    firstKey.wrapLong(50);
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(key.getFirst().getValue() + value.getValue());
+        });
+
+    // then
+    assertThat(values).containsExactly(100L, 100L);
+  }
+
+  @Test
+  public void shouldIterateOverKeysWithPrefixInTransaction() {
+    // given
+    putKeyValuePair(1, 1, 1);
+    putKeyValuePair(3, 1, 3);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    dbContext.runInTransaction(
+        () -> {
+          putKeyValuePair(2, 1, 21);
+          putKeyValuePair(2, 2, 22);
+
+          firstKey.wrapLong(2);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                values.add(value.getValue());
+              });
+        });
+
+    // then
+    assertThat(values).containsExactly(21L, 22L);
+  }
+
+  @Test
+  public void shouldNotFindKeysWithoutPrefix() {
+    // given
+    putKeyValuePair(1, 1, 1);
+    putKeyValuePair(3, 1, 3);
+
+    // when
+    firstKey.wrapLong(2);
+    final List<Long> values = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          values.add(value.getValue());
+        });
+
+    // then
+    assertThat(values).isEmpty();
+  }
+
+  @Test
+  public void shouldIterateOverAllKeys() {
+    // given
+    putKeyValuePair(1, 1, 1);
+    putKeyValuePair(2, 1, 2);
+    putKeyValuePair(3, 1, 3);
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    columnFamily.forEach(value -> values.add(value.getValue()));
+
+    // then
+    assertThat(values).containsExactly(1L, 2L, 3L);
+    assertThat(columnFamily.isEmpty()).isFalse();
+  }
+
+  private void putKeyValuePair(final long first, final long second, final long value) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    this.value.wrapLong(value);
+    columnFamily.put(compositeKey, this.value);
+  }
+
+  private enum PrefixedColumnFamilies implements ColumnFamilyKeyPrefix {
+    DEFAULT(NO_KEY_PREFIX),
+    PREFIXED(Long.BYTES);
+
+    private final int keyPrefixLength;
+
+    PrefixedColumnFamilies(final int keyPrefixLength) {
+      this.keyPrefixLength = keyPrefixLength;
+    }
+
+    @Override
+    public int getKeyPrefixLength() {
+      return keyPrefixLength;
+    }
+  }
+}
@@ -225,6 +225,48 @@ public final class DbStringColumnFamilyTest {
             "Currently nested prefix iterations are not supported! This will cause unexpected behavior.");
   }
 
+  @Test
+  public void shouldIterateOverEntriesLargerThanIteratorBuffers() {
+    // given
+    final String largeKey = "k".repeat(10 * 1024);
+    final String largeValue = "v".repeat(100 * 1024);
+    putKeyValuePair("a", "small");
+    putKeyValuePair(largeKey, largeValue);
+
+    // when
+    final List<String> keys = new ArrayList<>();
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(
+        (key, value) -> {
+          keys.add(key.toString());
+          values.add(value.toString());
+        });
+
+    // then
+    assertThat(keys).containsExactly("a", largeKey);
+    assertThat(values).containsExactly("small", largeValue);
+  }
+
+  @Test
+  public void shouldIterateNestedOverSameColumnFamily() {
+    // given
+    putKeyValuePair("a", "1");
+    putKeyValuePair("b", "2");
+
+    // when
+    final List<String> pairs = new ArrayList<>();
+    final DbString outerKey = new DbString();
+    columnFamily.forEach(
+        (key, value) -> {
+          outerKey.wrapString(key.toString());
+          columnFamily.forEach(
+              (innerKey, innerValue) -> pairs.add(outerKey + innerValue.toString()));
+        });
+
+    // then
+    assertThat(pairs).containsExactly("a1", "a2", "b1", "b2");
+  }
+
   private void putKeyValuePair(final String key, final String value) {
     this.key.wrapString(key);
     this.value.wrapString(value);
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
+import io.zeebe.db.TransactionListener;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.ZeebeDbTransaction;
@@ -455,6 +456,121 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    dbContext.addTransactionListener(listener);
+
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(listener.commits).isEqualTo(1);
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    dbContext.addTransactionListener(listener);
+
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnceOnImplicitTransaction() {
+    // given
+    final RecordingTransactionListener listener = new RecordingTransactionListener();
+    dbContext.addTransactionListener(listener);
+
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    oneColumnFamily.put(oneKey, oneValue);
+    try {
+      dbContext.runInTransaction(
+          () -> {
+            oneColumnFamily.delete(oneKey);
+            throw new RuntimeException();
+          });
+    } catch (final Exception e) {
+      // ignore
+    }
+
+    // then
+    assertThat(listener.commits).isEqualTo(1);
+    assertThat(listener.rollbacks).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCommitChangesOfListenerBeforeCommit() throws Exception {
+    // given
+    dbContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void beforeCommit() {
+            twoKey.wrapLong(2);
+            twoValue.wrapLong(-2);
+            twoColumnFamily.put(twoKey, twoValue);
+          }
+
+          @Override
+          public void onCommit() {}
+
+          @Override
+          public void onRollback() {}
+        });
+
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+
+    // when
+    transaction.commit();
+
+    // then
+    twoKey.wrapLong(2);
+    assertThat(twoColumnFamily.get(twoKey).getValue()).isEqualTo(-2);
+  }
+
+  private static final class RecordingTransactionListener implements TransactionListener {
+
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
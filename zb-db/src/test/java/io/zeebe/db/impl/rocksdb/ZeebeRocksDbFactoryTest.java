@@ -8,7 +8,9 @@
 package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.zeebe.db.ColumnFamilyKeyPrefix;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.DefaultColumnFamily;
@@ -18,8 +20,11 @@ import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.LRUCache;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -90,4 +95,78 @@ public final class ZeebeRocksDbFactoryTest {
         .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize);
   }
+
+  @Test
+  public void shouldCreateNewDbWithProfiles() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class,
+            new Properties(),
+            columnFamily -> ColumnFamilyProfile.POINT_LOOKUP,
+            ByteValue.ofMegabytes(8));
+    final File pathName = temporaryFolder.newFolder();
+
+    // when
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+
+    // then
+    assertThat(pathName.listFiles()).isNotEmpty();
+    db.close();
+  }
+
+  @Test
+  public void shouldApplyProfileBeforeCustomColumnFamilyOptions() {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("level0_file_num_compaction_trigger", "8");
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                DefaultColumnFamily.class,
+                customProperties,
+                columnFamily -> ColumnFamilyProfile.QUEUE,
+                ByteValue.ofMegabytes(8));
+
+    // when
+    try (final var cache = new LRUCache(ByteValue.ofMegabytes(8));
+        final var filter = new BloomFilter();
+        final var queueOptions =
+            factory.createColumnFamilyOptions(
+                ColumnFamilyProfile.QUEUE, ColumnFamilyKeyPrefix.NO_KEY_PREFIX, cache, filter);
+        final var readMostlyOptions =
+            factory.createColumnFamilyOptions(
+                ColumnFamilyProfile.READ_MOSTLY,
+                ColumnFamilyKeyPrefix.NO_KEY_PREFIX,
+                cache,
+                filter)) {
+
+      // then
+      assertThat(queueOptions)
+          .extracting(
+              ColumnFamilyOptions::writeBufferSize,
+              ColumnFamilyOptions::level0FileNumCompactionTrigger,
+              ColumnFamilyOptions::compactionPriority)
+          .containsExactly(ByteValue.ofMegabytes(16), 8, CompactionPriority.OldestSmallestSeqFirst);
+
+      final var tableConfig = (BlockBasedTableConfig) readMostlyOptions.tableFormatConfig();
+      assertThat(tableConfig.filterPolicy()).isSameAs(filter);
+      assertThat(tableConfig.cacheIndexAndFilterBlocks()).isTrue();
+      assertThat(readMostlyOptions.writeBufferSize()).isEqualTo(ByteValue.ofMegabytes(64));
+    }
+  }
+
+  @Test
+  public void shouldRejectNonPositiveBlockCacheSize() {
+    // when
+    assertThatThrownBy(
+            () ->
+                ZeebeRocksDbFactory.newFactory(
+                    DefaultColumnFamily.class,
+                    new Properties(),
+                    columnFamily -> ColumnFamilyProfile.DEFAULT,
+                    0))
+        // then
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }